@@ -0,0 +1,63 @@
+package com.example.untitled.benchmark;
+
+import com.example.untitled.common.apikey.ApiKeyRegistry;
+import com.example.untitled.common.interceptor.ApiKeyInterceptor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 全リクエストで実行される API キーの検証 (SHA-256 ダイジェストでの登録簿の検索を含む)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ApiKeyInterceptorBenchmark {
+
+    private static final String API_KEY = "benchmark-api-key-0123456789abcdef";
+    private static final Object HANDLER = new Object();
+
+    private ApiKeyInterceptor interceptor;
+    private MockHttpServletRequest validRequest;
+    private MockHttpServletRequest invalidRequest;
+    private MockHttpServletRequest healthRequest;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        interceptor = new ApiKeyInterceptor(new ApiKeyRegistry(API_KEY, "", 30, objectMapper), objectMapper);
+
+        validRequest = new MockHttpServletRequest("GET", "/prsk-music");
+        validRequest.setServletPath("/prsk-music");
+        validRequest.addHeader("x-api-key", API_KEY);
+
+        invalidRequest = new MockHttpServletRequest("GET", "/prsk-music");
+        invalidRequest.setServletPath("/prsk-music");
+        invalidRequest.addHeader("x-api-key", "benchmark-api-key-0123456789abcdeX");
+
+        healthRequest = new MockHttpServletRequest("GET", "/health");
+        healthRequest.setServletPath("/health");
+    }
+
+    @Benchmark
+    public boolean validKey() throws Exception {
+        return interceptor.preHandle(validRequest, new MockHttpServletResponse(), HANDLER);
+    }
+
+    // 401 のエラーレスポンスの書き出しを含む
+    @Benchmark
+    public boolean invalidKey() throws Exception {
+        return interceptor.preHandle(invalidRequest, new MockHttpServletResponse(), HANDLER);
+    }
+
+    @Benchmark
+    public boolean healthPath() throws Exception {
+        return interceptor.preHandle(healthRequest, new MockHttpServletResponse(), HANDLER);
+    }
+}
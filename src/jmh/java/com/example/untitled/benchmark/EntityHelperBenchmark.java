@@ -0,0 +1,73 @@
+package com.example.untitled.benchmark;
+
+import com.example.untitled.prskmusic.PrskMusic;
+import com.example.untitled.prskmusic.dto.OptionalPrskMusicRequest;
+import com.example.untitled.prskmusic.enums.MusicType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.example.untitled.common.util.EntityHelper.updateIfNotNull;
+
+/**
+ * 部分更新: EntityHelper.updateIfNotNull(メソッド参照) と null チェック + 直接セッターの比較
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EntityHelperBenchmark {
+
+    private OptionalPrskMusicRequest request;
+    private PrskMusic prskMusic;
+
+    @Setup
+    public void setUp() {
+        // 一部の項目のみ指定された更新リクエスト
+        request = new OptionalPrskMusicRequest();
+        request.setTitle("Updated Title");
+        request.setMusicType(MusicType.THREE_D_MV);
+        request.setLyricsName("Updated Lyricist");
+        prskMusic = new PrskMusic();
+    }
+
+    @Benchmark
+    public PrskMusic updateIfNotNullHelper() {
+        updateIfNotNull(request.getTitle(), prskMusic::setTitle);
+        updateIfNotNull(request.getMusicType(), prskMusic::setMusicType);
+        updateIfNotNull(request.getSpecially(), prskMusic::setSpecially);
+        updateIfNotNull(request.getLyricsName(), prskMusic::setLyricsName);
+        updateIfNotNull(request.getMusicName(), prskMusic::setMusicName);
+        updateIfNotNull(request.getFeaturing(), prskMusic::setFeaturing);
+        updateIfNotNull(request.getYoutubeLink(), prskMusic::setYoutubeLink);
+        return prskMusic;
+    }
+
+    @Benchmark
+    public PrskMusic directSetters() {
+        if (request.getTitle() != null) {
+            prskMusic.setTitle(request.getTitle());
+        }
+        if (request.getMusicType() != null) {
+            prskMusic.setMusicType(request.getMusicType());
+        }
+        if (request.getSpecially() != null) {
+            prskMusic.setSpecially(request.getSpecially());
+        }
+        if (request.getLyricsName() != null) {
+            prskMusic.setLyricsName(request.getLyricsName());
+        }
+        if (request.getMusicName() != null) {
+            prskMusic.setMusicName(request.getMusicName());
+        }
+        if (request.getFeaturing() != null) {
+            prskMusic.setFeaturing(request.getFeaturing());
+        }
+        if (request.getYoutubeLink() != null) {
+            prskMusic.setYoutubeLink(request.getYoutubeLink());
+        }
+        return prskMusic;
+    }
+}
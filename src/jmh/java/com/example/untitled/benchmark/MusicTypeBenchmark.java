@@ -0,0 +1,46 @@
+package com.example.untitled.benchmark;
+
+import com.example.untitled.prskmusic.converter.MusicTypeConverter;
+import com.example.untitled.prskmusic.enums.MusicType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MusicType のコード変換 (JSON デシリアライズ・JPA の読み書きで行ごとに呼ばれる)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MusicTypeBenchmark {
+
+    private final MusicTypeConverter converter = new MusicTypeConverter();
+
+    private static final MusicType[] TYPES = MusicType.values();
+
+    // 毎回同じ値にならないよう全コードを順に使う
+    private int index;
+
+    private int nextIndex() {
+        index = (index + 1) % TYPES.length;
+        return index;
+    }
+
+    @Benchmark
+    public MusicType fromCode() {
+        return MusicType.fromCode(TYPES[nextIndex()].getCode());
+    }
+
+    @Benchmark
+    public MusicType converterToEntityAttribute() {
+        return converter.convertToEntityAttribute(TYPES[nextIndex()].getCode());
+    }
+
+    @Benchmark
+    public Integer converterToDatabaseColumn() {
+        return converter.convertToDatabaseColumn(TYPES[nextIndex()]);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.untitled.benchmark;
+
+import com.example.untitled.prskmusic.dto.PrskMusicListResponse;
+import com.example.untitled.prskmusic.dto.PrskMusicResponse;
+import com.example.untitled.prskmusic.enums.MusicType;
+import com.example.untitled.prskmusic.projection.PrskMusicProjection;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 一覧取得のプロジェクション → レスポンス DTO 変換
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrskMusicMappingBenchmark {
+
+    static final int PAGE_SIZE = 100;
+
+    private PrskMusicProjection projection;
+    private Page<PrskMusicProjection> page;
+
+    @Setup
+    public void setUp() {
+        List<PrskMusicProjection> projections = createProjections(PAGE_SIZE);
+        projection = projections.get(0);
+        page = new PageImpl<>(projections, PageRequest.of(0, PAGE_SIZE), 1_000);
+    }
+
+    @Benchmark
+    public PrskMusicResponse responseFromProjection() {
+        return PrskMusicResponse.from(projection);
+    }
+
+    @Benchmark
+    public PrskMusicListResponse listResponseFromPage() {
+        return PrskMusicListResponse.from(page);
+    }
+
+    static List<PrskMusicProjection> createProjections(int size) {
+        OffsetDateTime now = OffsetDateTime.parse("2025-01-01T00:00:00Z");
+        List<PrskMusicProjection> projections = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            projections.add(new PrskMusicProjection(
+                    i, "Title " + i, "Artist " + (i % 10), "Unit", "Content", i % 25 == 0,
+                    MusicType.fromCode((int) (i % 3)), i % 2 == 0, "Lyricist", "Composer", null,
+                    "https://youtube.com/watch?v=" + i,
+                    now, "guest", now, "guest"
+            ));
+        }
+        return projections;
+    }
+}
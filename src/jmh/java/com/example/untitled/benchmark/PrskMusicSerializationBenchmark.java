@@ -0,0 +1,42 @@
+package com.example.untitled.benchmark;
+
+import com.example.untitled.prskmusic.dto.PrskMusicListResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 100件の一覧レスポンスの JSON シリアライズ
+ * Spring Boot と同じく Jackson2ObjectMapperBuilder で ObjectMapper を作成する
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrskMusicSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private PrskMusicListResponse response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        response = PrskMusicListResponse.from(new PageImpl<>(
+                PrskMusicMappingBenchmark.createProjections(PrskMusicMappingBenchmark.PAGE_SIZE),
+                PageRequest.of(0, PrskMusicMappingBenchmark.PAGE_SIZE),
+                1_000
+        ));
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
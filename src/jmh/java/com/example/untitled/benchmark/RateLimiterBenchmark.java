@@ -0,0 +1,50 @@
+package com.example.untitled.benchmark;
+
+import com.example.untitled.common.interceptor.TokenBucketRateLimiter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * レート制限の判定 (全リクエストで実行される許可経路)
+ * 目標は 1 スレッドあたり 100 万回/秒以上。-prof gc で許可経路の割り当てが 0 であることも確認する
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+    private static final int KEY = "benchmark-api-key".hashCode();
+    private static final int ROUTE = "GET/prsk-music".hashCode();
+
+    // 上限に掛からない予算にして許可経路だけを計測する
+    private final TokenBucketRateLimiter limiter =
+            new TokenBucketRateLimiter(1024, Long.MAX_VALUE / 2, 1_000_000_000L, Long.MAX_VALUE / 2, 1_000_000_000L);
+
+    @State(Scope.Thread)
+    public static class ThreadKey {
+        private int keyHash;
+
+        @Setup
+        public void setUp() {
+            keyHash = ("benchmark-api-key-" + Thread.currentThread().threadId()).hashCode();
+        }
+    }
+
+    // 全スレッドが同じ API キー (同じストライプの CAS が競合する)
+    @Benchmark
+    @Threads(4)
+    public long sharedKey() {
+        return limiter.tryAcquire(KEY, ROUTE);
+    }
+
+    // スレッドごとに別の API キー
+    @Benchmark
+    @Threads(4)
+    public long distinctKeys(ThreadKey key) {
+        return limiter.tryAcquire(key.keyHash, ROUTE);
+    }
+}
@@ -1,27 +1,70 @@
 package com.example.untitled.artist;
 
 import com.example.untitled.common.entity.BaseEntity;
+import com.example.untitled.common.util.TextNormalizer;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Entity
-@Table(name = "m_artists")
+// 一覧の並び順・重複チェック用のインデックスは削除済みの行を含まない部分インデックス (ActiveIndex, ActiveUniqueIndex)
+// updated_at は削除も含めた Last-Modified の算出に使うため全行を対象にする
+@Table(name = "m_artists", indexes = {
+        @Index(name = "idx_m_artists_updated_at", columnList = "updated_at")
+})
 @Data
 @EqualsAndHashCode(callSuper = true)
+// ほとんど更新されないため2次キャッシュに載せる (更新はコミット時にキャッシュへ反映される)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Artist.CACHE_REGION)
 public class Artist extends BaseEntity {
 
+    public static final String CACHE_REGION = "artist";
+    public static final String QUERY_CACHE_REGION = "artist-query";
+    public static final int ARTIST_NAME_KEY_LENGTH = 50 * TextNormalizer.MAX_EXPANSION;
+
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "m_artists_seq")
     @SequenceGenerator(name = "m_artists_seq", sequenceName = "m_artists_id_seq", allocationSize = 1)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 50)
+    @Column(nullable = false, length = 50)
     private String artistName;
 
+    // 重複チェック用の正規化キー (setArtistName で更新する)
+    // 論理削除されていない行の中で一意 (ActiveUniqueIndex.ARTIST_NAME)
+    // 既存データへのカラム追加のため nullable とし、起動時に埋める
+    // NFKC で伸びても収まるよう artistName の長さ × TextNormalizer.MAX_EXPANSION にする
+    @Column(name = "artist_name_key", length = ARTIST_NAME_KEY_LENGTH)
+    @Setter(AccessLevel.NONE)
+    private String artistNameKey;
+
     @Column(length = 25)
     private String unitName;
 
     @Column(length = 20)
     private String content;
+
+    public void setArtistName(String artistName) {
+        this.artistName = artistName;
+        this.artistNameKey = TextNormalizer.normalize(artistName);
+    }
+
+    /**
+     * 変更履歴 (AuditRecord) に記録する項目 (正規化キーなどの派生項目は含めない)
+     */
+    public Map<String, String> auditState() {
+        Map<String, String> state = new LinkedHashMap<>();
+        state.put("artistName", artistName);
+        state.put("unitName", unitName);
+        state.put("content", content);
+        return state;
+    }
 }
@@ -4,14 +4,18 @@ import com.example.untitled.artist.dto.ArtistListResponse;
 import com.example.untitled.artist.dto.ArtistRequest;
 import com.example.untitled.artist.dto.ArtistResponse;
 import com.example.untitled.artist.dto.OptionalArtistRequest;
+import com.example.untitled.common.dto.ListVersion;
+import com.example.untitled.common.enums.TotalMode;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -28,10 +32,22 @@ public class ArtistController {
             @Min(value = 1, message = "Page must be 1 or greater") Integer page,
             @RequestParam(required = false, defaultValue = "20")
             @Min(value = 1, message = "Limit must be at least 1")
-            @Max(value = 100, message = "Limit must not exceed 100") Integer limit
+            @Max(value = 100, message = "Limit must not exceed 100") Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "exact") String total,
+            WebRequest webRequest
     ) {
-        ArtistListResponse response = artistService.getAllArtists(page - 1, limit, "artistName", "ASC");
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+        // 一覧が更新されていなければページを組み立てずに 304 を返す
+        ListVersion listVersion = artistService.getListVersion();
+        if (webRequest.checkNotModified(listVersion.etag(page, limit, cursor, total), listVersion.lastModifiedMillis())) {
+            return null;
+        }
+
+        // cursor が指定された場合はカーソル方式 (空文字は先頭ページ)
+        ArtistListResponse response = cursor != null
+                ? artistService.getArtistsByCursor(cursor, limit)
+                : artistService.getAllArtists(page - 1, limit, "artistName", "ASC", TotalMode.fromValue(total));
+        return ResponseEntity.status(HttpStatus.OK).cacheControl(CacheControl.noCache()).body(response);
     }
 
     // POST /artists : アーティスト情報の登録 - Register artist information
@@ -1,18 +1,84 @@
 package com.example.untitled.artist;
 
+import com.example.untitled.artist.projection.ArtistProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ArtistRepository extends JpaRepository<Artist, Long> {
 
-    Page<Artist> findByIsDeleted(boolean isDeleted, Pageable pageable);
+    // 一覧取得はレスポンスに必要なカラムのみをプロジェクションとして取得する
+    String PROJECTION_SELECT = "SELECT new com.example.untitled.artist.projection.ArtistProjection("
+            + "a.id, a.artistName, a.unitName, a.content,"
+            + " a.createdAt, a.createdBy, a.updatedAt, a.updatedBy)"
+            + " FROM Artist a";
 
-    Optional<Artist> findByIdAndIsDeleted(Long id, boolean isDeleted);
+    // 論理削除された行は BaseEntity.ACTIVE_FILTER で除外される (件数は JpaRepository.count を使う)
+    @Query(value = PROJECTION_SELECT, countQuery = "SELECT count(a) FROM Artist a")
+    Page<ArtistProjection> findAllProjections(Pageable pageable);
 
-    Optional<Artist> findByArtistNameAndIsDeleted(String artistName, boolean isDeleted);
+    // total=estimate|none 用 (COUNT クエリを実行しない)
+    @Query(PROJECTION_SELECT)
+    Slice<ArtistProjection> findSliceProjections(Pageable pageable);
+
+    // 一覧の Last-Modified 用 (論理削除も updated_at を更新するため、SoftDeleteFilter.includingDeleted 内で呼んで削除済みも含める)
+    @Query("SELECT max(a.updatedAt) FROM Artist a")
+    OffsetDateTime findLatestUpdatedAt();
+
+    // カーソル方式の先頭ページ (artistName, id の昇順)
+    @Query(PROJECTION_SELECT + " ORDER BY a.artistName ASC, a.id ASC")
+    List<ArtistProjection> findKeysetFirstPage(Pageable pageable);
+
+    // カーソル方式の次ページ (OFFSET を使わず (artistName, id) でシークする)
+    @Query(PROJECTION_SELECT
+            + " WHERE a.artistName > :artistName OR (a.artistName = :artistName AND a.id > :id)"
+            + " ORDER BY a.artistName ASC, a.id ASC")
+    List<ArtistProjection> findKeysetNextPage(
+            @Param("artistName") String artistName,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    // 楽曲の登録・更新のたびに呼ばれるため、クエリキャッシュ(結果の id)と2次キャッシュ(エンティティ)から引く
+    // m_artists が更新されると Hibernate がクエリキャッシュの結果を無効にする
+    // findById (主キーでの直接読み込み) には論理削除のフィルタが掛からないため、クエリで取得する
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Artist.QUERY_CACHE_REGION)
+    })
+    @Query("SELECT a FROM Artist a WHERE a.id = :id")
+    Optional<Artist> findActiveById(@Param("id") Long id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Artist.QUERY_CACHE_REGION)
+    })
+    List<Artist> findByIdIn(Collection<Long> ids);
+
+    // 既存データに表記揺れの重複が残っている可能性があるため先頭の1件のみ取得する
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Artist.QUERY_CACHE_REGION)
+    })
+    Optional<Artist> findFirstByArtistNameKey(String artistNameKey);
+
+    // 正規化キーの補完用 (SoftDeleteFilter.includingDeleted 内で呼んで削除済みも含める)
+    List<Artist> findByArtistNameKeyIsNull();
+
+    // 正規化キーの補完時の重複チェック用 (一意インデックスと同じく論理削除されていない行のみ)
+    @Query("SELECT a.artistNameKey FROM Artist a WHERE a.artistNameKey IN :artistNameKeys")
+    List<String> findArtistNameKeysIn(@Param("artistNameKeys") Collection<String> artistNameKeys);
 }
@@ -4,87 +4,198 @@ import com.example.untitled.artist.dto.ArtistListResponse;
 import com.example.untitled.artist.dto.ArtistRequest;
 import com.example.untitled.artist.dto.ArtistResponse;
 import com.example.untitled.artist.dto.OptionalArtistRequest;
-import com.example.untitled.common.dto.ErrorDetails;
-import com.example.untitled.common.exception.DuplicationResourceException;
+import com.example.untitled.artist.projection.ArtistProjection;
+import com.example.untitled.audit.AuditRecord;
+import com.example.untitled.common.cache.CatalogVersion;
+import com.example.untitled.common.cache.TotalCountCache;
+import com.example.untitled.common.dto.ListVersion;
+import com.example.untitled.common.entity.ActiveIndexInitializer;
+import com.example.untitled.common.entity.ActiveUniqueIndex;
+import com.example.untitled.common.entity.ActiveUniqueKeyBackfill;
+import com.example.untitled.common.entity.SoftDeleteFilter;
+import com.example.untitled.common.enums.TotalMode;
+import com.example.untitled.common.util.CursorCodec;
+import com.example.untitled.common.util.TextNormalizer;
+import com.example.untitled.common.util.UtilsFunction;
+import com.example.untitled.event.EntityChangedEvent;
+import com.example.untitled.prskmusic.cache.PrskMusicListCache;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static com.example.untitled.common.util.EntityHelper.*;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
-public class ArtistService {
+public class ArtistService implements ActiveUniqueKeyBackfill {
+
+    public static final String CATALOG_KEY = "artist";
+    // 正規化キーの補完時に既存のキーをまとめて引く件数 (IN 句のパラメータ数)
+    private static final int BACKFILL_LOOKUP_SIZE = 1_000;
 
     private final ArtistRepository artistRepository;
+    private final PrskMusicListCache prskMusicListCache;
+    private final TotalCountCache totalCountCache;
+    private final CatalogVersion catalogVersion;
+    private final SoftDeleteFilter softDeleteFilter;
+    private final ActiveIndexInitializer activeIndexInitializer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * アーティスト一覧の ETag / Last-Modified の判定材料を返す
+     * 削除も一覧の変更として扱うため、削除済みの行も含めた更新日時を使う
+     */
+    @Transactional(readOnly = true)
+    public ListVersion getListVersion() {
+        return new ListVersion(
+                catalogVersion.current(CATALOG_KEY),
+                softDeleteFilter.includingDeleted(artistRepository::findLatestUpdatedAt)
+        );
+    }
+
+    /**
+     * 正規化キー追加前に登録されたアーティストのキーを起動時 (一意インデックスの作成前) に補完する
+     * 論理削除されていないアーティストと表記揺れで重複するアーティストはキーを補完せずにログに出す (手動で統合・削除する)
+     */
+    @Override
+    public void backfillUniqueKeys() {
+        List<Artist> artists = softDeleteFilter.includingDeleted(artistRepository::findByArtistNameKeyIsNull);
+        if (artists.isEmpty()) {
+            return;
+        }
+
+        Set<String> artistNameKeys = new HashSet<>();
+        artists.forEach(artist -> artistNameKeys.add(TextNormalizer.normalize(artist.getArtistName())));
+        Set<String> usedArtistNameKeys = new HashSet<>();
+        for (List<String> chunk : UtilsFunction.partition(artistNameKeys, BACKFILL_LOOKUP_SIZE)) {
+            usedArtistNameKeys.addAll(artistRepository.findArtistNameKeysIn(chunk));
+        }
+
+        for (Artist artist : artists) {
+            // 論理削除済みの行は一意インデックスの対象外
+            if (!artist.isDeleted() && !usedArtistNameKeys.add(TextNormalizer.normalize(artist.getArtistName()))) {
+                log.warn("Skipped backfilling artist name key of artist id={} artistName={}:"
+                        + " duplicates another active artist after normalization.", artist.getId(), artist.getArtistName());
+                continue;
+            }
+            // setArtistName で正規化キーも再計算される
+            artist.setArtistName(artist.getArtistName());
+        }
+        prskMusicListCache.invalidate();
+        catalogVersion.bump(CATALOG_KEY);
+    }
 
     @Transactional(readOnly = true)
-    public ArtistListResponse getAllArtists(int page, int size, String sortBy, String direction) {
+    public ArtistListResponse getAllArtists(
+            int page, int size, String sortBy, String direction, TotalMode totalMode
+    ) {
         Sort.Direction sortDirection = direction.equalsIgnoreCase("DESC")
                 ? Sort.Direction.DESC : Sort.Direction.ASC;
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
-        Page<Artist> artistPage = artistRepository.findByIsDeleted(false, pageable);
-        return ArtistListResponse.from(artistPage);
+        if (totalMode == TotalMode.EXACT) {
+            Page<ArtistProjection> artistPage = artistRepository.findAllProjections(pageable);
+            return ArtistListResponse.from(artistPage);
+        }
+
+        Slice<ArtistProjection> artistSlice = artistRepository.findSliceProjections(pageable);
+        Long estimatedTotal = totalMode == TotalMode.ESTIMATE
+                ? totalCountCache.get(CATALOG_KEY, () -> artistRepository.count())
+                : null;
+        return ArtistListResponse.from(artistSlice, estimatedTotal, totalMode);
     }
 
-    public ArtistResponse createArtist(ArtistRequest reqDto) {
-        artistRepository.findByArtistNameAndIsDeleted(reqDto.getArtistName(), false)
-                .ifPresent(artist -> {
-                    throw new DuplicationResourceException(
-                            "Conflict detected",
-                            List.of(new ErrorDetails(
-                                    "artistName",
-                                    "Artist name already exist: " + reqDto.getArtistName()
-                            ))
-                    );
-                });
+    @Transactional(readOnly = true)
+    public ArtistListResponse getArtistsByCursor(String cursor, int size) {
+        CursorCodec.Position position = CursorCodec.decode(cursor);
+
+        // 次ページの有無を判定するため1件多く取得する
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<ArtistProjection> artistList = position == null
+                ? artistRepository.findKeysetFirstPage(pageable)
+                : artistRepository.findKeysetNextPage(position.sortValue(), position.id(), pageable);
+        return ArtistListResponse.from(artistList, size);
+    }
 
+    public ArtistResponse createArtist(ArtistRequest reqDto) {
         Artist artist = new Artist();
         artist.setArtistName(reqDto.getArtistName());
         artist.setUnitName(reqDto.getUnitName());
         artist.setContent(reqDto.getContent());
 
-        return ArtistResponse.from(artistRepository.save(artist));
+        // 重複は部分一意インデックスで検出する (同時登録でも1件だけが成功する)
+        // 既存データの重複でインデックスを作成できなかった場合は登録前にチェックする
+        if (!activeIndexInitializer.isEnforced(ActiveUniqueIndex.ARTIST_NAME)) {
+            artistRepository.findFirstByArtistNameKey(artist.getArtistNameKey())
+                    .ifPresent(existArtist -> {
+                        throw ActiveUniqueIndex.ARTIST_NAME.conflict(reqDto.getArtistName());
+                    });
+        }
+        // 件数キャッシュ等を更新する前に違反を検出するため、ここで INSERT を発行する
+        ArtistResponse response = ArtistResponse.from(ActiveUniqueIndex.ARTIST_NAME.insert(
+                reqDto.getArtistName(), () -> artistRepository.saveAndFlush(artist)
+        ));
+        totalCountCache.adjust(CATALOG_KEY, 1);
+        catalogVersion.bump(CATALOG_KEY);
+        eventPublisher.publishEvent(EntityChangedEvent.created(CATALOG_KEY, response.getId()));
+        eventPublisher.publishEvent(AuditRecord.created(CATALOG_KEY, response.getId(), artist.auditState()));
+        return response;
     }
 
     public ArtistResponse updateArtist(Long id, OptionalArtistRequest reqDto) {
-        Artist artist = artistRepository.findByIdAndIsDeleted(id, false)
+        Artist artist = artistRepository.findActiveById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Artist not found for id: " + id));
 
         if(reqDto.getArtistName() != null && !reqDto.getArtistName().equals(artist.getArtistName())) {
-            artistRepository.findByArtistNameAndIsDeleted(reqDto.getArtistName(), false)
+            // 大文字/小文字のみの変更などで自分自身がヒットする場合は重複としない
+            artistRepository.findFirstByArtistNameKey(TextNormalizer.normalize(reqDto.getArtistName()))
                     .ifPresent(existArtist -> {
-                        throw new DuplicationResourceException(
-                                "Conflict detected",
-                                List.of(new ErrorDetails(
-                                        "artistName",
-                                        "Artist name already exist: " + reqDto.getArtistName()))
-                        );
+                        if(!existArtist.getId().equals(id)) {
+                            throw ActiveUniqueIndex.ARTIST_NAME.conflict(reqDto.getArtistName());
+                        }
                     });
         }
 
+        Map<String, String> before = artist.auditState();
         // Memo: artist::setArtistNameはラムダ式の簡略記法で(value) -> artist.setArtistName(value));と同じ
         updateIfNotNull(reqDto.getArtistName(), artist::setArtistName);
         updateIfNotNull(reqDto.getUnitName(), artist::setUnitName);
         updateIfNotNull(reqDto.getContent(), artist::setContent);
 
-        return ArtistResponse.from(artistRepository.save(artist));
+        // 楽曲一覧レスポンスはアーティスト情報を含むため、楽曲一覧のキャッシュも無効化する
+        ArtistResponse response = ArtistResponse.from(artistRepository.save(artist));
+        prskMusicListCache.invalidate();
+        catalogVersion.bump(CATALOG_KEY);
+        eventPublisher.publishEvent(EntityChangedEvent.updated(CATALOG_KEY, response.getId()));
+        eventPublisher.publishEvent(AuditRecord.updated(CATALOG_KEY, id, before, artist.auditState()));
+        return response;
     }
 
     public void deleteArtist(Long id) {
-        Artist artist = artistRepository.findByIdAndIsDeleted(id, false)
+        Artist artist = artistRepository.findActiveById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Artist not found for id: " + id));
 
         artist.setDeleted(true);
         artistRepository.save(artist);
+        prskMusicListCache.invalidate();
+        totalCountCache.adjust(CATALOG_KEY, -1);
+        catalogVersion.bump(CATALOG_KEY);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(CATALOG_KEY, id));
+        eventPublisher.publishEvent(AuditRecord.deleted(CATALOG_KEY, id));
     }
 }
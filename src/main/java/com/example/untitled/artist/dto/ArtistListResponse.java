@@ -1,10 +1,13 @@
 package com.example.untitled.artist.dto;
 
-import com.example.untitled.artist.Artist;
+import com.example.untitled.artist.projection.ArtistProjection;
 import com.example.untitled.common.dto.MetaInfo;
+import com.example.untitled.common.enums.TotalMode;
+import com.example.untitled.common.util.CursorCodec;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -21,7 +24,7 @@ public class ArtistListResponse {
     /** メタ情報 **/
     private final MetaInfo meta;
 
-    public static ArtistListResponse from(Page<Artist> artistPage) {
+    public static ArtistListResponse from(Page<ArtistProjection> artistPage) {
         List<ArtistResponse> items = artistPage.getContent().stream()
                 .map(ArtistResponse::from)
                 .toList();
@@ -33,4 +36,48 @@ public class ArtistListResponse {
                 .meta(meta)
                 .build();
     }
+
+    /**
+     * COUNT(*) を実行しない一覧のレスポンスを作成する
+     * @param artistSlice : 取得したスライス
+     * @param estimatedTotal : キャッシュ済みの件数 (total=none の場合は null)
+     * @param totalMode : 総アイテム数の算出方法
+     */
+    public static ArtistListResponse from(Slice<ArtistProjection> artistSlice, Long estimatedTotal, TotalMode totalMode) {
+        List<ArtistResponse> items = artistSlice.getContent().stream()
+                .map(ArtistResponse::from)
+                .toList();
+
+        MetaInfo meta = MetaInfo.from(artistSlice, estimatedTotal, totalMode);
+
+        return ArtistListResponse.builder()
+                .items(items)
+                .meta(meta)
+                .build();
+    }
+
+    /**
+     * カーソル方式のレスポンスを作成する
+     * @param artistList : limit + 1 件まで取得したアーティストリスト
+     * @param limit : ページあたりのアイテム数
+     */
+    public static ArtistListResponse from(List<ArtistProjection> artistList, int limit) {
+        boolean hasNext = artistList.size() > limit;
+        List<ArtistProjection> content = hasNext ? artistList.subList(0, limit) : artistList;
+
+        List<ArtistResponse> items = content.stream()
+                .map(ArtistResponse::from)
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            ArtistProjection last = content.get(content.size() - 1);
+            nextCursor = CursorCodec.encode(last.artistName(), last.id());
+        }
+
+        return ArtistListResponse.builder()
+                .items(items)
+                .meta(MetaInfo.fromCursor(limit, nextCursor))
+                .build();
+    }
 }
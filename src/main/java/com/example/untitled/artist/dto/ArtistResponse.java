@@ -1,6 +1,7 @@
 package com.example.untitled.artist.dto;
 
 import com.example.untitled.artist.Artist;
+import com.example.untitled.artist.projection.ArtistProjection;
 import com.example.untitled.common.dto.AuditInfo;
 import lombok.Builder;
 import lombok.Getter;
@@ -36,4 +37,19 @@ public class ArtistResponse {
                 .auditInfo(AuditInfo.from(artist))
                 .build();
     }
+
+    public static ArtistResponse from(ArtistProjection projection) {
+        return ArtistResponse.builder()
+                .id(projection.id())
+                .artistName(projection.artistName())
+                .unitName(projection.unitName())
+                .content(projection.content())
+                .auditInfo(new AuditInfo(
+                        projection.createdAt(),
+                        projection.createdBy(),
+                        projection.updatedAt(),
+                        projection.updatedBy()
+                ))
+                .build();
+    }
 }
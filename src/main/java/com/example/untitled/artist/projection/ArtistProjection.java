@@ -0,0 +1,19 @@
+package com.example.untitled.artist.projection;
+
+import java.time.OffsetDateTime;
+
+/**
+ * アーティスト一覧の読み取り専用プロジェクション
+ * レスポンスに必要なカラムのみを取得し、エンティティを永続化コンテキストに載せない
+ */
+public record ArtistProjection(
+        Long id,
+        String artistName,
+        String unitName,
+        String content,
+        OffsetDateTime createdAt,
+        String createdBy,
+        OffsetDateTime updatedAt,
+        String updatedBy
+) {
+}
@@ -0,0 +1,78 @@
+package com.example.untitled.audit;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * 項目単位の変更履歴 (追記のみ)
+ * 変更履歴そのもののため、論理削除・監査項目 (BaseEntity) は持たない
+ */
+@Entity
+@Table(name = "t_audit_history", indexes = {
+        @Index(name = "idx_t_audit_history_entity", columnList = "resource, entity_id"),
+        @Index(name = "idx_t_audit_history_changed_at", columnList = "resource, changed_at")
+})
+@Data
+public class AuditHistory {
+
+    // hibernate.jdbc.batch_size と揃え、バッチ INSERT ごとにシーケンスを引かないようにする
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "t_audit_history_seq")
+    @SequenceGenerator(name = "t_audit_history_seq", sequenceName = "t_audit_history_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String resource;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(nullable = false, length = 20)
+    private String action;
+
+    // 項目を持たない変更 (削除) は null
+    @Column(length = 50)
+    private String fieldName;
+
+    @Column(length = 255)
+    private String oldValue;
+
+    @Column(length = 255)
+    private String newValue;
+
+    @Column(nullable = false, length = 50)
+    private String changedBy;
+
+    @Column(name = "changed_at", nullable = false)
+    private OffsetDateTime changedAt;
+
+    /**
+     * 変更した項目ごとに1行にする (項目を持たない変更は1行)
+     */
+    public static List<AuditHistory> from(AuditRecord record) {
+        if (record.changes().isEmpty()) {
+            return List.of(of(record, null));
+        }
+        return record.changes().stream()
+                .map(change -> of(record, change))
+                .toList();
+    }
+
+    private static AuditHistory of(AuditRecord record, AuditRecord.FieldChange change) {
+        AuditHistory history = new AuditHistory();
+        history.setResource(record.resource());
+        history.setEntityId(record.entityId());
+        history.setAction(record.action().getValue());
+        history.setChangedBy(record.changedBy());
+        history.setChangedAt(record.changedAt());
+        if (change != null) {
+            history.setFieldName(change.field());
+            history.setOldValue(change.oldValue());
+            history.setNewValue(change.newValue());
+        }
+        return history;
+    }
+}
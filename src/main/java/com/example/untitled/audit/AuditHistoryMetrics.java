@@ -0,0 +1,34 @@
+package com.example.untitled.audit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 変更履歴の書き込み待ち件数と、書き込んだ・失われた件数をメトリクスとして公開する
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditHistoryMetrics implements MeterBinder {
+
+    private final AuditHistoryWriter auditHistoryWriter;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("audit.history.queued", auditHistoryWriter, AuditHistoryWriter::queuedCount)
+                .description("The number of audit records waiting to be written.")
+                .register(registry);
+        FunctionCounter.builder("audit.history.written", auditHistoryWriter, AuditHistoryWriter::writtenCount)
+                .description("The number of audit records written to t_audit_history.")
+                .register(registry);
+        FunctionCounter.builder("audit.history.dropped", auditHistoryWriter, AuditHistoryWriter::droppedCount)
+                .description("The number of audit records dropped because the queue was full.")
+                .register(registry);
+        FunctionCounter.builder("audit.history.failed", auditHistoryWriter, AuditHistoryWriter::failedCount)
+                .description("The number of audit records lost because the batch insert failed.")
+                .register(registry);
+    }
+}
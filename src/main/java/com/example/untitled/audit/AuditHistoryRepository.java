@@ -0,0 +1,30 @@
+package com.example.untitled.audit;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AuditHistoryRepository extends JpaRepository<AuditHistory, Long> {
+
+    /**
+     * 期間内の変更履歴を変更日時の順に取得する (idx_t_audit_history_changed_at を使う)
+     * @param from : 開始日時 (含まない)
+     * @param to : 終了日時 (含む)
+     */
+    @Query("SELECT h FROM AuditHistory h"
+            + " WHERE h.resource IN :resources AND h.changedAt > :from AND h.changedAt <= :to"
+            + " ORDER BY h.changedAt, h.id")
+    List<AuditHistory> findChanges(
+            @Param("resources") Collection<String> resources,
+            @Param("from") OffsetDateTime from,
+            @Param("to") OffsetDateTime to
+    );
+
+    boolean existsByResourceInAndChangedAtGreaterThan(Collection<String> resources, OffsetDateTime changedAt);
+}
@@ -0,0 +1,192 @@
+package com.example.untitled.audit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 変更履歴 (AuditRecord) をリクエストのスレッド外でまとめて t_audit_history に書き込む
+ *
+ * <p>コミット後に上限付きのロックフリーなキューに積むだけのため、更新系 API の応答時間には INSERT が含まれない。
+ * キューは flush-interval-millis ごと、または batch-size 件溜まった時点で1トランザクションにまとめて書き込む
+ * (hibernate.jdbc.batch_size と reWriteBatchedInserts により複数行の INSERT 文になる)。</p>
+ *
+ * <p>キューが一杯の場合はリクエストを待たせず、新しい変更履歴を捨てて件数を数える (dropped)。
+ * 書き込みに失敗したバッチも再送せずに件数を数える (failed)。どちらもメトリクスとログで確認できる。</p>
+ */
+@Slf4j
+@Component
+public class AuditHistoryWriter implements DisposableBean {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final AuditHistoryRepository auditHistoryRepository;
+    private final TransactionOperations transactionOperations;
+    private final int capacity;
+    private final int batchSize;
+    private final ConcurrentLinkedQueue<AuditRecord> queue = new ConcurrentLinkedQueue<>();
+    // ConcurrentLinkedQueue.size() は全件を数えるため、件数は別に持って上限の判定に使う
+    private final AtomicInteger queuedCount = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("audit-history-writer").daemon().factory()
+    );
+
+    // 書き込みスレッドのみが参照する
+    private long reportedDroppedCount;
+
+    public AuditHistoryWriter(
+            AuditHistoryRepository auditHistoryRepository,
+            TransactionOperations transactionOperations,
+            @Value("${app.audit.queue-capacity:20000}") int capacity,
+            @Value("${app.audit.batch-size:500}") int batchSize,
+            @Value("${app.audit.flush-interval-millis:1000}") long flushIntervalMillis
+    ) {
+        this.auditHistoryRepository = auditHistoryRepository;
+        this.transactionOperations = transactionOperations;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * コミット後にキューに積む (ロールバックされた変更は記録しない)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuditRecord(AuditRecord record) {
+        if (record.hasChanges()) {
+            offer(record);
+        }
+    }
+
+    /**
+     * @return キューに積めた場合は true (一杯の場合・停止後は捨てて false)
+     */
+    public boolean offer(AuditRecord record) {
+        if (scheduler.isShutdown()) {
+            droppedCount.incrementAndGet();
+            return false;
+        }
+        int count;
+        do {
+            count = queuedCount.get();
+            if (count >= capacity) {
+                droppedCount.incrementAndGet();
+                return false;
+            }
+        } while (!queuedCount.compareAndSet(count, count + 1));
+        queue.offer(record);
+
+        // バッチ1つ分溜まった場合は間隔を待たずに書き込む
+        if (count + 1 >= batchSize && flushRequested.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                // 停止中 (残りは destroy で書き込む)
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return 書き込み待ちの件数
+     */
+    public int queuedCount() {
+        return queuedCount.get();
+    }
+
+    /**
+     * @return 書き込んだ変更履歴の累計
+     */
+    public long writtenCount() {
+        return writtenCount.get();
+    }
+
+    /**
+     * @return キューが一杯のために捨てた変更履歴の累計
+     */
+    public long droppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * @return 書き込みに失敗して失われた変更履歴の累計
+     */
+    public long failedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * 停止時は書き込み待ちの変更履歴を書き込んでから終了する
+     */
+    @Override
+    public void destroy() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    /**
+     * キューが空になる (バッチが一杯にならない) まで書き込む
+     */
+    void flush() {
+        flushRequested.set(false);
+        reportDropped();
+
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        do {
+            batch.clear();
+            AuditRecord record;
+            while (batch.size() < batchSize && (record = queue.poll()) != null) {
+                queuedCount.decrementAndGet();
+                batch.add(record);
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    private void write(List<AuditRecord> batch) {
+        List<AuditHistory> rows = batch.stream()
+                .flatMap(record -> AuditHistory.from(record).stream())
+                .toList();
+        try {
+            transactionOperations.executeWithoutResult(status -> auditHistoryRepository.saveAll(rows));
+            writtenCount.addAndGet(batch.size());
+        } catch (RuntimeException e) {
+            failedCount.addAndGet(batch.size());
+            log.error("Failed to write {} audit records. They are lost.", batch.size(), e);
+        }
+    }
+
+    private void reportDropped() {
+        long dropped = droppedCount.get();
+        if (dropped > reportedDroppedCount) {
+            log.warn("Dropped {} audit records because the queue was full (capacity={}).",
+                    dropped - reportedDroppedCount, capacity);
+            reportedDroppedCount = dropped;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.untitled.audit;
+
+import com.example.untitled.common.constant.ApiSecurityConstants;
+import com.example.untitled.event.EntityChangedEvent.Action;
+import org.slf4j.MDC;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 1件の登録・更新・削除で変わった項目 (AuditHistoryWriter がコミット後に t_audit_history へ書き込む)
+ * 登録では全項目を (変更前 null で) 記録し、削除では項目を持たない
+ * @param resource : 変更されたリソース (各サービスの CATALOG_KEY)
+ * @param entityId : 変更された ID
+ * @param action : 変更の種類
+ * @param changes : 値が変わった項目
+ * @param changedBy : 変更した API キーのラベル (リクエスト外の変更は guest)
+ * @param changedAt : 変更した日時
+ */
+public record AuditRecord(
+        String resource,
+        Long entityId,
+        Action action,
+        List<FieldChange> changes,
+        String changedBy,
+        OffsetDateTime changedAt
+) {
+
+    private static final String DEFAULT_ACTOR = "guest";
+
+    /**
+     * @param state : 登録した内容 (項目名と値。値は null を含む)
+     */
+    public static AuditRecord created(String resource, Long entityId, Map<String, String> state) {
+        return of(resource, entityId, Action.CREATED, Map.of(), state);
+    }
+
+    /**
+     * @param before : 変更前の内容
+     * @param after : 変更後の内容
+     */
+    public static AuditRecord updated(
+            String resource, Long entityId, Map<String, String> before, Map<String, String> after
+    ) {
+        return of(resource, entityId, Action.UPDATED, before, after);
+    }
+
+    public static AuditRecord deleted(String resource, Long entityId) {
+        return of(resource, entityId, Action.DELETED, Map.of(), Map.of());
+    }
+
+    /**
+     * @return 記録する変更がある場合は true (値が変わらなかった更新は記録しない)
+     */
+    public boolean hasChanges() {
+        return action != Action.UPDATED || !changes.isEmpty();
+    }
+
+    private static AuditRecord of(
+            String resource, Long entityId, Action action, Map<String, String> before, Map<String, String> after
+    ) {
+        List<FieldChange> changes = new ArrayList<>();
+        after.forEach((field, newValue) -> {
+            String oldValue = before.get(field);
+            if (!Objects.equals(oldValue, newValue)) {
+                changes.add(new FieldChange(field, oldValue, newValue));
+            }
+        });
+        String changedBy = MDC.get(ApiSecurityConstants.API_KEY_MDC_KEY);
+        return new AuditRecord(
+                resource,
+                entityId,
+                action,
+                List.copyOf(changes),
+                changedBy != null ? changedBy : DEFAULT_ACTOR,
+                OffsetDateTime.now()
+        );
+    }
+
+    /**
+     * @param field : 項目名 (レスポンスのフィールド名)
+     * @param oldValue : 変更前の値
+     * @param newValue : 変更後の値
+     */
+    public record FieldChange(String field, String oldValue, String newValue) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.untitled.common.apikey;
+
+import com.example.untitled.common.constant.ApiSecurityConstants;
+import com.example.untitled.common.interceptor.TokenBucketRateLimiter;
+
+import java.util.Set;
+
+/**
+ * 登録済みの API キー
+ * @param label : キーの利用者を表すラベル (メトリクス・ログ・レート制限の単位)
+ * @param scopes : 許可するスコープ (read / write / admin)
+ * @param quota : キーごとのレート制限 (null の場合は既定の予算)
+ */
+public record ApiKeyEntry(String label, Set<String> scopes, TokenBucketRateLimiter.Budget quota) {
+
+    /**
+     * @param method : HTTP メソッド
+     * @return リクエストに必要なスコープを持っている場合は true
+     */
+    public boolean allows(String method) {
+        return allows(method, false);
+    }
+
+    /**
+     * @param method : HTTP メソッド
+     * @param adminPath : 管理用エンドポイント (/admin 配下) へのリクエストの場合は true
+     * @return リクエストに必要なスコープを持っている場合は true
+     */
+    public boolean allows(String method, boolean adminPath) {
+        if (adminPath) {
+            return scopes.contains(ApiSecurityConstants.SCOPE_ADMIN);
+        }
+        boolean read = "GET".equalsIgnoreCase(method) || "HEAD".equalsIgnoreCase(method);
+        return scopes.contains(read ? ApiSecurityConstants.SCOPE_READ : ApiSecurityConstants.SCOPE_WRITE);
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.untitled.common.apikey;
+
+import com.example.untitled.common.constant.ApiSecurityConstants;
+import com.example.untitled.common.interceptor.TokenBucketRateLimiter;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * API キーの登録簿
+ *
+ * <p>キーそのものではなく SHA-256 のダイジェストをキーにしたマップで引くため、件数によらず O(1) で、
+ * 比較に掛かる時間から元のキーを推測することもできない。</p>
+ *
+ * <p>キーは app.api-key(ラベル "default"、全スコープ) と app.api-keys.file の JSON から読み込む。
+ * ファイルは reload-interval ごとに更新日時を確認し、変わっていれば読み直すため、
+ * 再起動せずにキーの追加・削除(ローテーション)ができる。読み直しに失敗した場合は直前の内容を使い続ける。</p>
+ *
+ * <pre>
+ * [
+ *   {"label": "mobile", "sha256": "&lt;キーの SHA-256(hex)&gt;", "scopes": ["read"], "capacity": 200, "refillPerSecond": 100}
+ * ]
+ * </pre>
+ */
+@Slf4j
+public class ApiKeyRegistry {
+
+    private static final String DEFAULT_LABEL = "default";
+    private static final Set<String> ALL_SCOPES = Set.of(
+            ApiSecurityConstants.SCOPE_READ, ApiSecurityConstants.SCOPE_WRITE, ApiSecurityConstants.SCOPE_ADMIN
+    );
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final String defaultKey;
+    private final Path keysFile;
+    private final long reloadIntervalNanos;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong nextReloadCheck;
+
+    private volatile Map<String, ApiKeyEntry> entries;
+    private volatile FileTime loadedModifiedTime;
+
+    /**
+     * @param defaultKey : 単一キーの設定 (空の場合は使わない)
+     * @param keysFile : キー定義の JSON ファイルのパス (空の場合は使わない)
+     * @param reloadIntervalSeconds : ファイルの更新を確認する間隔(秒)
+     */
+    public ApiKeyRegistry(String defaultKey, String keysFile, long reloadIntervalSeconds, ObjectMapper objectMapper) {
+        this.defaultKey = defaultKey == null || defaultKey.isBlank() ? null : defaultKey;
+        this.keysFile = keysFile == null || keysFile.isBlank() ? null : Path.of(keysFile);
+        this.reloadIntervalNanos = reloadIntervalSeconds * 1_000_000_000L;
+        this.objectMapper = objectMapper;
+        this.nextReloadCheck = new AtomicLong(System.nanoTime() + reloadIntervalNanos);
+
+        // 起動時の設定ミスはその場で失敗させる
+        try {
+            this.entries = load();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load API keys: " + keysFile, e);
+        }
+        if (entries.isEmpty()) {
+            throw new IllegalStateException("No API key is configured.");
+        }
+    }
+
+    /**
+     * @param providedKey : リクエストで指定されたキー
+     * @return 登録済みのキー
+     */
+    public Optional<ApiKeyEntry> find(String providedKey) {
+        reloadIfModified();
+        if (providedKey == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entries.get(digest(providedKey)));
+    }
+
+    /**
+     * @param key : API キー
+     * @return SHA-256 ダイジェスト(hex)
+     */
+    public static String digest(String key) {
+        try {
+            return HEX.formatHex(MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void reloadIfModified() {
+        if (keysFile == null) {
+            return;
+        }
+        // 確認するのは間隔ごとに1スレッドだけ
+        long now = System.nanoTime();
+        long next = nextReloadCheck.get();
+        if (now - next < 0 || !nextReloadCheck.compareAndSet(next, now + reloadIntervalNanos)) {
+            return;
+        }
+
+        try {
+            if (Files.getLastModifiedTime(keysFile).equals(loadedModifiedTime)) {
+                return;
+            }
+            Map<String, ApiKeyEntry> reloaded = load();
+            if (reloaded.isEmpty()) {
+                log.warn("API key file {} has no keys. Keeping the current keys.", keysFile);
+                return;
+            }
+            entries = reloaded;
+            log.info("Reloaded {} API keys from {}", reloaded.size(), keysFile);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to reload API keys from {}. Keeping the current keys.", keysFile, e);
+        }
+    }
+
+    private Map<String, ApiKeyEntry> load() throws IOException {
+        Map<String, ApiKeyEntry> loaded = new HashMap<>();
+        Set<String> labels = new HashSet<>();
+        if (defaultKey != null) {
+            loaded.put(digest(defaultKey), new ApiKeyEntry(DEFAULT_LABEL, ALL_SCOPES, null));
+            labels.add(DEFAULT_LABEL);
+        }
+        if (keysFile == null) {
+            return Map.copyOf(loaded);
+        }
+
+        FileTime modifiedTime = Files.getLastModifiedTime(keysFile);
+        List<KeyDefinition> definitions = objectMapper.readValue(keysFile.toFile(), new TypeReference<>() {});
+        for (KeyDefinition definition : definitions) {
+            ApiKeyEntry entry = definition.toEntry();
+            // ラベルはメトリクス・レート制限の単位になるため重複させない
+            if (!labels.add(entry.label())) {
+                throw new IllegalStateException("Duplicate API key label: " + entry.label());
+            }
+            if (loaded.putIfAbsent(definition.sha256().toLowerCase(Locale.ROOT), entry) != null) {
+                throw new IllegalStateException("Duplicate API key: " + entry.label());
+            }
+        }
+        loadedModifiedTime = modifiedTime;
+        return Map.copyOf(loaded);
+    }
+
+    /**
+     * キー定義ファイルの1件
+     */
+    record KeyDefinition(
+            String label,
+            String sha256,
+            Set<String> scopes,
+            Long capacity,
+            Long refillPerSecond
+    ) {
+
+        ApiKeyEntry toEntry() {
+            if (label == null || label.isBlank()) {
+                throw new IllegalStateException("API key label is required.");
+            }
+            if (sha256 == null || !sha256.matches("[0-9a-fA-F]{64}")) {
+                throw new IllegalStateException("Invalid sha256 for API key: " + label);
+            }
+            if (scopes == null || scopes.isEmpty() || !ALL_SCOPES.containsAll(scopes)) {
+                throw new IllegalStateException("Invalid scopes for API key: " + label);
+            }
+            if ((capacity == null) != (refillPerSecond == null)) {
+                throw new IllegalStateException("capacity and refillPerSecond must be set together: " + label);
+            }
+            TokenBucketRateLimiter.Budget quota = capacity == null
+                    ? null
+                    : TokenBucketRateLimiter.Budget.of(capacity, refillPerSecond);
+            return new ApiKeyEntry(label, Set.copyOf(scopes), quota);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.untitled.common.cache;
+
+/**
+ * マスタの更新がコミットされたことを表すイベント (CatalogVersion から発行する)
+ * @param key : マスタのキー
+ * @param version : 更新後のバージョン
+ */
+public record CatalogChangedEvent(String key, String version) {
+}
@@ -0,0 +1,67 @@
+package com.example.untitled.common.cache;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * マスタごとの更新バージョン
+ * 一覧の ETag に使用する (max(updated_at) だけではコミット順の逆転を検知できないため)
+ * バージョンを進めるたびに CatalogChangedEvent を発行する
+ */
+@Component
+public class CatalogVersion implements ApplicationEventPublisherAware {
+
+    // 再起動後に同じバージョン番号を再利用しないよう起動時刻を含める
+    private final long epoch = System.currentTimeMillis();
+    private final ConcurrentHashMap<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * @param key : マスタのキー
+     * @return "起動時刻-バージョン" 形式の文字列
+     */
+    public String current(String key) {
+        return epoch + "-" + counter(key).get();
+    }
+
+    /**
+     * バージョンを進める
+     * トランザクション中であればコミット後に進める
+     * @param key : マスタのキー
+     */
+    public void bump(String key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(key);
+                }
+            });
+            return;
+        }
+        increment(key);
+    }
+
+    private void increment(String key) {
+        long version = counter(key).incrementAndGet();
+        // Spring の管理外(ユニットテストなど)で生成した場合は発行しない
+        if (eventPublisher != null) {
+            eventPublisher.publishEvent(new CatalogChangedEvent(key, epoch + "-" + version));
+        }
+    }
+
+    private AtomicLong counter(String key) {
+        return versions.computeIfAbsent(key, k -> new AtomicLong());
+    }
+}
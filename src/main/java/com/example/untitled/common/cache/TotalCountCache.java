@@ -0,0 +1,80 @@
+package com.example.untitled.common.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * total=estimate 用の件数キャッシュ
+ * 作成・削除のコミット時に件数を増減し、TTL を過ぎたら COUNT(*) で取り直す
+ */
+@Component
+public class TotalCountCache {
+
+    private final long ttlMillis;
+    private final ConcurrentHashMap<String, CachedCount> counts = new ConcurrentHashMap<>();
+
+    public TotalCountCache(
+            @Value("${app.list-count.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * @param key : 集計対象のキー
+     * @param counter : キャッシュが無い・期限切れの場合に正確な件数を取得する処理
+     * @return estimated count
+     */
+    public long get(String key, LongSupplier counter) {
+        long now = System.currentTimeMillis();
+        CachedCount cached = counts.get(key);
+        if (cached != null && now - cached.loadedAt < ttlMillis) {
+            return Math.max(cached.count.get(), 0);
+        }
+
+        CachedCount loaded = new CachedCount(counter.getAsLong(), now);
+        counts.put(key, loaded);
+        return loaded.count.get();
+    }
+
+    /**
+     * 件数を増減する (トランザクション中であればコミット後に反映)
+     * @param key : 集計対象のキー
+     * @param delta : 増減数
+     */
+    public void adjust(String key, long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(key, delta);
+                }
+            });
+            return;
+        }
+        apply(key, delta);
+    }
+
+    private void apply(String key, long delta) {
+        // まだ読み込まれていない場合は次回の get で正確な件数を取得する
+        CachedCount cached = counts.get(key);
+        if (cached != null) {
+            cached.count.addAndGet(delta);
+        }
+    }
+
+    private static final class CachedCount {
+        private final AtomicLong count;
+        private final long loadedAt;
+
+        private CachedCount(long count, long loadedAt) {
+            this.count = new AtomicLong(count);
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -6,6 +6,17 @@ public final class ApiSecurityConstants {
     public static final String OPTIONS_METHOD = "OPTIONS";
     public static final String API_KEY_HEADER = "x-api-key";
 
+    // 認証した API キー(ApiKeyEntry)を後続の処理へ渡すためのリクエスト属性
+    public static final String API_KEY_ATTRIBUTE = ApiSecurityConstants.class.getName() + ".apiKey";
+    // ログに出力する API キーのラベル (MDC のキー)
+    public static final String API_KEY_MDC_KEY = "apiKey";
+
+    // GET / HEAD は read、それ以外は write のスコープが必要 (/admin 配下はメソッドによらず admin が必要)
+    public static final String SCOPE_READ = "read";
+    public static final String SCOPE_WRITE = "write";
+    public static final String SCOPE_ADMIN = "admin";
+    public static final String ADMIN_PATH_PATTERN = "/admin/**";
+
     private ApiSecurityConstants() {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,34 @@
+package com.example.untitled.common.dto;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+
+/**
+ * 一覧の条件付きリクエスト(If-None-Match / If-Modified-Since)の判定材料
+ * @param version : マスタの更新バージョン
+ * @param lastModified : 最終更新日時 (データが無い場合は null)
+ */
+public record ListVersion(String version, OffsetDateTime lastModified) {
+
+    /**
+     * 強い ETag を生成する
+     * 同じバージョンでもクエリパラメータが異なれば別の表現になるため、パラメータも含める
+     * @param params : 一覧取得のクエリパラメータ
+     * @return ETag value
+     */
+    public String etag(Object... params) {
+        StringBuilder source = new StringBuilder(version)
+                .append('|')
+                .append(lastModified == null ? "" : lastModified.toInstant().toString());
+        for (Object param : params) {
+            source.append('|').append(param);
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    public long lastModifiedMillis() {
+        return lastModified == null ? -1 : lastModified.toInstant().toEpochMilli();
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.untitled.common.dto;
 
+import com.example.untitled.common.enums.TotalMode;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 /**
  * Meta 情報
@@ -11,24 +13,70 @@ import org.springframework.data.domain.Page;
 @AllArgsConstructor
 public class MetaInfo {
 
-    /** 総アイテム数 **/
+    /** 総アイテム数 (total=none、カーソル方式では null) **/
     private Long totalItems;
 
-    /** 総ページ数 **/
-    private int totalPages;
+    /** 総ページ数 (total=none、カーソル方式では null) **/
+    private Integer totalPages;
 
-    /** 現在のページ番号 **/
-    private int pageIndex;
+    /** 現在のページ番号 (カーソル方式では null) **/
+    private Integer pageIndex;
 
     /** ページあたりのアイテム数 **/
     private int limit;
 
+    /** 次ページのカーソル (ページ番号方式、または最終ページでは null) **/
+    private String nextCursor;
+
+    /** 次ページが存在するか **/
+    private boolean hasNext;
+
+    /** 総アイテム数の算出方法 **/
+    private TotalMode totalMode;
+
     public static <T>MetaInfo from(Page<T> page) {
         return new MetaInfo(
                 page.getTotalElements(),
                 page.getTotalPages(),
                 page.getNumber(),
-                page.getSize()
+                page.getSize(),
+                null,
+                page.hasNext(),
+                TotalMode.EXACT
+        );
+    }
+
+    /**
+     * COUNT(*) を実行しない一覧のメタ情報
+     * @param slice : 取得したスライス
+     * @param estimatedTotal : キャッシュ済みの件数 (total=none の場合は null)
+     * @param totalMode : 総アイテム数の算出方法
+     */
+    public static <T>MetaInfo from(Slice<T> slice, Long estimatedTotal, TotalMode totalMode) {
+        Integer totalPages = estimatedTotal == null
+                ? null
+                : (int) ((estimatedTotal + slice.getSize() - 1) / slice.getSize());
+
+        return new MetaInfo(
+                estimatedTotal,
+                totalPages,
+                slice.getNumber(),
+                slice.getSize(),
+                null,
+                slice.hasNext(),
+                totalMode
+        );
+    }
+
+    public static MetaInfo fromCursor(int limit, String nextCursor) {
+        return new MetaInfo(
+                null,
+                null,
+                null,
+                limit,
+                nextCursor,
+                nextCursor != null,
+                TotalMode.NONE
         );
     }
 }
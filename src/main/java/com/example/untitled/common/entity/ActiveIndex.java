@@ -0,0 +1,38 @@
+package com.example.untitled.common.entity;
+
+/**
+ * 論理削除されていない行だけを対象にした部分インデックス (一覧の並び順・検索用)
+ * 一覧や参照は BaseEntity.ACTIVE_FILTER で常に is_deleted = false を条件にするため、
+ * 削除済みの行が増えてもインデックスの走査範囲は有効な行の件数のままになる
+ * 一意性のためのインデックスは ActiveUniqueIndex を参照
+ */
+public enum ActiveIndex {
+
+    // 楽曲一覧のカーソル方式 (title, id) と title でのソート
+    PRSK_MUSIC_TITLE("idx_m_prsk_music_title_id_active", "m_prsk_music", "title, id"),
+    // アーティスト一覧のカーソル方式 (artistName, id) と artistName でのソート
+    ARTIST_NAME("idx_m_artists_artist_name_id_active", "m_artists", "artist_name, id"),
+    // ユーザー一覧のカーソル方式 (userName, id) と userName でのソート
+    USER_NAME("idx_m_users_user_name_id_active", "m_users", "user_name, id"),
+    // ユーザーごとのプレイリスト一覧 (id 順)
+    PLAYLIST_USER("idx_t_prsk_playlist_user_id_active", "t_prsk_playlist", "user_id, id");
+
+    private final String indexName;
+    private final String tableName;
+    private final String columns;
+
+    ActiveIndex(String indexName, String tableName, String columns) {
+        this.indexName = indexName;
+        this.tableName = tableName;
+        this.columns = columns;
+    }
+
+    public String getIndexName() {
+        return indexName;
+    }
+
+    public String createStatement() {
+        return "CREATE INDEX IF NOT EXISTS " + indexName
+                + " ON " + tableName + " (" + columns + ") WHERE is_deleted = false";
+    }
+}
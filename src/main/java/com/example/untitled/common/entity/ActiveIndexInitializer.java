@@ -0,0 +1,146 @@
+package com.example.untitled.common.entity;
+
+import com.example.untitled.common.util.TextNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 論理削除されていない行だけを対象にした部分インデックス(ActiveUniqueIndex, ActiveIndex)を作成する
+ * 全シングルトン(EntityManagerFactory によるスキーマ生成を含む)の初期化後、Web サーバーの起動前に実行する
+ * 部分インデックスは PostgreSQL の機能のため、それ以外の DB (単体テストの H2) では作成しない
+ *
+ * <p>一意インデックスの作成前に、対象カラム(正規化キー)の未設定の行を埋める (ActiveUniqueKeyBackfill)。
+ * それでも論理削除されていない行に重複が残っている場合は、起動を止めずにそのインデックスだけ作成しない。
+ * 作成できなかったインデックス(H2 では全て)の重複は、各サービスが登録前の SELECT でチェックする (isEnforced)。</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveIndexInitializer implements SmartInitializingSingleton {
+
+    // 以前のエンティティ定義で作成された、論理削除済みの行も対象にする一意制約を探す
+    private static final String LEGACY_UNIQUE_CONSTRAINTS_QUERY =
+            "SELECT rel.relname, con.conname FROM pg_constraint con"
+                    + " JOIN pg_class rel ON rel.oid = con.conrelid"
+                    + " WHERE con.contype = 'u' AND rel.relname::text = ANY (?)";
+
+    // 以前のエンティティ定義で作成された、削除済みの行も含む全行を対象にしたインデックス (部分インデックスで置き換えた)
+    private static final List<String> LEGACY_INDEXES = List.of(
+            "idx_m_prsk_music_title_id",
+            "idx_m_prsk_music_title_key",
+            "idx_m_artists_artist_name_key",
+            "idx_t_prsk_playlist_user_id"
+    );
+
+    // 正規化キーのカラム (長さは元のカラムの長さ × TextNormalizer.MAX_EXPANSION。エンティティの定義と合わせる)
+    // ddl-auto=update は既存のカラムの長さを変えないため、以前の定義 (元の長さの3倍) で作成されたカラムを広げる
+    private static final List<KeyColumn> KEY_COLUMNS = List.of(
+            new KeyColumn("m_prsk_music", "title_key", 30 * TextNormalizer.MAX_EXPANSION),
+            new KeyColumn("m_artists", "artist_name_key", 50 * TextNormalizer.MAX_EXPANSION)
+    );
+
+    private static final String COLUMN_LENGTH_QUERY =
+            "SELECT character_maximum_length FROM information_schema.columns"
+                    + " WHERE table_schema = current_schema() AND table_name = ? AND column_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<ActiveUniqueKeyBackfill> backfills;
+
+    // 作成済みの一意インデックス (Web サーバーの起動前に確定し、以降は読み込みのみ)
+    private volatile Set<ActiveUniqueIndex> enforcedIndexes = EnumSet.noneOf(ActiveUniqueIndex.class);
+
+    /**
+     * @return 一意インデックスで重複を検出できる場合は true (false の場合は登録前に SELECT でチェックする)
+     */
+    public boolean isEnforced(ActiveUniqueIndex index) {
+        return enforcedIndexes.contains(index);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        String databaseName = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()
+        );
+        boolean isPostgreSQL = "PostgreSQL".equals(databaseName);
+        if (isPostgreSQL) {
+            dropLegacyUniqueConstraints();
+            widenKeyColumns();
+        }
+        // 一意インデックスの作成前に埋める (後から埋めるとインデックス違反で起動できなくなる)
+        backfills.orderedStream().forEach(ActiveUniqueKeyBackfill::backfillUniqueKeys);
+        if (!isPostgreSQL) {
+            return;
+        }
+
+        Set<ActiveUniqueIndex> created = EnumSet.noneOf(ActiveUniqueIndex.class);
+        for (ActiveUniqueIndex index : ActiveUniqueIndex.values()) {
+            List<Map<String, Object>> duplicates = jdbcTemplate.queryForList(index.duplicatesQuery());
+            if (!duplicates.isEmpty()) {
+                log.warn("Skipped creating {} because active rows have duplicate keys: {}."
+                        + " Merge or delete them and restart to enforce the index.", index.getIndexName(), duplicates);
+                continue;
+            }
+            jdbcTemplate.execute(index.createStatement());
+            created.add(index);
+        }
+        enforcedIndexes = created;
+        for (ActiveIndex index : ActiveIndex.values()) {
+            jdbcTemplate.execute(index.createStatement());
+        }
+        LEGACY_INDEXES.forEach(indexName -> jdbcTemplate.execute("DROP INDEX IF EXISTS " + indexName));
+    }
+
+    /**
+     * 正規化で伸びたキーが "value too long" にならないよう、短いカラムを広げる
+     * (varchar の長さを広げるだけのため、テーブルの書き直しは発生しない)
+     */
+    private void widenKeyColumns() {
+        for (KeyColumn keyColumn : KEY_COLUMNS) {
+            List<Integer> lengths = jdbcTemplate.queryForList(
+                    COLUMN_LENGTH_QUERY, Integer.class, keyColumn.tableName(), keyColumn.columnName()
+            );
+            if (lengths.isEmpty() || lengths.get(0) == null || lengths.get(0) >= keyColumn.length()) {
+                continue;
+            }
+            log.info("Widening {}.{} from varchar({}) to varchar({}).",
+                    keyColumn.tableName(), keyColumn.columnName(), lengths.get(0), keyColumn.length());
+            jdbcTemplate.execute("ALTER TABLE " + keyColumn.tableName()
+                    + " ALTER COLUMN " + keyColumn.columnName() + " TYPE varchar(" + keyColumn.length() + ")");
+        }
+    }
+
+    /**
+     * 論理削除済みの行と同じ名前で登録し直せるよう、全行を対象にした一意制約を外す
+     */
+    private void dropLegacyUniqueConstraints() {
+        String[] tableNames = Arrays.stream(ActiveUniqueIndex.values())
+                .map(ActiveUniqueIndex::getTableName)
+                .distinct()
+                .toArray(String[]::new);
+
+        List<String> statements = jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(LEGACY_UNIQUE_CONSTRAINTS_QUERY);
+                    statement.setArray(1, connection.createArrayOf("text", tableNames));
+                    return statement;
+                },
+                (rs, rowNum) -> "ALTER TABLE " + rs.getString(1) + " DROP CONSTRAINT \"" + rs.getString(2) + "\""
+        );
+        statements.forEach(jdbcTemplate::execute);
+    }
+
+    private record KeyColumn(String tableName, String columnName, int length) {
+    }
+}
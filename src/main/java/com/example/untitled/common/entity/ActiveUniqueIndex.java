@@ -0,0 +1,124 @@
+package com.example.untitled.common.entity;
+
+import com.example.untitled.common.dto.ErrorDetails;
+import com.example.untitled.common.exception.DuplicationResourceException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 論理削除されていない行だけを対象にした部分一意インデックス
+ * JPA のアノテーションでは WHERE 句付きのインデックスを定義できないため、ActiveIndexInitializer が作成する
+ * 重複チェックは登録前の SELECT ではなくこのインデックスで行い、違反は 409 に変換する
+ * 重複データがあり作成できなかった場合 (ActiveIndexInitializer#isEnforced) は、登録前の SELECT で重複をチェックする
+ */
+public enum ActiveUniqueIndex {
+
+    PRSK_MUSIC_TITLE(
+            "uk_m_prsk_music_title_key_active", "m_prsk_music", "title_key, music_type",
+            "Title and MusicType", "Duplicate title and music type combination"
+    ),
+    ARTIST_NAME(
+            "uk_m_artists_artist_name_key_active", "m_artists", "artist_name_key",
+            "artistName", "Artist name already exist"
+    ),
+    USER_NAME(
+            "uk_m_users_user_name_active", "m_users", "user_name",
+            "userName", "User name already exist"
+    );
+
+    private final String indexName;
+    private final String tableName;
+    private final String columns;
+    private final String field;
+    private final String message;
+
+    ActiveUniqueIndex(String indexName, String tableName, String columns, String field, String message) {
+        this.indexName = indexName;
+        this.tableName = tableName;
+        this.columns = columns;
+        this.field = field;
+        this.message = message;
+    }
+
+    public String getIndexName() {
+        return indexName;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    /**
+     * 登録・更新したい値が分からない場合 (GlobalExceptionHandler) のエラー詳細
+     */
+    public ErrorDetails getErrorDetails() {
+        return errorDetails(null);
+    }
+
+    /**
+     * @param value : 重複した値 (登録・更新のリクエストの値。メッセージに含めない場合は null)
+     */
+    public DuplicationResourceException conflict(String value) {
+        return new DuplicationResourceException("Conflict detected", List.of(errorDetails(value)));
+    }
+
+    private ErrorDetails errorDetails(String value) {
+        return new ErrorDetails(field, value == null ? message + "." : message + ": " + value);
+    }
+
+    /**
+     * INSERT を発行し、このインデックスの違反を重複エラー(409)に変換する
+     * @param value : 重複した場合にエラー詳細に含める値
+     * @param insert : saveAndFlush など、この場で INSERT を発行する処理
+     */
+    public <T> T insert(String value, Supplier<T> insert) {
+        try {
+            return insert.get();
+        } catch (DataIntegrityViolationException e) {
+            if (find(e).orElse(null) == this) {
+                throw conflict(value);
+            }
+            throw e;
+        }
+    }
+
+    public String createStatement() {
+        return "CREATE UNIQUE INDEX IF NOT EXISTS " + indexName
+                + " ON " + tableName + " (" + columns + ") WHERE is_deleted = false";
+    }
+
+    /**
+     * インデックスを作成できない重複 (論理削除されていない行) を探す
+     */
+    public String duplicatesQuery() {
+        return "SELECT " + columns + ", COUNT(*) AS duplicate_count FROM " + tableName
+                + " WHERE is_deleted = false GROUP BY " + columns + " HAVING COUNT(*) > 1 ORDER BY COUNT(*) DESC LIMIT 20";
+    }
+
+    /**
+     * 例外の原因をたどり、違反したインデックスを特定する
+     * Hibernate が制約名を取り出せなかった場合は JDBC ドライバのメッセージから探す
+     * @param exception : 一意制約違反の例外 (DataIntegrityViolationException など)
+     * @return 違反したインデックス (このインデックス以外の違反の場合は empty)
+     */
+    public static Optional<ActiveUniqueIndex> find(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            String text = cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                    ? violation.getConstraintName()
+                    : cause.getMessage();
+            if (text == null) {
+                continue;
+            }
+            for (ActiveUniqueIndex index : values()) {
+                if (text.contains(index.indexName)) {
+                    return Optional.of(index);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
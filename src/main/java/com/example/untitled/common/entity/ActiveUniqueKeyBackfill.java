@@ -0,0 +1,11 @@
+package com.example.untitled.common.entity;
+
+/**
+ * 部分一意インデックス (ActiveUniqueIndex) の対象カラムのうち、カラム追加前の行で未設定のものを埋める
+ * ActiveIndexInitializer がインデックスの作成前に呼び出す
+ * 埋めると重複になる行 (表記揺れの重複が残っている既存データ) は埋めずにログに出し、起動は止めない
+ */
+public interface ActiveUniqueKeyBackfill {
+
+    void backfillUniqueKeys();
+}
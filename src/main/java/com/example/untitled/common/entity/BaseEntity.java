@@ -3,18 +3,31 @@ package com.example.untitled.common.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.OffsetDateTime;
 
+/**
+ * 全エンティティ共通の監査項目と論理削除フラグ
+ * 論理削除された行は ACTIVE_FILTER によって全てのクエリ(JPQL・派生クエリ)から除外される
+ * 主キーでの直接読み込み(findById や @ManyToOne の遅延読み込み)には掛からないため、
+ * 削除済みアーティストの楽曲なども参照先を読み込める
+ */
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
+@FilterDef(name = BaseEntity.ACTIVE_FILTER, defaultCondition = "is_deleted = false", autoEnabled = true)
+@Filter(name = BaseEntity.ACTIVE_FILTER)
 @Getter
 @Setter
 public abstract class BaseEntity {
 
+    // 削除済みの行も参照する場合は SoftDeleteFilter.includingDeleted で一時的に無効にする
+    public static final String ACTIVE_FILTER = "activeOnly";
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt;
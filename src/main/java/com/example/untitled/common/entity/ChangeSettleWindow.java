@@ -0,0 +1,39 @@
+package com.example.untitled.common.entity;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+/**
+ * 変更日時 (updated_at / changed_at) がコミット順と逆転しうる時間の上限
+ *
+ * <p>変更日時はトランザクションの途中で設定されるため、最も長い書き込みトランザクション
+ * (一括登録を含む) の分だけ古い日時の変更が後からコミットされる可能性がある。
+ * 変更日時で読み進める処理 (差分同期・変更履歴の反映) は、この時間の分だけ遡って読み直す。</p>
+ *
+ * <p>app.max-write-transaction-seconds は最も長い書き込みトランザクションより大きい値にすること。</p>
+ */
+@Component
+public class ChangeSettleWindow {
+
+    private final Duration duration;
+
+    public ChangeSettleWindow(
+            @Value("${app.max-write-transaction-seconds:60}") long maxWriteTransactionSeconds
+    ) {
+        this.duration = Duration.ofSeconds(maxWriteTransactionSeconds);
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * これ以前の変更日時の変更はすべてコミット済みとみなせる日時
+     */
+    public OffsetDateTime settledAt() {
+        return OffsetDateTime.now().minus(duration);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.untitled.common.entity;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * 論理削除のフィルタ(BaseEntity.ACTIVE_FILTER)を一時的に外して処理を実行する
+ * 一覧の Last-Modified(削除も更新日時に含める)など、削除済みの行も対象にするクエリで使う
+ */
+@Component
+@RequiredArgsConstructor
+public class SoftDeleteFilter {
+
+    private final EntityManager entityManager;
+
+    /**
+     * @param action : 削除済みの行も含めて実行する処理
+     * @return action の戻り値
+     */
+    public <T> T includingDeleted(Supplier<T> action) {
+        // フィルタはセッション単位のため、トランザクション外ではクエリごとに別のセッションになり効果が無い
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("includingDeleted must be called within a transaction");
+        }
+
+        Session session = entityManager.unwrap(Session.class);
+        boolean enabled = session.getEnabledFilter(BaseEntity.ACTIVE_FILTER) != null;
+        session.disableFilter(BaseEntity.ACTIVE_FILTER);
+        try {
+            return action.get();
+        } finally {
+            // 呼び出しが入れ子の場合は外側が戻すまで無効のままにする
+            if (enabled) {
+                session.enableFilter(BaseEntity.ACTIVE_FILTER);
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.untitled.common.enums;
+
+import com.example.untitled.common.dto.ErrorDetails;
+import com.example.untitled.common.exception.BadRequestException;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.List;
+
+/**
+ * エクスポートの出力形式
+ */
+public enum ExportFormat {
+    /** 1行1レコードの JSON **/
+    NDJSON("ndjson", "application/x-ndjson"),
+    /** ヘッダー行付きの CSV **/
+    CSV("csv", "text/csv; charset=UTF-8");
+
+    private final String value;
+    private final String contentType;
+
+    ExportFormat(String value, String contentType) {
+        this.value = value;
+        this.contentType = contentType;
+    }
+
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public static ExportFormat fromValue(String value) {
+        for(ExportFormat format: values()) {
+            if(format.value.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new BadRequestException(
+                "Bad Request",
+                List.of(new ErrorDetails(
+                        "format",
+                        "Invalid format: " + value
+                ))
+        );
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.untitled.common.enums;
+
+import com.example.untitled.common.dto.ErrorDetails;
+import com.example.untitled.common.exception.BadRequestException;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.List;
+
+/**
+ * 一覧取得時の総件数の算出方法
+ */
+public enum TotalMode {
+    /** COUNT(*) で正確な件数を返す **/
+    EXACT("exact"),
+    /** 書き込みで更新されるキャッシュ済みの件数を返す **/
+    ESTIMATE("estimate"),
+    /** 件数を返さない (Slice で次ページの有無のみ判定) **/
+    NONE("none");
+
+    private final String value;
+
+    TotalMode(String value) {
+        this.value = value;
+    }
+
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+
+    public static TotalMode fromValue(String value) {
+        for(TotalMode mode: values()) {
+            if(mode.value.equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        throw new BadRequestException(
+                "Bad Request",
+                List.of(new ErrorDetails(
+                        "total",
+                        "Invalid total: " + value
+                ))
+        );
+    }
+}
@@ -3,8 +3,14 @@ package com.example.untitled.common.exception;
 import com.example.untitled.common.dto.ErrorDetails;
 import com.example.untitled.common.dto.ErrorResponse;
 import com.example.untitled.common.dto.ErrorResponseWithDetails;
+import com.example.untitled.common.entity.ActiveUniqueIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -12,11 +18,22 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+@Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final String EXCEPTION_COUNTER = "api.exceptions";
+
+    private final MeterRegistry meterRegistry;
+
+    // MeterRegistry が無い環境(@WebMvcTest 等)でも動くよう、無い場合は集計のみの registry を使う
+    public GlobalExceptionHandler(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+    }
+
     /**
      * 400 Bad Request
      */
@@ -41,6 +58,7 @@ public class GlobalExceptionHandler {
 
         );
 
+        countException(exception, HttpStatus.BAD_REQUEST);
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
 
@@ -67,6 +85,7 @@ public class GlobalExceptionHandler {
                 details
         );
 
+        countException(exception, HttpStatus.BAD_REQUEST);
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
 
@@ -81,6 +100,7 @@ public class GlobalExceptionHandler {
                 exception.getDetails()
         );
 
+        countException(exception, HttpStatus.BAD_REQUEST);
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
 
@@ -98,6 +118,7 @@ public class GlobalExceptionHandler {
                 exception.getDetails()
         );
 
+        countException(exception, HttpStatus.UNAUTHORIZED);
         return new ResponseEntity<>(error, HttpStatus.UNAUTHORIZED);
     }
 
@@ -114,6 +135,7 @@ public class GlobalExceptionHandler {
                 exception.getMessage()
         );
 
+        countException(exception, HttpStatus.NOT_FOUND);
         return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
     }
 
@@ -131,6 +153,46 @@ public class GlobalExceptionHandler {
                 exception.getDetails()
         );
 
+        countException(exception, HttpStatus.CONFLICT);
         return new ResponseEntity<>(error, HttpStatus.CONFLICT);
     }
+
+    /**
+     * 部分一意インデックスの違反 (同時登録で後から INSERT した側) を 409 に変換する
+     * それ以外の整合性違反は 500 として返す (ハンドラーから例外を投げ直すとエラーレスポンスの形式が変わるため)
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<? extends ErrorResponse> handleDataIntegrityViolation(
+            DataIntegrityViolationException exception
+    ) {
+        Optional<ActiveUniqueIndex> index = ActiveUniqueIndex.find(exception);
+        if (index.isPresent()) {
+            return handleDuplicateResourceError(new DuplicationResourceException(
+                    "Conflict detected",
+                    List.of(index.get().getErrorDetails())
+            ));
+        }
+
+        // SQL やパラメーターを含むため、詳細はログにのみ出す
+        log.error("Unhandled data integrity violation.", exception);
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                HttpStatus.INTERNAL_SERVER_ERROR.name(),
+                "Internal server error"
+        );
+
+        countException(exception, HttpStatus.INTERNAL_SERVER_ERROR);
+        return new ResponseEntity<>(error, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    /**
+     * ハンドリングした例外を例外クラス・ステータスコードごとに数える
+     */
+    private void countException(Exception exception, HttpStatus status) {
+        meterRegistry.counter(
+                EXCEPTION_COUNTER,
+                "exception", exception.getClass().getSimpleName(),
+                "status", String.valueOf(status.value())
+        ).increment();
+    }
 }
@@ -1,14 +1,19 @@
 package com.example.untitled.common.interceptor;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.server.RequestPath;
 import org.springframework.stereotype.Component;
-import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
+import com.example.untitled.common.apikey.ApiKeyEntry;
+import com.example.untitled.common.apikey.ApiKeyRegistry;
 import com.example.untitled.common.constant.ApiSecurityConstants;
 import com.example.untitled.common.dto.ErrorResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -17,16 +22,27 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 @Component
-public class ApiKeyInterceptor implements HandlerInterceptor {
+public class ApiKeyInterceptor implements AsyncHandlerInterceptor {
+
+    // ハンドラーの割り当てと同じ方法で照合し、エンコードされたパス (/%61dmin など) でも判定が食い違わないようにする
+    private static final PathPattern ADMIN_PATH =
+            PathPatternParser.defaultInstance.parse(ApiSecurityConstants.ADMIN_PATH_PATTERN);
 
-    private final String apiKey;
+    private final ApiKeyRegistry apiKeyRegistry;
     private final ObjectMapper objectMapper;
 
+    @Autowired
     public ApiKeyInterceptor(
-            @Value("${app.api-key}") String apiKey,
+            @Value("${app.api-key:}") String apiKey,
+            @Value("${app.api-keys.file:}") String apiKeysFile,
+            @Value("${app.api-keys.reload-interval-seconds:30}") long reloadIntervalSeconds,
             ObjectMapper objectMapper
     ) {
-        this.apiKey = apiKey;
+        this(new ApiKeyRegistry(apiKey, apiKeysFile, reloadIntervalSeconds, objectMapper), objectMapper);
+    }
+
+    public ApiKeyInterceptor(ApiKeyRegistry apiKeyRegistry, ObjectMapper objectMapper) {
+        this.apiKeyRegistry = apiKeyRegistry;
         this.objectMapper = objectMapper;
     }
 
@@ -45,23 +61,55 @@ public class ApiKeyInterceptor implements HandlerInterceptor {
             return true;
         }
 
-        String providedKey = request.getHeader(ApiSecurityConstants.API_KEY_HEADER);
-        if (providedKey == null || !MessageDigest.isEqual(
-                providedKey.getBytes(StandardCharsets.UTF_8),
-                apiKey.getBytes(StandardCharsets.UTF_8))) {
-            response.setStatus(HttpStatus.UNAUTHORIZED.value());
-            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-            response.setCharacterEncoding("UTF-8");
-
-            ErrorResponse error = new ErrorResponse(
-                    HttpStatus.UNAUTHORIZED.value(),
-                    HttpStatus.UNAUTHORIZED.name(),
-                    "Invalid or missing API key."
-            );
-            objectMapper.writeValue(response.getWriter(), error);
+        ApiKeyEntry apiKey = apiKeyRegistry.find(request.getHeader(ApiSecurityConstants.API_KEY_HEADER))
+                .orElse(null);
+        if (apiKey == null) {
+            writeError(response, HttpStatus.UNAUTHORIZED, "Invalid or missing API key.");
+            return false;
+        }
+        if (!apiKey.allows(request.getMethod(), isAdminPath(request))) {
+            writeError(response, HttpStatus.FORBIDDEN, "API key does not have the required scope.");
             return false;
         }
 
+        // レート制限・メトリクス・ログでキーのラベルを参照できるようにする
+        request.setAttribute(ApiSecurityConstants.API_KEY_ATTRIBUTE, apiKey);
+        MDC.put(ApiSecurityConstants.API_KEY_MDC_KEY, apiKey.label());
         return true;
     }
+
+    @Override
+    public void afterConcurrentHandlingStarted(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Object handler
+    ) {
+        MDC.remove(ApiSecurityConstants.API_KEY_MDC_KEY);
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Object handler,
+            Exception ex
+    ) {
+        MDC.remove(ApiSecurityConstants.API_KEY_MDC_KEY);
+    }
+
+    private static boolean isAdminPath(HttpServletRequest request) {
+        RequestPath path = ServletRequestPathUtils.hasParsedRequestPath(request)
+                ? ServletRequestPathUtils.getParsedRequestPath(request)
+                : ServletRequestPathUtils.parseAndCache(request);
+        return ADMIN_PATH.matches(path.pathWithinApplication());
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws Exception {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        ErrorResponse error = new ErrorResponse(status.value(), status.name(), message);
+        objectMapper.writeValue(response.getWriter(), error);
+    }
 }
@@ -0,0 +1,97 @@
+package com.example.untitled.common.interceptor;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.example.untitled.common.apikey.ApiKeyEntry;
+import com.example.untitled.common.constant.ApiSecurityConstants;
+import com.example.untitled.common.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * API キー・ルートごとのレート制限
+ * ApiKeyInterceptor の後に実行し、上限を超えたリクエストはコントローラー(とトランザクション)に入る前に 429 を返す
+ */
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public RateLimitInterceptor(
+            @Value("${app.rate-limit.stripes:1024}") int stripes,
+            @Value("${app.rate-limit.key.capacity:200}") long keyCapacity,
+            @Value("${app.rate-limit.key.refill-per-second:100}") long keyRefillPerSecond,
+            @Value("${app.rate-limit.route.capacity:100}") long routeCapacity,
+            @Value("${app.rate-limit.route.refill-per-second:50}") long routeRefillPerSecond,
+            ObjectMapper objectMapper
+    ) {
+        this(
+                new TokenBucketRateLimiter(
+                        stripes, keyCapacity, keyRefillPerSecond, routeCapacity, routeRefillPerSecond
+                ),
+                objectMapper
+        );
+    }
+
+    public RateLimitInterceptor(TokenBucketRateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean preHandle(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Object handler
+    ) throws Exception {
+        // ApiKeyInterceptor で認証されていないリクエスト(/health・プリフライト)は対象外
+        if (!(request.getAttribute(ApiSecurityConstants.API_KEY_ATTRIBUTE) instanceof ApiKeyEntry apiKey)) {
+            return true;
+        }
+
+        // キーごとの予算はラベル単位にし、同じラベルでキーをローテーションしても予算を引き継ぐ
+        long waitNanos = apiKey.quota() == null
+                ? rateLimiter.tryAcquire(apiKey.label().hashCode(), routeHash(request))
+                : rateLimiter.tryAcquire(apiKey.label().hashCode(), routeHash(request), apiKey.quota());
+        if (waitNanos == 0) {
+            return true;
+        }
+
+        long retryAfterSeconds = Math.max((waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND, 1);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                HttpStatus.TOO_MANY_REQUESTS.name(),
+                "Rate limit exceeded. Retry after " + retryAfterSeconds + " seconds."
+        );
+        objectMapper.writeValue(response.getWriter(), error);
+        return false;
+    }
+
+    /**
+     * パス変数を含まないマッピングのパターン(/artists/{id} など)でルートを識別する
+     * (マッピング前のリクエストなどパターンが無い場合はサーブレットパス)
+     */
+    private static int routeHash(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern instanceof String matched ? matched : request.getServletPath();
+        return 31 * request.getMethod().hashCode() + route.hashCode();
+    }
+}
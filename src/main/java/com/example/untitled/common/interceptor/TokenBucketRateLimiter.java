@@ -0,0 +1,139 @@
+package com.example.untitled.common.interceptor;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * ロックを使わないトークンバケット方式のレートリミッター
+ * API キーごとの予算と、API キー×ルートごとの予算の2段階で判定する
+ *
+ * <p>各バケットは「次にトークンが満タンから1つ減った状態になる時刻」(GCRA の理論到着時刻) を
+ * 1つの long で持ち、CAS で更新する。補充はその時刻と現在時刻の差で計算するため、
+ * タイマーや補充用のスレッドは不要。
+ * バケットはハッシュでストライプに割り当てるため、衝突したキー同士は予算を共有する。
+ * 許可される経路ではオブジェクトを生成しない。</p>
+ */
+public final class TokenBucketRateLimiter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    // 隣接するストライプが同じキャッシュラインに乗らないよう、64 バイト(long 8個)間隔で配置する
+    private static final int STRIPE_SHIFT = 3;
+
+    private final AtomicLongArray keyBuckets;
+    private final AtomicLongArray routeBuckets;
+    private final int mask;
+    private final Budget keyBudget;
+    private final Budget routeBudget;
+    private final LongSupplier nanoClock;
+    private final long origin;
+
+    /**
+     * @param stripes : ストライプ数 (2のべき乗に切り上げる)
+     * @param keyCapacity : API キーごとのバースト上限
+     * @param keyRefillPerSecond : API キーごとの1秒あたりの補充数
+     * @param routeCapacity : API キー×ルートごとのバースト上限
+     * @param routeRefillPerSecond : API キー×ルートごとの1秒あたりの補充数
+     */
+    public TokenBucketRateLimiter(
+            int stripes,
+            long keyCapacity,
+            long keyRefillPerSecond,
+            long routeCapacity,
+            long routeRefillPerSecond
+    ) {
+        this(stripes, keyCapacity, keyRefillPerSecond, routeCapacity, routeRefillPerSecond, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(
+            int stripes,
+            long keyCapacity,
+            long keyRefillPerSecond,
+            long routeCapacity,
+            long routeRefillPerSecond,
+            LongSupplier nanoClock
+    ) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("Rate limit settings must be positive.");
+        }
+        int size = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.mask = size - 1;
+        this.keyBuckets = new AtomicLongArray(size << STRIPE_SHIFT);
+        this.routeBuckets = new AtomicLongArray(size << STRIPE_SHIFT);
+        this.keyBudget = Budget.of(keyCapacity, keyRefillPerSecond);
+        this.routeBudget = Budget.of(routeCapacity, routeRefillPerSecond);
+        this.nanoClock = nanoClock;
+        // 各バケットの初期値 0 が「満タン」を表すよう、生成時点を起点にする
+        this.origin = nanoClock.getAsLong();
+    }
+
+    /**
+     * 既定の API キーごとの予算で判定する
+     * @param keyHash : API キーのハッシュ
+     * @param routeHash : ルート(メソッド + パスパターン)のハッシュ
+     * @return 許可した場合は 0、上限を超えた場合は次に許可されるまでのナノ秒
+     */
+    public long tryAcquire(int keyHash, int routeHash) {
+        return tryAcquire(keyHash, routeHash, keyBudget);
+    }
+
+    /**
+     * @param keyHash : API キーのハッシュ
+     * @param routeHash : ルート(メソッド + パスパターン)のハッシュ
+     * @param keyBudget : API キーごとの予算 (キーごとに割り当てた quota)
+     * @return 許可した場合は 0、上限を超えた場合は次に許可されるまでのナノ秒
+     */
+    public long tryAcquire(int keyHash, int routeHash, Budget keyBudget) {
+        long now = nanoClock.getAsLong() - origin;
+
+        int keyIndex = index(keyHash);
+        long wait = acquire(keyBuckets, keyIndex, keyBudget, now);
+        if (wait > 0) {
+            return wait;
+        }
+
+        wait = acquire(routeBuckets, index(31 * keyHash + routeHash), routeBudget, now);
+        if (wait > 0) {
+            // ルートの上限で拒否した場合は API キーの予算を消費しない
+            keyBuckets.getAndAdd(keyIndex, -keyBudget.interval());
+        }
+        return wait;
+    }
+
+    private int index(int hash) {
+        return ((hash ^ (hash >>> 16)) & mask) << STRIPE_SHIFT;
+    }
+
+    private static long acquire(AtomicLongArray buckets, int index, Budget budget, long now) {
+        while (true) {
+            long tat = buckets.get(index);
+            long start = Math.max(tat, now);
+            if (start - now > budget.tolerance()) {
+                return start - budget.tolerance() - now;
+            }
+            if (buckets.compareAndSet(index, tat, start + budget.interval())) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * バケット1つ分の予算
+     * @param interval : トークン1つを補充する間隔(ナノ秒)
+     * @param tolerance : 満タンの状態から消費できる時間幅(ナノ秒) = interval * (バースト上限 - 1)
+     */
+    public record Budget(long interval, long tolerance) {
+
+        /**
+         * @param capacity : バースト上限
+         * @param refillPerSecond : 1秒あたりの補充数
+         */
+        public static Budget of(long capacity, long refillPerSecond) {
+            if (capacity <= 0 || refillPerSecond <= 0) {
+                throw new IllegalArgumentException("Rate limit settings must be positive.");
+            }
+            long interval = Math.max(NANOS_PER_SECOND / refillPerSecond, 1);
+            return new Budget(interval, interval * (capacity - 1));
+        }
+    }
+}
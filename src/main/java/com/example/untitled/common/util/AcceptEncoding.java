@@ -0,0 +1,70 @@
+package com.example.untitled.common.util;
+
+import java.util.Locale;
+
+public class AcceptEncoding {
+
+    private static final String GZIP = "gzip";
+    private static final String X_GZIP = "x-gzip";
+    private static final String IDENTITY = "identity";
+    private static final String ANY = "*";
+
+    private AcceptEncoding() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Accept-Encoding ヘッダーの q 値を見て gzip で返してよいかを判定する
+     * gzip(または x-gzip / *)の q 値が 0 より大きく、identity の q 値以上の場合に gzip を選ぶ
+     * (例: "gzip;q=0" や "identity" のみの場合は gzip を使わない)
+     * @param header : Accept-Encoding ヘッダーの値 (null の場合は未指定)
+     * @return true when gzip should be used
+     */
+    public static boolean acceptsGzip(String header) {
+        if (header == null || header.isBlank()) {
+            return false;
+        }
+
+        Double gzipQuality = null;
+        Double identityQuality = null;
+        Double anyQuality = null;
+        for (String element : header.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = parseQuality(parts);
+            switch (coding) {
+                case GZIP, X_GZIP -> gzipQuality = max(gzipQuality, quality);
+                case IDENTITY -> identityQuality = max(identityQuality, quality);
+                case ANY -> anyQuality = max(anyQuality, quality);
+                default -> {
+                    // 他の符号化方式は判定に使わない
+                }
+            }
+        }
+
+        // 明示されていない方式は * の q 値に従う (identity は未指定でも最低優先度で受け付けられる)
+        double gzip = gzipQuality != null ? gzipQuality : anyQuality != null ? anyQuality : 0;
+        double identity = identityQuality != null ? identityQuality : anyQuality != null ? anyQuality : 0;
+        return gzip > 0 && gzip >= identity;
+    }
+
+    // q パラメーターがない、または解析できない場合は 1 として扱う
+    private static double parseQuality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 2 && Character.toLowerCase(parameter.charAt(0)) == 'q' && parameter.charAt(1) == '=') {
+                try {
+                    double quality = Double.parseDouble(parameter.substring(2).trim());
+                    return Math.min(Math.max(quality, 0), 1);
+                } catch (NumberFormatException e) {
+                    return 1;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static Double max(Double current, double quality) {
+        return current == null ? quality : Math.max(current, quality);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.untitled.common.util;
+
+import com.example.untitled.common.dto.ErrorDetails;
+import com.example.untitled.common.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+public class CursorCodec {
+
+    private static final char SEPARATOR = ':';
+
+    private CursorCodec() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * シーク位置(ソートキー, ID)を不透明なカーソル文字列に変換する
+     * @param sortValue : 最後に返したレコードのソートキー
+     * @param id : 最後に返したレコードのID
+     * @return URL safe cursor string
+     */
+    public static String encode(String sortValue, Long id) {
+        String raw = id + String.valueOf(SEPARATOR) + sortValue;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * カーソル文字列をシーク位置に戻す
+     * 空文字の場合は先頭から読み込むため null を返す
+     * @param cursor : カーソル文字列
+     * @return decoded position, or null for the first page
+     */
+    public static Position decode(String cursor) {
+        return decode(cursor, "cursor");
+    }
+
+    /**
+     * カーソル文字列をシーク位置に戻す
+     * @param cursor : カーソル文字列
+     * @param parameterName : 不正な場合にエラー詳細に含めるパラメータ名
+     * @return decoded position, or null for the first page
+     */
+    public static Position decode(String cursor, String parameterName) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex < 1) {
+                throw invalidCursor(parameterName);
+            }
+            Long id = Long.valueOf(raw.substring(0, separatorIndex));
+            return new Position(raw.substring(separatorIndex + 1), id);
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException も IllegalArgumentException のサブクラス
+            throw invalidCursor(parameterName);
+        }
+    }
+
+    private static BadRequestException invalidCursor(String parameterName) {
+        return new BadRequestException(
+                "Bad Request",
+                List.of(new ErrorDetails(parameterName, "Invalid " + parameterName))
+        );
+    }
+
+    /**
+     * シーク位置
+     * @param sortValue : ソートキー
+     * @param id : ID
+     */
+    public record Position(String sortValue, Long id) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.untitled.common.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+public class TextNormalizer {
+
+    /**
+     * 正規化で1文字が伸びる最大の文字数 (NFKC の最大の伸びは18倍。例: U+FDFA は18文字になる)
+     * 正規化キーのカラムは元のカラムの長さ × この値にする
+     */
+    public static final int MAX_EXPANSION = 18;
+
+    private static final char KATAKANA_SMALL_A = 'ァ';
+    private static final char KATAKANA_SMALL_KE = 'ヶ';
+    private static final int KATAKANA_TO_HIRAGANA_OFFSET = 0x60;
+
+    private TextNormalizer() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * 検索・重複チェック用の正規化キーを返す
+     * NFKC(全角英数/半角カナの統一) → 小文字化 → カタカナをひらがなに寄せる → 空白除去
+     * @param text : 正規化する文字列
+     * @return normalized key (null の場合は空文字)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c >= KATAKANA_SMALL_A && c <= KATAKANA_SMALL_KE) {
+                c = (char) (c - KATAKANA_TO_HIRAGANA_OFFSET);
+            }
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.untitled.common.util;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
 public class UtilsFunction {
@@ -24,4 +27,26 @@ public class UtilsFunction {
 
         return stringBuilder.toString();
     }
+
+    /**
+     * コレクションを指定件数ごとのリストに分割する (IN 句のパラメータ数を抑えるため)
+     * @param values : 分割するコレクション
+     * @param size : 1リストあたりの最大件数
+     * @return partitioned lists
+     */
+    public static <T> List<List<T>> partition(Collection<T> values, int size) {
+        List<List<T>> partitions = new ArrayList<>();
+        List<T> current = new ArrayList<>(size);
+        for (T value : values) {
+            current.add(value);
+            if (current.size() == size) {
+                partitions.add(current);
+                current = new ArrayList<>(size);
+            }
+        }
+        if (!current.isEmpty()) {
+            partitions.add(current);
+        }
+        return partitions;
+    }
 }
@@ -0,0 +1,54 @@
+package com.example.untitled.config;
+
+import com.example.untitled.common.apikey.ApiKeyEntry;
+import com.example.untitled.common.constant.ApiSecurityConstants;
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+@Configuration
+public class MetricsConfig {
+
+    private static final String HANDLER_KEY = "handler";
+    private static final String NO_HANDLER = "none";
+    private static final String API_KEY_KEY = "api_key";
+    private static final String NO_API_KEY = "none";
+
+    /**
+     * http.server.requests にリクエストを処理したコントローラーのメソッドを handler タグとして付与する
+     * 例: handler="PrskMusicController.getPrskMusicList"
+     * あわせて認証した API キーのラベルを api_key タグとして付与する (ラベルは登録した件数に限られる)
+     */
+    @Bean
+    public ServerRequestObservationConvention serverRequestObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                return super.getLowCardinalityKeyValues(context).and(handler(context), apiKey(context));
+            }
+        };
+    }
+
+    private static KeyValue handler(ServerRequestObservationContext context) {
+        Object handler = context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return KeyValue.of(HANDLER_KEY,
+                    handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName());
+        }
+        return KeyValue.of(HANDLER_KEY, NO_HANDLER);
+    }
+
+    private static KeyValue apiKey(ServerRequestObservationContext context) {
+        Object apiKey = context.getCarrier().getAttribute(ApiSecurityConstants.API_KEY_ATTRIBUTE);
+        if (apiKey instanceof ApiKeyEntry entry) {
+            return KeyValue.of(API_KEY_KEY, entry.label());
+        }
+        return KeyValue.of(API_KEY_KEY, NO_API_KEY);
+    }
+}
@@ -2,12 +2,14 @@ package com.example.untitled.config;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import com.example.untitled.common.constant.ApiSecurityConstants;
 import com.example.untitled.common.interceptor.ApiKeyInterceptor;
+import com.example.untitled.common.interceptor.RateLimitInterceptor;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
@@ -17,13 +19,16 @@ public class WebConfig implements WebMvcConfigurer {
     private static final String[] ALLOWED_METHODS = {"GET", "POST", "PUT", "DELETE", "OPTIONS"};
 
     private final ApiKeyInterceptor apiKeyInterceptor;
+    private final RateLimitInterceptor rateLimitInterceptor;
     private final String allowedOrigins;
 
     public WebConfig(
             ApiKeyInterceptor apiKeyInterceptor,
+            RateLimitInterceptor rateLimitInterceptor,
             @Value("${app.allowed-origins}") String allowedOrigins
     ) {
         this.apiKeyInterceptor = apiKeyInterceptor;
+        this.rateLimitInterceptor = rateLimitInterceptor;
         this.allowedOrigins = allowedOrigins;
     }
 
@@ -34,6 +39,9 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOrigins(origins)
             .allowedMethods(ALLOWED_METHODS)
                 .allowedHeaders("*")
+                // 一覧の条件付きリクエスト用にブラウザから ETag を参照できるようにする
+                // (429 の Retry-After も同様)
+                .exposedHeaders(HttpHeaders.ETAG, HttpHeaders.RETRY_AFTER)
                 .maxAge(3600);
     }
 
@@ -41,5 +49,8 @@ public class WebConfig implements WebMvcConfigurer {
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(apiKeyInterceptor)
                 .excludePathPatterns(ApiSecurityConstants.HEALTH_PATH);
+        // 認証済みのリクエストだけを予算の対象にするため、API キーの検証の後に登録する
+        registry.addInterceptor(rateLimitInterceptor)
+                .excludePathPatterns(ApiSecurityConstants.HEALTH_PATH);
     }
 }
@@ -0,0 +1,48 @@
+package com.example.untitled.event;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.List;
+
+/**
+ * 登録・更新・削除の通知 (GET /events でコミット後に配信する)
+ * 配信するのは変更の種類と ID のみで、内容はクライアントが必要に応じて取得し直す
+ * @param resource : 変更されたリソース (各サービスの CATALOG_KEY)
+ * @param action : 変更の種類
+ * @param ids : 変更された ID (一括登録では複数)
+ */
+public record EntityChangedEvent(String resource, Action action, List<Long> ids) {
+
+    public static EntityChangedEvent created(String resource, Long id) {
+        return new EntityChangedEvent(resource, Action.CREATED, List.of(id));
+    }
+
+    public static EntityChangedEvent created(String resource, List<Long> ids) {
+        return new EntityChangedEvent(resource, Action.CREATED, List.copyOf(ids));
+    }
+
+    public static EntityChangedEvent updated(String resource, Long id) {
+        return new EntityChangedEvent(resource, Action.UPDATED, List.of(id));
+    }
+
+    public static EntityChangedEvent deleted(String resource, Long id) {
+        return new EntityChangedEvent(resource, Action.DELETED, List.of(id));
+    }
+
+    public enum Action {
+        CREATED("created"),
+        UPDATED("updated"),
+        DELETED("deleted");
+
+        private final String value;
+
+        Action(String value) {
+            this.value = value;
+        }
+
+        @JsonValue
+        public String getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.untitled.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 登録・更新・削除の通知を SSE の購読者に配信する (GET /events)
+ *
+ * <p>購読中の接続は非同期リクエストのため、待機中の購読者はスレッドを占有しない。
+ * 通知はコミット後に1回だけ SSE のフレームに変換し、購読者ごとの上限付きキューに積む。
+ * 送信は購読者ごとに1つずつ仮想スレッドで行うため、遅い購読者が他の購読者やコミットしたスレッドを待たせることはない。</p>
+ *
+ * <p>キューが一杯の購読者は古い通知から捨てる (通知は ID のみのため、取りこぼした場合は一覧・差分同期で取り直す)。</p>
+ */
+@Slf4j
+@Component
+public class EventBroadcaster implements DisposableBean {
+
+    // 購読直後・無通信時に送るコメント (プロキシのバッファリング・アイドル切断を防ぐ)
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> CONNECTED = SseEmitter.event().comment("connected").build();
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("event-heartbeat").daemon().factory()
+    );
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    public EventBroadcaster(
+            ObjectMapper objectMapper,
+            @Value("${app.events.buffer-size:64}") int bufferSize,
+            @Value("${app.events.timeout-millis:1800000}") long timeoutMillis,
+            @Value("${app.events.heartbeat-seconds:15}") long heartbeatSeconds
+    ) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 購読を開始する (タイムアウト後はクライアントが再接続する)
+     */
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter subscribe(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter, bufferSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> {
+            subscribers.remove(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        subscriber.offer(CONNECTED);
+        return emitter;
+    }
+
+    /**
+     * コミット後に全購読者へ配信する (トランザクション外で発行された場合はすぐに配信する)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize {}", event, e);
+            return;
+        }
+        // フレームは全購読者で共有する
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = SseEmitter.event()
+                .id(Long.toString(sequence.incrementAndGet()))
+                .name(event.resource())
+                .data(data, MediaType.APPLICATION_JSON)
+                .build();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(frame);
+        }
+    }
+
+    /**
+     * @return 購読中の接続数
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * @return キューが一杯で捨てた通知の累計
+     */
+    public long droppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public void destroy() {
+        heartbeat.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        sender.shutdownNow();
+    }
+
+    // 送信待ちの通知がある購読者には不要
+    private void sendHeartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.queue.isEmpty()) {
+                subscriber.offer(HEARTBEAT);
+            }
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue;
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, int bufferSize) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private void offer(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+            while (!queue.offer(frame)) {
+                if (queue.poll() != null) {
+                    droppedCount.incrementAndGet();
+                }
+            }
+            if (sending.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                try {
+                    Set<ResponseBodyEmitter.DataWithMediaType> frame;
+                    while ((frame = queue.poll()) != null) {
+                        emitter.send(frame);
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    // 切断済み (後始末はコンテナからの onError / onCompletion で行われる)
+                    subscribers.remove(this);
+                    queue.clear();
+                    return;
+                } finally {
+                    sending.set(false);
+                }
+                // sending を戻す直前に積まれた通知を取りこぼさない
+            } while (!queue.isEmpty() && sending.compareAndSet(false, true));
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.untitled.event;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * SSE の購読数と、遅い購読者のために捨てた通知の数をメトリクスとして公開する
+ */
+@Component
+@RequiredArgsConstructor
+public class EventBroadcasterMetrics implements MeterBinder {
+
+    private final EventBroadcaster eventBroadcaster;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("events.subscribers", eventBroadcaster, EventBroadcaster::subscriberCount)
+                .description("The number of open GET /events connections.")
+                .register(registry);
+        FunctionCounter.builder("events.dropped", eventBroadcaster, EventBroadcaster::droppedCount)
+                .description("The number of events dropped because a subscriber's buffer was full.")
+                .register(registry);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.untitled.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/events")
+public class EventController {
+
+    private final EventBroadcaster eventBroadcaster;
+
+    // GET /events : 登録・更新・削除の通知を購読 (Server-Sent Events) - Subscribe to change notifications
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe() {
+        return ResponseEntity.status(HttpStatus.OK)
+                .cacheControl(CacheControl.noStore())
+                // nginx などのリバースプロキシでバッファリングさせない
+                .header("X-Accel-Buffering", "no")
+                .body(eventBroadcaster.subscribe());
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.untitled.event.outbox;
+
+import com.example.untitled.event.EntityChangedEvent;
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.OffsetDateTime;
+
+/**
+ * コミットされた登録・更新・削除の記録 (トランザクショナルアウトボックス)
+ *
+ * <p>変更と同じトランザクションで書き込み、OutboxRelay が処理した後に削除する。
+ * 処理待ちの行だけを持つキューのため、論理削除・監査項目 (BaseEntity) は持たない。</p>
+ *
+ * <p>処理に失敗し続けた行は保留 (parked_at) にして残す。原因を取り除いた後に
+ * parked_at・attempts を戻すと再処理される。</p>
+ */
+@Entity
+@Table(name = "t_outbox")
+@Data
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "t_outbox_seq")
+    @SequenceGenerator(name = "t_outbox_seq", sequenceName = "t_outbox_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String resource;
+
+    @Column(nullable = false, length = 20)
+    private String action;
+
+    // EntityChangedEvent の JSON (一括登録では ID の件数に応じて長くなる)
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+
+    // 処理に失敗した回数 (既存の行にも追加できるよう DB の既定値を 0 にする)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int attempts;
+
+    // 保留にした日時 (null 以外の行は OutboxRelay が取得しない)
+    private OffsetDateTime parkedAt;
+
+    // 最後に失敗した理由
+    @Column(length = 500)
+    private String lastError;
+
+    public static OutboxEvent of(EntityChangedEvent event, String payload) {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setResource(event.resource());
+        outboxEvent.setAction(event.action().getValue());
+        outboxEvent.setPayload(payload);
+        return outboxEvent;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = OffsetDateTime.now();
+    }
+}
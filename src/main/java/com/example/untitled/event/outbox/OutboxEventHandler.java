@@ -0,0 +1,18 @@
+package com.example.untitled.event.outbox;
+
+import com.example.untitled.event.EntityChangedEvent;
+
+/**
+ * OutboxRelay がコミット済みの変更を渡す先 (キャッシュの無効化・検索インデックス・Webhook など)
+ *
+ * <p>同じ変更が再度渡されることがある (at-least-once) ため、冪等に処理すること。
+ * 例外を投げた場合はその変更だけを次回のポーリングでやり直し、max-attempts 回失敗した変更は保留にする
+ * (やり直す間に後の変更が先に渡されることがある)。</p>
+ *
+ * <p>OutboxRelay のトランザクション内で呼ばれるため、DB に書き込む場合は別のトランザクションで行うこと
+ * (トランザクションがロールバック専用になるとバッチ全体がやり直しになる)。</p>
+ */
+public interface OutboxEventHandler {
+
+    void handle(EntityChangedEvent event);
+}
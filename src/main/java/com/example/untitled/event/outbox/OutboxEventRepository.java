@@ -0,0 +1,28 @@
+package com.example.untitled.event.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 処理待ちの行を古い順にロックして取得する (保留にした行は含めない)
+     * 他のノードがロック中の行は待たずに飛ばすため、複数ノードで同じ行を重複して処理しない
+     */
+    @Query(value = "SELECT * FROM t_outbox WHERE parked_at IS NULL ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(@Param("limit") int limit);
+
+    /**
+     * 処理待ちの行の作成日時を古い順に取得する (遅延のメトリクス用。先頭の1件のみ取得する)
+     */
+    @Query("SELECT o.createdAt FROM OutboxEvent o WHERE o.parkedAt IS NULL ORDER BY o.id")
+    List<OffsetDateTime> findPendingCreatedAt(Pageable pageable);
+}
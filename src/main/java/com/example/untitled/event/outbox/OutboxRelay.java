@@ -0,0 +1,217 @@
+package com.example.untitled.event.outbox;
+
+import com.example.untitled.event.EntityChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * アウトボックスの行をバッチ単位で OutboxEventHandler に渡し、処理済みの行を削除する
+ *
+ * <p>取得 (FOR UPDATE SKIP LOCKED)・処理・削除は1つのトランザクションで行うため、
+ * 複数ノードで動かしても同じ行を重複して処理しない (at-least-once)。</p>
+ *
+ * <p>ハンドラーが失敗した行は失敗回数を増やして残し、次回のポーリングでやり直す。
+ * max-attempts 回失敗した行 (解析できない行は1回目) は保留にして以降は取得しないため、
+ * 失敗し続ける行があっても後続の行の処理は止まらない。</p>
+ *
+ * <p>バッチのすべての行を処理できた間は待たずに続けて処理し、溜まった行を早く流す。</p>
+ */
+@Slf4j
+@Component
+public class OutboxRelay implements DisposableBean {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionOperations transactionOperations;
+    private final ObjectProvider<OutboxEventHandler> handlers;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final int maxAttempts;
+    private final Counter relayedCounter;
+    private final Counter parkedCounter;
+    private final Timer lagTimer;
+    // 処理待ちで最も古い行の作成日時 (ポーリングごとに更新し、メトリクスの取得時に経過時間にする)
+    private volatile OffsetDateTime oldestPendingCreatedAt;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("outbox-relay").daemon().factory()
+    );
+
+    // MeterRegistry が無い環境でも動くよう、無い場合は集計のみの registry を使う
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            TransactionOperations transactionOperations,
+            ObjectProvider<OutboxEventHandler> handlers,
+            ObjectMapper objectMapper,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.outbox.batch-size:100}") int batchSize,
+            @Value("${app.outbox.poll-interval-millis:1000}") long pollIntervalMillis,
+            @Value("${app.outbox.max-attempts:10}") int maxAttempts
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionOperations = transactionOperations;
+        this.handlers = handlers;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.maxAttempts = maxAttempts;
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.relayedCounter = Counter.builder("outbox.relayed")
+                .description("The number of outbox events handed to the handlers and deleted.")
+                .register(registry);
+        this.parkedCounter = Counter.builder("outbox.parked")
+                .description("The number of outbox events parked after repeated failures.")
+                .register(registry);
+        this.lagTimer = Timer.builder("outbox.lag")
+                .description("Time from commit of a change until the relay finished handling it.")
+                .publishPercentileHistogram()
+                .register(registry);
+        // 処理が止まっている間も増え続けるよう、処理済みの行ではなく処理待ちの行から算出する
+        Gauge.builder("outbox.oldest.pending.age", this, OutboxRelay::oldestPendingAgeSeconds)
+                .description("Age of the oldest outbox event waiting to be relayed (0 when none).")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::relayPending, 0, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 処理待ちの行が無くなる (バッチが一杯にならない、または失敗した行が残る) まで処理する
+     */
+    void relayPending() {
+        try {
+            Integer completed;
+            do {
+                completed = transactionOperations.execute(status -> relayBatch());
+            } while (completed != null && completed == batchSize);
+        } catch (RuntimeException e) {
+            // ロールバックした行は次回のポーリングでやり直す
+            log.warn("Failed to relay outbox events. Retrying on the next poll.", e);
+        }
+        updateOldestPending();
+    }
+
+    /**
+     * @return 削除または保留にした (やり直さない) 行数
+     */
+    private int relayBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<OutboxEventHandler> targets = handlers.orderedStream().toList();
+        List<OutboxEvent> relayed = new ArrayList<>();
+        List<OutboxEvent> failed = new ArrayList<>();
+        int parked = 0;
+        for (OutboxEvent outboxEvent : batch) {
+            EntityChangedEvent event;
+            try {
+                event = objectMapper.readValue(outboxEvent.getPayload(), EntityChangedEvent.class);
+            } catch (JsonProcessingException e) {
+                // やり直しても解析できないため、すぐに保留にする
+                outboxEvent.setAttempts(outboxEvent.getAttempts() + 1);
+                park(outboxEvent, e);
+                failed.add(outboxEvent);
+                parked++;
+                continue;
+            }
+            try {
+                for (OutboxEventHandler handler : targets) {
+                    handler.handle(event);
+                }
+                relayed.add(outboxEvent);
+            } catch (RuntimeException e) {
+                outboxEvent.setAttempts(outboxEvent.getAttempts() + 1);
+                outboxEvent.setLastError(describe(e));
+                if (outboxEvent.getAttempts() >= maxAttempts) {
+                    park(outboxEvent, e);
+                    parked++;
+                } else {
+                    log.warn("Failed to relay outbox event id={} (attempt {}/{}). Retrying on the next poll.",
+                            outboxEvent.getId(), outboxEvent.getAttempts(), maxAttempts, e);
+                }
+                failed.add(outboxEvent);
+            }
+        }
+
+        if (!failed.isEmpty()) {
+            outboxEventRepository.saveAll(failed);
+        }
+        if (!relayed.isEmpty()) {
+            outboxEventRepository.deleteAllInBatch(relayed);
+
+            OffsetDateTime now = OffsetDateTime.now();
+            for (OutboxEvent outboxEvent : relayed) {
+                lagTimer.record(Duration.between(outboxEvent.getCreatedAt(), now));
+            }
+            relayedCounter.increment(relayed.size());
+        }
+        return relayed.size() + parked;
+    }
+
+    private void park(OutboxEvent outboxEvent, Exception cause) {
+        outboxEvent.setParkedAt(OffsetDateTime.now());
+        outboxEvent.setLastError(describe(cause));
+        parkedCounter.increment();
+        log.error("Parked outbox event id={} resource={} action={} after {} attempt(s). "
+                        + "Clear parked_at and attempts to relay it again.",
+                outboxEvent.getId(), outboxEvent.getResource(), outboxEvent.getAction(),
+                outboxEvent.getAttempts(), cause);
+    }
+
+    // last_error の長さに収める
+    private static String describe(Exception e) {
+        String description = e.getClass().getName() + ": " + e.getMessage();
+        return description.length() > 500 ? description.substring(0, 500) : description;
+    }
+
+    private void updateOldestPending() {
+        try {
+            oldestPendingCreatedAt = outboxEventRepository.findPendingCreatedAt(PageRequest.of(0, 1)).stream()
+                    .findFirst()
+                    .orElse(null);
+        } catch (RuntimeException e) {
+            // 取得できない間は前回の値のまま (処理が止まっていれば遅延は増え続ける)
+            log.warn("Failed to read the oldest pending outbox event.", e);
+        }
+    }
+
+    private double oldestPendingAgeSeconds() {
+        OffsetDateTime oldest = oldestPendingCreatedAt;
+        if (oldest == null) {
+            return 0;
+        }
+        return Math.max(Duration.between(oldest, OffsetDateTime.now()).toMillis(), 0) / 1000.0;
+    }
+}
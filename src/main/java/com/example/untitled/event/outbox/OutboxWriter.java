@@ -0,0 +1,26 @@
+package com.example.untitled.event.outbox;
+
+import com.example.untitled.event.EntityChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 変更の通知をコミット直前に同じトランザクションでアウトボックスへ書き込む
+ * (書き込みに失敗した場合は変更ごとロールバックされる)
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onEntityChanged(EntityChangedEvent event) throws JsonProcessingException {
+        outboxEventRepository.save(OutboxEvent.of(event, objectMapper.writeValueAsString(event)));
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.untitled.playlist;
+
+import com.example.untitled.common.entity.BaseEntity;
+import com.example.untitled.user.User;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+@Entity
+// ユーザーごとの一覧用のインデックスは削除済みの行を含まない部分インデックス (ActiveIndex.PLAYLIST_USER)
+@Table(name = "t_prsk_playlist")
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class Playlist extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "t_prsk_playlist_seq")
+    @SequenceGenerator(name = "t_prsk_playlist_seq", sequenceName = "t_prsk_playlist_id_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String playlistName;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(length = 250)
+    private String description;
+}
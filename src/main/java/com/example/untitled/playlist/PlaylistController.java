@@ -0,0 +1,115 @@
+package com.example.untitled.playlist;
+
+import com.example.untitled.playlist.dto.OptionalPlaylistRequest;
+import com.example.untitled.playlist.dto.PlaylistListResponse;
+import com.example.untitled.playlist.dto.PlaylistRequest;
+import com.example.untitled.playlist.dto.PlaylistResponse;
+import com.example.untitled.playlist.dto.PlaylistTrackListResponse;
+import com.example.untitled.playlist.dto.PlaylistTrackMoveRequest;
+import com.example.untitled.playlist.dto.PlaylistTrackRequest;
+import com.example.untitled.playlist.dto.PlaylistTrackResponse;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/playlists")
+@Validated
+public class PlaylistController {
+
+    private final PlaylistService playlistService;
+
+    // GET /playlists : プレイリスト一覧取得 - Get playlists list
+    @GetMapping
+    public ResponseEntity<PlaylistListResponse> getPlaylistsList(
+            @RequestParam(required = false, defaultValue = "1")
+            @Min(value = 1, message = "Page must be 1 or greater") Integer page,
+            @RequestParam(required = false, defaultValue = "20")
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 100, message = "Limit must not exceed 100") Integer limit,
+            @RequestParam(required = false)
+            @Min(value = 1, message = "User ID must be 1 or greater.") Long userId
+    ) {
+        PlaylistListResponse response = playlistService.getAllPlaylists(page - 1, limit, userId);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    // POST /playlists : プレイリストの登録 - Register playlist
+    @PostMapping
+    public ResponseEntity<PlaylistResponse> registerPlaylist(
+            @Valid @RequestBody PlaylistRequest request
+    ) {
+        PlaylistResponse response = playlistService.createPlaylist(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    // PUT /playlists/{id} : プレイリストの更新 - Update playlist
+    @PutMapping("/{id}")
+    public ResponseEntity<PlaylistResponse> updatePlaylist(
+            @PathVariable @Min(value = 1, message = "ID must be 1 or greater.") Long id,
+            @Valid @RequestBody OptionalPlaylistRequest request
+    ) {
+        PlaylistResponse response = playlistService.updatePlaylist(id, request);
+        return ResponseEntity.ok(response);
+    }
+
+    // DELETE /playlists/{id} : プレイリストの削除 - Delete playlist
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deletePlaylist(
+            @PathVariable @Min(value = 1, message = "ID must be 1 or greater.") Long id
+    ) {
+        playlistService.deletePlaylist(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    // GET /playlists/{id}/tracks : プレイリスト楽曲一覧取得 (並び順) - Get playlist tracks in order
+    @GetMapping("/{id}/tracks")
+    public ResponseEntity<PlaylistTrackListResponse> getPlaylistTracks(
+            @PathVariable @Min(value = 1, message = "ID must be 1 or greater.") Long id,
+            @RequestParam(required = false, defaultValue = "1")
+            @Min(value = 1, message = "Page must be 1 or greater") Integer page,
+            @RequestParam(required = false, defaultValue = "20")
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 100, message = "Limit must not exceed 100") Integer limit
+    ) {
+        PlaylistTrackListResponse response = playlistService.getPlaylistTracks(id, page - 1, limit);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    // POST /playlists/{id}/tracks : プレイリストへの楽曲追加 - Add track to playlist
+    @PostMapping("/{id}/tracks")
+    public ResponseEntity<PlaylistTrackResponse> addPlaylistTrack(
+            @PathVariable @Min(value = 1, message = "ID must be 1 or greater.") Long id,
+            @Valid @RequestBody PlaylistTrackRequest request
+    ) {
+        PlaylistTrackResponse response = playlistService.addTrack(id, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    // PUT /playlists/{id}/tracks/{musicId} : プレイリスト楽曲の並び替え - Move track in playlist
+    @PutMapping("/{id}/tracks/{musicId}")
+    public ResponseEntity<PlaylistTrackResponse> movePlaylistTrack(
+            @PathVariable @Min(value = 1, message = "ID must be 1 or greater.") Long id,
+            @PathVariable @Min(value = 1, message = "Music ID must be 1 or greater.") Long musicId,
+            @Valid @RequestBody PlaylistTrackMoveRequest request
+    ) {
+        PlaylistTrackResponse response = playlistService.moveTrack(id, musicId, request);
+        return ResponseEntity.ok(response);
+    }
+
+    // DELETE /playlists/{id}/tracks/{musicId} : プレイリストから楽曲を外す - Remove track from playlist
+    @DeleteMapping("/{id}/tracks/{musicId}")
+    public ResponseEntity<Void> removePlaylistTrack(
+            @PathVariable @Min(value = 1, message = "ID must be 1 or greater.") Long id,
+            @PathVariable @Min(value = 1, message = "Music ID must be 1 or greater.") Long musicId
+    ) {
+        playlistService.removeTrack(id, musicId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.untitled.playlist;
+
+import com.example.untitled.common.entity.BaseEntity;
+import com.example.untitled.prskmusic.PrskMusic;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * プレイリストに含まれる楽曲
+ * sort_order は間隔(PlaylistService.SORT_ORDER_GAP)を空けて採番し、並び替えは前後の中間値を入れる1行の更新で済ませる
+ * (playlist_id, music_id) の一意制約があるため、プレイリストからの削除は論理削除ではなく物理削除とする
+ */
+@Entity
+@Table(name = "t_playlist_music", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_t_playlist_music_music", columnNames = {"playlist_id", "music_id"}),
+        // 並び順での取得にもこの一意インデックスを使う
+        @UniqueConstraint(name = "uk_t_playlist_music_sort_order", columnNames = {"playlist_id", "sort_order"})
+})
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class PlaylistMusic extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "t_playlist_music_seq")
+    @SequenceGenerator(name = "t_playlist_music_seq", sequenceName = "t_playlist_music_id_seq", allocationSize = 1)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "playlist_id", nullable = false)
+    private Playlist playlist;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "music_id", nullable = false)
+    private PrskMusic prskMusic;
+
+    @Column(name = "sort_order", nullable = false)
+    private Integer sortOrder;
+}
@@ -0,0 +1,41 @@
+package com.example.untitled.playlist;
+
+import com.example.untitled.playlist.projection.PlaylistTrackProjection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PlaylistMusicRepository extends JpaRepository<PlaylistMusic, Long> {
+
+    // 楽曲一覧は並び順で取得する ((playlist_id, sort_order) の一意インデックスを使う)
+    // 削除済みの楽曲・アーティストも表示するため、SoftDeleteFilter.includingDeleted 内で呼ぶ
+    @Query(
+            value = "SELECT new com.example.untitled.playlist.projection.PlaylistTrackProjection("
+                    + "m.id, m.title, a.artistName, a.isDeleted, m.musicType, m.youtubeLink, m.isDeleted)"
+                    + " FROM PlaylistMusic pm JOIN pm.prskMusic m JOIN m.artist a"
+                    + " WHERE pm.playlist.id = :playlistId ORDER BY pm.sortOrder ASC",
+            countQuery = "SELECT count(pm) FROM PlaylistMusic pm WHERE pm.playlist.id = :playlistId"
+    )
+    Page<PlaylistTrackProjection> findTracksByPlaylistId(@Param("playlistId") Long playlistId, Pageable pageable);
+
+    Optional<PlaylistMusic> findByPlaylistIdAndPrskMusicId(Long playlistId, Long musicId);
+
+    boolean existsByPlaylistIdAndPrskMusicId(Long playlistId, Long musicId);
+
+    // 指定した行(移動中の楽曲)を除いた末尾の sort_order (楽曲が無い場合は null)
+    @Query("SELECT max(pm.sortOrder) FROM PlaylistMusic pm WHERE pm.playlist.id = :playlistId AND pm.id <> :excludedId")
+    Integer findMaxSortOrder(@Param("playlistId") Long playlistId, @Param("excludedId") Long excludedId);
+
+    // 楽曲の表示位置 (1始まり) を求めるための件数
+    long countByPlaylistIdAndSortOrderLessThan(Long playlistId, Integer sortOrder);
+
+    // sort_order の振り直し用
+    List<PlaylistMusic> findByPlaylistIdOrderBySortOrderAsc(Long playlistId);
+}
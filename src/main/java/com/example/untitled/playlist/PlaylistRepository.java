@@ -0,0 +1,44 @@
+package com.example.untitled.playlist;
+
+import com.example.untitled.playlist.projection.PlaylistProjection;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface PlaylistRepository extends JpaRepository<Playlist, Long> {
+
+    String PROJECTION_SELECT = "SELECT new com.example.untitled.playlist.projection.PlaylistProjection("
+            + "p.id, p.playlistName, p.user.id, p.description,"
+            + " p.createdAt, p.createdBy, p.updatedAt, p.updatedBy)"
+            + " FROM Playlist p";
+
+    // 論理削除された行は BaseEntity.ACTIVE_FILTER で除外される
+    @Query(
+            value = PROJECTION_SELECT + " ORDER BY p.id ASC",
+            countQuery = "SELECT count(p) FROM Playlist p"
+    )
+    Page<PlaylistProjection> findAllProjections(Pageable pageable);
+
+    @Query(
+            value = PROJECTION_SELECT + " WHERE p.user.id = :userId ORDER BY p.id ASC",
+            countQuery = "SELECT count(p) FROM Playlist p WHERE p.user.id = :userId"
+    )
+    Page<PlaylistProjection> findProjectionsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // findById (主キーでの直接読み込み) には論理削除のフィルタが掛からないため、クエリで取得する
+    @Query("SELECT p FROM Playlist p WHERE p.id = :id")
+    Optional<Playlist> findActiveById(@Param("id") Long id);
+
+    // 楽曲の追加・並び替え・削除はプレイリスト単位で直列化する (同じ sort_order の同時採番を防ぐ)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Playlist p WHERE p.id = :id")
+    Optional<Playlist> findActiveForUpdateById(@Param("id") Long id);
+}
@@ -0,0 +1,264 @@
+package com.example.untitled.playlist;
+
+import com.example.untitled.common.dto.ErrorDetails;
+import com.example.untitled.common.entity.SoftDeleteFilter;
+import com.example.untitled.common.exception.DuplicationResourceException;
+import com.example.untitled.playlist.dto.OptionalPlaylistRequest;
+import com.example.untitled.playlist.dto.PlaylistListResponse;
+import com.example.untitled.playlist.dto.PlaylistRequest;
+import com.example.untitled.playlist.dto.PlaylistResponse;
+import com.example.untitled.playlist.dto.PlaylistTrackListResponse;
+import com.example.untitled.playlist.dto.PlaylistTrackMoveRequest;
+import com.example.untitled.playlist.dto.PlaylistTrackRequest;
+import com.example.untitled.playlist.dto.PlaylistTrackResponse;
+import com.example.untitled.playlist.projection.PlaylistProjection;
+import com.example.untitled.prskmusic.PrskMusic;
+import com.example.untitled.prskmusic.PrskMusicRepository;
+import com.example.untitled.user.User;
+import com.example.untitled.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.OptionalInt;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PlaylistService {
+
+    /**
+     * sort_order の採番間隔
+     * 並び替えは前後の中間値を入れるだけなので、同じ位置への挿入を約10回繰り返すまで振り直しは発生しない
+     */
+    static final int SORT_ORDER_GAP = 1024;
+
+    // 追加時は除外する行が無いため、採番済みの ID と重ならない値を使う
+    private static final long NO_EXCLUDED_ID = 0L;
+
+    // position 番目の直前・直後の sort_order を取得する (除外した行を除いた並び)
+    private static final String NEIGHBOR_SORT_ORDER_QUERY =
+            "SELECT pm.sortOrder FROM PlaylistMusic pm"
+                    + " WHERE pm.playlist.id = :playlistId AND pm.id <> :excludedId"
+                    + " ORDER BY pm.sortOrder ASC";
+
+    private final PlaylistRepository playlistRepository;
+    private final PlaylistMusicRepository playlistMusicRepository;
+    private final UserRepository userRepository;
+    private final PrskMusicRepository prskMusicRepository;
+    private final EntityManager entityManager;
+    private final SoftDeleteFilter softDeleteFilter;
+
+    @Transactional(readOnly = true)
+    public PlaylistListResponse getAllPlaylists(int page, int size, Long userId) {
+        Pageable pageable = PageRequest.of(page, size);
+        Page<PlaylistProjection> playlistPage = userId == null
+                ? playlistRepository.findAllProjections(pageable)
+                : playlistRepository.findProjectionsByUserId(userId, pageable);
+        return PlaylistListResponse.from(playlistPage);
+    }
+
+    public PlaylistResponse createPlaylist(PlaylistRequest reqDto) {
+        User user = userRepository.findActiveById(reqDto.getUserId())
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "User not found for id: " + reqDto.getUserId()
+                ));
+
+        Playlist playlist = new Playlist();
+        playlist.setPlaylistName(reqDto.getPlaylistName());
+        playlist.setUser(user);
+        playlist.setDescription(reqDto.getDescription());
+
+        return PlaylistResponse.from(playlistRepository.save(playlist));
+    }
+
+    public PlaylistResponse updatePlaylist(Long id, OptionalPlaylistRequest reqDto) {
+        Playlist playlist = findPlaylist(id);
+
+        if (reqDto.getPlaylistName() != null) {
+            playlist.setPlaylistName(reqDto.getPlaylistName());
+        }
+        if (reqDto.getDescription() != null) {
+            playlist.setDescription(reqDto.getDescription());
+        }
+
+        return PlaylistResponse.from(playlistRepository.save(playlist));
+    }
+
+    public void deletePlaylist(Long id) {
+        Playlist playlist = findPlaylist(id);
+
+        playlist.setDeleted(true);
+        playlistRepository.save(playlist);
+    }
+
+    @Transactional(readOnly = true)
+    public PlaylistTrackListResponse getPlaylistTracks(Long playlistId, int page, int size) {
+        findPlaylist(playlistId);
+
+        // 削除済みの楽曲・アーティストも "Unknown" や削除フラグ付きで表示するため、フィルタを外して取得する
+        Pageable pageable = PageRequest.of(page, size);
+        return PlaylistTrackListResponse.from(softDeleteFilter.includingDeleted(
+                () -> playlistMusicRepository.findTracksByPlaylistId(playlistId, pageable)
+        ));
+    }
+
+    public PlaylistTrackResponse addTrack(Long playlistId, PlaylistTrackRequest reqDto) {
+        Playlist playlist = findPlaylistForUpdate(playlistId);
+
+        PrskMusic prskMusic = prskMusicRepository.findActiveById(reqDto.getMusicId())
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "Prsk music not found for id: " + reqDto.getMusicId()
+                ));
+
+        if (playlistMusicRepository.existsByPlaylistIdAndPrskMusicId(playlistId, reqDto.getMusicId())) {
+            throw new DuplicationResourceException(
+                    "Conflict detected",
+                    List.of(new ErrorDetails(
+                            "musicId",
+                            "Music already exists in playlist: " + reqDto.getMusicId()
+                    ))
+            );
+        }
+
+        PlaylistMusic playlistMusic = new PlaylistMusic();
+        playlistMusic.setPlaylist(playlist);
+        playlistMusic.setPrskMusic(prskMusic);
+        playlistMusic.setSortOrder(resolveSortOrder(playlistId, NO_EXCLUDED_ID, reqDto.getPosition()));
+
+        PlaylistMusic saved = playlistMusicRepository.save(playlistMusic);
+        return PlaylistTrackResponse.from(saved, positionOf(saved));
+    }
+
+    /**
+     * 楽曲を指定位置へ移動する
+     * 移動する楽曲の sort_order を前後の中間値に書き換えるだけなので、更新は通常1行で済む
+     */
+    public PlaylistTrackResponse moveTrack(Long playlistId, Long musicId, PlaylistTrackMoveRequest reqDto) {
+        findPlaylistForUpdate(playlistId);
+
+        PlaylistMusic playlistMusic = findTrack(playlistId, musicId);
+        playlistMusic.setSortOrder(resolveSortOrder(playlistId, playlistMusic.getId(), reqDto.getPosition()));
+
+        PlaylistMusic saved = playlistMusicRepository.save(playlistMusic);
+        return PlaylistTrackResponse.from(saved, positionOf(saved));
+    }
+
+    /**
+     * 楽曲をプレイリストから外す
+     * 残りの楽曲の sort_order は詰めずにそのままにする (間隔が広がるだけで順序は変わらない)
+     */
+    public void removeTrack(Long playlistId, Long musicId) {
+        findPlaylistForUpdate(playlistId);
+
+        playlistMusicRepository.delete(findTrack(playlistId, musicId));
+    }
+
+    private Playlist findPlaylist(Long id) {
+        return playlistRepository.findActiveById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Playlist not found for id: " + id));
+    }
+
+    private Playlist findPlaylistForUpdate(Long id) {
+        return playlistRepository.findActiveForUpdateById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Playlist not found for id: " + id));
+    }
+
+    private PlaylistMusic findTrack(Long playlistId, Long musicId) {
+        return playlistMusicRepository.findByPlaylistIdAndPrskMusicId(playlistId, musicId)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "Music not found in playlist: " + musicId
+                ));
+    }
+
+    private long positionOf(PlaylistMusic playlistMusic) {
+        // 採番した sort_order を反映してから件数を数える
+        playlistMusicRepository.flush();
+        return playlistMusicRepository.countByPlaylistIdAndSortOrderLessThan(
+                playlistMusic.getPlaylist().getId(), playlistMusic.getSortOrder()
+        ) + 1;
+    }
+
+    /**
+     * 指定位置に置くための sort_order を決める
+     * 前後の間隔が詰まっている場合のみプレイリスト全体を振り直してから決め直す
+     * @param playlistId : プレイリストID
+     * @param excludedId : 移動中の行のID (追加時は NO_EXCLUDED_ID)
+     * @param position : 1始まりの位置 (null の場合は末尾)
+     */
+    private int resolveSortOrder(Long playlistId, long excludedId, Integer position) {
+        OptionalInt sortOrder = findFreeSortOrder(playlistId, excludedId, position);
+        if (sortOrder.isPresent()) {
+            return sortOrder.getAsInt();
+        }
+
+        rebalance(playlistId);
+        return findFreeSortOrder(playlistId, excludedId, position)
+                .orElseThrow(() -> new IllegalStateException(
+                        "No sort order available for playlist: " + playlistId
+                ));
+    }
+
+    private OptionalInt findFreeSortOrder(Long playlistId, long excludedId, Integer position) {
+        if (position == null) {
+            return after(playlistMusicRepository.findMaxSortOrder(playlistId, excludedId));
+        }
+
+        // 先頭の場合は直後の1件、それ以外は直前と直後の2件を取得する
+        int firstResult = Math.max(position - 2, 0);
+        List<Integer> neighbors = entityManager.createQuery(NEIGHBOR_SORT_ORDER_QUERY, Integer.class)
+                .setParameter("playlistId", playlistId)
+                .setParameter("excludedId", excludedId)
+                .setFirstResult(firstResult)
+                .setMaxResults(position <= 1 ? 1 : 2)
+                .getResultList();
+
+        if (position <= 1) {
+            return neighbors.isEmpty() ? after(null) : between(0, neighbors.get(0));
+        }
+        if (neighbors.isEmpty()) {
+            // 楽曲数を超える位置は末尾として扱う
+            return after(playlistMusicRepository.findMaxSortOrder(playlistId, excludedId));
+        }
+        if (neighbors.size() == 1) {
+            return after(neighbors.get(0));
+        }
+        return between(neighbors.get(0), neighbors.get(1));
+    }
+
+    private static OptionalInt after(Integer last) {
+        long next = (last == null ? 0L : last) + SORT_ORDER_GAP;
+        return next <= Integer.MAX_VALUE ? OptionalInt.of((int) next) : OptionalInt.empty();
+    }
+
+    private static OptionalInt between(int prev, int next) {
+        if (next - prev < 2) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(prev + (next - prev) / 2);
+    }
+
+    /**
+     * プレイリスト全体の sort_order を SORT_ORDER_GAP 間隔で振り直す
+     * (playlist_id, sort_order) の一意制約に途中で違反しないよう、一度負の値に退避してから振り直す
+     */
+    private void rebalance(Long playlistId) {
+        List<PlaylistMusic> tracks = playlistMusicRepository.findByPlaylistIdOrderBySortOrderAsc(playlistId);
+
+        for (int i = 0; i < tracks.size(); i++) {
+            tracks.get(i).setSortOrder(-(i + 1));
+        }
+        playlistMusicRepository.flush();
+
+        for (int i = 0; i < tracks.size(); i++) {
+            tracks.get(i).setSortOrder((i + 1) * SORT_ORDER_GAP);
+        }
+        playlistMusicRepository.flush();
+    }
+}
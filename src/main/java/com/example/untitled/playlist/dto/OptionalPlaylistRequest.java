@@ -0,0 +1,24 @@
+package com.example.untitled.playlist.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * プレイリストAPIリクエスト for PUT
+ * 所有ユーザーは変更できない
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class OptionalPlaylistRequest {
+
+    /** プレイリスト名 **/
+    @Size(max = 100, message = "プレイリスト名は100文字以内で入力してください。 - Please enter the playlist name within 100 characters.")
+    private String playlistName;
+
+    /** 説明 **/
+    @Size(max = 250, message = "説明は250文字以内で入力してください。 - Please enter the description within 250 characters.")
+    private String description;
+}
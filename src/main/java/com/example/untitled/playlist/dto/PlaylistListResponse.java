@@ -0,0 +1,34 @@
+package com.example.untitled.playlist.dto;
+
+import com.example.untitled.common.dto.MetaInfo;
+import com.example.untitled.playlist.projection.PlaylistProjection;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * プレイリストAPIレスポンス for GET
+ */
+@Getter
+@Builder
+public class PlaylistListResponse {
+
+    /** プレイリストリスト **/
+    private final List<PlaylistResponse> items;
+
+    /** メタ情報 **/
+    private final MetaInfo meta;
+
+    public static PlaylistListResponse from(Page<PlaylistProjection> playlistPage) {
+        List<PlaylistResponse> items = playlistPage.getContent().stream()
+                .map(PlaylistResponse::from)
+                .toList();
+
+        return PlaylistListResponse.builder()
+                .items(items)
+                .meta(MetaInfo.from(playlistPage))
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.untitled.playlist.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * プレイリストAPIリクエスト
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class PlaylistRequest {
+
+    /** プレイリスト名 **/
+    @NotBlank(message = "プレイリスト名は必須です。 - The playlist name is required.")
+    @Size(max = 100, message = "プレイリスト名は100文字以内で入力してください。 - Please enter the playlist name within 100 characters.")
+    private String playlistName;
+
+    /** ユーザーID **/
+    @NotNull(message = "ユーザーIDは必須です。 - The user ID is required.")
+    private Long userId;
+
+    /** 説明 **/
+    @Size(max = 250, message = "説明は250文字以内で入力してください。 - Please enter the description within 250 characters.")
+    private String description;
+}
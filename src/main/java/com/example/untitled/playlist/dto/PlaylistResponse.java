@@ -0,0 +1,55 @@
+package com.example.untitled.playlist.dto;
+
+import com.example.untitled.common.dto.AuditInfo;
+import com.example.untitled.playlist.Playlist;
+import com.example.untitled.playlist.projection.PlaylistProjection;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * プレイリストAPIレスポンス
+ */
+@Getter
+@Builder
+public class PlaylistResponse {
+
+    /** プレイリストID **/
+    private final Long id;
+
+    /** プレイリスト名 **/
+    private final String playlistName;
+
+    /** ユーザーID **/
+    private final Long userId;
+
+    /** 説明 **/
+    private final String description;
+
+    /** 監査情報 **/
+    private final AuditInfo auditInfo;
+
+    public static PlaylistResponse from(Playlist playlist) {
+        return PlaylistResponse.builder()
+                .id(playlist.getId())
+                .playlistName(playlist.getPlaylistName())
+                .userId(playlist.getUser().getId())
+                .description(playlist.getDescription())
+                .auditInfo(AuditInfo.from(playlist))
+                .build();
+    }
+
+    public static PlaylistResponse from(PlaylistProjection projection) {
+        return PlaylistResponse.builder()
+                .id(projection.id())
+                .playlistName(projection.playlistName())
+                .userId(projection.userId())
+                .description(projection.description())
+                .auditInfo(new AuditInfo(
+                        projection.createdAt(),
+                        projection.createdBy(),
+                        projection.updatedAt(),
+                        projection.updatedBy()
+                ))
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.untitled.playlist.dto;
+
+import com.example.untitled.common.dto.MetaInfo;
+import com.example.untitled.playlist.projection.PlaylistTrackProjection;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * プレイリスト楽曲APIレスポンス for GET
+ */
+@Getter
+@Builder
+public class PlaylistTrackListResponse {
+
+    /** 楽曲リスト (並び順) **/
+    private final List<PlaylistTrackResponse> items;
+
+    /** メタ情報 **/
+    private final MetaInfo meta;
+
+    public static PlaylistTrackListResponse from(Page<PlaylistTrackProjection> trackPage) {
+        List<PlaylistTrackProjection> content = trackPage.getContent();
+        long offset = trackPage.getPageable().isPaged() ? trackPage.getPageable().getOffset() : 0;
+
+        List<PlaylistTrackResponse> items = new ArrayList<>(content.size());
+        for (int i = 0; i < content.size(); i++) {
+            items.add(PlaylistTrackResponse.from(content.get(i), offset + i + 1));
+        }
+
+        return PlaylistTrackListResponse.builder()
+                .items(items)
+                .meta(MetaInfo.from(trackPage))
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.untitled.playlist.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * プレイリスト楽曲並び替えAPIリクエスト
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class PlaylistTrackMoveRequest {
+
+    /** 移動先の位置 (1始まり、楽曲数を超える場合は末尾) **/
+    @NotNull(message = "移動先の位置は必須です。 - The position is required.")
+    @Min(value = 1, message = "移動先の位置は1以上で入力してください。 - Please enter the position as 1 or greater.")
+    private Integer position;
+}
@@ -0,0 +1,24 @@
+package com.example.untitled.playlist.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * プレイリスト楽曲追加APIリクエスト
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class PlaylistTrackRequest {
+
+    /** 楽曲ID **/
+    @NotNull(message = "楽曲IDは必須です。 - The music ID is required.")
+    private Long musicId;
+
+    /** 追加位置 (1始まり、省略時・楽曲数を超える場合は末尾) **/
+    @Min(value = 1, message = "追加位置は1以上で入力してください。 - Please enter the position as 1 or greater.")
+    private Integer position;
+}
@@ -0,0 +1,66 @@
+package com.example.untitled.playlist.dto;
+
+import com.example.untitled.artist.Artist;
+import com.example.untitled.playlist.PlaylistMusic;
+import com.example.untitled.playlist.projection.PlaylistTrackProjection;
+import com.example.untitled.prskmusic.PrskMusic;
+import com.example.untitled.prskmusic.enums.MusicType;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * プレイリスト楽曲APIレスポンス
+ * sort_order は内部の採番値のため返さず、1始まりの表示位置を返す
+ */
+@Getter
+@Builder
+public class PlaylistTrackResponse {
+
+    /** 楽曲ID **/
+    private final Long musicId;
+
+    /** 楽曲タイトル **/
+    private final String title;
+
+    /** アーティスト名 **/
+    private final String artistName;
+
+    /** 楽曲タイプ **/
+    private final MusicType musicType;
+
+    /** YouTubeリンク **/
+    private final String youtubeLink;
+
+    /** 楽曲が削除済みかどうか **/
+    private final boolean musicDeleted;
+
+    /** プレイリスト内の位置 (1始まり) **/
+    private final long position;
+
+    public static PlaylistTrackResponse from(PlaylistMusic playlistMusic, long position) {
+        PrskMusic prskMusic = playlistMusic.getPrskMusic();
+        Artist artist = prskMusic.getArtist();
+
+        return PlaylistTrackResponse.builder()
+                .musicId(prskMusic.getId())
+                .title(prskMusic.getTitle())
+                .artistName(artist.isDeleted() ? "Unknown" : artist.getArtistName())
+                .musicType(prskMusic.getMusicType())
+                .youtubeLink(prskMusic.getYoutubeLink())
+                .musicDeleted(prskMusic.isDeleted())
+                .position(position)
+                .build();
+    }
+
+    public static PlaylistTrackResponse from(PlaylistTrackProjection projection, long position) {
+        return PlaylistTrackResponse.builder()
+                .musicId(projection.musicId())
+                .title(projection.title())
+                .artistName(projection.artistDeleted() ? "Unknown" : projection.artistName())
+                .musicType(projection.musicType())
+                .youtubeLink(projection.youtubeLink())
+                .musicDeleted(projection.musicDeleted())
+                .position(position)
+                .build();
+    }
+}
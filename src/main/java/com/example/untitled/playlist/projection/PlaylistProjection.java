@@ -0,0 +1,18 @@
+package com.example.untitled.playlist.projection;
+
+import java.time.OffsetDateTime;
+
+/**
+ * プレイリスト一覧取得用のプロジェクション
+ */
+public record PlaylistProjection(
+        Long id,
+        String playlistName,
+        Long userId,
+        String description,
+        OffsetDateTime createdAt,
+        String createdBy,
+        OffsetDateTime updatedAt,
+        String updatedBy
+) {
+}
@@ -0,0 +1,17 @@
+package com.example.untitled.playlist.projection;
+
+import com.example.untitled.prskmusic.enums.MusicType;
+
+/**
+ * プレイリストの楽曲一覧取得用のプロジェクション (並び順で取得する)
+ */
+public record PlaylistTrackProjection(
+        Long musicId,
+        String title,
+        String artistName,
+        boolean artistDeleted,
+        MusicType musicType,
+        String youtubeLink,
+        boolean musicDeleted
+) {
+}
@@ -2,27 +2,50 @@ package com.example.untitled.prskmusic;
 
 import com.example.untitled.artist.Artist;
 import com.example.untitled.common.entity.BaseEntity;
+import com.example.untitled.common.util.TextNormalizer;
 import com.example.untitled.prskmusic.enums.MusicType;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Setter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 
 @Entity
-@Table(name = "m_prsk_music", uniqueConstraints = {
-        @UniqueConstraint(columnNames = {"title", "music_type"})
+// (title_key, music_type) の一意性は論理削除されていない行だけを対象にする (ActiveUniqueIndex.PRSK_MUSIC_TITLE)
+// 一覧の並び順・重複チェック用のインデックスは削除済みの行を含まない部分インデックス (ActiveIndex, ActiveUniqueIndex)
+// updated_at は削除も含めた Last-Modified の算出に使うため全行を対象にする
+// artist_id は差分同期で削除済みも含めて更新されたアーティストの楽曲を絞り込むため全行を対象にする
+@Table(name = "m_prsk_music", indexes = {
+        @Index(name = "idx_m_prsk_music_updated_at", columnList = "updated_at"),
+        @Index(name = "idx_m_prsk_music_artist_id", columnList = "artist_id")
 })
 @Data
 @EqualsAndHashCode(callSuper = true)
 public class PrskMusic extends BaseEntity {
 
+    public static final int TITLE_KEY_LENGTH = 30 * TextNormalizer.MAX_EXPANSION;
+
+    // 一括登録で INSERT ごとに採番の往復が発生しないよう、50件ずつまとめて採番する (pooled optimizer)
+    // 既存 DB のシーケンスは db/alter-sequences.sql で INCREMENT BY を合わせる
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "m_prsk_music_seq")
-    @SequenceGenerator(name = "m_prsk_music_seq", sequenceName = "m_prsk_music_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "m_prsk_music_seq", sequenceName = "m_prsk_music_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 30)
     private String title;
 
+    // 重複チェック用の正規化キー (setTitle で更新する)
+    // 既存データへのカラム追加のため nullable とし、起動時に埋める
+    // NFKC で伸びても収まるよう title の長さ × TextNormalizer.MAX_EXPANSION にする
+    @Column(name = "title_key", length = TITLE_KEY_LENGTH)
+    @Setter(AccessLevel.NONE)
+    private String titleKey;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "artist_id", nullable = false)
     private Artist artist;
@@ -44,4 +67,26 @@ public class PrskMusic extends BaseEntity {
 
     @Column(nullable = false, length = 100)
     private String youtubeLink;
+
+    public void setTitle(String title) {
+        this.title = title;
+        this.titleKey = TextNormalizer.normalize(title);
+    }
+
+    /**
+     * 変更履歴 (AuditRecord) に記録する項目
+     * 正規化キーなどの派生項目は含めず、アーティストは ID、楽曲種別はコードで記録する
+     */
+    public Map<String, String> auditState() {
+        Map<String, String> state = new LinkedHashMap<>();
+        state.put("title", title);
+        state.put("artistId", Objects.toString(artist.getId(), null));
+        state.put("musicType", Integer.toString(musicType.getCode()));
+        state.put("specially", Objects.toString(specially, null));
+        state.put("lyricsName", lyricsName);
+        state.put("musicName", musicName);
+        state.put("featuring", featuring);
+        state.put("youtubeLink", youtubeLink);
+        return state;
+    }
 }
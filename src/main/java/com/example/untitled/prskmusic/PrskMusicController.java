@@ -1,17 +1,47 @@
 package com.example.untitled.prskmusic;
 
+import com.example.untitled.common.dto.ErrorDetails;
+import com.example.untitled.common.dto.ListVersion;
+import com.example.untitled.common.enums.ExportFormat;
+import com.example.untitled.common.enums.TotalMode;
+import com.example.untitled.common.exception.BadRequestException;
+import com.example.untitled.common.util.AcceptEncoding;
 import com.example.untitled.prskmusic.dto.OptionalPrskMusicRequest;
+import com.example.untitled.prskmusic.dto.PrskMusicBulkResponse;
+import com.example.untitled.prskmusic.dto.PrskMusicChangesResponse;
 import com.example.untitled.prskmusic.dto.PrskMusicListResponse;
 import com.example.untitled.prskmusic.dto.PrskMusicRequest;
 import com.example.untitled.prskmusic.dto.PrskMusicResponse;
+import com.example.untitled.prskmusic.history.PrskMusicHistoryService;
+import com.example.untitled.prskmusic.snapshot.PrskMusicSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequiredArgsConstructor
@@ -19,21 +49,148 @@ import org.springframework.web.bind.annotation.*;
 @Validated
 public class PrskMusicController {
 
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
     private final PrskMusicService prskMusicService;
+    private final PrskMusicSnapshot prskMusicSnapshot;
+    private final PrskMusicHistoryService prskMusicHistoryService;
+    private final ObjectMapper objectMapper;
 
     // GET /prsk-music : プロセカ楽曲一覧取得 - Get prsk music list
     @GetMapping
     public ResponseEntity<PrskMusicListResponse> getPrskMusicList(
+            @RequestParam(required = false, defaultValue = "1")
+            @Min(value = 1, message = "Page must be 1 or greater") Integer page,
+            @RequestParam(required = false, defaultValue = "20")
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 100, message = "Limit must not exceed 100") Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "exact") String total,
+            @RequestParam(required = false) String asOf,
+            WebRequest webRequest
+    ) {
+        // asOf が指定された場合は変更履歴から復元した過去の時点の一覧 (ページ番号方式のみ)
+        if (asOf != null) {
+            if (cursor != null) {
+                throw new BadRequestException(
+                        "Validation failed",
+                        List.of(new ErrorDetails("asOf", "asOf cannot be combined with cursor"))
+                );
+            }
+            PrskMusicListResponse response = prskMusicHistoryService.getPrskMusicAsOf(asOf, page - 1, limit);
+            return ResponseEntity.status(HttpStatus.OK).cacheControl(CacheControl.noCache()).body(response);
+        }
+
+        // 一覧が更新されていなければページを組み立てずに 304 を返す
+        ListVersion listVersion = prskMusicService.getListVersion();
+        if (webRequest.checkNotModified(listVersion.etag(page, limit, cursor, total), listVersion.lastModifiedMillis())) {
+            return null;
+        }
+
+        // cursor が指定された場合はカーソル方式 (空文字は先頭ページ)
+        PrskMusicListResponse response = cursor != null
+                ? prskMusicService.getPrskMusicByCursor(cursor, limit)
+                : prskMusicService.getAllPrskMusic(page - 1, limit, "title", "ASC", TotalMode.fromValue(total));
+        return ResponseEntity.status(HttpStatus.OK).cacheControl(CacheControl.noCache()).body(response);
+    }
+
+    // GET /prsk-music/search : プロセカ楽曲検索 - Search prsk music
+    @GetMapping("/search")
+    public ResponseEntity<PrskMusicListResponse> searchPrskMusic(
+            @RequestParam(required = false)
+            @NotBlank(message = "Query must not be blank")
+            @Size(max = 100, message = "Query must be 100 characters or less") String q,
             @RequestParam(required = false, defaultValue = "1")
             @Min(value = 1, message = "Page must be 1 or greater") Integer page,
             @RequestParam(required = false, defaultValue = "20")
             @Min(value = 1, message = "Limit must be at least 1")
             @Max(value = 100, message = "Limit must not exceed 100") Integer limit
     ) {
-        PrskMusicListResponse response = prskMusicService.getAllPrskMusic(page - 1, limit, "title", "ASC");
+        PrskMusicListResponse response = prskMusicService.searchPrskMusic(q, page - 1, limit);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    // GET /prsk-music/changes : プロセカ楽曲の差分同期 - Get prsk music changed since the given token
+    @GetMapping("/changes")
+    public ResponseEntity<PrskMusicChangesResponse> getPrskMusicChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false, defaultValue = "100")
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 1000, message = "Limit must not exceed 1000") Integer limit
+    ) {
+        PrskMusicChangesResponse response = prskMusicService.getPrskMusicChanges(since, limit);
+        return ResponseEntity.status(HttpStatus.OK).cacheControl(CacheControl.noCache()).body(response);
+    }
+
+    // GET /prsk-music/export : プロセカ楽曲の全件エクスポート - Export all prsk music
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPrskMusic(
+            @RequestParam(required = false, defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        ExportFormat exportFormat = ExportFormat.fromValue(format);
+        boolean gzip = AcceptEncoding.acceptsGzip(acceptEncoding);
+
+        // 書き出しはレスポンス送信中に別スレッドで行う (トランザクションもその中で開始される)
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, 8192)) {
+                    prskMusicService.exportPrskMusic(exportFormat, gzipOutputStream);
+                }
+                return;
+            }
+            prskMusicService.exportPrskMusic(exportFormat, outputStream);
+        };
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("prsk-music." + exportFormat.getValue())
+                        .build()
+                        .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(body);
+    }
+
+    // GET /prsk-music/snapshot : プロセカ楽曲の全件スナップショット - Get snapshot of all prsk music
+    // 書き出し済みのファイルを返すため DB にはアクセスしない
+    @GetMapping("/snapshot")
+    public ResponseEntity<StreamingResponseBody> getPrskMusicSnapshot(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest,
+            HttpServletRequest request
+    ) {
+        PrskMusicSnapshot.Snapshot snapshot = prskMusicSnapshot.current();
+        if (snapshot == null) {
+            // 起動直後の初回書き出しが終わるまで
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
+        }
+
+        boolean gzip = AcceptEncoding.acceptsGzip(acceptEncoding);
+        PrskMusicSnapshot.Representation representation = gzip ? snapshot.gzip() : snapshot.json();
+        if (webRequest.checkNotModified(representation.etag(), snapshot.generatedAt())) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(representation.length())
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        if (representation.trySendfile(request)) {
+            return builder.build();
+        }
+        return builder.body(representation::writeTo);
+    }
+
     // POST /prsk-music : プロセカ楽曲情報の登録 - Register prsk music information
     @PostMapping
     public ResponseEntity<PrskMusicResponse> registerPrskMusic(
@@ -43,6 +200,25 @@ public class PrskMusicController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    // POST /prsk-music/bulk : プロセカ楽曲情報の一括登録 (JSON 配列) - Bulk register prsk music information
+    // 行ごとに入力チェックを行うため、ここでは @Valid を付けない
+    @PostMapping(path = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PrskMusicBulkResponse> bulkRegisterPrskMusic(
+            @RequestBody List<PrskMusicRequest> requests
+    ) {
+        PrskMusicBulkResponse response = prskMusicService.bulkCreatePrskMusic(requests);
+        return ResponseEntity.ok(response);
+    }
+
+    // POST /prsk-music/bulk : プロセカ楽曲情報の一括登録 (NDJSON) - Bulk register prsk music information
+    @PostMapping(path = "/bulk", consumes = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<PrskMusicBulkResponse> bulkRegisterPrskMusicNdjson(
+            InputStream body
+    ) throws IOException {
+        PrskMusicBulkResponse response = prskMusicService.bulkCreatePrskMusic(readNdjson(body));
+        return ResponseEntity.ok(response);
+    }
+
     // PUT /prsk-music/{id} : プロセカ楽曲情報の更新 - Update prsk music information
     @PutMapping("/{id}")
     public ResponseEntity<PrskMusicResponse> updatePrskMusic(
@@ -61,4 +237,28 @@ public class PrskMusicController {
         prskMusicService.deletePrskMusic(id);
         return ResponseEntity.noContent().build();
     }
+
+    // 1行ずつ解析し、解析できなかった行は null として行番号を保ったまま渡す (空行は無視する)
+    private List<PrskMusicRequest> readNdjson(InputStream body) throws IOException {
+        ObjectReader reader = objectMapper.readerFor(PrskMusicRequest.class);
+        List<PrskMusicRequest> requests = new ArrayList<>();
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    requests.add(reader.readValue(line));
+                } catch (IOException e) {
+                    requests.add(null);
+                }
+                // 上限を超えた時点で読み込みをやめる (件数エラーはサービスで返す)
+                if (requests.size() > PrskMusicService.BULK_MAX_ROWS) {
+                    break;
+                }
+            }
+        }
+        return requests;
+    }
 }
@@ -1,25 +1,129 @@
 package com.example.untitled.prskmusic;
 
 import com.example.untitled.prskmusic.enums.MusicType;
+import com.example.untitled.prskmusic.projection.PrskMusicChangeProjection;
+import com.example.untitled.prskmusic.projection.PrskMusicKeyProjection;
+import com.example.untitled.prskmusic.projection.PrskMusicProjection;
+import com.example.untitled.prskmusic.projection.PrskMusicSearchProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PrskMusicRepository extends JpaRepository<PrskMusic, Long> {
 
-    @Query(
-            value = "SELECT p FROM PrskMusic p JOIN FETCH p.artist WHERE p.isDeleted = :isDeleted",
-            countQuery = "SELECT count(p) FROM PrskMusic p WHERE p.isDeleted = :isDeleted"
-    )
-    Page<PrskMusic> findByIsDeleted(@Param("isDeleted") boolean isDeleted, Pageable pageable);
+    // 一覧取得はレスポンスに必要なカラムのみをプロジェクションとして取得する
+    String PROJECTION_SELECT = "SELECT new com.example.untitled.prskmusic.projection.PrskMusicProjection("
+            + "p.id, p.title, a.artistName, a.unitName, a.content, COALESCE(a.isDeleted, true),"
+            + " p.musicType, p.specially, p.lyricsName, p.musicName, p.featuring, p.youtubeLink,"
+            + " p.createdAt, p.createdBy, p.updatedAt, p.updatedBy)"
+            + " FROM PrskMusic p LEFT JOIN p.artist a";
 
-    Optional<PrskMusic> findByIdAndIsDeleted(Long id, boolean isDeleted);
+    // 差分同期の変更日時 (楽曲一覧はアーティスト情報を含むため、アーティストの更新も楽曲の変更として扱う)
+    String CHANGED_AT = "greatest(p.updatedAt, a.updatedAt)";
 
-    Optional<PrskMusic> findByTitleAndMusicTypeAndIsDeleted(String title, MusicType musicType, boolean isDeleted);
-}
\ No newline at end of file
+    String CHANGE_SELECT = "SELECT new com.example.untitled.prskmusic.projection.PrskMusicChangeProjection("
+            + "p.id, p.isDeleted, " + CHANGED_AT + ")"
+            + " FROM PrskMusic p JOIN p.artist a";
+
+    // 論理削除された行は BaseEntity.ACTIVE_FILTER で除外される (件数は JpaRepository.count を使う)
+    // 結合先のアーティストにもフィルタが掛かるため、削除済みアーティストの楽曲は外部結合で残し "Unknown" として返す
+    @Query(value = PROJECTION_SELECT, countQuery = "SELECT count(p) FROM PrskMusic p")
+    Page<PrskMusicProjection> findAllProjections(Pageable pageable);
+
+    // total=estimate|none 用 (COUNT クエリを実行しない)
+    @Query(PROJECTION_SELECT)
+    Slice<PrskMusicProjection> findSliceProjections(Pageable pageable);
+
+    // 一覧の Last-Modified 用 (論理削除も updated_at を更新するため、SoftDeleteFilter.includingDeleted 内で呼んで削除済みも含める)
+    @Query("SELECT max(p.updatedAt) FROM PrskMusic p")
+    OffsetDateTime findLatestUpdatedAt();
+
+    // カーソル方式の先頭ページ (title, id の昇順)
+    @Query(PROJECTION_SELECT + " ORDER BY p.title ASC, p.id ASC")
+    List<PrskMusicProjection> findKeysetFirstPage(Pageable pageable);
+
+    // カーソル方式の次ページ (OFFSET を使わず (title, id) でシークする)
+    @Query(PROJECTION_SELECT
+            + " WHERE p.title > :title OR (p.title = :title AND p.id > :id)"
+            + " ORDER BY p.title ASC, p.id ASC")
+    List<PrskMusicProjection> findKeysetNextPage(
+            @Param("title") String title,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    // 検索結果のIDからレスポンスを組み立てる (並び順は呼び出し側で検索スコア順に戻す)
+    @Query(PROJECTION_SELECT + " WHERE p.id IN :ids")
+    List<PrskMusicProjection> findProjectionsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 検索インデックスの構築用
+    @Query("SELECT new com.example.untitled.prskmusic.projection.PrskMusicSearchProjection("
+            + "p.id, p.title, p.lyricsName, p.musicName)"
+            + " FROM PrskMusic p")
+    List<PrskMusicSearchProjection> findAllSearchProjections();
+
+    // 全件エクスポート用 (fetchSize 件ずつカーソルで読み込む。トランザクション内で消費し、使用後は close すること)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(PROJECTION_SELECT + " ORDER BY p.id ASC")
+    Stream<PrskMusicProjection> streamAllForExport();
+
+    // 差分同期の初回 (削除済みの楽曲は返さない。削除済みアーティストも結合するため SoftDeleteFilter.includingDeleted 内で呼ぶ)
+    @Query(CHANGE_SELECT + " WHERE p.isDeleted = false ORDER BY " + CHANGED_AT + " ASC, p.id ASC")
+    List<PrskMusicChangeProjection> findFirstChanges(Pageable pageable);
+
+    // 差分同期の2回目以降のキーセット条件 (変更日時, ID) で前回の続きから返す
+    String CHANGES_AFTER = " AND (" + CHANGED_AT + " > :changedAt OR (" + CHANGED_AT + " = :changedAt AND p.id > :id))"
+            + " ORDER BY " + CHANGED_AT + " ASC, p.id ASC";
+
+    // 差分同期の2回目以降 (削除済みも返すため SoftDeleteFilter.includingDeleted 内で呼ぶ)
+    // 変更日時が changedAt 以上の楽曲は、楽曲かアーティストのどちらかの updated_at が changedAt 以上のため、
+    // 楽曲の更新 (このメソッド) とアーティストの更新 (findChangesOfArtistsAfter) に分けて、
+    // それぞれ updated_at のインデックスの範囲検索で絞り込む (OR で結合するとどちらのインデックスも使えない)
+    @Query(CHANGE_SELECT + " WHERE p.updatedAt >= :changedAt" + CHANGES_AFTER)
+    List<PrskMusicChangeProjection> findChangesOfPrskMusicAfter(
+            @Param("changedAt") OffsetDateTime changedAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    // 差分同期の2回目以降のうち、更新されたアーティストの楽曲 (楽曲は artist_id のインデックスで結合する)
+    @Query(CHANGE_SELECT + " WHERE a.updatedAt >= :changedAt" + CHANGES_AFTER)
+    List<PrskMusicChangeProjection> findChangesOfArtistsAfter(
+            @Param("changedAt") OffsetDateTime changedAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    // 一括登録の重複チェック用 (行ごとではなくまとめて取得する)
+    @Query("SELECT new com.example.untitled.prskmusic.projection.PrskMusicKeyProjection("
+            + "p.titleKey, p.musicType)"
+            + " FROM PrskMusic p WHERE p.titleKey IN :titleKeys")
+    List<PrskMusicKeyProjection> findKeysByTitleKeyIn(@Param("titleKeys") Collection<String> titleKeys);
+
+    // findById (主キーでの直接読み込み) には論理削除のフィルタが掛からないため、クエリで取得する
+    @Query("SELECT p FROM PrskMusic p WHERE p.id = :id")
+    Optional<PrskMusic> findActiveById(@Param("id") Long id);
+
+    // 既存データに表記揺れの重複が残っている可能性があるため先頭の1件のみ取得する
+    Optional<PrskMusic> findFirstByTitleKeyAndMusicType(String titleKey, MusicType musicType);
+
+    // 正規化キーの補完用 (SoftDeleteFilter.includingDeleted 内で呼んで削除済みも含める)
+    List<PrskMusic> findByTitleKeyIsNull();
+}
@@ -2,77 +2,460 @@ package com.example.untitled.prskmusic;
 
 import com.example.untitled.artist.Artist;
 import com.example.untitled.artist.ArtistRepository;
+import com.example.untitled.artist.ArtistService;
+import com.example.untitled.audit.AuditRecord;
+import com.example.untitled.common.cache.CatalogVersion;
+import com.example.untitled.common.cache.TotalCountCache;
 import com.example.untitled.common.dto.ErrorDetails;
-import com.example.untitled.common.exception.DuplicationResourceException;
+import com.example.untitled.common.dto.ListVersion;
+import com.example.untitled.common.entity.ActiveIndexInitializer;
+import com.example.untitled.common.entity.ActiveUniqueIndex;
+import com.example.untitled.common.entity.ActiveUniqueKeyBackfill;
+import com.example.untitled.common.entity.ChangeSettleWindow;
+import com.example.untitled.common.entity.SoftDeleteFilter;
+import com.example.untitled.common.enums.ExportFormat;
+import com.example.untitled.common.enums.TotalMode;
+import com.example.untitled.common.exception.BadRequestException;
+import com.example.untitled.common.util.CursorCodec;
+import com.example.untitled.common.util.TextNormalizer;
+import com.example.untitled.common.util.UtilsFunction;
+import com.example.untitled.event.EntityChangedEvent;
+import com.example.untitled.prskmusic.cache.PrskMusicListCache;
 import com.example.untitled.prskmusic.dto.OptionalPrskMusicRequest;
+import com.example.untitled.prskmusic.dto.PrskMusicBulkResponse;
+import com.example.untitled.prskmusic.dto.PrskMusicBulkResult;
+import com.example.untitled.prskmusic.dto.PrskMusicChangesResponse;
 import com.example.untitled.prskmusic.dto.PrskMusicListResponse;
 import com.example.untitled.prskmusic.dto.PrskMusicRequest;
 import com.example.untitled.prskmusic.dto.PrskMusicResponse;
+import com.example.untitled.prskmusic.dto.PrskMusicTombstone;
 import com.example.untitled.prskmusic.enums.MusicType;
+import com.example.untitled.prskmusic.export.PrskMusicExportWriter;
+import com.example.untitled.prskmusic.projection.PrskMusicChangeProjection;
+import com.example.untitled.prskmusic.projection.PrskMusicKeyProjection;
+import com.example.untitled.prskmusic.projection.PrskMusicProjection;
+import com.example.untitled.prskmusic.projection.PrskMusicSearchProjection;
+import com.example.untitled.prskmusic.search.PrskMusicSearchIndex;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.example.untitled.common.util.EntityHelper.updateIfNotNull;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
-public class PrskMusicService {
+public class PrskMusicService implements ActiveUniqueKeyBackfill {
+
+    public static final String CATALOG_KEY = "prsk-music";
+
+    // 一括登録の上限行数
+    static final int BULK_MAX_ROWS = 10_000;
+    // hibernate.jdbc.batch_size / シーケンスの allocationSize と揃える
+    private static final int BULK_BATCH_SIZE = 50;
+    // IN 句に渡すパラメータ数の上限
+    private static final int BULK_LOOKUP_SIZE = 1_000;
 
     private final PrskMusicRepository prskMusicRepository;
     private final ArtistRepository artistRepository;
+    private final PrskMusicListCache prskMusicListCache;
+    private final TotalCountCache totalCountCache;
+    private final CatalogVersion catalogVersion;
+    private final SoftDeleteFilter softDeleteFilter;
+    private final ActiveIndexInitializer activeIndexInitializer;
+    private final ChangeSettleWindow changeSettleWindow;
+    private final PrskMusicSearchIndex prskMusicSearchIndex;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 楽曲一覧の ETag / Last-Modified の判定材料を返す
+     * 楽曲一覧はアーティスト情報を含むため、アーティストの更新も反映する
+     * 削除も一覧の変更として扱うため、削除済みの行も含めた更新日時を使う
+     */
+    @Transactional(readOnly = true)
+    public ListVersion getListVersion() {
+        OffsetDateTime musicUpdatedAt = softDeleteFilter.includingDeleted(prskMusicRepository::findLatestUpdatedAt);
+        OffsetDateTime artistUpdatedAt = softDeleteFilter.includingDeleted(artistRepository::findLatestUpdatedAt);
+
+        OffsetDateTime lastModified = musicUpdatedAt;
+        if (artistUpdatedAt != null && (lastModified == null || artistUpdatedAt.isAfter(lastModified))) {
+            lastModified = artistUpdatedAt;
+        }
+        String version = catalogVersion.current(CATALOG_KEY) + "/" + catalogVersion.current(ArtistService.CATALOG_KEY);
+        return new ListVersion(version, lastModified);
+    }
+
+    /**
+     * 正規化キー追加前に登録された楽曲のキーを起動時 (一意インデックスの作成前) に補完する
+     * 論理削除されていない楽曲と表記揺れで重複する楽曲はキーを補完せずにログに出す (手動で統合・削除する)
+     */
+    @Override
+    public void backfillUniqueKeys() {
+        List<PrskMusic> prskMusicList = softDeleteFilter.includingDeleted(prskMusicRepository::findByTitleKeyIsNull);
+        if (prskMusicList.isEmpty()) {
+            return;
+        }
+
+        Set<String> titleKeys = new HashSet<>();
+        prskMusicList.forEach(prskMusic -> titleKeys.add(TextNormalizer.normalize(prskMusic.getTitle())));
+        Set<TitleAndType> usedTitleKeys = new HashSet<>();
+        for (List<String> chunk : UtilsFunction.partition(titleKeys, BULK_LOOKUP_SIZE)) {
+            for (PrskMusicKeyProjection key : prskMusicRepository.findKeysByTitleKeyIn(chunk)) {
+                usedTitleKeys.add(new TitleAndType(key.titleKey(), key.musicType()));
+            }
+        }
+
+        for (PrskMusic prskMusic : prskMusicList) {
+            TitleAndType titleKey = new TitleAndType(TextNormalizer.normalize(prskMusic.getTitle()), prskMusic.getMusicType());
+            // 論理削除済みの行は一意インデックスの対象外
+            if (!prskMusic.isDeleted() && !usedTitleKeys.add(titleKey)) {
+                log.warn("Skipped backfilling title key of prsk music id={} title={} musicType={}:"
+                                + " duplicates another active prsk music after normalization.",
+                        prskMusic.getId(), prskMusic.getTitle(), prskMusic.getMusicType());
+                continue;
+            }
+            // setTitle で正規化キーも再計算される
+            prskMusic.setTitle(prskMusic.getTitle());
+        }
+        prskMusicListCache.invalidate();
+        catalogVersion.bump(CATALOG_KEY);
+    }
 
     @Transactional(readOnly = true)
-    public PrskMusicListResponse getAllPrskMusic(int page, int size, String sortBy, String direction) {
+    public PrskMusicListResponse getAllPrskMusic(
+            int page, int size, String sortBy, String direction, TotalMode totalMode
+    ) {
         Sort.Direction sortDirection = direction.equalsIgnoreCase("DESC")
                 ? Sort.Direction.DESC : Sort.Direction.ASC;
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
-        Page<PrskMusic> prskMusicPage = prskMusicRepository.findByIsDeleted(false, pageable);
+        return prskMusicListCache.get(page, size, sortBy, sortDirection.name(), totalMode, () -> {
+            Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+            if (totalMode == TotalMode.EXACT) {
+                Page<PrskMusicProjection> prskMusicPage = prskMusicRepository.findAllProjections(pageable);
+                return PrskMusicListResponse.from(prskMusicPage);
+            }
+
+            Slice<PrskMusicProjection> prskMusicSlice = prskMusicRepository.findSliceProjections(pageable);
+            Long estimatedTotal = totalMode == TotalMode.ESTIMATE
+                    ? totalCountCache.get(CATALOG_KEY, () -> prskMusicRepository.count())
+                    : null;
+            return PrskMusicListResponse.from(prskMusicSlice, estimatedTotal, totalMode);
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public PrskMusicListResponse getPrskMusicByCursor(String cursor, int size) {
+        CursorCodec.Position position = CursorCodec.decode(cursor);
+
+        // 次ページの有無を判定するため1件多く取得する
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<PrskMusicProjection> prskMusicList = position == null
+                ? prskMusicRepository.findKeysetFirstPage(pageable)
+                : prskMusicRepository.findKeysetNextPage(position.sortValue(), position.id(), pageable);
+        return PrskMusicListResponse.from(prskMusicList, size);
+    }
+
+    /**
+     * 削除されていない全楽曲を ID 順に書き出す
+     * DB カーソルから1件ずつ読み込んで書き出すため、件数に関わらずメモリ使用量は一定
+     * StreamingResponseBody から呼び出し、書き出しが終わるまでトランザクション(カーソル)を維持する
+     * @param format : 出力形式
+     * @param outputStream : 出力先 (このメソッドでは閉じない)
+     * @return number of exported rows
+     */
+    @Transactional(readOnly = true)
+    public long exportPrskMusic(ExportFormat format, OutputStream outputStream) throws IOException {
+        PrskMusicExportWriter writer = new PrskMusicExportWriter(format, outputStream, objectMapper);
+        writer.writeHeader();
+
+        long count = 0;
+        try (Stream<PrskMusicProjection> rows = prskMusicRepository.streamAllForExport()) {
+            Iterator<PrskMusicProjection> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                count++;
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * 削除されていない全楽曲を ID 順の JSON 配列として書き出す (スナップショット用)
+     * 1件ずつ書き出すため、件数に関わらずメモリ使用量は一定
+     * @param outputStream : 出力先 (このメソッドでは閉じない)
+     * @return number of written rows
+     */
+    @Transactional(readOnly = true)
+    public long writeSnapshot(OutputStream outputStream) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+             Stream<PrskMusicProjection> rows = prskMusicRepository.streamAllForExport()) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            Iterator<PrskMusicProjection> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                // 一覧 API と同じ変換 (削除済みアーティストは "Unknown") を使う
+                generator.writeObject(PrskMusicResponse.from(iterator.next()));
+                count++;
+            }
+            generator.writeEndArray();
+        }
+        return count;
+    }
+
+    /**
+     * since 以降に変更された楽曲を変更順に返す (差分同期)
+     * 変更の件数に比例したデータだけを返すため、端末側のコピーを全件取り直さずに更新できる
+     * @param since : 前回の nextSince、または ISO-8601 の日時 (未指定の場合は削除済みを除く全件を先頭から)
+     * @param limit : 1回に返す変更の最大件数
+     */
+    @Transactional(readOnly = true)
+    public PrskMusicChangesResponse getPrskMusicChanges(String since, int limit) {
+        CursorCodec.Position position = decodeSince(since);
+        OffsetDateTime changedAfter = position == null ? null : OffsetDateTime.parse(position.sortValue());
+
+        // 次ページの有無を判定するため1件多く取得する
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        List<PrskMusicChangeProjection> changes = softDeleteFilter.includingDeleted(() -> changedAfter == null
+                ? prskMusicRepository.findFirstChanges(pageable)
+                : findChangesAfter(changedAfter, position.id(), pageable));
+        boolean hasMore = changes.size() > limit;
+        List<PrskMusicChangeProjection> content = hasMore ? changes.subList(0, limit) : changes;
+
+        List<Long> upsertIds = new ArrayList<>();
+        List<PrskMusicTombstone> deletes = new ArrayList<>();
+        for (PrskMusicChangeProjection change : content) {
+            if (change.deleted()) {
+                deletes.add(PrskMusicTombstone.builder().id(change.id()).deletedAt(change.changedAt()).build());
+            } else {
+                upsertIds.add(change.id());
+            }
+        }
+
+        // 変更の一覧を取得した後に削除された楽曲は返さない (次回の同期で削除として返る)
+        List<PrskMusicResponse> upserts = List.of();
+        if (!upsertIds.isEmpty()) {
+            Map<Long, PrskMusicProjection> prskMusicById = prskMusicRepository.findProjectionsByIdIn(upsertIds).stream()
+                    .collect(Collectors.toMap(PrskMusicProjection::id, Function.identity()));
+            upserts = upsertIds.stream()
+                    .map(prskMusicById::get)
+                    .filter(Objects::nonNull)
+                    .map(PrskMusicResponse::from)
+                    .toList();
+        }
+
+        OffsetDateTime nextChangedAt = changedAfter;
+        Long nextId = position == null ? null : position.id();
+        if (!content.isEmpty()) {
+            PrskMusicChangeProjection last = content.get(content.size() - 1);
+            nextChangedAt = last.changedAt();
+            nextId = last.id();
+        }
+        // 最終ページでは、確定していない可能性がある直近の変更を次回も返し直す
+        // (upsert・削除は繰り返し適用しても結果が変わらないため、後から古い日時でコミットされた変更を取りこぼさない)
+        // (遡る時間は app.max-write-transaction-seconds)
+        OffsetDateTime settledAt = changeSettleWindow.settledAt();
+        if (!hasMore && (nextChangedAt == null || nextChangedAt.isAfter(settledAt))) {
+            nextChangedAt = settledAt;
+            nextId = 0L;
+        }
+
+        return PrskMusicChangesResponse.builder()
+                .upserts(upserts)
+                .deletes(deletes)
+                .nextSince(CursorCodec.encode(nextChangedAt.toString(), nextId))
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * タイトル・作詞者・作曲者の部分一致検索 (スコア順)
+     * @param query : 検索語
+     * @param page : ページ番号(0始まり)
+     * @param size : ページあたりのアイテム数
+     */
+    @Transactional(readOnly = true)
+    public PrskMusicListResponse searchPrskMusic(String query, int page, int size) {
+        PrskMusicSearchIndex.SearchResult result = prskMusicSearchIndex.search(query, page, size);
+
+        List<PrskMusicProjection> prskMusicList = List.of();
+        if (!result.ids().isEmpty()) {
+            // IN 句の結果は順不同のため、検索スコア順に並べ直す
+            Map<Long, Integer> rank = result.ids().stream()
+                    .collect(Collectors.toMap(Function.identity(), result.ids()::indexOf));
+            prskMusicList = prskMusicRepository.findProjectionsByIdIn(result.ids()).stream()
+                    .sorted(Comparator.comparingInt(music -> rank.get(music.id())))
+                    .toList();
+        }
+
+        Page<PrskMusicProjection> prskMusicPage = new PageImpl<>(
+                prskMusicList,
+                PageRequest.of(page, size),
+                result.totalHits()
+        );
         return PrskMusicListResponse.from(prskMusicPage);
     }
 
     public PrskMusicResponse createPrskMusic(PrskMusicRequest reqDto) {
-        prskMusicRepository.findByTitleAndMusicTypeAndIsDeleted(
-                reqDto.getTitle(),
-                reqDto.getMusicType(),
-                false
-        ).ifPresent(prskMusic -> {
-            throw new DuplicationResourceException(
-                    "Conflict detected",
+        Artist artist = artistRepository.findActiveById(reqDto.getArtistId())
+                .orElseThrow(() -> new EntityNotFoundException("Artist not found for id: " + reqDto.getArtistId()));
+
+        PrskMusic prskMusic = toEntity(reqDto, artist);
+
+        // 重複は部分一意インデックスで検出する (同時登録でも1件だけが成功する)
+        // 既存データの重複でインデックスを作成できなかった場合は登録前にチェックする
+        if (!activeIndexInitializer.isEnforced(ActiveUniqueIndex.PRSK_MUSIC_TITLE)) {
+            prskMusicRepository.findFirstByTitleKeyAndMusicType(prskMusic.getTitleKey(), prskMusic.getMusicType())
+                    .ifPresent(existPrskMusic -> {
+                        throw ActiveUniqueIndex.PRSK_MUSIC_TITLE.conflict(null);
+                    });
+        }
+        // キャッシュ・件数を更新する前に違反を検出するため、ここで INSERT を発行する
+        PrskMusicResponse response = PrskMusicResponse.from(ActiveUniqueIndex.PRSK_MUSIC_TITLE.insert(
+                null, () -> prskMusicRepository.saveAndFlush(prskMusic)
+        ));
+        prskMusicListCache.invalidate();
+        totalCountCache.adjust(CATALOG_KEY, 1);
+        catalogVersion.bump(CATALOG_KEY);
+        prskMusicSearchIndex.put(response.getId(), response.getTitle(), response.getLyricsName(), response.getMusicName());
+        eventPublisher.publishEvent(EntityChangedEvent.created(CATALOG_KEY, response.getId()));
+        eventPublisher.publishEvent(AuditRecord.created(CATALOG_KEY, response.getId(), prskMusic.auditState()));
+        return response;
+    }
+
+    /**
+     * プロセカ楽曲を一括登録する
+     * 重複・アーティストの存在チェックは行ごとではなくまとめて問い合わせ、INSERT は JDBC バッチで発行する
+     * 登録できない行はスキップし、行ごとの結果を返す
+     * @param requests : 登録内容 (JSON として解析できなかった行は null)
+     */
+    public PrskMusicBulkResponse bulkCreatePrskMusic(List<PrskMusicRequest> requests) {
+        if (requests.isEmpty() || requests.size() > BULK_MAX_ROWS) {
+            throw new BadRequestException(
+                    "Validation failed",
                     List.of(new ErrorDetails(
-                            "Title and MusicType",
-                            "Duplicate title and music type combination."
+                            "body",
+                            "The number of rows must be between 1 and " + BULK_MAX_ROWS + "."
                     ))
             );
-        });
+        }
 
-        Artist artist = artistRepository.findByIdAndIsDeleted(reqDto.getArtistId(), false)
-                .orElseThrow(() -> new EntityNotFoundException("Artist not found for id: " + reqDto.getArtistId()));
+        PrskMusicBulkResult[] results = new PrskMusicBulkResult[requests.size()];
+        Set<String> titleKeys = new HashSet<>();
+        Set<Long> artistIds = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            PrskMusicRequest request = requests.get(i);
+            List<ErrorDetails> errors = validateBulkRow(request);
+            if (!errors.isEmpty()) {
+                results[i] = PrskMusicBulkResult.failed(i, errors);
+                continue;
+            }
+            titleKeys.add(TextNormalizer.normalize(request.getTitle()));
+            artistIds.add(request.getArtistId());
+        }
 
-        PrskMusic prskMusic = new PrskMusic();
-        prskMusic.setTitle(reqDto.getTitle());
-        prskMusic.setArtist(artist);
-        prskMusic.setMusicType(reqDto.getMusicType());
-        prskMusic.setSpecially(reqDto.getSpecially());
-        prskMusic.setLyricsName(reqDto.getLyricsName());
-        prskMusic.setMusicName(reqDto.getMusicName());
-        prskMusic.setFeaturing(reqDto.getFeaturing());
-        prskMusic.setYoutubeLink(reqDto.getYoutubeLink());
+        // 1行の違反でバッチ全体が失敗しないよう、一括登録では既存の正規化キーをまとめて引いて事前に除外する
+        Set<TitleAndType> existingTitleKeys = new HashSet<>();
+        for (List<String> chunk : UtilsFunction.partition(titleKeys, BULK_LOOKUP_SIZE)) {
+            for (PrskMusicKeyProjection key : prskMusicRepository.findKeysByTitleKeyIn(chunk)) {
+                existingTitleKeys.add(new TitleAndType(key.titleKey(), key.musicType()));
+            }
+        }
+
+        Map<Long, Artist> artists = new HashMap<>();
+        for (List<Long> chunk : UtilsFunction.partition(artistIds, BULK_LOOKUP_SIZE)) {
+            artistRepository.findByIdIn(chunk)
+                    .forEach(artist -> artists.put(artist.getId(), artist));
+        }
+
+        Set<TitleAndType> acceptedTitleKeys = new HashSet<>();
+        List<PrskMusic> batch = new ArrayList<>(BULK_BATCH_SIZE);
+        List<Integer> batchIndexes = new ArrayList<>(BULK_BATCH_SIZE);
+        List<PrskMusicSearchProjection> createdMusic = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            PrskMusicRequest request = requests.get(i);
+            TitleAndType titleKey = new TitleAndType(TextNormalizer.normalize(request.getTitle()), request.getMusicType());
+            Artist artist = artists.get(request.getArtistId());
+
+            List<ErrorDetails> errors = new ArrayList<>();
+            if (artist == null) {
+                errors.add(new ErrorDetails("artistId", "Artist not found for id: " + request.getArtistId()));
+            }
+            // リクエスト内の重複は先に登録できた行を優先する
+            boolean isDuplicated = existingTitleKeys.contains(titleKey)
+                    || (errors.isEmpty() && !acceptedTitleKeys.add(titleKey));
+            if (isDuplicated) {
+                errors.add(new ErrorDetails("Title and MusicType", "Duplicate title and music type combination."));
+            }
+            if (!errors.isEmpty()) {
+                results[i] = PrskMusicBulkResult.failed(i, errors);
+                continue;
+            }
 
-        return PrskMusicResponse.from(prskMusicRepository.save(prskMusic));
+            batch.add(toEntity(request, artist));
+            batchIndexes.add(i);
+            if (batch.size() == BULK_BATCH_SIZE) {
+                flushBulkBatch(batch, batchIndexes, results, createdMusic);
+            }
+        }
+        if (!batch.isEmpty()) {
+            flushBulkBatch(batch, batchIndexes, results, createdMusic);
+        }
+
+        if (!createdMusic.isEmpty()) {
+            prskMusicListCache.invalidate();
+            totalCountCache.adjust(CATALOG_KEY, createdMusic.size());
+            catalogVersion.bump(CATALOG_KEY);
+            prskMusicSearchIndex.putAll(createdMusic);
+            eventPublisher.publishEvent(EntityChangedEvent.created(
+                    CATALOG_KEY, createdMusic.stream().map(PrskMusicSearchProjection::id).toList()
+            ));
+        }
+        return PrskMusicBulkResponse.from(Arrays.asList(results));
     }
 
     public PrskMusicResponse updatePrskMusic(Long id, OptionalPrskMusicRequest reqDto) {
-        PrskMusic prskMusic = prskMusicRepository.findByIdAndIsDeleted(id, false)
+        PrskMusic prskMusic = prskMusicRepository.findActiveById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Prsk music not found for id: " + id));
 
         String newTitle = reqDto.getTitle() != null ? reqDto.getTitle() : prskMusic.getTitle();
@@ -82,25 +465,20 @@ public class PrskMusicService {
         boolean isMusicTypeChanged = reqDto.getMusicType() != null && !reqDto.getMusicType().equals(prskMusic.getMusicType());
 
         if(isTitleChanged || isMusicTypeChanged) {
-            prskMusicRepository.findByTitleAndMusicTypeAndIsDeleted(newTitle, newMusicType, false)
+            prskMusicRepository.findFirstByTitleKeyAndMusicType(TextNormalizer.normalize(newTitle), newMusicType)
                     .ifPresent(existPrskMusic -> {
                         if(!existPrskMusic.getId().equals(id)) {
-                            throw new DuplicationResourceException(
-                                    "Conflict detected.",
-                                    List.of(new ErrorDetails(
-                                            "Title and MusicType",
-                                            "Duplicate title and music type combination."
-                                    ))
-                            );
+                            throw ActiveUniqueIndex.PRSK_MUSIC_TITLE.conflict(null);
                         }
                     });
         }
 
         Artist artist = reqDto.getArtistId() != null
-                ? artistRepository.findByIdAndIsDeleted(reqDto.getArtistId(), false)
+                ? artistRepository.findActiveById(reqDto.getArtistId())
                     .orElseThrow(() -> new EntityNotFoundException("Artist not found for id: " + reqDto.getArtistId()))
                 : null;
 
+        Map<String, String> before = prskMusic.auditState();
         updateIfNotNull(reqDto.getTitle(), prskMusic::setTitle);
         updateIfNotNull(artist, prskMusic::setArtist);
         updateIfNotNull(reqDto.getMusicType(), prskMusic::setMusicType);
@@ -110,14 +488,112 @@ public class PrskMusicService {
         updateIfNotNull(reqDto.getFeaturing(), prskMusic::setFeaturing);
         updateIfNotNull(reqDto.getYoutubeLink(), prskMusic::setYoutubeLink);
 
-        return PrskMusicResponse.from(prskMusicRepository.save(prskMusic));
+        PrskMusicResponse response = PrskMusicResponse.from(prskMusicRepository.save(prskMusic));
+        prskMusicListCache.invalidate();
+        catalogVersion.bump(CATALOG_KEY);
+        prskMusicSearchIndex.put(response.getId(), response.getTitle(), response.getLyricsName(), response.getMusicName());
+        eventPublisher.publishEvent(EntityChangedEvent.updated(CATALOG_KEY, response.getId()));
+        eventPublisher.publishEvent(AuditRecord.updated(CATALOG_KEY, id, before, prskMusic.auditState()));
+        return response;
+    }
+
+    private PrskMusic toEntity(PrskMusicRequest reqDto, Artist artist) {
+        PrskMusic prskMusic = new PrskMusic();
+        prskMusic.setTitle(reqDto.getTitle());
+        prskMusic.setArtist(artist);
+        prskMusic.setMusicType(reqDto.getMusicType());
+        prskMusic.setSpecially(reqDto.getSpecially());
+        prskMusic.setLyricsName(reqDto.getLyricsName());
+        prskMusic.setMusicName(reqDto.getMusicName());
+        prskMusic.setFeaturing(reqDto.getFeaturing());
+        prskMusic.setYoutubeLink(reqDto.getYoutubeLink());
+        return prskMusic;
+    }
+
+    private List<ErrorDetails> validateBulkRow(PrskMusicRequest request) {
+        if (request == null) {
+            return List.of(new ErrorDetails("body", "Malformed JSON row."));
+        }
+        List<ErrorDetails> errors = new ArrayList<>();
+        for (ConstraintViolation<PrskMusicRequest> violation : validator.validate(request)) {
+            errors.add(new ErrorDetails(violation.getPropertyPath().toString(), violation.getMessage()));
+        }
+        return errors;
+    }
+
+    private void flushBulkBatch(
+            List<PrskMusic> batch,
+            List<Integer> batchIndexes,
+            PrskMusicBulkResult[] results,
+            List<PrskMusicSearchProjection> createdMusic
+    ) {
+        List<PrskMusic> savedMusic = prskMusicRepository.saveAll(batch);
+        // バッチごとに INSERT を発行し、永続化コンテキストが肥大化しないよう切り離す
+        entityManager.flush();
+        entityManager.clear();
+
+        for (int i = 0; i < savedMusic.size(); i++) {
+            PrskMusic prskMusic = savedMusic.get(i);
+            int index = batchIndexes.get(i);
+            results[index] = PrskMusicBulkResult.created(index, prskMusic.getId());
+            eventPublisher.publishEvent(AuditRecord.created(CATALOG_KEY, prskMusic.getId(), prskMusic.auditState()));
+            createdMusic.add(new PrskMusicSearchProjection(
+                    prskMusic.getId(), prskMusic.getTitle(), prskMusic.getLyricsName(), prskMusic.getMusicName()
+            ));
+        }
+        batch.clear();
+        batchIndexes.clear();
     }
 
     public void deletePrskMusic(Long id) {
-        PrskMusic prskMusic = prskMusicRepository.findByIdAndIsDeleted(id, false)
+        PrskMusic prskMusic = prskMusicRepository.findActiveById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Prsk music not found for id: " + id));
 
         prskMusic.setDeleted(true);
         prskMusicRepository.save(prskMusic);
+        prskMusicListCache.invalidate();
+        totalCountCache.adjust(CATALOG_KEY, -1);
+        catalogVersion.bump(CATALOG_KEY);
+        prskMusicSearchIndex.remove(id);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(CATALOG_KEY, id));
+        eventPublisher.publishEvent(AuditRecord.deleted(CATALOG_KEY, id));
+    }
+
+    // since はトークン (Base64URL のため ':' を含まない) か ISO-8601 の日時
+    private CursorCodec.Position decodeSince(String since) {
+        if (since == null || since.isEmpty()) {
+            return null;
+        }
+        try {
+            if (since.indexOf(':') >= 0) {
+                return new CursorCodec.Position(OffsetDateTime.parse(since).toString(), 0L);
+            }
+            CursorCodec.Position position = CursorCodec.decode(since, "since");
+            OffsetDateTime.parse(position.sortValue());
+            return position;
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException(
+                    "Bad Request",
+                    List.of(new ErrorDetails("since", "Invalid since"))
+            );
+        }
+    }
+
+    // 楽曲の更新とアーティストの更新をそれぞれのインデックスで先頭から取得し、(変更日時, ID) 順に併合する
+    // 両方に含まれる楽曲は変更日時も同じため ID で重複を除く (併合した先頭の件数は各々の先頭の件数に必ず含まれる)
+    private List<PrskMusicChangeProjection> findChangesAfter(OffsetDateTime changedAt, Long id, Pageable pageable) {
+        Map<Long, PrskMusicChangeProjection> changes = new HashMap<>();
+        Stream.concat(
+                prskMusicRepository.findChangesOfPrskMusicAfter(changedAt, id, pageable).stream(),
+                prskMusicRepository.findChangesOfArtistsAfter(changedAt, id, pageable).stream()
+        ).forEach(change -> changes.putIfAbsent(change.id(), change));
+        return changes.values().stream()
+                .sorted(Comparator.comparing(PrskMusicChangeProjection::changedAt)
+                        .thenComparing(PrskMusicChangeProjection::id))
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    private record TitleAndType(String title, MusicType musicType) {
     }
 }
@@ -0,0 +1,118 @@
+package com.example.untitled.prskmusic.cache;
+
+import com.example.untitled.common.enums.TotalMode;
+import com.example.untitled.prskmusic.dto.PrskMusicListResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * プロセカ楽曲一覧レスポンスのキャッシュ
+ * 書き込みのたびにバージョンを進め、古いバージョンのエントリは参照しない
+ */
+@Component
+public class PrskMusicListCache {
+
+    private final int maxEntries;
+    private final ConcurrentHashMap<CacheKey, CachedPage> entries = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public PrskMusicListCache(
+            @Value("${app.prsk-music.list-cache.max-entries:256}") int maxEntries
+    ) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @param page : ページ番号(0始まり)
+     * @param size : ページあたりのアイテム数
+     * @param sortBy : ソート項目
+     * @param direction : ソート方向
+     * @param totalMode : 総アイテム数の算出方法
+     * @param loader : キャッシュミス時にレスポンスを組み立てる処理
+     * @return cached or freshly loaded response
+     */
+    public PrskMusicListResponse get(
+            int page,
+            int size,
+            String sortBy,
+            String direction,
+            TotalMode totalMode,
+            Supplier<PrskMusicListResponse> loader
+    ) {
+        CacheKey key = new CacheKey(page, size, sortBy, direction, totalMode);
+        long currentVersion = version.get();
+
+        CachedPage cached = entries.get(key);
+        if (cached != null && cached.version() == currentVersion) {
+            hitCount.increment();
+            return cached.response();
+        }
+
+        missCount.increment();
+        PrskMusicListResponse response = loader.get();
+
+        // 読み込み中に無効化された場合は古い結果を保存しない
+        if (version.get() == currentVersion) {
+            if (!entries.containsKey(key) && entries.size() >= maxEntries) {
+                evictOne();
+            }
+            entries.put(key, new CachedPage(currentVersion, response));
+        }
+        return response;
+    }
+
+    /**
+     * キャッシュを即時に無効化し、トランザクション中であればコミット後にも再度無効化する
+     * (コミット前に読み込まれた古いページが残らないようにするため)
+     */
+    public void invalidate() {
+        evictAll();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictAll();
+                }
+            });
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(hitCount.sum(), missCount.sum(), entries.size(), version.get());
+    }
+
+    private void evictAll() {
+        version.incrementAndGet();
+        entries.clear();
+    }
+
+    private void evictOne() {
+        Iterator<CacheKey> iterator = entries.keySet().iterator();
+        if (iterator.hasNext()) {
+            entries.remove(iterator.next());
+        }
+    }
+
+    private record CacheKey(int page, int size, String sortBy, String direction, TotalMode totalMode) {
+    }
+
+    private record CachedPage(long version, PrskMusicListResponse response) {
+    }
+
+    /**
+     * キャッシュの統計情報
+     */
+    public record Stats(long hitCount, long missCount, int size, long version) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.untitled.prskmusic.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * プロセカ楽曲一覧キャッシュの統計情報をメトリクスとして公開する
+ * 名前とタグは Micrometer のキャッシュメトリクス(cache.gets / cache.size)に合わせる
+ */
+@Component
+@RequiredArgsConstructor
+public class PrskMusicListCacheMetrics implements MeterBinder {
+
+    private static final String CACHE_NAME = "prsk-music-list";
+
+    private final PrskMusicListCache prskMusicListCache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", prskMusicListCache, cache -> cache.stats().hitCount())
+                .tag("cache", CACHE_NAME)
+                .tag("result", "hit")
+                .description("The number of times cache lookup methods have returned a cached value.")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", prskMusicListCache, cache -> cache.stats().missCount())
+                .tag("cache", CACHE_NAME)
+                .tag("result", "miss")
+                .description("The number of times cache lookup methods have returned an uncached value.")
+                .register(registry);
+        Gauge.builder("cache.size", prskMusicListCache, cache -> cache.stats().size())
+                .tag("cache", CACHE_NAME)
+                .description("The number of entries in this cache.")
+                .register(registry);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.untitled.prskmusic.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * プロセカ楽曲マスタAPIレスポンス for POST /bulk
+ */
+@Getter
+@Builder
+public class PrskMusicBulkResponse {
+
+    /** リクエストの行数 **/
+    private final int total;
+
+    /** 登録できた行数 **/
+    private final int created;
+
+    /** 登録できなかった行数 **/
+    private final int failed;
+
+    /** 行ごとの結果 (リクエストと同じ順) **/
+    private final List<PrskMusicBulkResult> results;
+
+    public static PrskMusicBulkResponse from(List<PrskMusicBulkResult> results) {
+        int created = (int) results.stream()
+                .filter(result -> PrskMusicBulkResult.STATUS_CREATED.equals(result.getStatus()))
+                .count();
+
+        return PrskMusicBulkResponse.builder()
+                .total(results.size())
+                .created(created)
+                .failed(results.size() - created)
+                .results(results)
+                .build();
+    }
+}
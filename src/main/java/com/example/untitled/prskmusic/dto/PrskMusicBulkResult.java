@@ -0,0 +1,46 @@
+package com.example.untitled.prskmusic.dto;
+
+import com.example.untitled.common.dto.ErrorDetails;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * プロセカ楽曲一括登録の行ごとの結果
+ */
+@Getter
+@Builder
+public class PrskMusicBulkResult {
+
+    public static final String STATUS_CREATED = "CREATED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    /** リクエスト内の行番号(0始まり) **/
+    private final int index;
+
+    /** 登録結果 (CREATED / FAILED) **/
+    private final String status;
+
+    /** 登録された楽曲のID (失敗時は null) **/
+    private final Long id;
+
+    /** エラー詳細 (成功時は null) **/
+    private final List<ErrorDetails> errors;
+
+    public static PrskMusicBulkResult created(int index, Long id) {
+        return PrskMusicBulkResult.builder()
+                .index(index)
+                .status(STATUS_CREATED)
+                .id(id)
+                .build();
+    }
+
+    public static PrskMusicBulkResult failed(int index, List<ErrorDetails> errors) {
+        return PrskMusicBulkResult.builder()
+                .index(index)
+                .status(STATUS_FAILED)
+                .errors(errors)
+                .build();
+    }
+}
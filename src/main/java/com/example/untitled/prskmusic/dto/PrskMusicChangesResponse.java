@@ -0,0 +1,26 @@
+package com.example.untitled.prskmusic.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * プロセカ楽曲の差分同期レスポンス for GET /prsk-music/changes
+ */
+@Getter
+@Builder
+public class PrskMusicChangesResponse {
+
+    /** 登録・更新された楽曲 (アーティストの更新で表示内容が変わった楽曲を含む、変更順) **/
+    private final List<PrskMusicResponse> upserts;
+
+    /** 削除された楽曲 **/
+    private final List<PrskMusicTombstone> deletes;
+
+    /** 次回の since に指定するトークン **/
+    private final String nextSince;
+
+    /** 続きの変更が残っているか (true の場合は nextSince ですぐに続きを取得する) **/
+    private final boolean hasMore;
+}
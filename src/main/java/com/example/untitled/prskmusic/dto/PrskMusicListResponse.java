@@ -1,10 +1,13 @@
 package com.example.untitled.prskmusic.dto;
 
 import com.example.untitled.common.dto.MetaInfo;
-import com.example.untitled.prskmusic.PrskMusic;
+import com.example.untitled.common.enums.TotalMode;
+import com.example.untitled.common.util.CursorCodec;
+import com.example.untitled.prskmusic.projection.PrskMusicProjection;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -21,7 +24,7 @@ public class PrskMusicListResponse {
     /** メタ情報 **/
     private final MetaInfo meta;
 
-    public static PrskMusicListResponse from(Page<PrskMusic> prskMusicPage) {
+    public static PrskMusicListResponse from(Page<PrskMusicProjection> prskMusicPage) {
         List<PrskMusicResponse> items = prskMusicPage.getContent().stream()
                 .map(PrskMusicResponse::from)
                 .toList();
@@ -33,4 +36,48 @@ public class PrskMusicListResponse {
                 .meta(meta)
                 .build();
     }
+
+    /**
+     * COUNT(*) を実行しない一覧のレスポンスを作成する
+     * @param prskMusicSlice : 取得したスライス
+     * @param estimatedTotal : キャッシュ済みの件数 (total=none の場合は null)
+     * @param totalMode : 総アイテム数の算出方法
+     */
+    public static PrskMusicListResponse from(Slice<PrskMusicProjection> prskMusicSlice, Long estimatedTotal, TotalMode totalMode) {
+        List<PrskMusicResponse> items = prskMusicSlice.getContent().stream()
+                .map(PrskMusicResponse::from)
+                .toList();
+
+        MetaInfo meta = MetaInfo.from(prskMusicSlice, estimatedTotal, totalMode);
+
+        return PrskMusicListResponse.builder()
+                .items(items)
+                .meta(meta)
+                .build();
+    }
+
+    /**
+     * カーソル方式のレスポンスを作成する
+     * @param prskMusicList : limit + 1 件まで取得した楽曲リスト
+     * @param limit : ページあたりのアイテム数
+     */
+    public static PrskMusicListResponse from(List<PrskMusicProjection> prskMusicList, int limit) {
+        boolean hasNext = prskMusicList.size() > limit;
+        List<PrskMusicProjection> content = hasNext ? prskMusicList.subList(0, limit) : prskMusicList;
+
+        List<PrskMusicResponse> items = content.stream()
+                .map(PrskMusicResponse::from)
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            PrskMusicProjection last = content.get(content.size() - 1);
+            nextCursor = CursorCodec.encode(last.title(), last.id());
+        }
+
+        return PrskMusicListResponse.builder()
+                .items(items)
+                .meta(MetaInfo.fromCursor(limit, nextCursor))
+                .build();
+    }
 }
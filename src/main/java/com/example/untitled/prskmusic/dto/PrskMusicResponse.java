@@ -4,9 +4,12 @@ import com.example.untitled.artist.Artist;
 import com.example.untitled.common.dto.AuditInfo;
 import com.example.untitled.prskmusic.PrskMusic;
 import com.example.untitled.prskmusic.enums.MusicType;
+import com.example.untitled.prskmusic.projection.PrskMusicProjection;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.Map;
+
 @Getter
 @Builder
 public class PrskMusicResponse {
@@ -66,4 +69,54 @@ public class PrskMusicResponse {
                 .auditInfo(AuditInfo.from(prskMusic))
                 .build();
     }
+
+    public static PrskMusicResponse from(PrskMusicProjection projection) {
+        boolean isArtistDeleted = projection.artistDeleted();
+
+        return PrskMusicResponse.builder()
+                .id(projection.id())
+                .title(projection.title())
+                .artistName(isArtistDeleted ? "Unknown" : projection.artistName())
+                .unitName(isArtistDeleted ? null : projection.unitName())
+                .content(isArtistDeleted ? null : projection.content())
+                .musicType(projection.musicType())
+                .specially(projection.specially())
+                .lyricsName(projection.lyricsName())
+                .musicName(projection.musicName())
+                .featuring(projection.featuring())
+                .youtubeLink(projection.youtubeLink())
+                .auditInfo(new AuditInfo(
+                        projection.createdAt(),
+                        projection.createdBy(),
+                        projection.updatedAt(),
+                        projection.updatedBy()
+                ))
+                .build();
+    }
+
+    /**
+     * 変更履歴から復元した内容のレスポンスを作成する (監査情報は持たない)
+     * @param id : 楽曲 ID
+     * @param state : 楽曲の内容 (PrskMusic.auditState と同じ項目)
+     * @param artistState : アーティストの内容 (その時点で削除済み・不明の場合は null)
+     */
+    public static PrskMusicResponse fromHistory(Long id, Map<String, String> state, Map<String, String> artistState) {
+        boolean isArtistDeleted = artistState == null;
+        String musicType = state.get("musicType");
+        String specially = state.get("specially");
+
+        return PrskMusicResponse.builder()
+                .id(id)
+                .title(state.get("title"))
+                .artistName(isArtistDeleted ? "Unknown" : artistState.get("artistName"))
+                .unitName(isArtistDeleted ? null : artistState.get("unitName"))
+                .content(isArtistDeleted ? null : artistState.get("content"))
+                .musicType(musicType != null ? MusicType.fromCode(Integer.parseInt(musicType)) : null)
+                .specially(specially != null ? Boolean.valueOf(specially) : null)
+                .lyricsName(state.get("lyricsName"))
+                .musicName(state.get("musicName"))
+                .featuring(state.get("featuring"))
+                .youtubeLink(state.get("youtubeLink"))
+                .build();
+    }
 }
@@ -0,0 +1,20 @@
+package com.example.untitled.prskmusic.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 差分同期で返す削除済み楽曲
+ */
+@Getter
+@Builder
+public class PrskMusicTombstone {
+
+    /** 削除された楽曲のID **/
+    private final Long id;
+
+    /** 削除日時 **/
+    private final OffsetDateTime deletedAt;
+}
@@ -0,0 +1,95 @@
+package com.example.untitled.prskmusic.export;
+
+import com.example.untitled.common.enums.ExportFormat;
+import com.example.untitled.prskmusic.dto.PrskMusicResponse;
+import com.example.untitled.prskmusic.projection.PrskMusicProjection;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+
+/**
+ * プロセカ楽曲のエクスポート出力
+ * 1件ずつ書き出し、レコードをメモリに溜め込まない
+ * 出力先のストリームは閉じないため、呼び出し側で閉じること
+ */
+public class PrskMusicExportWriter {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final String CSV_HEADER = String.join(",",
+            "id", "title", "artistName", "unitName", "content", "musicType", "specially",
+            "lyricsName", "musicName", "featuring", "youtubeLink", "createdAt", "updatedAt");
+
+    private final ExportFormat format;
+    private final Writer writer;
+    private final ObjectWriter jsonWriter;
+
+    public PrskMusicExportWriter(ExportFormat format, OutputStream outputStream, ObjectMapper objectMapper) {
+        this.format = format;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.jsonWriter = objectMapper.writerFor(PrskMusicResponse.class);
+    }
+
+    /**
+     * CSV の場合はヘッダー行を書き出す
+     */
+    public void writeHeader() throws IOException {
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+    }
+
+    public void write(PrskMusicProjection projection) throws IOException {
+        // 一覧 API と同じ変換 (削除済みアーティストは "Unknown") を使う
+        PrskMusicResponse response = PrskMusicResponse.from(projection);
+        if (format == ExportFormat.NDJSON) {
+            writer.write(jsonWriter.writeValueAsString(response));
+            writer.write('\n');
+            return;
+        }
+
+        writer.write(String.join(",",
+                String.valueOf(response.getId()),
+                csvField(response.getTitle()),
+                csvField(response.getArtistName()),
+                csvField(response.getUnitName()),
+                csvField(response.getContent()),
+                String.valueOf(response.getMusicType().getCode()),
+                response.getSpecially() == null ? "" : response.getSpecially().toString(),
+                csvField(response.getLyricsName()),
+                csvField(response.getMusicName()),
+                csvField(response.getFeaturing()),
+                csvField(response.getYoutubeLink()),
+                dateField(response.getAuditInfo().getCreatedAt()),
+                dateField(response.getAuditInfo().getUpdatedAt())
+        ));
+        writer.write('\n');
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    // RFC 4180 : 区切り文字・引用符・改行を含む場合のみ引用符で囲み、引用符は二重にする
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    private static String dateField(OffsetDateTime value) {
+        return value == null ? "" : value.toString();
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.untitled.prskmusic.history;
+
+import com.example.untitled.artist.ArtistRepository;
+import com.example.untitled.artist.ArtistService;
+import com.example.untitled.audit.AuditHistoryRepository;
+import com.example.untitled.common.dto.ErrorDetails;
+import com.example.untitled.common.dto.MetaInfo;
+import com.example.untitled.common.entity.ChangeSettleWindow;
+import com.example.untitled.common.entity.SoftDeleteFilter;
+import com.example.untitled.common.exception.BadRequestException;
+import com.example.untitled.prskmusic.PrskMusicRepository;
+import com.example.untitled.prskmusic.PrskMusicService;
+import com.example.untitled.prskmusic.dto.PrskMusicListResponse;
+import com.example.untitled.prskmusic.dto.PrskMusicResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.text.Collator;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 楽曲一覧の過去の時点の内容 (GET /prsk-music?asOf=)
+ *
+ * <p>指定日時以前で最新のスナップショットに、その後の変更履歴 (t_audit_history) を反映して復元する。
+ * 反映する変更履歴はスナップショットの間隔の分だけのため、履歴全体の件数によらず応答時間が決まる。</p>
+ *
+ * <p>スナップショットはテーブルの現在の内容から作成するため、それ以前の変更履歴は復元に使わない
+ * (変更履歴の書き込み待ちのキューから捨てられた変更があっても、次のスナップショットで正しい内容に戻る)。</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PrskMusicHistoryService {
+
+    // 楽曲一覧はアーティストの内容も含む
+    private static final List<String> RESOURCES = List.of(PrskMusicService.CATALOG_KEY, ArtistService.CATALOG_KEY);
+
+    private final PrskMusicHistorySnapshotRepository snapshotRepository;
+    private final AuditHistoryRepository auditHistoryRepository;
+    private final PrskMusicRepository prskMusicRepository;
+    private final ArtistRepository artistRepository;
+    private final SoftDeleteFilter softDeleteFilter;
+    private final ChangeSettleWindow changeSettleWindow;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 前回のスナップショット以降に変更があった場合 (初回は常に) スナップショットを作成する
+     * @return 作成した場合は true
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public boolean takeSnapshotIfChanged() {
+        // REPEATABLE READ のため、楽曲・アーティストはトランザクションの最初の読み込みの時点の内容になる
+        // その時点は readStartedAt と takenAt の間にあるため、
+        // 復元の起点 (taken_at) は読み込みの後、変更履歴の反映は読み込みの前から遡って始める
+        OffsetDateTime readStartedAt = OffsetDateTime.now();
+        Optional<PrskMusicHistorySnapshot> latest = snapshotRepository.findFirstByOrderByTakenAtDesc();
+        if (latest.isPresent()
+                && !auditHistoryRepository.existsByResourceInAndChangedAtGreaterThan(RESOURCES, latest.get().getTakenAt())) {
+            return false;
+        }
+
+        Map<Long, Map<String, String>> prskMusic = new HashMap<>();
+        prskMusicRepository.findAll().forEach(music -> prskMusic.put(music.getId(), music.auditState()));
+        Map<Long, Map<String, String>> artists = new HashMap<>();
+        Set<Long> deletedArtistIds = new HashSet<>();
+        softDeleteFilter.includingDeleted(artistRepository::findAll).forEach(artist -> {
+            artists.put(artist.getId(), artist.auditState());
+            if (artist.isDeleted()) {
+                deletedArtistIds.add(artist.getId());
+            }
+        });
+
+        OffsetDateTime takenAt = OffsetDateTime.now();
+
+        PrskMusicHistorySnapshot snapshot = new PrskMusicHistorySnapshot();
+        snapshot.setTakenAt(takenAt);
+        // 変更日時はコミットより前に設定されるため、読み込みの時点でコミットされていなかった変更を取りこぼさないよう、
+        // 書き込みトランザクションの最大時間の分だけ遡って反映し直す (同じ変更を反映し直しても結果は変わらない)
+        snapshot.setReplayFrom(readStartedAt.minus(changeSettleWindow.getDuration()));
+        snapshot.setPayload(writeState(new PrskMusicHistoryState(prskMusic, artists, deletedArtistIds)));
+        snapshotRepository.save(snapshot);
+        return true;
+    }
+
+    /**
+     * @param asOf : 復元する日時 (ISO-8601)
+     * @param page : ページ番号 (0始まり)
+     * @param size : ページあたりのアイテム数
+     */
+    @Transactional(readOnly = true)
+    public PrskMusicListResponse getPrskMusicAsOf(String asOf, int page, int size) {
+        OffsetDateTime asOfTime = parseAsOf(asOf);
+        PrskMusicHistorySnapshot snapshot = snapshotRepository.findFirstByTakenAtLessThanEqualOrderByTakenAtDesc(asOfTime)
+                .orElseThrow(() -> new BadRequestException(
+                        "Validation failed",
+                        List.of(new ErrorDetails("asOf", historyUnavailableMessage()))
+                ));
+
+        PrskMusicHistoryState state = readState(snapshot.getPayload());
+        auditHistoryRepository.findChanges(RESOURCES, replayFrom(snapshot), asOfTime)
+                .forEach(state::apply);
+
+        // 一覧 (GET /prsk-music) と同じくタイトル順
+        // 一覧は DB の照合順序で並べるため、記号や大文字/小文字などの並び順は一覧と完全には一致しない場合がある
+        Collator collator = Collator.getInstance(Locale.JAPANESE);
+        List<PrskMusicResponse> items = state.prskMusic().entrySet().stream()
+                .map(entry -> PrskMusicResponse.fromHistory(
+                        entry.getKey(), entry.getValue(), activeArtistState(state, entry.getValue().get("artistId"))
+                ))
+                .sorted(Comparator.comparing(PrskMusicResponse::getTitle, Comparator.nullsLast(collator))
+                        .thenComparing(PrskMusicResponse::getId))
+                .toList();
+
+        int from = (int) Math.min((long) page * size, items.size());
+        int to = Math.min(from + size, items.size());
+        Page<PrskMusicResponse> prskMusicPage = new PageImpl<>(items.subList(from, to), PageRequest.of(page, size), items.size());
+        return PrskMusicListResponse.builder()
+                .items(prskMusicPage.getContent())
+                .meta(MetaInfo.from(prskMusicPage))
+                .build();
+    }
+
+    // replay_from が無い (列を追加する前に作成した) スナップショットは taken_at から遡る
+    private OffsetDateTime replayFrom(PrskMusicHistorySnapshot snapshot) {
+        return snapshot.getReplayFrom() != null
+                ? snapshot.getReplayFrom()
+                : snapshot.getTakenAt().minus(changeSettleWindow.getDuration());
+    }
+
+    // 削除済み・不明のアーティストは null (一覧と同じく "Unknown" と表示する)
+    private static Map<String, String> activeArtistState(PrskMusicHistoryState state, String artistId) {
+        if (artistId == null) {
+            return null;
+        }
+        Long id = Long.valueOf(artistId);
+        return state.deletedArtistIds().contains(id) ? null : state.artists().get(id);
+    }
+
+    private OffsetDateTime parseAsOf(String asOf) {
+        try {
+            return OffsetDateTime.parse(asOf);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException(
+                    "Validation failed",
+                    List.of(new ErrorDetails("asOf", "Invalid asOf. Use ISO-8601 date-time with offset."))
+            );
+        }
+    }
+
+    private String historyUnavailableMessage() {
+        return snapshotRepository.findFirstByOrderByTakenAtAsc()
+                .map(oldest -> "History is available from " + oldest.getTakenAt())
+                .orElse("History is not available yet");
+    }
+
+    private String writeState(PrskMusicHistoryState state) {
+        try {
+            return objectMapper.writeValueAsString(state);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize prsk music history snapshot", e);
+        }
+    }
+
+    private PrskMusicHistoryState readState(String payload) {
+        try {
+            return objectMapper.readValue(payload, PrskMusicHistoryState.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize prsk music history snapshot", e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.untitled.prskmusic.history;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.OffsetDateTime;
+
+/**
+ * ある時点の楽曲・アーティストの全件 (GET /prsk-music?asOf= の復元の起点)
+ * 取得した時点より前の変更履歴を1行にまとめたもののため、論理削除・監査項目 (BaseEntity) は持たない
+ */
+@Entity
+@Table(name = "t_prsk_music_history_snapshot", indexes = {
+        @Index(name = "idx_t_prsk_music_history_snapshot_taken_at", columnList = "taken_at")
+})
+@Data
+public class PrskMusicHistorySnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "t_prsk_music_history_snapshot_seq")
+    @SequenceGenerator(
+            name = "t_prsk_music_history_snapshot_seq",
+            sequenceName = "t_prsk_music_history_snapshot_id_seq",
+            allocationSize = 1
+    )
+    private Long id;
+
+    // この日時以降の asOf の復元に使う (読み込みを終えた日時)
+    @Column(name = "taken_at", nullable = false)
+    private OffsetDateTime takenAt;
+
+    // 復元時にこの日時以降の変更履歴を反映する (読み込みを始めた日時から app.max-write-transaction-seconds 遡る)
+    // 列を追加する前に作成した行は null
+    @Column(name = "replay_from")
+    private OffsetDateTime replayFrom;
+
+    // PrskMusicHistoryState の JSON
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+}
@@ -0,0 +1,20 @@
+package com.example.untitled.prskmusic.history;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+@Repository
+public interface PrskMusicHistorySnapshotRepository extends JpaRepository<PrskMusicHistorySnapshot, Long> {
+
+    /**
+     * @return 指定日時以前で最新のスナップショット
+     */
+    Optional<PrskMusicHistorySnapshot> findFirstByTakenAtLessThanEqualOrderByTakenAtDesc(OffsetDateTime takenAt);
+
+    Optional<PrskMusicHistorySnapshot> findFirstByOrderByTakenAtDesc();
+
+    Optional<PrskMusicHistorySnapshot> findFirstByOrderByTakenAtAsc();
+}
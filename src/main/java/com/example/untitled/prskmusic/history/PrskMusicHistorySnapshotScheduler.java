@@ -0,0 +1,54 @@
+package com.example.untitled.prskmusic.history;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 起動時と snapshot-interval-minutes ごとに、変更があればスナップショットを作成する
+ * (GET /prsk-music?asOf= で反映する変更履歴は最大でこの間隔の分になる)
+ */
+@Slf4j
+@Component
+public class PrskMusicHistorySnapshotScheduler implements DisposableBean {
+
+    private final PrskMusicHistoryService prskMusicHistoryService;
+    private final long intervalMinutes;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("prsk-music-history-snapshot").daemon().factory()
+    );
+
+    public PrskMusicHistorySnapshotScheduler(
+            PrskMusicHistoryService prskMusicHistoryService,
+            @Value("${app.prsk-music.history.snapshot-interval-minutes:60}") long intervalMinutes
+    ) {
+        this.prskMusicHistoryService = prskMusicHistoryService;
+        this.intervalMinutes = intervalMinutes;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::takeSnapshot, 0, intervalMinutes, TimeUnit.MINUTES);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    private void takeSnapshot() {
+        try {
+            prskMusicHistoryService.takeSnapshotIfChanged();
+        } catch (RuntimeException e) {
+            // 次回の間隔で作成し直す (それまでは前回のスナップショットから復元する)
+            log.warn("Failed to take prsk music history snapshot.", e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.untitled.prskmusic.history;
+
+import com.example.untitled.artist.ArtistService;
+import com.example.untitled.audit.AuditHistory;
+import com.example.untitled.event.EntityChangedEvent.Action;
+import com.example.untitled.prskmusic.PrskMusicService;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ある時点の楽曲・アーティストの内容 (項目は各エンティティの auditState と同じ)
+ * 楽曲は削除されていないもののみ、アーティストは楽曲から参照されるため削除済みのものも持つ
+ * @param prskMusic : 楽曲 ID ごとの内容
+ * @param artists : アーティスト ID ごとの内容
+ * @param deletedArtistIds : 削除済みのアーティスト ID
+ */
+public record PrskMusicHistoryState(
+        Map<Long, Map<String, String>> prskMusic,
+        Map<Long, Map<String, String>> artists,
+        Set<Long> deletedArtistIds
+) {
+
+    /**
+     * 変更履歴の1行を反映する (変更日時の順に反映すること)
+     * 同じ変更を2回反映しても、後続の変更を順に反映すれば結果は変わらない
+     */
+    public void apply(AuditHistory history) {
+        Map<Long, Map<String, String>> target;
+        if (PrskMusicService.CATALOG_KEY.equals(history.getResource())) {
+            target = prskMusic;
+        } else if (ArtistService.CATALOG_KEY.equals(history.getResource())) {
+            target = artists;
+        } else {
+            return;
+        }
+
+        Long id = history.getEntityId();
+        if (Action.DELETED.getValue().equals(history.getAction())) {
+            if (target == artists) {
+                deletedArtistIds.add(id);
+            } else {
+                target.remove(id);
+            }
+            return;
+        }
+
+        // 更新の前に登録されていない (スナップショットにも無い) ものは復元できないため無視する
+        Map<String, String> state = Action.CREATED.getValue().equals(history.getAction())
+                ? target.computeIfAbsent(id, key -> new HashMap<>())
+                : target.get(id);
+        if (state != null && history.getFieldName() != null) {
+            state.put(history.getFieldName(), history.getNewValue());
+        }
+    }
+}
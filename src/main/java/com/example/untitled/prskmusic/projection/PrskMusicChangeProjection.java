@@ -0,0 +1,16 @@
+package com.example.untitled.prskmusic.projection;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 差分同期 (GET /prsk-music/changes) 用のプロジェクション
+ * @param id : 楽曲ID
+ * @param deleted : 論理削除されているか
+ * @param changedAt : 楽曲・アーティストのうち新しい方の更新日時
+ */
+public record PrskMusicChangeProjection(
+        Long id,
+        boolean deleted,
+        OffsetDateTime changedAt
+) {
+}
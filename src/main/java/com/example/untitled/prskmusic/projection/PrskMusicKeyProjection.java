@@ -0,0 +1,13 @@
+package com.example.untitled.prskmusic.projection;
+
+import com.example.untitled.prskmusic.enums.MusicType;
+
+/**
+ * 一括登録時の重複チェック用のプロジェクション
+ * 一意インデックスと同じく、論理削除されていない行だけが対象 (BaseEntity.ACTIVE_FILTER)
+ */
+public record PrskMusicKeyProjection(
+        String titleKey,
+        MusicType musicType
+) {
+}
@@ -0,0 +1,29 @@
+package com.example.untitled.prskmusic.projection;
+
+import com.example.untitled.prskmusic.enums.MusicType;
+
+import java.time.OffsetDateTime;
+
+/**
+ * プロセカ楽曲一覧の読み取り専用プロジェクション
+ * レスポンスに必要なカラムのみを取得し、エンティティを永続化コンテキストに載せない
+ */
+public record PrskMusicProjection(
+        Long id,
+        String title,
+        String artistName,
+        String unitName,
+        String content,
+        boolean artistDeleted,
+        MusicType musicType,
+        Boolean specially,
+        String lyricsName,
+        String musicName,
+        String featuring,
+        String youtubeLink,
+        OffsetDateTime createdAt,
+        String createdBy,
+        OffsetDateTime updatedAt,
+        String updatedBy
+) {
+}
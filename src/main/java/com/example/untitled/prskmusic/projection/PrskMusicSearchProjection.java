@@ -0,0 +1,13 @@
+package com.example.untitled.prskmusic.projection;
+
+/**
+ * 検索インデックス構築用のプロジェクション
+ * 検索対象のカラムのみを取得する
+ */
+public record PrskMusicSearchProjection(
+        Long id,
+        String title,
+        String lyricsName,
+        String musicName
+) {
+}
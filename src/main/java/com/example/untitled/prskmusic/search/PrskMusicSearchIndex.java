@@ -0,0 +1,320 @@
+package com.example.untitled.prskmusic.search;
+
+import com.example.untitled.common.util.TextNormalizer;
+import com.example.untitled.prskmusic.PrskMusicRepository;
+import com.example.untitled.prskmusic.projection.PrskMusicSearchProjection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * プロセカ楽曲のタイトル・作詞者・作曲者を対象とした n-gram 転置インデックス
+ * 日本語はわかち書きが無いため bigram で分割し、1文字の検索語は unigram で引く
+ * 読み込みはロックを取らず、書き込み(登録・更新・削除)のみ直列化する
+ * 再構築は新しいインデックスをロックの外で作り、読み込み中に変更された楽曲を反映してから差し替える
+ * 仮想スレッドのキャリアスレッドを固定(pinning)しないよう synchronized ではなく ReentrantLock を使う
+ */
+@Component
+@RequiredArgsConstructor
+public class PrskMusicSearchIndex {
+
+    private static final int TITLE_SCORE = 100;
+    private static final int TITLE_PREFIX_SCORE = 50;
+    private static final int TITLE_EXACT_SCORE = 100;
+    private static final int CREDIT_SCORE = 10;
+
+    private static final Comparator<Hit> HIT_ORDER = Comparator
+            .comparingInt(Hit::score).reversed()
+            .thenComparingInt(Hit::titleLength)
+            .thenComparingLong(Hit::id);
+
+    private final PrskMusicRepository prskMusicRepository;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // 検索が参照するインデックス (再構築では丸ごと差し替える)
+    private volatile Index index = new Index();
+    // 再構築の読み込み中に登録・更新・削除された楽曲ID (再構築中以外は null。writeLock で保護する)
+    private Set<Long> changedDuringRebuild;
+
+    /**
+     * 起動時に削除されていない楽曲からインデックスを構築する
+     * Web サーバーは ApplicationReadyEvent より前にリクエストを受け付けるため、読み込みの後にコミットされた
+     * 登録・更新・削除 (読み込んだ内容より新しい) は現在のインデックスの内容で上書きしてから差し替える
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Set<Long> changed = new HashSet<>();
+        writeLock.lock();
+        try {
+            changedDuringRebuild = changed;
+        } finally {
+            writeLock.unlock();
+        }
+
+        try {
+            // DB の読み込み(ブロッキング I/O)と構築はロックの外で行う
+            Index rebuilt = new Index();
+            for (PrskMusicSearchProjection music : prskMusicRepository.findAllSearchProjections()) {
+                rebuilt.add(music.id(), IndexedMusic.of(music.title(), music.lyricsName(), music.musicName()));
+            }
+
+            writeLock.lock();
+            try {
+                for (Long id : changed) {
+                    rebuilt.remove(id);
+                    IndexedMusic current = index.documents.get(id);
+                    if (current != null) {
+                        rebuilt.add(id, current);
+                    }
+                }
+                index = rebuilt;
+            } finally {
+                writeLock.unlock();
+            }
+        } finally {
+            writeLock.lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 楽曲をインデックスに登録する (既に登録済みの場合は置き換える)
+     * トランザクション中であればコミット後に反映する
+     */
+    public void put(Long id, String title, String lyricsName, String musicName) {
+        runAfterCommit(() -> replace(id, title, lyricsName, musicName));
+    }
+
+    /**
+     * 複数の楽曲をまとめてインデックスに登録する (一括登録用)
+     * トランザクション中であればコミット後に反映する
+     */
+    public void putAll(List<PrskMusicSearchProjection> musics) {
+        runAfterCommit(() -> musics.forEach(music ->
+                replace(music.id(), music.title(), music.lyricsName(), music.musicName())));
+    }
+
+    /**
+     * 楽曲をインデックスから削除する
+     * トランザクション中であればコミット後に反映する
+     */
+    public void remove(Long id) {
+        runAfterCommit(() -> removeNow(id));
+    }
+
+    /**
+     * @param query : 検索語
+     * @param page : ページ番号(0始まり)
+     * @param size : ページあたりのアイテム数
+     * @return スコア順に並べたページ内の楽曲IDと総ヒット数
+     */
+    public SearchResult search(String query, int page, int size) {
+        String normalizedQuery = TextNormalizer.normalize(query);
+        if (normalizedQuery.isEmpty()) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        // 検索中に再構築で差し替えられても同じインデックスを参照する
+        Index current = index;
+        List<Set<Long>> candidateLists = new ArrayList<>();
+        for (String gram : queryGrams(normalizedQuery)) {
+            Set<Long> ids = current.postings.get(gram);
+            if (ids == null) {
+                return new SearchResult(List.of(), 0);
+            }
+            candidateLists.add(ids);
+        }
+        // 最も件数の少ないポスティングを起点に積集合を取る
+        candidateLists.sort(Comparator.comparingInt(Set::size));
+
+        List<Hit> hits = new ArrayList<>();
+        for (Long id : candidateLists.get(0)) {
+            if (!containedInAll(id, candidateLists)) {
+                continue;
+            }
+            IndexedMusic music = current.documents.get(id);
+            if (music == null) {
+                continue;
+            }
+            // bigram の一致だけでは部分文字列とは限らないため、正規化済みの値で確認する
+            int score = music.score(normalizedQuery);
+            if (score > 0) {
+                hits.add(new Hit(id, score, music.title().length()));
+            }
+        }
+        hits.sort(HIT_ORDER);
+
+        int from = Math.min(page * size, hits.size());
+        int to = Math.min(from + size, hits.size());
+        List<Long> ids = hits.subList(from, to).stream().map(Hit::id).toList();
+        return new SearchResult(ids, hits.size());
+    }
+
+    public int size() {
+        return index.documents.size();
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    private void replace(Long id, String title, String lyricsName, String musicName) {
+        IndexedMusic music = IndexedMusic.of(title, lyricsName, musicName);
+        writeLock.lock();
+        try {
+            markChanged(id);
+            index.remove(id);
+            index.add(id, music);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void removeNow(Long id) {
+        writeLock.lock();
+        try {
+            markChanged(id);
+            index.remove(id);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // writeLock を取得した状態で呼ぶ
+    private void markChanged(Long id) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.add(id);
+        }
+    }
+
+    private static boolean containedInAll(Long id, List<Set<Long>> candidateLists) {
+        for (int i = 1; i < candidateLists.size(); i++) {
+            if (!candidateLists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 1文字の検索語にも対応するため unigram と bigram の両方を登録する
+    private static void addGrams(String text, Set<String> grams) {
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 2 <= text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+    }
+
+    private static Set<String> queryGrams(String query) {
+        if (query.length() == 1) {
+            return Set.of(query);
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= query.length(); i++) {
+            grams.add(query.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * 転置インデックス (検索語の n-gram → 楽曲ID) と楽曲ごとの正規化済みの値
+     * 書き込みは writeLock を取得した状態、または差し替える前のインデックスに対してのみ行う
+     */
+    private static final class Index {
+
+        private final ConcurrentHashMap<String, Set<Long>> postings = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Long, IndexedMusic> documents = new ConcurrentHashMap<>();
+
+        void add(Long id, IndexedMusic music) {
+            documents.put(id, music);
+            for (String gram : music.grams()) {
+                postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(id);
+            }
+        }
+
+        void remove(Long id) {
+            IndexedMusic music = documents.remove(id);
+            if (music == null) {
+                return;
+            }
+            for (String gram : music.grams()) {
+                postings.computeIfPresent(gram, (key, ids) -> {
+                    ids.remove(id);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+    }
+
+    private record IndexedMusic(String title, String lyricsName, String musicName, Set<String> grams) {
+
+        static IndexedMusic of(String title, String lyricsName, String musicName) {
+            String normalizedTitle = TextNormalizer.normalize(title);
+            String normalizedLyricsName = TextNormalizer.normalize(lyricsName);
+            String normalizedMusicName = TextNormalizer.normalize(musicName);
+
+            Set<String> grams = new HashSet<>();
+            addGrams(normalizedTitle, grams);
+            addGrams(normalizedLyricsName, grams);
+            addGrams(normalizedMusicName, grams);
+            return new IndexedMusic(normalizedTitle, normalizedLyricsName, normalizedMusicName, grams);
+        }
+
+        int score(String query) {
+            int score = 0;
+            if (title.contains(query)) {
+                score += TITLE_SCORE;
+                if (title.startsWith(query)) {
+                    score += TITLE_PREFIX_SCORE;
+                }
+                if (title.equals(query)) {
+                    score += TITLE_EXACT_SCORE;
+                }
+            }
+            if (lyricsName.contains(query)) {
+                score += CREDIT_SCORE;
+            }
+            if (musicName.contains(query)) {
+                score += CREDIT_SCORE;
+            }
+            return score;
+        }
+    }
+
+    private record Hit(long id, int score, int titleLength) {
+    }
+
+    /**
+     * 検索結果
+     * @param ids : ページ内の楽曲ID (スコア順)
+     * @param totalHits : 総ヒット数
+     */
+    public record SearchResult(List<Long> ids, long totalHits) {
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.untitled.prskmusic.snapshot;
+
+import com.example.untitled.artist.ArtistService;
+import com.example.untitled.common.cache.CatalogChangedEvent;
+import com.example.untitled.prskmusic.PrskMusicService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 全楽曲のスナップショット (GET /prsk-music/snapshot)
+ *
+ * <p>楽曲・アーティストの更新がコミットされると、debounce-millis の間の更新をまとめて1回だけ
+ * 全件を JSON と gzip のファイルに書き出す。書き出したファイルはメモリマップし、
+ * リクエストごとの DB アクセスやレスポンス全体のヒープへの読み込みは行わない。</p>
+ *
+ * <p>Tomcat の sendfile が使える場合はファイルをそのまま(ゼロコピーで)送信する。
+ * 送信中のファイルを消さないよう、1つ前の世代のファイルまでは残す。</p>
+ */
+@Slf4j
+@Component
+public class PrskMusicSnapshot implements DisposableBean {
+
+    private static final String FILE_PREFIX = "prsk-music-";
+    private static final String JSON_SUFFIX = ".json";
+    private static final String GZIP_SUFFIX = ".json.gz";
+    private static final int BUFFER_SIZE = 8192;
+
+    // Tomcat の sendfile 用のリクエスト属性 (org.apache.coyote.Constants)
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private static final Set<String> SOURCE_CATALOGS = Set.of(PrskMusicService.CATALOG_KEY, ArtistService.CATALOG_KEY);
+
+    private final PrskMusicService prskMusicService;
+    private final Path directory;
+    private final long debounceMillis;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("prsk-music-snapshot").daemon().factory()
+    );
+    private final AtomicBoolean renderScheduled = new AtomicBoolean();
+    // 再起動後に以前のファイル名と重ならないよう起動時刻から数える
+    private final AtomicLong generation = new AtomicLong(System.currentTimeMillis());
+
+    private volatile Snapshot current;
+    private volatile Snapshot previous;
+
+    public PrskMusicSnapshot(
+            PrskMusicService prskMusicService,
+            @Value("${app.prsk-music.snapshot.directory:}") String directory,
+            @Value("${app.prsk-music.snapshot.debounce-millis:2000}") long debounceMillis
+    ) throws IOException {
+        this.prskMusicService = prskMusicService;
+        this.directory = directory.isBlank()
+                ? Files.createTempDirectory("prsk-music-snapshot")
+                : Files.createDirectories(Path.of(directory));
+        this.debounceMillis = debounceMillis;
+    }
+
+    /**
+     * @return 最新のスナップショット (起動直後でまだ書き出していない場合は null)
+     */
+    public Snapshot current() {
+        return current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void renderOnStartup() {
+        scheduleRender(0);
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (SOURCE_CATALOGS.contains(event.key())) {
+            scheduleRender(debounceMillis);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    // 書き出し待ちの間に来た更新は同じ書き出しにまとめる
+    private void scheduleRender(long delayMillis) {
+        if (renderScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::render, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    void render() {
+        // 書き出し中に来た更新は次の書き出しで反映する
+        renderScheduled.set(false);
+
+        long number = generation.incrementAndGet();
+        Path jsonFile = directory.resolve(FILE_PREFIX + number + JSON_SUFFIX);
+        Path gzipFile = directory.resolve(FILE_PREFIX + number + GZIP_SUFFIX);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (OutputStream out = new DigestOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(jsonFile), BUFFER_SIZE), digest)) {
+                prskMusicService.writeSnapshot(out);
+            }
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(gzipFile), BUFFER_SIZE)) {
+                Files.copy(jsonFile, out);
+            }
+
+            // 圧縮形式ごとに別の表現になるため、強い ETag も分ける
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Snapshot rendered = new Snapshot(
+                    Representation.map(jsonFile, "\"" + hash + "\""),
+                    Representation.map(gzipFile, "\"" + hash + "-gzip\""),
+                    System.currentTimeMillis()
+            );
+            previous = current;
+            current = rendered;
+            deleteStaleFiles();
+        } catch (IOException | NoSuchAlgorithmException | RuntimeException e) {
+            log.warn("Failed to render prsk music snapshot. Keeping the previous snapshot.", e);
+            deleteQuietly(jsonFile);
+            deleteQuietly(gzipFile);
+        }
+    }
+
+    private void deleteStaleFiles() throws IOException {
+        Snapshot latest = current;
+        Snapshot prior = previous;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_PREFIX + "*")) {
+            for (Path file : files) {
+                if (!latest.contains(file) && (prior == null || !prior.contains(file))) {
+                    deleteQuietly(file);
+                }
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete {}", file, e);
+        }
+    }
+
+    /**
+     * @param json : 非圧縮の JSON
+     * @param gzip : gzip で圧縮した JSON
+     * @param generatedAt : 書き出した日時 (Last-Modified)
+     */
+    public record Snapshot(Representation json, Representation gzip, long generatedAt) {
+
+        private boolean contains(Path file) {
+            return json.path().equals(file) || gzip.path().equals(file);
+        }
+    }
+
+    /**
+     * 書き出し済みのファイル (圧縮形式ごと)
+     * @param path : ファイルのパス
+     * @param content : メモリマップしたファイルの内容
+     * @param etag : 強い ETag
+     */
+    public record Representation(Path path, MappedByteBuffer content, String etag) {
+
+        public static Representation map(Path path, String etag) throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                return new Representation(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), etag);
+            }
+        }
+
+        public long length() {
+            return content.capacity();
+        }
+
+        /**
+         * Tomcat の sendfile を使えるリクエストであれば、ファイルの送信を Tomcat に任せる
+         * (この場合はレスポンスボディを書き込まないこと)
+         * @return sendfile を使う場合は true
+         */
+        public boolean trySendfile(HttpServletRequest request) {
+            if (!Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+                return false;
+            }
+            // Tomcat は正規化されたパスしか受け付けない
+            try {
+                request.setAttribute(SENDFILE_FILENAME_ATTR, path.toRealPath().toString());
+            } catch (IOException e) {
+                return false;
+            }
+            request.setAttribute(SENDFILE_START_ATTR, 0L);
+            request.setAttribute(SENDFILE_END_ATTR, length());
+            return true;
+        }
+
+        /**
+         * メモリマップした内容を書き出す (ヒープへのコピーは一定サイズのバッファ単位)
+         */
+        public void writeTo(OutputStream outputStream) throws IOException {
+            Channels.newChannel(outputStream).write(content.duplicate());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.untitled.system;
+
+import com.example.untitled.system.dto.CacheRegionListResponse;
+import com.example.untitled.system.dto.CacheRegionResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/cache-regions")
+public class CacheAdminController {
+
+    private final CacheAdminService cacheAdminService;
+
+    // GET /admin/cache-regions : 2次キャッシュのリージョン統計一覧取得 - Get cache region statistics
+    @GetMapping
+    public ResponseEntity<CacheRegionListResponse> getCacheRegions() {
+        CacheRegionListResponse response = cacheAdminService.getCacheRegions();
+        return ResponseEntity.status(HttpStatus.OK).cacheControl(CacheControl.noStore()).body(response);
+    }
+
+    // GET /admin/cache-regions/{region} : 2次キャッシュのリージョン統計取得 - Get cache region statistics
+    @GetMapping("/{region}")
+    public ResponseEntity<CacheRegionResponse> getCacheRegion(
+            @PathVariable String region
+    ) {
+        CacheRegionResponse response = cacheAdminService.getCacheRegion(region);
+        return ResponseEntity.status(HttpStatus.OK).cacheControl(CacheControl.noStore()).body(response);
+    }
+
+    // DELETE /admin/cache-regions : 全リージョンのキャッシュ削除 - Evict all cache regions
+    @DeleteMapping
+    public ResponseEntity<Void> evictAllCacheRegions() {
+        cacheAdminService.evictAllCacheRegions();
+        return ResponseEntity.noContent().build();
+    }
+
+    // DELETE /admin/cache-regions/{region} : リージョンのキャッシュ削除 - Evict cache region
+    @DeleteMapping("/{region}")
+    public ResponseEntity<Void> evictCacheRegion(
+            @PathVariable String region
+    ) {
+        cacheAdminService.evictCacheRegion(region);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.untitled.system;
+
+import com.example.untitled.system.dto.CacheRegionListResponse;
+import com.example.untitled.system.dto.CacheRegionResponse;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.CacheImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+
+/**
+ * Hibernate 2次キャッシュのリージョンの参照・削除
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheAdminService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public CacheRegionListResponse getCacheRegions() {
+        SessionFactory sessionFactory = sessionFactory();
+        Statistics statistics = sessionFactory.getStatistics();
+        // Statistics#getSecondLevelCacheRegionNames はエンティティのリージョンのみのため、クエリキャッシュも含めて取得する
+        return CacheRegionListResponse.from(sessionFactory.getCache().unwrap(CacheImplementor.class)
+                .getCacheRegionNames()
+                .stream()
+                .sorted()
+                .map(statistics::getCacheRegionStatistics)
+                // 統計を持たないリージョン(更新時刻の管理用など)は除外する
+                .filter(Objects::nonNull)
+                .map(CacheRegionResponse::from)
+                .toList());
+    }
+
+    public CacheRegionResponse getCacheRegion(String regionName) {
+        return CacheRegionResponse.from(findRegionStatistics(regionName));
+    }
+
+    public void evictCacheRegion(String regionName) {
+        findRegionStatistics(regionName);
+        sessionFactory().getCache().evictRegion(regionName);
+    }
+
+    public void evictAllCacheRegions() {
+        sessionFactory().getCache().evictAllRegions();
+    }
+
+    private CacheRegionStatistics findRegionStatistics(String regionName) {
+        CacheRegionStatistics statistics = sessionFactory().getStatistics().getCacheRegionStatistics(regionName);
+        if (statistics == null) {
+            throw new EntityNotFoundException("Cache region not found: " + regionName);
+        }
+        return statistics;
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+}
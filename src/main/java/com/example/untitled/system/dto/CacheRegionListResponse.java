@@ -0,0 +1,23 @@
+package com.example.untitled.system.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 2次キャッシュのリージョン統計レスポンス for GET
+ */
+@Getter
+@Builder
+public class CacheRegionListResponse {
+
+    /** リージョンリスト **/
+    private final List<CacheRegionResponse> items;
+
+    public static CacheRegionListResponse from(List<CacheRegionResponse> items) {
+        return CacheRegionListResponse.builder()
+                .items(items)
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.untitled.system.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.hibernate.stat.CacheRegionStatistics;
+
+/**
+ * 2次キャッシュのリージョン統計レスポンス
+ */
+@Getter
+@Builder
+public class CacheRegionResponse {
+
+    /** リージョン名 **/
+    private final String regionName;
+
+    /** ヒット数 **/
+    private final long hitCount;
+
+    /** ミス数 **/
+    private final long missCount;
+
+    /** 格納数 **/
+    private final long putCount;
+
+    /** ヒット率 (参照が無い場合は 0) **/
+    private final double hitRatio;
+
+    /** メモリ上の要素数 (プロバイダーが対応していない場合は -1) **/
+    private final long elementCountInMemory;
+
+    public static CacheRegionResponse from(CacheRegionStatistics statistics) {
+        long lookups = statistics.getHitCount() + statistics.getMissCount();
+        return CacheRegionResponse.builder()
+                .regionName(statistics.getRegionName())
+                .hitCount(statistics.getHitCount())
+                .missCount(statistics.getMissCount())
+                .putCount(statistics.getPutCount())
+                .hitRatio(lookups == 0 ? 0 : (double) statistics.getHitCount() / lookups)
+                .elementCountInMemory(statistics.getElementCountInMemory())
+                .build();
+    }
+}
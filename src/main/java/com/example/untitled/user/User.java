@@ -5,8 +5,13 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Entity
-@Table(name = "m_users")
+@Table(name = "m_users", indexes = {
+        @Index(name = "idx_m_users_updated_at", columnList = "updated_at")
+})
 @Data
 @EqualsAndHashCode(callSuper = true)
 public class User extends BaseEntity {
@@ -16,9 +21,19 @@ public class User extends BaseEntity {
     @SequenceGenerator(name = "m_users_seq", sequenceName = "m_users_id_seq", allocationSize = 1)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 20)
+    // 論理削除されていない行の中で一意 (ActiveUniqueIndex.USER_NAME)
+    @Column(nullable = false, length = 20)
     private String userName;
 
     @Column(nullable = false, length = 20)
     private String password;
+
+    /**
+     * 変更履歴 (AuditRecord) に記録する項目 (パスワードは履歴に残さない)
+     */
+    public Map<String, String> auditState() {
+        Map<String, String> state = new LinkedHashMap<>();
+        state.put("userName", userName);
+        return state;
+    }
 }
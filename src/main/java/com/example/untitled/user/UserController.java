@@ -1,5 +1,7 @@
 package com.example.untitled.user;
 
+import com.example.untitled.common.dto.ListVersion;
+import com.example.untitled.common.enums.TotalMode;
 import com.example.untitled.user.dto.UserListResponse;
 import com.example.untitled.user.dto.UserRequest;
 import com.example.untitled.user.dto.UserResponse;
@@ -7,10 +9,12 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 
 
@@ -29,10 +33,22 @@ public class UserController {
             @Min(value = 1, message = "Page must be 1 or greater") Integer page,
             @RequestParam(required = false, defaultValue = "20")
             @Min(value = 1, message = "Limit must be at least 1")
-            @Max(value = 100, message = "Limit must not exceed 100") Integer limit
+            @Max(value = 100, message = "Limit must not exceed 100") Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "exact") String total,
+            WebRequest webRequest
     ) {
-        UserListResponse response = userService.getAllUsers(page - 1, limit, "userName", "ASC");
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+        // 一覧が更新されていなければページを組み立てずに 304 を返す
+        ListVersion listVersion = userService.getListVersion();
+        if (webRequest.checkNotModified(listVersion.etag(page, limit, cursor, total), listVersion.lastModifiedMillis())) {
+            return null;
+        }
+
+        // cursor が指定された場合はカーソル方式 (空文字は先頭ページ)
+        UserListResponse response = cursor != null
+                ? userService.getUsersByCursor(cursor, limit)
+                : userService.getAllUsers(page - 1, limit, "userName", "ASC", TotalMode.fromValue(total));
+        return ResponseEntity.status(HttpStatus.OK).cacheControl(CacheControl.noCache()).body(response);
     }
 
     // POST /users : ユーザー情報の登録 - Register user information
@@ -1,18 +1,55 @@
 package com.example.untitled.user;
 
+import com.example.untitled.user.projection.UserProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
-    Page<User> findByIsDeleted(boolean isDeleted, Pageable pageable);
+    // 一覧取得はレスポンスに必要なカラムのみをプロジェクションとして取得する (パスワードは読み込まない)
+    String PROJECTION_SELECT = "SELECT new com.example.untitled.user.projection.UserProjection("
+            + "u.id, u.userName, u.createdAt, u.createdBy, u.updatedAt, u.updatedBy)"
+            + " FROM User u";
 
-    Optional<User> findByUserNameAndIsDeleted(String userName, boolean isDeleted);
+    // 論理削除された行は BaseEntity.ACTIVE_FILTER で除外される (件数は JpaRepository.count を使う)
+    @Query(value = PROJECTION_SELECT, countQuery = "SELECT count(u) FROM User u")
+    Page<UserProjection> findAllProjections(Pageable pageable);
 
-    Optional<User> findByIdAndIsDeleted(Long id, boolean isDeleted);
+    // total=estimate|none 用 (COUNT クエリを実行しない)
+    @Query(PROJECTION_SELECT)
+    Slice<UserProjection> findSliceProjections(Pageable pageable);
+
+    // 一覧の Last-Modified 用 (論理削除も updated_at を更新するため、SoftDeleteFilter.includingDeleted 内で呼んで削除済みも含める)
+    @Query("SELECT max(u.updatedAt) FROM User u")
+    OffsetDateTime findLatestUpdatedAt();
+
+    // カーソル方式の先頭ページ (userName, id の昇順)
+    @Query(PROJECTION_SELECT + " ORDER BY u.userName ASC, u.id ASC")
+    List<UserProjection> findKeysetFirstPage(Pageable pageable);
+
+    // カーソル方式の次ページ (OFFSET を使わず (userName, id) でシークする)
+    @Query(PROJECTION_SELECT
+            + " WHERE u.userName > :userName OR (u.userName = :userName AND u.id > :id)"
+            + " ORDER BY u.userName ASC, u.id ASC")
+    List<UserProjection> findKeysetNextPage(
+            @Param("userName") String userName,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    Optional<User> findByUserName(String userName);
+
+    // findById (主キーでの直接読み込み) には論理削除のフィルタが掛からないため、クエリで取得する
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findActiveById(@Param("id") Long id);
 }
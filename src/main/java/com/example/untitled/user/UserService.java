@@ -1,61 +1,120 @@
 package com.example.untitled.user;
 
+import com.example.untitled.audit.AuditRecord;
+import com.example.untitled.common.cache.CatalogVersion;
+import com.example.untitled.common.cache.TotalCountCache;
 import com.example.untitled.common.dto.ErrorDetails;
-import com.example.untitled.common.exception.DuplicationResourceException;
+import com.example.untitled.common.dto.ListVersion;
+import com.example.untitled.common.entity.ActiveIndexInitializer;
+import com.example.untitled.common.entity.ActiveUniqueIndex;
+import com.example.untitled.common.entity.SoftDeleteFilter;
+import com.example.untitled.common.enums.TotalMode;
 import com.example.untitled.common.exception.UnauthorizedException;
+import com.example.untitled.common.util.CursorCodec;
+import com.example.untitled.event.EntityChangedEvent;
 import com.example.untitled.user.dto.UserListResponse;
 import com.example.untitled.user.dto.UserRequest;
 import com.example.untitled.user.dto.UserResponse;
+import com.example.untitled.user.projection.UserProjection;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class UserService {
 
+    private static final String CATALOG_KEY = "user";
+
     private final UserRepository userRepository;
+    private final TotalCountCache totalCountCache;
+    private final CatalogVersion catalogVersion;
+    private final SoftDeleteFilter softDeleteFilter;
+    private final ActiveIndexInitializer activeIndexInitializer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * ユーザー一覧の ETag / Last-Modified の判定材料を返す
+     * 削除も一覧の変更として扱うため、削除済みの行も含めた更新日時を使う
+     */
+    @Transactional(readOnly = true)
+    public ListVersion getListVersion() {
+        return new ListVersion(
+                catalogVersion.current(CATALOG_KEY),
+                softDeleteFilter.includingDeleted(userRepository::findLatestUpdatedAt)
+        );
+    }
 
     @Transactional(readOnly = true)
-    public UserListResponse getAllUsers(int page, int size, String sortBy, String direction) {
+    public UserListResponse getAllUsers(
+            int page, int size, String sortBy, String direction, TotalMode totalMode
+    ) {
         Sort.Direction sortDirection = direction.equalsIgnoreCase("DESC")
                 ? Sort.Direction.DESC : Sort.Direction.ASC;
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
-        Page<User> userPage = userRepository.findByIsDeleted(false, pageable);
-        return UserListResponse.from(userPage);
+        if (totalMode == TotalMode.EXACT) {
+            Page<UserProjection> userPage = userRepository.findAllProjections(pageable);
+            return UserListResponse.from(userPage);
+        }
+
+        Slice<UserProjection> userSlice = userRepository.findSliceProjections(pageable);
+        Long estimatedTotal = totalMode == TotalMode.ESTIMATE
+                ? totalCountCache.get(CATALOG_KEY, () -> userRepository.count())
+                : null;
+        return UserListResponse.from(userSlice, estimatedTotal, totalMode);
     }
 
-    public UserResponse createUser(UserRequest reqDto) {
-        userRepository.findByUserNameAndIsDeleted(reqDto.getUserName(), false)
-                .ifPresent(user -> {
-                    throw new DuplicationResourceException(
-                            "Conflict detected",
-                            List.of(new ErrorDetails(
-                                    "userName",
-                                    "User name already exist: " + reqDto.getUserName()
-                            ))
-                    );
-                });
+    @Transactional(readOnly = true)
+    public UserListResponse getUsersByCursor(String cursor, int size) {
+        CursorCodec.Position position = CursorCodec.decode(cursor);
+
+        // 次ページの有無を判定するため1件多く取得する
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<UserProjection> userList = position == null
+                ? userRepository.findKeysetFirstPage(pageable)
+                : userRepository.findKeysetNextPage(position.sortValue(), position.id(), pageable);
+        return UserListResponse.from(userList, size);
+    }
 
+    public UserResponse createUser(UserRequest reqDto) {
         User user = new User();
         user.setUserName(reqDto.getUserName());
         user.setPassword(reqDto.getPassword());
 
-        return UserResponse.from(userRepository.save(user));
+        // 重複は部分一意インデックスで検出する (同時登録でも1件だけが成功する)
+        // 既存データの重複でインデックスを作成できなかった場合は登録前にチェックする
+        if (!activeIndexInitializer.isEnforced(ActiveUniqueIndex.USER_NAME)) {
+            userRepository.findByUserName(reqDto.getUserName())
+                    .ifPresent(existUser -> {
+                        throw ActiveUniqueIndex.USER_NAME.conflict(reqDto.getUserName());
+                    });
+        }
+        // 件数キャッシュ等を更新する前に違反を検出するため、ここで INSERT を発行する
+        UserResponse response = UserResponse.from(ActiveUniqueIndex.USER_NAME.insert(
+                reqDto.getUserName(), () -> userRepository.saveAndFlush(user)
+        ));
+        totalCountCache.adjust(CATALOG_KEY, 1);
+        catalogVersion.bump(CATALOG_KEY);
+        eventPublisher.publishEvent(EntityChangedEvent.created(CATALOG_KEY, response.getId()));
+        eventPublisher.publishEvent(AuditRecord.created(CATALOG_KEY, response.getId(), user.auditState()));
+        return response;
     }
 
     public UserResponse updateUser(Long id, UserRequest reqDto) {
         // IDで既存ユーザーを検索（削除されていないもの）
-        User existingUser = userRepository.findByIdAndIsDeleted(id, false)
+        User existingUser = userRepository.findActiveById(id)
                 .orElseThrow(() -> new EntityNotFoundException(
                         "User not found with id: " + id
                 ));
@@ -72,31 +131,34 @@ public class UserService {
         }
 
         // 他のユーザーと同じuserNameに更新しようとしていないか確認
-        userRepository.findByUserNameAndIsDeleted(reqDto.getUserName(), false)
+        userRepository.findByUserName(reqDto.getUserName())
                 .ifPresent(user -> {
                     if (!user.getId().equals(id)) {
-                        throw new DuplicationResourceException(
-                                "Conflict detected",
-                                List.of(new ErrorDetails(
-                                        "userName",
-                                        "User name already exist: " + reqDto.getUserName()
-                                ))
-                        );
+                        throw ActiveUniqueIndex.USER_NAME.conflict(reqDto.getUserName());
                     }
                 });
 
         // ユーザー情報を更新
+        Map<String, String> before = existingUser.auditState();
         existingUser.setUserName(reqDto.getUserName());
         existingUser.setPassword(reqDto.getPassword());
 
-        return UserResponse.from(userRepository.save(existingUser));
+        UserResponse response = UserResponse.from(userRepository.save(existingUser));
+        catalogVersion.bump(CATALOG_KEY);
+        eventPublisher.publishEvent(EntityChangedEvent.updated(CATALOG_KEY, response.getId()));
+        eventPublisher.publishEvent(AuditRecord.updated(CATALOG_KEY, id, before, existingUser.auditState()));
+        return response;
     }
 
     public void deleteUser(Long id) {
-        User user = userRepository.findByIdAndIsDeleted(id, false)
+        User user = userRepository.findActiveById(id)
                 .orElseThrow(() -> new EntityNotFoundException("User not found for id: " + id));
 
         user.setDeleted(true);
         userRepository.save(user);
+        totalCountCache.adjust(CATALOG_KEY, -1);
+        catalogVersion.bump(CATALOG_KEY);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(CATALOG_KEY, id));
+        eventPublisher.publishEvent(AuditRecord.deleted(CATALOG_KEY, id));
     }
 }
@@ -1,10 +1,13 @@
 package com.example.untitled.user.dto;
 
 import com.example.untitled.common.dto.MetaInfo;
-import com.example.untitled.user.User;
+import com.example.untitled.common.enums.TotalMode;
+import com.example.untitled.common.util.CursorCodec;
+import com.example.untitled.user.projection.UserProjection;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -21,7 +24,7 @@ public class UserListResponse {
     /** メタ情報 **/
     private final MetaInfo meta;
 
-    public static UserListResponse from(Page<User> userPage) {
+    public static UserListResponse from(Page<UserProjection> userPage) {
         List<UserResponse> items = userPage.getContent().stream()
                 .map(UserResponse::from)
                 .toList();
@@ -33,4 +36,48 @@ public class UserListResponse {
                 .meta(meta)
                 .build();
     }
+
+    /**
+     * COUNT(*) を実行しない一覧のレスポンスを作成する
+     * @param userSlice : 取得したスライス
+     * @param estimatedTotal : キャッシュ済みの件数 (total=none の場合は null)
+     * @param totalMode : 総アイテム数の算出方法
+     */
+    public static UserListResponse from(Slice<UserProjection> userSlice, Long estimatedTotal, TotalMode totalMode) {
+        List<UserResponse> items = userSlice.getContent().stream()
+                .map(UserResponse::from)
+                .toList();
+
+        MetaInfo meta = MetaInfo.from(userSlice, estimatedTotal, totalMode);
+
+        return UserListResponse.builder()
+                .items(items)
+                .meta(meta)
+                .build();
+    }
+
+    /**
+     * カーソル方式のレスポンスを作成する
+     * @param userList : limit + 1 件まで取得したユーザーリスト
+     * @param limit : ページあたりのアイテム数
+     */
+    public static UserListResponse from(List<UserProjection> userList, int limit) {
+        boolean hasNext = userList.size() > limit;
+        List<UserProjection> content = hasNext ? userList.subList(0, limit) : userList;
+
+        List<UserResponse> items = content.stream()
+                .map(UserResponse::from)
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            UserProjection last = content.get(content.size() - 1);
+            nextCursor = CursorCodec.encode(last.userName(), last.id());
+        }
+
+        return UserListResponse.builder()
+                .items(items)
+                .meta(MetaInfo.fromCursor(limit, nextCursor))
+                .build();
+    }
 }
@@ -2,6 +2,7 @@ package com.example.untitled.user.dto;
 
 import com.example.untitled.common.dto.AuditInfo;
 import com.example.untitled.user.User;
+import com.example.untitled.user.projection.UserProjection;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -28,4 +29,17 @@ public class UserResponse {
                 .auditInfo(AuditInfo.from(user))
                 .build();
     }
+
+    public static UserResponse from(UserProjection projection) {
+        return UserResponse.builder()
+                .id(projection.id())
+                .userName(projection.userName())
+                .auditInfo(new AuditInfo(
+                        projection.createdAt(),
+                        projection.createdBy(),
+                        projection.updatedAt(),
+                        projection.updatedBy()
+                ))
+                .build();
+    }
 }
@@ -0,0 +1,17 @@
+package com.example.untitled.user.projection;
+
+import java.time.OffsetDateTime;
+
+/**
+ * ユーザー一覧の読み取り専用プロジェクション
+ * レスポンスに必要なカラムのみを取得する (パスワードは読み込まない)
+ */
+public record UserProjection(
+        Long id,
+        String userName,
+        OffsetDateTime createdAt,
+        String createdBy,
+        OffsetDateTime updatedAt,
+        String updatedBy
+) {
+}
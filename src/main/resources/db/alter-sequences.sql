@@ -0,0 +1,4 @@
+-- allocationSize と INCREMENT BY が一致しないと Hibernate の起動時チェックで失敗するため、
+-- allocationSize = 1 の時代に作成されたシーケンスの増分をエンティティ定義に合わせる
+-- (新規 DB ではシーケンスがまだ無いため何もしない。Hibernate が INCREMENT BY 50 で作成する)
+ALTER SEQUENCE IF EXISTS m_prsk_music_id_seq INCREMENT BY 50;
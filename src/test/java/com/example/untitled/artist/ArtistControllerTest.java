@@ -2,12 +2,18 @@ package com.example.untitled.artist;
 
 import com.example.untitled.artist.dto.ArtistListResponse;
 import com.example.untitled.artist.dto.ArtistResponse;
+import com.example.untitled.artist.projection.ArtistProjection;
 import com.example.untitled.common.dto.ErrorDetails;
+import com.example.untitled.common.dto.ListVersion;
+import com.example.untitled.common.entity.ActiveUniqueIndex;
+import com.example.untitled.common.enums.TotalMode;
 import com.example.untitled.common.exception.DuplicationResourceException;
 import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -15,6 +21,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.List;
 
@@ -24,6 +31,7 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -36,6 +44,17 @@ public class ArtistControllerTest {
     @MockitoBean
     private ArtistService artistService;
 
+    @BeforeEach
+    void setUpListVersion() {
+        when(artistService.getListVersion()).thenReturn(
+                new ListVersion("0-0", OffsetDateTime.parse("2025-01-01T00:00:00Z"))
+        );
+    }
+
+    private ArtistProjection createMockArtistProjection(Long id, String artistName, String unitName, String content) {
+        return new ArtistProjection(id, artistName, unitName, content, null, null, null, null);
+    }
+
     /**
      * POST /artists : Response success
      */
@@ -100,6 +119,58 @@ public class ArtistControllerTest {
                 .andExpect(jsonPath("$.details[0].field").value("artistName"));
     }
 
+    /**
+     * POST /artists : Conflict
+     * 同時登録で登録アーティスト名の部分一意インデックスに違反した場合も 409 を返す
+     */
+    @Test
+    public void createArtistError_withConflict_UniqueIndexViolation() throws Exception {
+        when(artistService.createArtist(any()))
+                .thenThrow(new DataIntegrityViolationException(
+                        "duplicate key value violates unique constraint \"" + ActiveUniqueIndex.ARTIST_NAME.getIndexName() + "\""
+                ));
+
+        String reqBody = """
+                {
+                    "artistName": "Test artist name"
+                }
+                """;
+
+        mvcMock.perform(post("/artists")
+                        .header("x-api-key", "test-api-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(reqBody))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.details[0].field").value("artistName"));
+    }
+
+    /**
+     * POST /artists : Internal Server Error
+     * 部分一意インデックス以外の整合性違反は 500 のエラーレスポンスを返す
+     */
+    @Test
+    public void createArtistError_withInternalServerError_OtherIntegrityViolation() throws Exception {
+        when(artistService.createArtist(any()))
+                .thenThrow(new DataIntegrityViolationException(
+                        "value too long for type character varying(150)"
+                ));
+
+        String reqBody = """
+                {
+                    "artistName": "Test artist name"
+                }
+                """;
+
+        mvcMock.perform(post("/artists")
+                        .header("x-api-key", "test-api-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(reqBody))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.statusCode").value(500))
+                .andExpect(jsonPath("$.error").value("INTERNAL_SERVER_ERROR"))
+                .andExpect(jsonPath("$.message").value("Internal server error"));
+    }
+
     /**
      * POST /artists : Response BadRequest
      * Request body validation error
@@ -136,7 +207,7 @@ public class ArtistControllerTest {
         when(artistService.createArtist(any()))
                 .thenThrow(new DuplicationResourceException(
                         "Conflict detected",
-                        List.of(new ErrorDetails("artistName", "Artist name already exist"))
+                        List.of(new ErrorDetails("artistName", "Artist name already exist: Test artist name"))
                 ));
 
         String reqBody = """
@@ -162,25 +233,16 @@ public class ArtistControllerTest {
      */
     @Test
     public void getArtistsListSuccess() throws Exception {
-        Artist artist1 = new Artist();
-        artist1.setId(1L);
-        artist1.setArtistName("Artist 1");
-        artist1.setUnitName("Unit 1");
-        artist1.setContent("Content 1");
-
-        Artist artist2 = new Artist();
-        artist2.setId(2L);
-        artist2.setArtistName("Artist 2");
-        artist2.setUnitName("Unit 2");
-        artist2.setContent("Content 2");
-
-        Page<Artist> artistPage = new PageImpl<>(
+        ArtistProjection artist1 = createMockArtistProjection(1L, "Artist 1", "Unit 1", "Content 1");
+        ArtistProjection artist2 = createMockArtistProjection(2L, "Artist 2", "Unit 2", "Content 2");
+
+        Page<ArtistProjection> artistPage = new PageImpl<>(
                 Arrays.asList(artist1, artist2),
                 PageRequest.of(0, 20),
                 2
         );
 
-        when(artistService.getAllArtists(0, 20, "artistName", "ASC")).thenReturn(ArtistListResponse.from(artistPage));
+        when(artistService.getAllArtists(0, 20, "artistName", "ASC", TotalMode.EXACT)).thenReturn(ArtistListResponse.from(artistPage));
 
         mvcMock.perform(get("/artists")
                         .header("x-api-key", "test-api-key"))
@@ -195,7 +257,7 @@ public class ArtistControllerTest {
                 .andExpect(jsonPath("$.meta.totalItems").value(2))
                 .andExpect(jsonPath("$.meta.limit").value(20));
 
-        verify(artistService, times(1)).getAllArtists(0, 20, "artistName", "ASC");
+        verify(artistService, times(1)).getAllArtists(0, 20, "artistName", "ASC", TotalMode.EXACT);
     }
 
     /**
@@ -204,33 +266,19 @@ public class ArtistControllerTest {
      */
     @Test
     public void getArtistsListSuccess_WithPaginationParams() throws Exception {
-        Artist artist1 = new Artist();
-        artist1.setId(11L);
-        artist1.setArtistName("Artist 11");
-
-        Artist artist2 = new Artist();
-        artist2.setId(12L);
-        artist2.setArtistName("Artist 12");
-
-        Artist artist3 = new Artist();
-        artist3.setId(13L);
-        artist3.setArtistName("Artist 13");
-
-        Artist artist4 = new Artist();
-        artist4.setId(14L);
-        artist4.setArtistName("Artist 14");
-
-        Artist artist5 = new Artist();
-        artist5.setId(15L);
-        artist5.setArtistName("Artist 15");
+        ArtistProjection artist1 = createMockArtistProjection(11L, "Artist 11", null, null);
+        ArtistProjection artist2 = createMockArtistProjection(12L, "Artist 12", null, null);
+        ArtistProjection artist3 = createMockArtistProjection(13L, "Artist 13", null, null);
+        ArtistProjection artist4 = createMockArtistProjection(14L, "Artist 14", null, null);
+        ArtistProjection artist5 = createMockArtistProjection(15L, "Artist 15", null, null);
 
-        Page<Artist> artistPage = new PageImpl<>(
+        Page<ArtistProjection> artistPage = new PageImpl<>(
                 List.of(artist1, artist2, artist3, artist4, artist5),
                 PageRequest.of(1, 10),
                 15
         );
 
-        when(artistService.getAllArtists(1, 10, "artistName", "ASC")).thenReturn(ArtistListResponse.from(artistPage));
+        when(artistService.getAllArtists(1, 10, "artistName", "ASC", TotalMode.EXACT)).thenReturn(ArtistListResponse.from(artistPage));
 
         mvcMock.perform(get("/artists")
                         .header("x-api-key", "test-api-key")
@@ -243,7 +291,39 @@ public class ArtistControllerTest {
                 .andExpect(jsonPath("$.meta.totalItems").value(15))
                 .andExpect(jsonPath("$.meta.limit").value(10));
 
-        verify(artistService, times(1)).getAllArtists(1, 10, "artistName", "ASC");
+        verify(artistService, times(1)).getAllArtists(1, 10, "artistName", "ASC", TotalMode.EXACT);
+    }
+
+    /**
+     * GET /artists : Not Modified
+     * If-None-Match が一致する場合はページを組み立てずに 304 を返す
+     */
+    @Test
+    public void getArtistsListSuccess_NotModified() throws Exception {
+        when(artistService.getAllArtists(0, 20, "artistName", "ASC", TotalMode.EXACT)).thenReturn(ArtistListResponse.from(new PageImpl<>(List.of(createMockArtistProjection(1L, "Artist 1", null, null)), PageRequest.of(0, 20), 1)));
+
+        String etag = mvcMock.perform(get("/artists")
+                        .header("x-api-key", "test-api-key"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mvcMock.perform(get("/artists")
+                        .header("x-api-key", "test-api-key")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+
+        mvcMock.perform(get("/artists")
+                        .header("x-api-key", "test-api-key")
+                        .header("If-None-Match", etag)
+                        .param("page", "2"))
+                .andExpect(status().isOk());
+
+        verify(artistService, times(1)).getAllArtists(0, 20, "artistName", "ASC", TotalMode.EXACT);
     }
 
     /**
@@ -404,7 +484,7 @@ public class ArtistControllerTest {
         when(artistService.updateArtist(eq(1L), any()))
                 .thenThrow(new DuplicationResourceException(
                         "Conflict detected",
-                        List.of(new ErrorDetails("artistName", "Artist name already exist"))
+                        List.of(new ErrorDetails("artistName", "Artist name already exist: Duplicate Artist Name"))
                 ));
 
         String reqBody = """
@@ -0,0 +1,163 @@
+package com.example.untitled.audit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuditHistoryWriterTest {
+
+    private static final long WAIT_MILLIS = 5_000;
+    // テスト中は間隔による書き込みを行わない
+    private static final long FLUSH_INTERVAL_MILLIS = 3_600_000;
+
+    @Mock
+    private AuditHistoryRepository auditHistoryRepository;
+
+    private AuditHistoryWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.destroy();
+        }
+    }
+
+    private AuditHistoryWriter createWriter(int capacity, int batchSize) {
+        writer = new AuditHistoryWriter(
+                auditHistoryRepository,
+                TransactionOperations.withoutTransaction(),
+                capacity,
+                batchSize,
+                FLUSH_INTERVAL_MILLIS
+        );
+        return writer;
+    }
+
+    private static AuditRecord artistRenamed(long id) {
+        return AuditRecord.updated("artist", id, Map.of("artistName", "Before"), Map.of("artistName", "After"));
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * 積まれた変更履歴を項目ごとの行にしてまとめて書き込む
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldWriteQueuedRecordsAsFieldRows() {
+        createWriter(10, 100);
+        writer.offer(AuditRecord.updated(
+                "prsk-music", 1L,
+                Map.of("title", "Old", "musicName", "Composer"),
+                Map.of("title", "New", "musicName", "Composer2")
+        ));
+        writer.offer(AuditRecord.deleted("prsk-music", 2L));
+
+        writer.flush();
+
+        ArgumentCaptor<List<AuditHistory>> captor = ArgumentCaptor.forClass(List.class);
+        verify(auditHistoryRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(3);
+        assertThat(captor.getValue())
+                .filteredOn(row -> "title".equals(row.getFieldName()))
+                .singleElement()
+                .satisfies(row -> {
+                    assertThat(row.getOldValue()).isEqualTo("Old");
+                    assertThat(row.getNewValue()).isEqualTo("New");
+                    assertThat(row.getAction()).isEqualTo("updated");
+                });
+        assertThat(captor.getValue())
+                .filteredOn(row -> row.getEntityId().equals(2L))
+                .singleElement()
+                .satisfies(row -> {
+                    assertThat(row.getFieldName()).isNull();
+                    assertThat(row.getAction()).isEqualTo("deleted");
+                });
+        assertThat(writer.writtenCount()).isEqualTo(2);
+        assertThat(writer.queuedCount()).isZero();
+    }
+
+    /**
+     * バッチ1つ分溜まった場合は間隔を待たずに書き込む
+     */
+    @Test
+    void shouldFlushWhenBatchIsFull() throws Exception {
+        createWriter(10, 2);
+
+        writer.offer(artistRenamed(1L));
+        writer.offer(artistRenamed(2L));
+
+        await(() -> writer.writtenCount() == 2);
+        assertThat(writer.queuedCount()).isZero();
+    }
+
+    /**
+     * キューが一杯の場合はリクエストを待たせずに捨て、件数を数える
+     */
+    @Test
+    void shouldDropRecordsWhenQueueIsFull() {
+        createWriter(2, 100);
+
+        assertThat(writer.offer(artistRenamed(1L))).isTrue();
+        assertThat(writer.offer(artistRenamed(2L))).isTrue();
+        assertThat(writer.offer(artistRenamed(3L))).isFalse();
+
+        assertThat(writer.droppedCount()).isEqualTo(1);
+        assertThat(writer.queuedCount()).isEqualTo(2);
+    }
+
+    /**
+     * 書き込みに失敗したバッチは失われた件数として数える
+     */
+    @Test
+    void shouldCountFailedRecords() {
+        createWriter(10, 100);
+        when(auditHistoryRepository.saveAll(anyList())).thenThrow(new DataAccessResourceFailureException("DB down"));
+        writer.offer(artistRenamed(1L));
+        writer.offer(artistRenamed(2L));
+
+        writer.flush();
+
+        assertThat(writer.failedCount()).isEqualTo(2);
+        assertThat(writer.writtenCount()).isZero();
+        assertThat(writer.queuedCount()).isZero();
+    }
+
+    /**
+     * 値が変わらなかった更新は記録しない
+     */
+    @Test
+    void shouldSkipUpdateWithoutChanges() {
+        createWriter(10, 100);
+
+        writer.onAuditRecord(AuditRecord.updated(
+                "artist", 1L, Map.of("artistName", "Same"), Map.of("artistName", "Same")
+        ));
+        writer.flush();
+
+        assertThat(writer.queuedCount()).isZero();
+        verify(auditHistoryRepository, never()).saveAll(anyList());
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.untitled.common.apikey;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ApiKeyRegistryTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path dir;
+
+    private Path writeKeys(String json, Instant modifiedAt) throws Exception {
+        Path keysFile = dir.resolve("api-keys.json");
+        Files.writeString(keysFile, json);
+        Files.setLastModifiedTime(keysFile, FileTime.from(modifiedAt));
+        return keysFile;
+    }
+
+    private String definition(String label, String key, String scopes) {
+        return """
+                {"label": "%s", "sha256": "%s", "scopes": %s, "capacity": 10, "refillPerSecond": 5}
+                """.formatted(label, ApiKeyRegistry.digest(key), scopes);
+    }
+
+    /**
+     * ファイルの各キーをダイジェストで引き、ラベル・スコープ・quota を返す
+     */
+    @Test
+    void shouldFindKeysFromFile() throws Exception {
+        Path keysFile = writeKeys("[" + definition("mobile", "mobile-key", "[\"read\"]") + ","
+                + definition("admin", "admin-key", "[\"read\", \"write\"]") + "]", Instant.now());
+
+        ApiKeyRegistry registry = new ApiKeyRegistry("", keysFile.toString(), 30, objectMapper);
+
+        assertThat(registry.find("mobile-key")).get().satisfies(entry -> {
+            assertThat(entry.label()).isEqualTo("mobile");
+            assertThat(entry.allows("GET")).isTrue();
+            assertThat(entry.allows("POST")).isFalse();
+            assertThat(entry.quota()).isNotNull();
+        });
+        assertThat(registry.find("admin-key")).get().extracting(ApiKeyEntry::label).isEqualTo("admin");
+        assertThat(registry.find("unknown-key")).isEmpty();
+        assertThat(registry.find(null)).isEmpty();
+    }
+
+    /**
+     * ファイルが更新された場合は再起動せずに読み直す (ローテーション)
+     */
+    @Test
+    void shouldReloadWhenFileModified() throws Exception {
+        Instant loadedAt = Instant.now().minusSeconds(60);
+        Path keysFile = writeKeys("[" + definition("mobile", "old-key", "[\"read\"]") + "]", loadedAt);
+        ApiKeyRegistry registry = new ApiKeyRegistry("", keysFile.toString(), 0, objectMapper);
+        assertThat(registry.find("old-key")).isPresent();
+
+        writeKeys("[" + definition("mobile", "new-key", "[\"read\"]") + "]", loadedAt.plusSeconds(30));
+
+        assertThat(registry.find("new-key")).get().extracting(ApiKeyEntry::label).isEqualTo("mobile");
+        assertThat(registry.find("old-key")).isEmpty();
+    }
+
+    /**
+     * 読み直しに失敗した場合は直前のキーを使い続ける
+     */
+    @Test
+    void shouldKeepCurrentKeysWhenReloadFails() throws Exception {
+        Instant loadedAt = Instant.now().minusSeconds(60);
+        Path keysFile = writeKeys("[" + definition("mobile", "mobile-key", "[\"read\"]") + "]", loadedAt);
+        ApiKeyRegistry registry = new ApiKeyRegistry("", keysFile.toString(), 0, objectMapper);
+
+        writeKeys("[" + definition("mobile", "mobile-key", "[\"admin\"]") + "]", loadedAt.plusSeconds(30));
+
+        assertThat(registry.find("mobile-key")).isPresent();
+    }
+
+    /**
+     * 起動時にキーが1件も無い・ラベルが重複している場合は失敗させる
+     */
+    @Test
+    void shouldFailOnInvalidConfiguration() throws Exception {
+        assertThatThrownBy(() -> new ApiKeyRegistry("", "", 30, objectMapper))
+                .isInstanceOf(IllegalStateException.class);
+
+        Path keysFile = writeKeys("[" + definition("default", "other-key", "[\"read\"]") + "]", Instant.now());
+        assertThatThrownBy(() -> new ApiKeyRegistry("default-key", keysFile.toString(), 30, objectMapper))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
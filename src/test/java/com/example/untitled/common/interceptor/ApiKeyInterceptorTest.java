@@ -1,11 +1,18 @@
 package com.example.untitled.common.interceptor;
 
+import com.example.untitled.common.apikey.ApiKeyEntry;
+import com.example.untitled.common.apikey.ApiKeyRegistry;
+import com.example.untitled.common.constant.ApiSecurityConstants;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class ApiKeyInterceptorTest {
@@ -15,7 +22,8 @@ class ApiKeyInterceptorTest {
 
     @BeforeEach
     void setUp() {
-        interceptor = new ApiKeyInterceptor(VALID_KEY, new ObjectMapper());
+        ObjectMapper objectMapper = new ObjectMapper();
+        interceptor = new ApiKeyInterceptor(new ApiKeyRegistry(VALID_KEY, "", 30, objectMapper), objectMapper);
     }
 
     /**
@@ -31,6 +39,67 @@ class ApiKeyInterceptorTest {
 
         assertThat(result).isTrue();
         assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(request.getAttribute(ApiSecurityConstants.API_KEY_ATTRIBUTE))
+                .isInstanceOfSatisfying(ApiKeyEntry.class, entry -> assertThat(entry.label()).isEqualTo("default"));
+    }
+
+    /**
+     * read スコープだけのキーで更新系のリクエストをした場合は 403 を返す
+     */
+    @Test
+    void shouldReturn403WhenScopeMissing(@TempDir Path dir) throws Exception {
+        Path keysFile = dir.resolve("api-keys.json");
+        Files.writeString(keysFile, """
+                [{"label": "viewer", "sha256": "%s", "scopes": ["read"]}]
+                """.formatted(ApiKeyRegistry.digest("viewer-key")));
+        ObjectMapper objectMapper = new ObjectMapper();
+        ApiKeyInterceptor fileInterceptor = new ApiKeyInterceptor(
+                new ApiKeyRegistry("", keysFile.toString(), 30, objectMapper), objectMapper
+        );
+
+        MockHttpServletRequest get = new MockHttpServletRequest("GET", "/artists");
+        get.addHeader("x-api-key", "viewer-key");
+        MockHttpServletRequest post = new MockHttpServletRequest("POST", "/artists");
+        post.addHeader("x-api-key", "viewer-key");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(fileInterceptor.preHandle(get, new MockHttpServletResponse(), new Object())).isTrue();
+        assertThat(fileInterceptor.preHandle(post, response, new Object())).isFalse();
+        assertThat(response.getStatus()).isEqualTo(403);
+    }
+
+    /**
+     * admin スコープのないキーで /admin 配下にリクエストした場合は、write スコープがあっても 403 を返す
+     */
+    @Test
+    void shouldReturn403WhenAdminScopeMissing(@TempDir Path dir) throws Exception {
+        Path keysFile = dir.resolve("api-keys.json");
+        Files.writeString(keysFile, """
+                [
+                  {"label": "editor", "sha256": "%s", "scopes": ["read", "write"]},
+                  {"label": "operator", "sha256": "%s", "scopes": ["admin"]}
+                ]
+                """.formatted(ApiKeyRegistry.digest("editor-key"), ApiKeyRegistry.digest("operator-key")));
+        ObjectMapper objectMapper = new ObjectMapper();
+        ApiKeyInterceptor fileInterceptor = new ApiKeyInterceptor(
+                new ApiKeyRegistry("", keysFile.toString(), 30, objectMapper), objectMapper
+        );
+
+        MockHttpServletRequest delete = new MockHttpServletRequest("DELETE", "/admin/cache-regions");
+        delete.addHeader("x-api-key", "editor-key");
+        MockHttpServletRequest get = new MockHttpServletRequest("GET", "/admin/cache-regions");
+        get.addHeader("x-api-key", "editor-key");
+        MockHttpServletRequest encoded = new MockHttpServletRequest("DELETE", "/%61dmin/cache-regions");
+        encoded.addHeader("x-api-key", "editor-key");
+        MockHttpServletRequest adminDelete = new MockHttpServletRequest("DELETE", "/admin/cache-regions");
+        adminDelete.addHeader("x-api-key", "operator-key");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(fileInterceptor.preHandle(delete, response, new Object())).isFalse();
+        assertThat(response.getStatus()).isEqualTo(403);
+        assertThat(fileInterceptor.preHandle(get, new MockHttpServletResponse(), new Object())).isFalse();
+        assertThat(fileInterceptor.preHandle(encoded, new MockHttpServletResponse(), new Object())).isFalse();
+        assertThat(fileInterceptor.preHandle(adminDelete, new MockHttpServletResponse(), new Object())).isTrue();
     }
 
     /**
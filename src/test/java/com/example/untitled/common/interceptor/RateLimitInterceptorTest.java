@@ -0,0 +1,102 @@
+package com.example.untitled.common.interceptor;
+
+import com.example.untitled.common.apikey.ApiKeyEntry;
+import com.example.untitled.common.constant.ApiSecurityConstants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitInterceptorTest {
+
+    private static final ApiKeyEntry API_KEY = new ApiKeyEntry("default", Set.of("read", "write"), null);
+    private RateLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        // API キーごとに2件、ルートごとに1件までのバースト
+        interceptor = new RateLimitInterceptor(16, 2, 1, 1, 1, new ObjectMapper());
+    }
+
+    private MockHttpServletRequest request(String path, String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        request.setAttribute(ApiSecurityConstants.API_KEY_ATTRIBUTE, API_KEY);
+        return request;
+    }
+
+    /**
+     * 上限を超えた場合は 429 と Retry-After を返す
+     */
+    @Test
+    void shouldReturn429WhenRouteBudgetExceeded() throws Exception {
+        assertThat(interceptor.preHandle(
+                request("/artists/1", "/artists/{id}"), new MockHttpServletResponse(), new Object()
+        )).isTrue();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean result = interceptor.preHandle(request("/artists/2", "/artists/{id}"), response, new Object());
+
+        assertThat(result).isFalse();
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(response.getContentType()).contains("application/json");
+    }
+
+    /**
+     * ルートの予算が残っていても API キー全体の上限を超えた場合は 429 を返す
+     */
+    @Test
+    void shouldReturn429WhenKeyBudgetExceeded() throws Exception {
+        interceptor.preHandle(request("/artists", "/artists"), new MockHttpServletResponse(), new Object());
+        interceptor.preHandle(request("/users", "/users"), new MockHttpServletResponse(), new Object());
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean result = interceptor.preHandle(request("/prsk-music", "/prsk-music"), response, new Object());
+
+        assertThat(result).isFalse();
+        assertThat(response.getStatus()).isEqualTo(429);
+    }
+
+    /**
+     * キーごとの quota が設定されている場合は既定の予算ではなく quota で判定する
+     */
+    @Test
+    void shouldUseQuotaOfApiKey() throws Exception {
+        ApiKeyEntry limited = new ApiKeyEntry("mobile", Set.of("read"), TokenBucketRateLimiter.Budget.of(1, 1));
+        MockHttpServletRequest first = request("/artists", "/artists");
+        first.setAttribute(ApiSecurityConstants.API_KEY_ATTRIBUTE, limited);
+        MockHttpServletRequest second = request("/users", "/users");
+        second.setAttribute(ApiSecurityConstants.API_KEY_ATTRIBUTE, limited);
+
+        assertThat(interceptor.preHandle(first, new MockHttpServletResponse(), new Object())).isTrue();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean result = interceptor.preHandle(second, response, new Object());
+
+        assertThat(result).isFalse();
+        assertThat(response.getStatus()).isEqualTo(429);
+    }
+
+    /**
+     * 認証を通っていないリクエスト(/health など)は制限の対象外
+     */
+    @Test
+    void shouldSkipRateLimitWithoutApiKey() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/health");
+            request.setServletPath("/health");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            boolean result = interceptor.preHandle(request, response, new Object());
+
+            assertThat(result).isTrue();
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+    }
+}
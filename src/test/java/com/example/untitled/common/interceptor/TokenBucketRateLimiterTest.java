@@ -0,0 +1,102 @@
+package com.example.untitled.common.interceptor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final int KEY = "test-api-key".hashCode();
+    private static final int ROUTE = "GET /artists".hashCode();
+
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        now = 0;
+    }
+
+    private TokenBucketRateLimiter limiter(long keyCapacity, long keyRefill, long routeCapacity, long routeRefill) {
+        return new TokenBucketRateLimiter(16, keyCapacity, keyRefill, routeCapacity, routeRefill, () -> now);
+    }
+
+    /**
+     * バースト上限までは許可し、超えたら次の補充までの時間を返す
+     */
+    @Test
+    void shouldRejectWhenCapacityExceeded() {
+        TokenBucketRateLimiter limiter = limiter(3, 1, 100, 100);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire(KEY, ROUTE)).isZero();
+        }
+
+        assertThat(limiter.tryAcquire(KEY, ROUTE)).isEqualTo(NANOS_PER_SECOND);
+    }
+
+    /**
+     * 経過時間に応じてトークンが補充される
+     */
+    @Test
+    void shouldRefillOverTime() {
+        TokenBucketRateLimiter limiter = limiter(2, 10, 100, 100);
+        limiter.tryAcquire(KEY, ROUTE);
+        limiter.tryAcquire(KEY, ROUTE);
+        assertThat(limiter.tryAcquire(KEY, ROUTE)).isPositive();
+
+        now += NANOS_PER_SECOND / 10;
+
+        assertThat(limiter.tryAcquire(KEY, ROUTE)).isZero();
+        assertThat(limiter.tryAcquire(KEY, ROUTE)).isPositive();
+    }
+
+    /**
+     * ルートの上限で拒否した場合は API キーの予算を消費せず、別ルートは許可される
+     */
+    @Test
+    void shouldKeepKeyBudgetWhenRouteRejected() {
+        TokenBucketRateLimiter limiter = limiter(3, 1, 1, 1);
+        int otherRoute = "GET /users".hashCode();
+
+        assertThat(limiter.tryAcquire(KEY, ROUTE)).isZero();
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire(KEY, ROUTE)).isPositive();
+        }
+
+        assertThat(limiter.tryAcquire(KEY, otherRoute)).isZero();
+    }
+
+    /**
+     * 同時に呼び出しても許可される数はバースト上限を超えない
+     */
+    @Test
+    void shouldNotExceedCapacityUnderContention() throws Exception {
+        TokenBucketRateLimiter limiter = limiter(100, 1, 1000, 1);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 100; i++) {
+                        if (limiter.tryAcquire(KEY, ROUTE) == 0) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        assertThat(allowed.get()).isEqualTo(100);
+    }
+}
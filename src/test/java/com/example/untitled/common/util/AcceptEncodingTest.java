@@ -0,0 +1,52 @@
+package com.example.untitled.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AcceptEncodingTest {
+
+    /**
+     * gzip が q 値なし、または正の q 値で含まれる場合は gzip を使う
+     */
+    @Test
+    void shouldAcceptGzip() {
+        assertTrue(AcceptEncoding.acceptsGzip("gzip"));
+        assertTrue(AcceptEncoding.acceptsGzip("gzip, deflate, br"));
+        assertTrue(AcceptEncoding.acceptsGzip("br;q=1.0, GZIP;q=0.8"));
+        assertTrue(AcceptEncoding.acceptsGzip("x-gzip"));
+        assertTrue(AcceptEncoding.acceptsGzip("*"));
+    }
+
+    /**
+     * gzip の q 値が 0 の場合は gzip を使わない
+     */
+    @Test
+    void shouldRejectGzipWithZeroQuality() {
+        assertFalse(AcceptEncoding.acceptsGzip("gzip;q=0"));
+        assertFalse(AcceptEncoding.acceptsGzip("gzip; q=0.000, deflate"));
+        assertFalse(AcceptEncoding.acceptsGzip("*;q=0, identity"));
+        assertFalse(AcceptEncoding.acceptsGzip("gzip;q=0, *"));
+    }
+
+    /**
+     * identity のみ、または identity の q 値の方が大きい場合は gzip を使わない
+     */
+    @Test
+    void shouldPreferIdentity() {
+        assertFalse(AcceptEncoding.acceptsGzip("identity"));
+        assertFalse(AcceptEncoding.acceptsGzip("deflate, br"));
+        assertFalse(AcceptEncoding.acceptsGzip("gzip;q=0.5, identity"));
+        assertTrue(AcceptEncoding.acceptsGzip("gzip, identity;q=0.5"));
+    }
+
+    /**
+     * ヘッダーがない場合は gzip を使わない
+     */
+    @Test
+    void shouldReturnFalseWhenHeaderIsMissing() {
+        assertFalse(AcceptEncoding.acceptsGzip(null));
+        assertFalse(AcceptEncoding.acceptsGzip(""));
+    }
+}
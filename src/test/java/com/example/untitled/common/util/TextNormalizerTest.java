@@ -0,0 +1,58 @@
+package com.example.untitled.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TextNormalizerTest {
+
+    /**
+     * 全角英数・半角カナを NFKC で統一する
+     */
+    @Test
+    void shouldUnifyCharacterWidth() {
+        assertEquals("abc123", TextNormalizer.normalize("ＡＢＣ１２３"));
+        assertEquals(TextNormalizer.normalize("セカイ"), TextNormalizer.normalize("ｾｶｲ"));
+        assertEquals(TextNormalizer.normalize("ブルー"), TextNormalizer.normalize("ﾌﾞﾙｰ"));
+    }
+
+    /**
+     * カタカナとひらがなを同一視する
+     */
+    @Test
+    void shouldFoldKatakanaToHiragana() {
+        assertEquals("せかい", TextNormalizer.normalize("セカイ"));
+        assertEquals("ゔぁ", TextNormalizer.normalize("ヴァ"));
+        assertEquals("ー", TextNormalizer.normalize("ー"));
+    }
+
+    /**
+     * 大文字/小文字の違いと空白(全角空白を含む)を無視する
+     */
+    @Test
+    void shouldIgnoreCaseAndWhitespace() {
+        assertEquals("worldismine", TextNormalizer.normalize(" World　Is Mine "));
+    }
+
+    /**
+     * null の場合は空文字を返す
+     */
+    @Test
+    void shouldReturnEmptyWhenNull() {
+        assertEquals("", TextNormalizer.normalize(null));
+    }
+
+    /**
+     * NFKC で伸びる文字でも、元の長さ × MAX_EXPANSION に収まる
+     */
+    @Test
+    void shouldFitWithinMaxExpansion() {
+        assertEquals("株式会社", TextNormalizer.normalize("\u337F"));
+
+        // U+FDFA は NFKC で18文字 (空白を除くと15文字) になる
+        String key = TextNormalizer.normalize("\uFDFA".repeat(30));
+        assertTrue(key.length() > 30 * 3);
+        assertTrue(key.length() <= 30 * TextNormalizer.MAX_EXPANSION);
+    }
+}
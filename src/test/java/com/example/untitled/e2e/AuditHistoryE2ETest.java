@@ -0,0 +1,98 @@
+package com.example.untitled.e2e;
+
+import com.example.untitled.artist.dto.ArtistRequest;
+import com.example.untitled.artist.dto.ArtistResponse;
+import com.example.untitled.artist.dto.OptionalArtistRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 変更履歴 (t_audit_history) の非同期書き込みの確認
+ */
+@DisplayName("Audit History E2E Tests")
+class AuditHistoryE2ETest extends E2ETestBase {
+
+    private static final long WRITE_WAIT_MILLIS = 10_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Map<String, Object>> awaitHistory(long artistId, int expectedRows) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WRITE_WAIT_MILLIS;
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT action, field_name, old_value, new_value, changed_by FROM t_audit_history"
+                            + " WHERE resource = 'artist' AND entity_id = ? ORDER BY id",
+                    artistId
+            );
+            if (rows.size() >= expectedRows) {
+                return rows;
+            }
+            assertTrue(System.currentTimeMillis() < deadline, "Audit history was not written in time");
+            Thread.sleep(50);
+        }
+    }
+
+    @Nested
+    @DisplayName("Artist history")
+    class ArtistHistory {
+
+        @Test
+        @DisplayName("Success - field-level diffs are written off the request thread")
+        void historySuccess() throws Exception {
+            // Arrange
+            ArtistRequest request = new ArtistRequest();
+            request.setArtistName("Audit-" + UUID.randomUUID().toString().substring(0, 8));
+            request.setUnitName("OldUnit");
+            ResponseEntity<ArtistResponse> created = restTemplate.postForEntity(
+                    getBaseUrl() + "/artists", request, ArtistResponse.class
+            );
+            assertEquals(HttpStatus.CREATED, created.getStatusCode());
+            long artistId = created.getBody().getId();
+
+            OptionalArtistRequest updateRequest = new OptionalArtistRequest();
+            updateRequest.setUnitName("NewUnit");
+
+            // Act
+            ResponseEntity<ArtistResponse> updated = restTemplate.exchange(
+                    getBaseUrl() + "/artists/" + artistId,
+                    HttpMethod.PUT,
+                    new HttpEntity<>(updateRequest),
+                    ArtistResponse.class
+            );
+            restTemplate.exchange(getBaseUrl() + "/artists/" + artistId, HttpMethod.DELETE, null, Void.class);
+
+            // Assert (登録: artistName・unitName, 更新: unitName, 削除: 1行)
+            assertEquals(HttpStatus.OK, updated.getStatusCode());
+            List<Map<String, Object>> rows = awaitHistory(artistId, 4);
+            assertEquals(4, rows.size());
+
+            assertEquals("created", rows.get(0).get("action"));
+            assertEquals("artistName", rows.get(0).get("field_name"));
+            assertNull(rows.get(0).get("old_value"));
+            assertEquals(request.getArtistName(), rows.get(0).get("new_value"));
+
+            assertEquals("updated", rows.get(2).get("action"));
+            assertEquals("unitName", rows.get(2).get("field_name"));
+            assertEquals("OldUnit", rows.get(2).get("old_value"));
+            assertEquals("NewUnit", rows.get(2).get("new_value"));
+            assertEquals("default", rows.get(2).get("changed_by"));
+
+            assertEquals("deleted", rows.get(3).get("action"));
+            assertNull(rows.get(3).get("field_name"));
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.untitled.e2e;
+
+import com.example.untitled.artist.dto.ArtistRequest;
+import com.example.untitled.artist.dto.ArtistResponse;
+import com.example.untitled.artist.dto.OptionalArtistRequest;
+import com.example.untitled.prskmusic.dto.PrskMusicRequest;
+import com.example.untitled.prskmusic.dto.PrskMusicResponse;
+import com.example.untitled.prskmusic.enums.MusicType;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Cache Admin E2E Tests")
+class CacheAdminE2ETest extends E2ETestBase {
+
+    private static final String CACHE_REGIONS_PATH = "/admin/cache-regions";
+
+    // ========================================================================
+    // Helper Methods
+    // ========================================================================
+
+    private String uniqueName(String prefix) {
+        return prefix + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private ArtistResponse createArtist() {
+        ArtistRequest request = new ArtistRequest();
+        request.setArtistName(uniqueName("Cache-"));
+
+        ResponseEntity<ArtistResponse> response = restTemplate.postForEntity(
+                getBaseUrl() + "/artists",
+                request,
+                ArtistResponse.class
+        );
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        return response.getBody();
+    }
+
+    private PrskMusicResponse createPrskMusic(Long artistId) {
+        PrskMusicRequest request = new PrskMusicRequest();
+        request.setTitle(uniqueName("Cache-"));
+        request.setArtistId(artistId);
+        request.setMusicType(MusicType.ORIGINAL);
+        request.setYoutubeLink("https://youtube.com/cache");
+
+        ResponseEntity<PrskMusicResponse> response = restTemplate.postForEntity(
+                getBaseUrl() + "/prsk-music",
+                request,
+                PrskMusicResponse.class
+        );
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        return response.getBody();
+    }
+
+    // アーティストのエンティティ・クエリ結果のリージョンのヒット数の合計
+    private long artistCacheHits() {
+        ResponseEntity<JsonNode> response = restTemplate.getForEntity(
+                getBaseUrl() + CACHE_REGIONS_PATH,
+                JsonNode.class
+        );
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        long hits = 0;
+        for (JsonNode region : response.getBody().get("items")) {
+            if (region.get("regionName").asText().startsWith("artist")) {
+                hits += region.get("hitCount").asLong();
+            }
+        }
+        return hits;
+    }
+
+    // ========================================================================
+    // GET /admin/cache-regions
+    // ========================================================================
+
+    @Nested
+    @DisplayName("GET /admin/cache-regions")
+    class GetCacheRegions {
+
+        @Test
+        @DisplayName("Success - artist regions are listed")
+        void getCacheRegionsSuccess() {
+            // クエリキャッシュのリージョンは初回利用時に作成される
+            createPrskMusic(createArtist().getId());
+
+            ResponseEntity<JsonNode> response = restTemplate.getForEntity(
+                    getBaseUrl() + CACHE_REGIONS_PATH,
+                    JsonNode.class
+            );
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            List<String> regionNames = new ArrayList<>();
+            response.getBody().get("items").forEach(region -> regionNames.add(region.get("regionName").asText()));
+            assertTrue(regionNames.contains("artist"));
+            assertTrue(regionNames.contains("artist-query"));
+        }
+
+        @Test
+        @DisplayName("Success - repeated artist lookups are served from the cache")
+        void artistLookupHitsCache() {
+            ArtistResponse artist = createArtist();
+            long before = artistCacheHits();
+
+            createPrskMusic(artist.getId());
+            createPrskMusic(artist.getId());
+
+            assertTrue(artistCacheHits() > before);
+        }
+
+        @Test
+        @DisplayName("Success - artist updates are visible through the cache")
+        void artistUpdateInvalidatesCache() {
+            ArtistResponse artist = createArtist();
+            createPrskMusic(artist.getId());
+
+            OptionalArtistRequest update = new OptionalArtistRequest();
+            update.setArtistName(uniqueName("Cache-Updated-"));
+            ResponseEntity<ArtistResponse> updated = restTemplate.exchange(
+                    getBaseUrl() + "/artists/" + artist.getId(),
+                    HttpMethod.PUT,
+                    new HttpEntity<>(update),
+                    ArtistResponse.class
+            );
+            assertEquals(HttpStatus.OK, updated.getStatusCode());
+
+            PrskMusicResponse prskMusic = createPrskMusic(artist.getId());
+
+            assertEquals(update.getArtistName(), prskMusic.getArtistName());
+        }
+
+        @Test
+        @DisplayName("Success - deleted artists are not served from the cache")
+        void artistDeleteInvalidatesCache() {
+            ArtistResponse artist = createArtist();
+            createPrskMusic(artist.getId());
+
+            restTemplate.delete(getBaseUrl() + "/artists/" + artist.getId());
+
+            PrskMusicRequest request = new PrskMusicRequest();
+            request.setTitle(uniqueName("Cache-"));
+            request.setArtistId(artist.getId());
+            request.setMusicType(MusicType.ORIGINAL);
+            request.setYoutubeLink("https://youtube.com/cache");
+            ResponseEntity<String> response = restTemplate.postForEntity(
+                    getBaseUrl() + "/prsk-music",
+                    request,
+                    String.class
+            );
+
+            assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        }
+    }
+
+    // ========================================================================
+    // DELETE /admin/cache-regions/{region}
+    // ========================================================================
+
+    @Nested
+    @DisplayName("DELETE /admin/cache-regions/{region}")
+    class EvictCacheRegion {
+
+        @Test
+        @DisplayName("Success - region is evicted")
+        void evictCacheRegionSuccess() {
+            ResponseEntity<Void> response = restTemplate.exchange(
+                    getBaseUrl() + CACHE_REGIONS_PATH + "/artist",
+                    HttpMethod.DELETE,
+                    null,
+                    Void.class
+            );
+
+            assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        }
+
+        @Test
+        @DisplayName("Error - unknown region returns 404")
+        void evictCacheRegionError_NotFound() {
+            ResponseEntity<String> response = restTemplate.exchange(
+                    getBaseUrl() + CACHE_REGIONS_PATH + "/unknown-region",
+                    HttpMethod.DELETE,
+                    null,
+                    String.class
+            );
+
+            assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        }
+    }
+}
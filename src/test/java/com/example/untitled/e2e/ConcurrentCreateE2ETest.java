@@ -0,0 +1,173 @@
+package com.example.untitled.e2e;
+
+import com.example.untitled.artist.dto.ArtistRequest;
+import com.example.untitled.user.dto.UserRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 同じ名前での同時登録が部分一意インデックスによって1件だけ成功することを確認する
+ */
+@DisplayName("Concurrent Create E2E Tests")
+class ConcurrentCreateE2ETest extends E2ETestBase {
+
+    private static final int PARALLELISM = 8;
+
+    // ========================================================================
+    // Helper Methods
+    // ========================================================================
+
+    private String uniqueName(String prefix) {
+        return prefix + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 全スレッドの準備が整ってから一斉にリクエストを送り、レスポンスを返す
+     */
+    private List<ResponseEntity<JsonNode>> sendConcurrently(Supplier<ResponseEntity<JsonNode>> request)
+            throws Exception {
+        CountDownLatch ready = new CountDownLatch(PARALLELISM);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<ResponseEntity<JsonNode>>> futures = new ArrayList<>();
+            for (int i = 0; i < PARALLELISM; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return request.get();
+                }));
+            }
+            ready.await();
+            start.countDown();
+
+            List<ResponseEntity<JsonNode>> responses = new ArrayList<>();
+            for (Future<ResponseEntity<JsonNode>> future : futures) {
+                responses.add(future.get());
+            }
+            return responses;
+        }
+    }
+
+    private void assertSingleCreated(List<ResponseEntity<JsonNode>> responses, String conflictField) {
+        List<HttpStatusCode> statuses = responses.stream().map(ResponseEntity::getStatusCode).toList();
+        assertEquals(1, statuses.stream().filter(HttpStatus.CREATED::equals).count(), statuses.toString());
+        assertEquals(PARALLELISM - 1, statuses.stream().filter(HttpStatus.CONFLICT::equals).count(), statuses.toString());
+
+        responses.stream()
+                .filter(response -> response.getStatusCode() == HttpStatus.CONFLICT)
+                .forEach(response -> assertEquals(
+                        conflictField,
+                        response.getBody().get("details").get(0).get("field").asText()
+                ));
+    }
+
+    private long createTestArtist() {
+        ArtistRequest request = new ArtistRequest();
+        request.setArtistName(uniqueName("Artist"));
+
+        ResponseEntity<JsonNode> response = restTemplate.postForEntity(
+                getBaseUrl() + "/artists", request, JsonNode.class
+        );
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        return response.getBody().get("id").asLong();
+    }
+
+    // ========================================================================
+    // Concurrent POST
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Concurrent POST with the same unique key")
+    class ConcurrentPost {
+
+        @Test
+        @DisplayName("POST /artists - exactly one request succeeds")
+        void createArtistConcurrently() throws Exception {
+            ArtistRequest request = new ArtistRequest();
+            request.setArtistName(uniqueName("Artist"));
+
+            List<ResponseEntity<JsonNode>> responses = sendConcurrently(() -> restTemplate.postForEntity(
+                    getBaseUrl() + "/artists", request, JsonNode.class
+            ));
+
+            assertSingleCreated(responses, "artistName");
+        }
+
+        @Test
+        @DisplayName("POST /users - exactly one request succeeds")
+        void createUserConcurrently() throws Exception {
+            UserRequest request = new UserRequest();
+            request.setUserName(uniqueName("user"));
+            request.setPassword("password");
+
+            List<ResponseEntity<JsonNode>> responses = sendConcurrently(() -> restTemplate.postForEntity(
+                    getBaseUrl() + "/users", request, JsonNode.class
+            ));
+
+            assertSingleCreated(responses, "userName");
+        }
+
+        @Test
+        @DisplayName("POST /prsk-music - exactly one request succeeds")
+        void createPrskMusicConcurrently() throws Exception {
+            Map<String, Object> request = Map.of(
+                    "title", uniqueName("Title"),
+                    "artistId", createTestArtist(),
+                    "musicType", 0,
+                    "youtubeLink", "https://youtube.com/test"
+            );
+
+            List<ResponseEntity<JsonNode>> responses = sendConcurrently(() -> restTemplate.postForEntity(
+                    getBaseUrl() + "/prsk-music", request, JsonNode.class
+            ));
+
+            assertSingleCreated(responses, "Title and MusicType");
+        }
+    }
+
+    // ========================================================================
+    // Soft-deleted rows
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Soft-deleted rows are outside the unique index")
+    class SoftDeleted {
+
+        @Test
+        @DisplayName("POST /artists - same name can be registered again after delete")
+        void createArtistAfterDelete() {
+            ArtistRequest request = new ArtistRequest();
+            request.setArtistName(uniqueName("Artist"));
+
+            ResponseEntity<JsonNode> first = restTemplate.postForEntity(
+                    getBaseUrl() + "/artists", request, JsonNode.class
+            );
+            assertEquals(HttpStatus.CREATED, first.getStatusCode());
+            restTemplate.delete(getBaseUrl() + "/artists/" + first.getBody().get("id").asLong());
+
+            ResponseEntity<JsonNode> second = restTemplate.postForEntity(
+                    getBaseUrl() + "/artists", request, JsonNode.class
+            );
+
+            assertEquals(HttpStatus.CREATED, second.getStatusCode());
+        }
+    }
+}
@@ -14,9 +14,11 @@ import org.springframework.test.context.ActiveProfiles;
 @Tag("e2e")
 public abstract class E2ETestBase {
 
+    protected static final String API_KEY = "test-api-key";
+
     private static final ClientHttpRequestInterceptor API_KEY_INTERCEPTOR =
             (request, body, execution) -> {
-                request.getHeaders().add("x-api-key", "test-api-key");
+                request.getHeaders().add("x-api-key", API_KEY);
                 return execution.execute(request, body);
             };
 
@@ -0,0 +1,109 @@
+package com.example.untitled.e2e;
+
+import com.example.untitled.artist.dto.ArtistRequest;
+import com.example.untitled.artist.dto.ArtistResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Events E2E Tests")
+class EventsE2ETest extends E2ETestBase {
+
+    private static final String EVENTS_PATH = "/api/v1/events";
+    private static final long WAIT_SECONDS = 10;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    /**
+     * 受信した行を別スレッドでキューに積む (SSE のレスポンスは閉じられるまで終わらないため)
+     */
+    private Thread readLines(Stream<String> lines, BlockingQueue<String> received) {
+        return Thread.ofVirtual().start(() -> {
+            Iterator<String> iterator = lines.iterator();
+            while (iterator.hasNext()) {
+                received.offer(iterator.next());
+            }
+        });
+    }
+
+    private String awaitLine(BlockingQueue<String> received, String fragment) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(WAIT_SECONDS);
+        while (System.nanoTime() < deadline) {
+            String line = received.poll(100, TimeUnit.MILLISECONDS);
+            if (line != null && line.contains(fragment)) {
+                return line;
+            }
+        }
+        return fail("No line containing " + fragment);
+    }
+
+    @Nested
+    @DisplayName("GET /events")
+    class Subscribe {
+
+        @Test
+        @DisplayName("Success - receives an event after the create is committed")
+        void subscribeSuccess() throws Exception {
+            // Arrange
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + EVENTS_PATH))
+                    .header("x-api-key", API_KEY)
+                    .header("Accept", "text/event-stream")
+                    .build();
+            HttpResponse<Stream<String>> response = httpClient.send(request, HttpResponse.BodyHandlers.ofLines());
+            assertEquals(200, response.statusCode());
+            assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("text/event-stream"));
+
+            BlockingQueue<String> received = new ArrayBlockingQueue<>(1024);
+            Thread reader = readLines(response.body(), received);
+            try {
+                // 購読が登録されてから更新する
+                awaitLine(received, ":connected");
+
+                // Act
+                ArtistRequest artistRequest = new ArtistRequest();
+                artistRequest.setArtistName("Artist-" + UUID.randomUUID().toString().substring(0, 8));
+                ResponseEntity<ArtistResponse> created = restTemplate.postForEntity(
+                        getBaseUrl() + "/artists", artistRequest, ArtistResponse.class
+                );
+                assertEquals(HttpStatus.CREATED, created.getStatusCode());
+
+                // Assert
+                String data = awaitLine(received, "\"ids\":[" + created.getBody().getId() + "]");
+                assertTrue(data.startsWith("data:"));
+                assertTrue(data.contains("\"resource\":\"artist\""));
+                assertTrue(data.contains("\"action\":\"created\""));
+            } finally {
+                response.body().close();
+                reader.interrupt();
+            }
+        }
+
+        @Test
+        @DisplayName("Error - 401 Unauthorized without an API key")
+        void subscribeError_withUnauthorized() throws Exception {
+            // Act
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + EVENTS_PATH))
+                    .header("Accept", "text/event-stream")
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+            // Assert
+            assertEquals(401, response.statusCode());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.untitled.e2e;
+
+import com.example.untitled.artist.dto.ArtistRequest;
+import com.example.untitled.artist.dto.ArtistResponse;
+import com.example.untitled.prskmusic.PrskMusic;
+import com.example.untitled.prskmusic.PrskMusicRepository;
+import com.example.untitled.prskmusic.dto.PrskMusicRequest;
+import com.example.untitled.prskmusic.dto.PrskMusicResponse;
+import com.example.untitled.prskmusic.enums.MusicType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 一覧取得のエンティティ経由とプロジェクション経由の比較
+ * 1ページあたりのアロケーション量とレイテンシを計測する
+ * 計測値は GC・JIT の影響を受けるため、./gradlew testLoad で実行する (testE2e には含めない)
+ */
+@Tag("load")
+@DisplayName("List Projection Benchmark")
+class ListProjectionBenchmarkE2ETest extends E2ETestBase {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int MEASURE_ITERATIONS = 200;
+
+    private static final String ENTITY_QUERY =
+            "SELECT p FROM PrskMusic p JOIN FETCH p.artist WHERE p.isDeleted = false ORDER BY p.title ASC, p.id ASC";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PrskMusicRepository prskMusicRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void seed() {
+        long existing = prskMusicRepository.count();
+        if (existing >= PAGE_SIZE) {
+            return;
+        }
+
+        ArtistRequest artistRequest = new ArtistRequest();
+        artistRequest.setArtistName("Bench-" + UUID.randomUUID().toString().substring(0, 8));
+        ResponseEntity<ArtistResponse> artist = restTemplate.postForEntity(
+                getBaseUrl() + "/artists",
+                artistRequest,
+                ArtistResponse.class
+        );
+        assertEquals(HttpStatus.CREATED, artist.getStatusCode());
+
+        for (long i = existing; i < PAGE_SIZE; i++) {
+            PrskMusicRequest request = new PrskMusicRequest();
+            request.setTitle("Bench-" + UUID.randomUUID().toString().substring(0, 8));
+            request.setArtistId(artist.getBody().getId());
+            request.setMusicType(MusicType.ORIGINAL);
+            request.setYoutubeLink("https://youtube.com/bench");
+            ResponseEntity<PrskMusicResponse> response = restTemplate.postForEntity(
+                    getBaseUrl() + "/prsk-music", request, PrskMusicResponse.class
+            );
+            assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        }
+    }
+
+    @Test
+    @DisplayName("Projection path allocates less per page than the managed entity path")
+    void projectionAllocatesLessThanEntity() {
+        Supplier<List<PrskMusicResponse>> entityPath = () -> transactionTemplate.execute(status ->
+                entityManager.createQuery(ENTITY_QUERY, PrskMusic.class)
+                        .setMaxResults(PAGE_SIZE)
+                        .getResultList()
+                        .stream()
+                        .map(PrskMusicResponse::from)
+                        .toList()
+        );
+        Supplier<List<PrskMusicResponse>> projectionPath = () -> transactionTemplate.execute(status ->
+                prskMusicRepository.findKeysetFirstPage(PageRequest.of(0, PAGE_SIZE))
+                        .stream()
+                        .map(PrskMusicResponse::from)
+                        .toList()
+        );
+
+        assertEquals(entityPath.get().size(), projectionPath.get().size());
+
+        Result entity = measure(entityPath);
+        Result projection = measure(projectionPath);
+
+        assertTrue(
+                projection.bytesPerPage() < entity.bytesPerPage(),
+                () -> "projection should allocate less than the entity path (page=%d entity: %s, projection: %s)"
+                        .formatted(PAGE_SIZE, entity, projection)
+        );
+    }
+
+    private Result measure(Supplier<List<PrskMusicResponse>> path) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            path.get();
+        }
+
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        long startBytes = threadBean.getThreadAllocatedBytes(threadId);
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            path.get();
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long allocatedBytes = threadBean.getThreadAllocatedBytes(threadId) - startBytes;
+
+        return new Result(allocatedBytes / MEASURE_ITERATIONS, elapsedNanos / MEASURE_ITERATIONS / 1_000);
+    }
+
+    private record Result(long bytesPerPage, long microsPerPage) {
+
+        @Override
+        public String toString() {
+            return bytesPerPage + " bytes/page " + microsPerPage + " us/page";
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.untitled.e2e;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Metrics E2E Tests")
+class MetricsE2ETest extends E2ETestBase {
+
+    private static final String PROMETHEUS_PATH = "/actuator/prometheus";
+
+    @LocalManagementPort
+    private int managementPort;
+
+    // 管理ポートには API キーを付けずにアクセスする
+    private final TestRestTemplate managementClient = new TestRestTemplate();
+
+    private String scrape() {
+        ResponseEntity<String> response = managementClient.getForEntity(
+                "http://localhost:" + managementPort + PROMETHEUS_PATH,
+                String.class
+        );
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        return response.getBody();
+    }
+
+    @BeforeEach
+    void generateTraffic() {
+        restTemplate.getForEntity(getBaseUrl() + "/prsk-music?page=1&limit=20", String.class);
+        restTemplate.getForEntity(getBaseUrl() + "/prsk-music?page=1&limit=20", String.class);
+        restTemplate.getForEntity(getBaseUrl() + "/users?page=1&limit=20", String.class);
+        restTemplate.exchange(getBaseUrl() + "/users/999999999", HttpMethod.DELETE, null, String.class);
+    }
+
+    @Nested
+    @DisplayName("GET /actuator/prometheus")
+    class Prometheus {
+
+        @Test
+        @DisplayName("Success - exposed on the management port without an API key")
+        void scrapeWithoutApiKey() {
+            String body = scrape();
+
+            assertNotNull(body);
+            assertTrue(body.contains("# TYPE"));
+        }
+
+        @Test
+        @DisplayName("Success - controller timers are tagged with the handler method and have SLO buckets")
+        void controllerTimers() {
+            String body = scrape();
+
+            assertTrue(body.contains("http_server_requests_seconds_bucket"));
+            assertTrue(body.contains("handler=\"PrskMusicController.getPrskMusicList\""));
+            assertTrue(body.contains("handler=\"UserController.getUsersList\""));
+            // 認証した API キーのラベル
+            assertTrue(body.lines().anyMatch(line -> line.contains("handler=\"UserController.getUsersList\"")
+                    && line.contains("api_key=\"default\"")));
+            // SLO バケット (50ms)
+            assertTrue(body.contains("le=\"0.05\""));
+        }
+
+        @Test
+        @DisplayName("Success - repository timers are recorded per repository method")
+        void repositoryTimers() {
+            String body = scrape();
+
+            assertTrue(body.contains("spring_data_repository_invocations_seconds_bucket"));
+            assertTrue(body.contains("repository=\"UserRepository\""));
+        }
+
+        @Test
+        @DisplayName("Success - exceptions mapped by GlobalExceptionHandler are counted")
+        void exceptionCounters() {
+            String body = scrape();
+
+            assertTrue(body.lines().anyMatch(line -> line.startsWith("api_exceptions_total")
+                    && line.contains("exception=\"EntityNotFoundException\"")
+                    && line.contains("status=\"404\"")));
+        }
+
+        @Test
+        @DisplayName("Success - prsk music list cache statistics are exposed")
+        void listCacheStats() {
+            String body = scrape();
+
+            assertTrue(body.lines().anyMatch(line -> line.startsWith("cache_gets_total")
+                    && line.contains("cache=\"prsk-music-list\"")
+                    && line.contains("result=\"hit\"")));
+            assertTrue(body.contains("cache_size{"));
+        }
+
+        @Test
+        @DisplayName("Error - not exposed on the API port")
+        void notExposedOnApiPort() {
+            ResponseEntity<String> response = restTemplate.getForEntity(getBaseUrl() + PROMETHEUS_PATH, String.class);
+
+            assertNotEquals(HttpStatus.OK, response.getStatusCode());
+        }
+    }
+}
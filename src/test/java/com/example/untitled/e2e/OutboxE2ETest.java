@@ -0,0 +1,66 @@
+package com.example.untitled.e2e;
+
+import com.example.untitled.artist.dto.ArtistRequest;
+import com.example.untitled.artist.dto.ArtistResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * アウトボックスへの書き込みと OutboxRelay による処理の確認
+ */
+@DisplayName("Outbox E2E Tests")
+class OutboxE2ETest extends E2ETestBase {
+
+    private static final long RELAY_WAIT_MILLIS = 10_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private double relayedCount() {
+        return meterRegistry.get("outbox.relayed").counter().count();
+    }
+
+    private long pendingCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM t_outbox", Long.class);
+    }
+
+    @Nested
+    @DisplayName("Outbox relay")
+    class Relay {
+
+        @Test
+        @DisplayName("Success - committed writes are relayed and removed from the outbox")
+        void relaySuccess() throws Exception {
+            // Arrange
+            double before = relayedCount();
+            ArtistRequest request = new ArtistRequest();
+            request.setArtistName("Outbox-" + UUID.randomUUID().toString().substring(0, 8));
+
+            // Act
+            ResponseEntity<ArtistResponse> created = restTemplate.postForEntity(
+                    getBaseUrl() + "/artists", request, ArtistResponse.class
+            );
+
+            // Assert
+            assertEquals(HttpStatus.CREATED, created.getStatusCode());
+            long deadline = System.currentTimeMillis() + RELAY_WAIT_MILLIS;
+            while (relayedCount() < before + 1 || pendingCount() > 0) {
+                assertTrue(System.currentTimeMillis() < deadline, "Outbox was not relayed in time");
+                Thread.sleep(50);
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.untitled.e2e;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@DisplayName("Thread Mode Benchmark - platform threads")
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadBenchmarkE2ETest extends ThreadModeBenchmarkE2ETestBase {
+
+    @Override
+    protected String modeName() {
+        return "platform";
+    }
+
+    @Test
+    void requestsRunOnTomcatThreadPool() {
+        assertFalse(requestsRunOnVirtualThread());
+    }
+}
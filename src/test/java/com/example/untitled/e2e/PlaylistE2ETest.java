@@ -0,0 +1,270 @@
+package com.example.untitled.e2e;
+
+import com.example.untitled.artist.dto.ArtistRequest;
+import com.example.untitled.artist.dto.ArtistResponse;
+import com.example.untitled.playlist.PlaylistService;
+import com.example.untitled.playlist.dto.PlaylistTrackRequest;
+import com.example.untitled.user.dto.UserRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Playlist E2E Tests")
+class PlaylistE2ETest extends E2ETestBase {
+
+    private static final String PLAYLISTS_PATH = "/playlists";
+
+    @Autowired
+    private PlaylistService playlistService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // ========================================================================
+    // Helper Methods
+    // ========================================================================
+
+    private String uniqueName(String prefix) {
+        return prefix + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private long createTestUser() {
+        UserRequest request = new UserRequest();
+        request.setUserName(uniqueName("user"));
+        request.setPassword("password");
+
+        ResponseEntity<JsonNode> response = restTemplate.postForEntity(
+                getBaseUrl() + "/users", request, JsonNode.class
+        );
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        return response.getBody().get("id").asLong();
+    }
+
+    private long createTestPlaylist() {
+        ResponseEntity<JsonNode> response = restTemplate.postForEntity(
+                getBaseUrl() + PLAYLISTS_PATH,
+                Map.of("playlistName", uniqueName("playlist"), "userId", createTestUser()),
+                JsonNode.class
+        );
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        return response.getBody().get("id").asLong();
+    }
+
+    private List<Long> createTestMusics(int count) {
+        ArtistRequest artistRequest = new ArtistRequest();
+        artistRequest.setArtistName(uniqueName("Artist"));
+        ArtistResponse artist = restTemplate.postForEntity(
+                getBaseUrl() + "/artists", artistRequest, ArtistResponse.class
+        ).getBody();
+        assertNotNull(artist);
+
+        String prefix = UUID.randomUUID().toString().substring(0, 8);
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(Map.of(
+                    "title", prefix + "-" + i,
+                    "artistId", artist.getId(),
+                    "musicType", 0,
+                    "youtubeLink", "https://youtube.com/test"
+            ));
+        }
+        ResponseEntity<JsonNode> response = restTemplate.postForEntity(
+                getBaseUrl() + "/prsk-music/bulk", rows, JsonNode.class
+        );
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+
+        List<Long> ids = new ArrayList<>();
+        response.getBody().get("results").forEach(result -> ids.add(result.get("id").asLong()));
+        assertEquals(count, ids.size());
+        return ids;
+    }
+
+    private ResponseEntity<JsonNode> addTrack(long playlistId, long musicId, Integer position) {
+        Map<String, Object> body = position == null
+                ? Map.of("musicId", musicId)
+                : Map.of("musicId", musicId, "position", position);
+        return restTemplate.postForEntity(
+                getBaseUrl() + PLAYLISTS_PATH + "/" + playlistId + "/tracks", body, JsonNode.class
+        );
+    }
+
+    private ResponseEntity<JsonNode> moveTrack(long playlistId, long musicId, int position) {
+        return restTemplate.exchange(
+                getBaseUrl() + PLAYLISTS_PATH + "/" + playlistId + "/tracks/" + musicId,
+                HttpMethod.PUT,
+                new HttpEntity<>(Map.of("position", position)),
+                JsonNode.class
+        );
+    }
+
+    private List<Long> trackOrder(long playlistId, int page, int limit) {
+        ResponseEntity<JsonNode> response = restTemplate.getForEntity(
+                getBaseUrl() + PLAYLISTS_PATH + "/" + playlistId + "/tracks?page=" + page + "&limit=" + limit,
+                JsonNode.class
+        );
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+
+        List<Long> musicIds = new ArrayList<>();
+        response.getBody().get("items").forEach(item -> musicIds.add(item.get("musicId").asLong()));
+        return musicIds;
+    }
+
+    // ========================================================================
+    // POST /playlists - Create Playlist
+    // ========================================================================
+
+    @Nested
+    @DisplayName("POST /playlists")
+    class CreatePlaylist {
+
+        @Test
+        @DisplayName("Success - creates playlist for user")
+        void createPlaylistSuccess() {
+            long userId = createTestUser();
+
+            ResponseEntity<JsonNode> response = restTemplate.postForEntity(
+                    getBaseUrl() + PLAYLISTS_PATH,
+                    Map.of("playlistName", "My Playlist", "userId", userId, "description", "desc"),
+                    JsonNode.class
+            );
+
+            assertEquals(HttpStatus.CREATED, response.getStatusCode());
+            assertEquals("My Playlist", response.getBody().get("playlistName").asText());
+            assertEquals(userId, response.getBody().get("userId").asLong());
+        }
+
+        @Test
+        @DisplayName("Error - 404 Not Found when user does not exist")
+        void createPlaylistError_withNotFound() {
+            ResponseEntity<JsonNode> response = restTemplate.postForEntity(
+                    getBaseUrl() + PLAYLISTS_PATH,
+                    Map.of("playlistName", "My Playlist", "userId", 999999),
+                    JsonNode.class
+            );
+
+            assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        }
+    }
+
+    // ========================================================================
+    // /playlists/{id}/tracks - Track Operations
+    // ========================================================================
+
+    @Nested
+    @DisplayName("/playlists/{id}/tracks")
+    class PlaylistTracks {
+
+        @Test
+        @DisplayName("Success - add, insert, move and remove keep the requested order")
+        void playlistTracksSuccess_ordering() {
+            long playlistId = createTestPlaylist();
+            List<Long> musicIds = createTestMusics(4);
+            long a = musicIds.get(0);
+            long b = musicIds.get(1);
+            long c = musicIds.get(2);
+            long d = musicIds.get(3);
+
+            assertEquals(1, addTrack(playlistId, a, null).getBody().get("position").asInt());
+            assertEquals(2, addTrack(playlistId, b, null).getBody().get("position").asInt());
+            assertEquals(3, addTrack(playlistId, c, null).getBody().get("position").asInt());
+            // 先頭への挿入
+            assertEquals(1, addTrack(playlistId, d, 1).getBody().get("position").asInt());
+            assertEquals(List.of(d, a, b, c), trackOrder(playlistId, 1, 20));
+
+            // 4番目から2番目へ移動
+            ResponseEntity<JsonNode> moved = moveTrack(playlistId, c, 2);
+            assertEquals(HttpStatus.OK, moved.getStatusCode());
+            assertEquals(2, moved.getBody().get("position").asInt());
+            assertEquals(List.of(d, c, a, b), trackOrder(playlistId, 1, 20));
+
+            // 楽曲数を超える位置は末尾
+            moveTrack(playlistId, d, 100);
+            assertEquals(List.of(c, a, b, d), trackOrder(playlistId, 1, 20));
+
+            restTemplate.delete(getBaseUrl() + PLAYLISTS_PATH + "/" + playlistId + "/tracks/" + a);
+            assertEquals(List.of(c, b, d), trackOrder(playlistId, 1, 20));
+        }
+
+        @Test
+        @DisplayName("Success - repeated inserts at the same position rebalance lazily and keep order")
+        void playlistTracksSuccess_rebalance() {
+            long playlistId = createTestPlaylist();
+            List<Long> musicIds = createTestMusics(15);
+            addTrack(playlistId, musicIds.get(0), null);
+            addTrack(playlistId, musicIds.get(1), null);
+
+            // 同じ位置への挿入を繰り返して間隔を使い切らせる
+            List<Long> expected = new ArrayList<>(List.of(musicIds.get(0), musicIds.get(1)));
+            for (int i = 2; i < musicIds.size(); i++) {
+                assertEquals(HttpStatus.CREATED, addTrack(playlistId, musicIds.get(i), 2).getStatusCode());
+                expected.add(1, musicIds.get(i));
+            }
+
+            assertEquals(expected, trackOrder(playlistId, 1, 20));
+        }
+
+        @Test
+        @DisplayName("Success - moving one track in a 1,000-track playlist updates a single row")
+        void moveTrackSuccess_singleRowUpdate() {
+            long playlistId = createTestPlaylist();
+            List<Long> musicIds = createTestMusics(1000);
+            for (Long musicId : musicIds) {
+                PlaylistTrackRequest request = new PlaylistTrackRequest();
+                request.setMusicId(musicId);
+                playlistService.addTrack(playlistId, request);
+            }
+
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+
+            ResponseEntity<JsonNode> response = moveTrack(playlistId, musicIds.get(999), 500);
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(500, response.getBody().get("position").asInt());
+            assertEquals(1, statistics.getEntityUpdateCount());
+            assertEquals(List.of(musicIds.get(498), musicIds.get(999), musicIds.get(499)),
+                    trackOrder(playlistId, 167, 3));
+        }
+
+        @Test
+        @DisplayName("Error - 409 Conflict when music is already in playlist")
+        void addTrackError_withConflict() {
+            long playlistId = createTestPlaylist();
+            long musicId = createTestMusics(1).get(0);
+            addTrack(playlistId, musicId, null);
+
+            ResponseEntity<JsonNode> response = addTrack(playlistId, musicId, null);
+
+            assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+            assertEquals("musicId", response.getBody().get("details").get(0).get("field").asText());
+        }
+
+        @Test
+        @DisplayName("Error - 404 Not Found when playlist is deleted")
+        void addTrackError_withNotFound() {
+            long playlistId = createTestPlaylist();
+            long musicId = createTestMusics(1).get(0);
+            restTemplate.delete(getBaseUrl() + PLAYLISTS_PATH + "/" + playlistId);
+
+            ResponseEntity<JsonNode> response = addTrack(playlistId, musicId, null);
+
+            assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        }
+    }
+}
@@ -2,21 +2,34 @@ package com.example.untitled.e2e;
 
 import com.example.untitled.artist.dto.ArtistRequest;
 import com.example.untitled.artist.dto.ArtistResponse;
+import com.example.untitled.artist.dto.OptionalArtistRequest;
 import com.example.untitled.common.dto.ErrorResponse;
 import com.example.untitled.prskmusic.dto.OptionalPrskMusicRequest;
 import com.example.untitled.prskmusic.dto.PrskMusicListResponse;
 import com.example.untitled.prskmusic.dto.PrskMusicRequest;
 import com.example.untitled.prskmusic.dto.PrskMusicResponse;
 import com.example.untitled.prskmusic.enums.MusicType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -26,6 +39,9 @@ class PrskMusicE2ETest extends E2ETestBase {
     private static final String PRSK_MUSIC_PATH = "/prsk-music";
     private static final String ARTISTS_PATH = "/artists";
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     // ========================================================================
     // Helper Methods
     // ========================================================================
@@ -507,4 +523,306 @@ class PrskMusicE2ETest extends E2ETestBase {
             assertFalse(musicFound, "Deleted prsk music should not appear in list");
         }
     }
+
+    // ========================================================================
+    // POST /prsk-music/bulk - Bulk Create PrskMusic
+    // ========================================================================
+
+    @Nested
+    @DisplayName("POST /prsk-music/bulk")
+    class BulkCreatePrskMusic {
+
+        private PrskMusicRequest bulkRow(String title, Long artistId) {
+            PrskMusicRequest request = new PrskMusicRequest();
+            request.setTitle(title);
+            request.setArtistId(artistId);
+            request.setMusicType(MusicType.ORIGINAL);
+            request.setYoutubeLink("https://youtube.com/test");
+            return request;
+        }
+
+        @Test
+        @DisplayName("Success - creates valid rows and reports failed rows")
+        void bulkCreatePrskMusicSuccess() {
+            // Arrange
+            ArtistResponse artist = createTestArtist();
+            String existingTitle = uniqueTitle();
+            createPrskMusic(existingTitle, artist.getId());
+            String newTitle = uniqueTitle();
+
+            List<PrskMusicRequest> requests = List.of(
+                    bulkRow(newTitle, artist.getId()),
+                    bulkRow(existingTitle.toUpperCase(), artist.getId()),
+                    bulkRow(uniqueTitle(), 999999L)
+            );
+
+            // Act
+            ResponseEntity<JsonNode> response = restTemplate.postForEntity(
+                    getBaseUrl() + PRSK_MUSIC_PATH + "/bulk",
+                    requests,
+                    JsonNode.class
+            );
+
+            // Assert
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            JsonNode body = response.getBody();
+            assertNotNull(body);
+            assertEquals(1, body.get("created").asInt());
+            assertEquals("CREATED", body.get("results").get(0).get("status").asText());
+            assertEquals("Title and MusicType", body.get("results").get(1).get("errors").get(0).get("field").asText());
+            assertEquals("artistId", body.get("results").get(2).get("errors").get(0).get("field").asText());
+
+            long createdId = body.get("results").get(0).get("id").asLong();
+            ResponseEntity<PrskMusicListResponse> listResponse = restTemplate.getForEntity(
+                    getBaseUrl() + PRSK_MUSIC_PATH + "/search?q=" + newTitle,
+                    PrskMusicListResponse.class
+            );
+            assertNotNull(listResponse.getBody());
+            assertTrue(listResponse.getBody().getItems().stream().anyMatch(m -> m.getId() == createdId));
+        }
+
+        @Test
+        @DisplayName("Success - imports 10,000 NDJSON rows in JDBC batches")
+        void bulkCreatePrskMusicSuccess_ndjson10k() {
+            // Arrange
+            ArtistResponse artist = createTestArtist();
+            String prefix = UUID.randomUUID().toString().substring(0, 8);
+            List<String> lines = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                lines.add("{\"title\":\"" + prefix + "-" + i + "\",\"artistId\":" + artist.getId()
+                        + ",\"musicType\":0,\"youtubeLink\":\"https://youtube.com/test\"}");
+            }
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.parseMediaType("application/x-ndjson"));
+
+            // Act
+            ResponseEntity<JsonNode> response = restTemplate.postForEntity(
+                    getBaseUrl() + PRSK_MUSIC_PATH + "/bulk",
+                    new HttpEntity<>(String.join("\n", lines), headers),
+                    JsonNode.class
+            );
+
+            // Assert
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertNotNull(response.getBody());
+            assertEquals(10_000, response.getBody().get("created").asInt());
+            assertEquals(0, response.getBody().get("failed").asInt());
+        }
+    }
+
+    // ========================================================================
+    // GET /prsk-music/export - Export PrskMusic
+    // ========================================================================
+
+    @Nested
+    @DisplayName("GET /prsk-music/export")
+    class ExportPrskMusic {
+
+        @Test
+        @DisplayName("Success - streams non-deleted prsk music as NDJSON")
+        void exportPrskMusicSuccess() throws Exception {
+            // Arrange
+            ArtistResponse artist = createTestArtist();
+            PrskMusicResponse kept = createPrskMusic(uniqueTitle(), artist.getId());
+            PrskMusicResponse deleted = createPrskMusic(uniqueTitle(), artist.getId());
+            restTemplate.exchange(
+                    getBaseUrl() + PRSK_MUSIC_PATH + "/" + deleted.getId(),
+                    HttpMethod.DELETE,
+                    null,
+                    Void.class
+            );
+
+            // Act
+            ResponseEntity<String> response = restTemplate.getForEntity(
+                    getBaseUrl() + PRSK_MUSIC_PATH + "/export",
+                    String.class
+            );
+
+            // Assert
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertNotNull(response.getBody());
+            List<Long> ids = new ArrayList<>();
+            for (String line : response.getBody().split("\n")) {
+                ids.add(objectMapper.readTree(line).get("id").asLong());
+            }
+            assertTrue(ids.contains(kept.getId()));
+            assertFalse(ids.contains(deleted.getId()));
+        }
+
+        @Test
+        @DisplayName("Success - streams CSV with a header row")
+        void exportPrskMusicSuccess_csv() {
+            // Arrange
+            ArtistResponse artist = createTestArtist();
+            PrskMusicResponse created = createPrskMusic(uniqueTitle(), artist.getId());
+
+            // Act
+            ResponseEntity<String> response = restTemplate.getForEntity(
+                    getBaseUrl() + PRSK_MUSIC_PATH + "/export?format=csv",
+                    String.class
+            );
+
+            // Assert
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertNotNull(response.getBody());
+            assertTrue(response.getBody().startsWith("id,title,artistName,"));
+            assertTrue(response.getBody().contains("\n" + created.getId() + "," + created.getTitle() + ","));
+        }
+    }
+
+    // ========================================================================
+    // GET /prsk-music/snapshot - Snapshot of all PrskMusic
+    // ========================================================================
+
+    @Nested
+    @DisplayName("GET /prsk-music/changes")
+    class GetPrskMusicChanges {
+
+        /**
+         * hasMore が false になるまで nextSince で続きを取得し、ID ごとの最新の変更を返す
+         * (値が JSON オブジェクトなら upsert、null なら削除)
+         */
+        private Map<Long, JsonNode> syncChanges(String since) throws Exception {
+            Map<Long, JsonNode> changes = new HashMap<>();
+            boolean hasMore = true;
+            while (hasMore) {
+                ResponseEntity<String> response = restTemplate.getForEntity(
+                        getBaseUrl() + PRSK_MUSIC_PATH + "/changes?limit=2&since={since}",
+                        String.class,
+                        since
+                );
+                assertEquals(HttpStatus.OK, response.getStatusCode());
+
+                JsonNode body = objectMapper.readTree(response.getBody());
+                body.get("upserts").forEach(item -> changes.put(item.get("id").asLong(), item));
+                body.get("deletes").forEach(item -> changes.put(item.get("id").asLong(), null));
+                since = body.get("nextSince").asText();
+                hasMore = body.get("hasMore").asBoolean();
+            }
+            return changes;
+        }
+
+        @Test
+        @DisplayName("Success - returns upserts, tombstones and songs affected by artist edits")
+        void getChangesSuccess() throws Exception {
+            // Arrange
+            String since = Instant.now().minusSeconds(1).toString();
+            ArtistResponse artist = createTestArtist();
+            PrskMusicResponse kept = createPrskMusic(uniqueTitle(), artist.getId());
+            PrskMusicResponse deleted = createPrskMusic(uniqueTitle(), artist.getId());
+            restTemplate.delete(getBaseUrl() + PRSK_MUSIC_PATH + "/" + deleted.getId());
+
+            OptionalArtistRequest artistRequest = new OptionalArtistRequest();
+            artistRequest.setUnitName("Unit-" + UUID.randomUUID().toString().substring(0, 8));
+            restTemplate.exchange(
+                    getBaseUrl() + ARTISTS_PATH + "/" + artist.getId(),
+                    HttpMethod.PUT,
+                    new HttpEntity<>(artistRequest),
+                    ArtistResponse.class
+            );
+
+            // Act
+            Map<Long, JsonNode> changes = syncChanges(since);
+
+            // Assert
+            assertNotNull(changes.get(kept.getId()));
+            assertEquals(artistRequest.getUnitName(), changes.get(kept.getId()).get("unitName").asText());
+            assertTrue(changes.containsKey(deleted.getId()));
+            assertNull(changes.get(deleted.getId()));
+        }
+
+        @Test
+        @DisplayName("Error - 400 Bad Request for an invalid token")
+        void getChangesError_withBadRequest_invalidSince() {
+            // Act
+            ResponseEntity<ErrorResponse> response = restTemplate.getForEntity(
+                    getBaseUrl() + PRSK_MUSIC_PATH + "/changes?since=invalid",
+                    ErrorResponse.class
+            );
+
+            // Assert
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /prsk-music/snapshot")
+    class GetPrskMusicSnapshot {
+
+        private static final int SNAPSHOT_WAIT_MILLIS = 10_000;
+
+        /**
+         * 書き出しは更新から debounce-millis 後に非同期で行われるため、条件を満たすまで取得し直す
+         */
+        private ResponseEntity<String> awaitSnapshot(Predicate<JsonNode> condition)
+                throws Exception {
+            long deadline = System.currentTimeMillis() + SNAPSHOT_WAIT_MILLIS;
+            while (true) {
+                ResponseEntity<String> response = restTemplate.getForEntity(
+                        getBaseUrl() + PRSK_MUSIC_PATH + "/snapshot", String.class
+                );
+                if (response.getStatusCode() == HttpStatus.OK
+                        && condition.test(objectMapper.readTree(response.getBody()))) {
+                    return response;
+                }
+                if (System.currentTimeMillis() > deadline) {
+                    fail("Snapshot was not updated: " + response.getStatusCode());
+                }
+                Thread.sleep(100);
+            }
+        }
+
+        private boolean containsId(JsonNode items, Long id) {
+            for (JsonNode item : items) {
+                if (item.get("id").asLong() == id) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Test
+        @DisplayName("Success - reflects created and deleted prsk music after the write settles")
+        void getSnapshotSuccess() throws Exception {
+            // Arrange
+            ArtistResponse artist = createTestArtist();
+            PrskMusicResponse kept = createPrskMusic(uniqueTitle(), artist.getId());
+            PrskMusicResponse deleted = createPrskMusic(uniqueTitle(), artist.getId());
+            awaitSnapshot(items -> containsId(items, deleted.getId()));
+
+            // Act
+            restTemplate.delete(getBaseUrl() + PRSK_MUSIC_PATH + "/" + deleted.getId());
+            ResponseEntity<String> response = awaitSnapshot(items -> !containsId(items, deleted.getId()));
+
+            // Assert
+            assertTrue(containsId(objectMapper.readTree(response.getBody()), kept.getId()));
+            assertNotNull(response.getHeaders().getETag());
+            assertEquals(response.getBody().getBytes(StandardCharsets.UTF_8).length,
+                    response.getHeaders().getContentLength());
+        }
+
+        @Test
+        @DisplayName("Success - 304 Not Modified when ETag matches")
+        void getSnapshotSuccess_notModified() throws Exception {
+            // Arrange
+            String etag = awaitSnapshot(items -> true).getHeaders().getETag();
+            HttpHeaders headers = new HttpHeaders();
+            headers.setIfNoneMatch(etag);
+
+            // Act
+            ResponseEntity<String> response = restTemplate.exchange(
+                    getBaseUrl() + PRSK_MUSIC_PATH + "/snapshot",
+                    HttpMethod.GET,
+                    new HttpEntity<>(headers),
+                    String.class
+            );
+
+            // Assert (間に他のテストの更新が入った場合は新しい ETag で 200 になる)
+            if (response.getStatusCode() == HttpStatus.OK) {
+                assertNotEquals(etag, response.getHeaders().getETag());
+                return;
+            }
+            assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        }
+    }
 }
@@ -0,0 +1,166 @@
+package com.example.untitled.e2e;
+
+import com.example.untitled.artist.dto.ArtistRequest;
+import com.example.untitled.artist.dto.ArtistResponse;
+import com.example.untitled.prskmusic.dto.OptionalPrskMusicRequest;
+import com.example.untitled.prskmusic.dto.PrskMusicListResponse;
+import com.example.untitled.prskmusic.dto.PrskMusicRequest;
+import com.example.untitled.prskmusic.dto.PrskMusicResponse;
+import com.example.untitled.prskmusic.enums.MusicType;
+import com.example.untitled.prskmusic.history.PrskMusicHistoryService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 過去の時点の楽曲一覧 (GET /prsk-music?asOf=) の確認
+ */
+@DisplayName("PrskMusic History E2E Tests")
+class PrskMusicHistoryE2ETest extends E2ETestBase {
+
+    private static final String PRSK_MUSIC_PATH = "/prsk-music";
+    private static final long WRITE_WAIT_MILLIS = 10_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PrskMusicHistoryService prskMusicHistoryService;
+
+    private PrskMusicResponse createPrskMusic(String title) {
+        ArtistRequest artistRequest = new ArtistRequest();
+        artistRequest.setArtistName("Artist-" + UUID.randomUUID().toString().substring(0, 8));
+        ResponseEntity<ArtistResponse> artist = restTemplate.postForEntity(
+                getBaseUrl() + "/artists", artistRequest, ArtistResponse.class
+        );
+        assertEquals(HttpStatus.CREATED, artist.getStatusCode());
+
+        PrskMusicRequest request = new PrskMusicRequest();
+        request.setTitle(title);
+        request.setArtistId(artist.getBody().getId());
+        request.setMusicType(MusicType.ORIGINAL);
+        request.setYoutubeLink("https://youtube.com/test");
+        ResponseEntity<PrskMusicResponse> response = restTemplate.postForEntity(
+                getBaseUrl() + PRSK_MUSIC_PATH, request, PrskMusicResponse.class
+        );
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        return response.getBody();
+    }
+
+    // 変更履歴は非同期で書き込まれるため、指定した件数になるまで待つ
+    private void awaitHistory(long prskMusicId, int expectedActions) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WRITE_WAIT_MILLIS;
+        while (true) {
+            Integer actions = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(DISTINCT action) FROM t_audit_history WHERE resource = 'prsk-music' AND entity_id = ?",
+                    Integer.class,
+                    prskMusicId
+            );
+            if (actions != null && actions >= expectedActions) {
+                return;
+            }
+            assertTrue(System.currentTimeMillis() < deadline, "Audit history was not written in time");
+            Thread.sleep(50);
+        }
+    }
+
+    // 他のテストで登録された楽曲もあるため、全ページから探す
+    private Optional<PrskMusicResponse> findAsOf(String asOf, long prskMusicId) {
+        for (int page = 1; ; page++) {
+            ResponseEntity<PrskMusicListResponse> response = restTemplate.getForEntity(
+                    getBaseUrl() + PRSK_MUSIC_PATH + "?asOf={asOf}&page={page}&limit=100",
+                    PrskMusicListResponse.class,
+                    asOf,
+                    page
+            );
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            Optional<PrskMusicResponse> found = response.getBody().getItems().stream()
+                    .filter(item -> item.getId() == prskMusicId)
+                    .findFirst();
+            if (found.isPresent() || page >= response.getBody().getMeta().getTotalPages()) {
+                return found;
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /prsk-music?asOf=")
+    class GetPrskMusicAsOf {
+
+        @Test
+        @DisplayName("Success - returns the list as it was at the given time")
+        void getPrskMusicAsOfSuccess() throws Exception {
+            // Arrange
+            String oldTitle = "Old-" + UUID.randomUUID().toString().substring(0, 8);
+            PrskMusicResponse created = createPrskMusic(oldTitle);
+            awaitHistory(created.getId(), 1);
+            prskMusicHistoryService.takeSnapshotIfChanged();
+
+            String beforeUpdate = OffsetDateTime.now(ZoneOffset.UTC).toString();
+            Thread.sleep(10);
+
+            OptionalPrskMusicRequest updateRequest = new OptionalPrskMusicRequest();
+            updateRequest.setTitle("New-" + UUID.randomUUID().toString().substring(0, 8));
+            ResponseEntity<PrskMusicResponse> updated = restTemplate.exchange(
+                    getBaseUrl() + PRSK_MUSIC_PATH + "/" + created.getId(),
+                    HttpMethod.PUT,
+                    new HttpEntity<>(updateRequest),
+                    PrskMusicResponse.class
+            );
+            assertEquals(HttpStatus.OK, updated.getStatusCode());
+            awaitHistory(created.getId(), 2);
+
+            // Act
+            Optional<PrskMusicResponse> past = findAsOf(beforeUpdate, created.getId());
+            Optional<PrskMusicResponse> current = findAsOf(OffsetDateTime.now(ZoneOffset.UTC).toString(), created.getId());
+
+            // Assert
+            assertTrue(past.isPresent());
+            assertEquals(oldTitle, past.get().getTitle());
+            assertEquals(created.getArtistName(), past.get().getArtistName());
+            assertEquals(MusicType.ORIGINAL, past.get().getMusicType());
+            assertTrue(current.isPresent());
+            assertEquals(updateRequest.getTitle(), current.get().getTitle());
+        }
+
+        @Test
+        @DisplayName("Error - 400 for asOf before the history starts")
+        void getPrskMusicAsOfError_BeforeHistory() {
+            // Act
+            ResponseEntity<String> response = restTemplate.getForEntity(
+                    getBaseUrl() + PRSK_MUSIC_PATH + "?asOf=2000-01-01T00:00:00Z",
+                    String.class
+            );
+
+            // Assert
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            assertTrue(response.getBody().contains("asOf"));
+        }
+
+        @Test
+        @DisplayName("Error - 400 for invalid asOf")
+        void getPrskMusicAsOfError_InvalidAsOf() {
+            // Act
+            ResponseEntity<String> response = restTemplate.getForEntity(
+                    getBaseUrl() + PRSK_MUSIC_PATH + "?asOf=yesterday",
+                    String.class
+            );
+
+            // Assert
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        }
+    }
+}
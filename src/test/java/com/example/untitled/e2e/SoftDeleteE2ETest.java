@@ -0,0 +1,200 @@
+package com.example.untitled.e2e;
+
+import com.example.untitled.artist.dto.ArtistRequest;
+import com.example.untitled.common.entity.ActiveIndex;
+import com.example.untitled.common.entity.ActiveUniqueIndex;
+import com.example.untitled.user.dto.UserRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 論理削除のフィルタ(BaseEntity.ACTIVE_FILTER)と部分インデックスの確認
+ */
+@DisplayName("Soft Delete E2E Tests")
+class SoftDeleteE2ETest extends E2ETestBase {
+
+    private static final int TOMBSTONE_COUNT = 2000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // ========================================================================
+    // Helper Methods
+    // ========================================================================
+
+    private String uniqueName(String prefix) {
+        return prefix + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private long createTestArtist() {
+        ArtistRequest request = new ArtistRequest();
+        request.setArtistName(uniqueName("Artist"));
+
+        ResponseEntity<JsonNode> response = restTemplate.postForEntity(
+                getBaseUrl() + "/artists", request, JsonNode.class
+        );
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        return response.getBody().get("id").asLong();
+    }
+
+    private long createTestMusic(String title, long artistId) {
+        ResponseEntity<JsonNode> response = restTemplate.postForEntity(
+                getBaseUrl() + "/prsk-music",
+                Map.of(
+                        "title", title,
+                        "artistId", artistId,
+                        "musicType", 0,
+                        "youtubeLink", "https://youtube.com/test"
+                ),
+                JsonNode.class
+        );
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        return response.getBody().get("id").asLong();
+    }
+
+    private long createTestPlaylist() {
+        UserRequest userRequest = new UserRequest();
+        userRequest.setUserName(uniqueName("user"));
+        userRequest.setPassword("password");
+        long userId = restTemplate.postForEntity(getBaseUrl() + "/users", userRequest, JsonNode.class)
+                .getBody().get("id").asLong();
+
+        ResponseEntity<JsonNode> response = restTemplate.postForEntity(
+                getBaseUrl() + "/playlists",
+                Map.of("playlistName", uniqueName("playlist"), "userId", userId),
+                JsonNode.class
+        );
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        return response.getBody().get("id").asLong();
+    }
+
+    // ========================================================================
+    // Partial indexes
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Partial indexes")
+    class PartialIndexes {
+
+        @Test
+        @DisplayName("Sort, lookup and unique indexes only cover rows that are not deleted")
+        void partialIndexesExist() {
+            List<String> indexNames = new ArrayList<>();
+            for (ActiveIndex index : ActiveIndex.values()) {
+                indexNames.add(index.getIndexName());
+            }
+            for (ActiveUniqueIndex index : ActiveUniqueIndex.values()) {
+                indexNames.add(index.getIndexName());
+            }
+
+            for (String indexName : indexNames) {
+                String definition = jdbcTemplate.queryForObject(
+                        "SELECT indexdef FROM pg_indexes WHERE indexname = ?", String.class, indexName
+                );
+                assertNotNull(definition, indexName);
+                assertTrue(definition.contains("WHERE (is_deleted = false)"), definition);
+            }
+        }
+
+        @Test
+        @DisplayName("Keyset lookup uses the partial index even when tombstones pile up")
+        void keysetLookupUsesPartialIndex() {
+            String prefix = uniqueName("Tombstone");
+            jdbcTemplate.update(
+                    "INSERT INTO m_artists (id, artist_name, artist_name_key,"
+                            + " created_at, created_by, updated_at, updated_by, is_deleted)"
+                            + " SELECT nextval('m_artists_id_seq'), ? || '-' || g, lower(?) || g,"
+                            + " now(), 'guest', now(), 'guest', true"
+                            + " FROM generate_series(1, ?) g",
+                    prefix, prefix, TOMBSTONE_COUNT
+            );
+            jdbcTemplate.execute("ANALYZE m_artists");
+
+            List<String> plan = jdbcTemplate.queryForList(
+                    "EXPLAIN SELECT id FROM m_artists WHERE is_deleted = false"
+                            + " ORDER BY artist_name ASC, id ASC LIMIT 21",
+                    String.class
+            );
+
+            assertTrue(
+                    String.join("\n", plan).contains(ActiveIndex.ARTIST_NAME.getIndexName()),
+                    String.join("\n", plan)
+            );
+        }
+    }
+
+    // ========================================================================
+    // Deleted rows referenced from active rows
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Deleted rows referenced from active rows")
+    class DeletedReferences {
+
+        @Test
+        @DisplayName("Music of a deleted artist is still listed with Unknown artist")
+        void musicOfDeletedArtist() {
+            long artistId = createTestArtist();
+            String title = uniqueName("Title");
+            createTestMusic(title, artistId);
+            restTemplate.delete(getBaseUrl() + "/artists/" + artistId);
+
+            ResponseEntity<JsonNode> response = restTemplate.getForEntity(
+                    getBaseUrl() + "/prsk-music/search?q=" + title, JsonNode.class
+            );
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            JsonNode item = response.getBody().get("items").get(0);
+            assertEquals(title, item.get("title").asText());
+            assertEquals("Unknown", item.get("artistName").asText());
+        }
+
+        @Test
+        @DisplayName("Deleted music stays in playlist with its title and deleted flag")
+        void deletedMusicInPlaylist() {
+            long playlistId = createTestPlaylist();
+            String title = uniqueName("Title");
+            long musicId = createTestMusic(title, createTestArtist());
+            restTemplate.postForEntity(
+                    getBaseUrl() + "/playlists/" + playlistId + "/tracks", Map.of("musicId", musicId), JsonNode.class
+            );
+            restTemplate.delete(getBaseUrl() + "/prsk-music/" + musicId);
+
+            ResponseEntity<JsonNode> response = restTemplate.getForEntity(
+                    getBaseUrl() + "/playlists/" + playlistId + "/tracks", JsonNode.class
+            );
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            JsonNode item = response.getBody().get("items").get(0);
+            assertEquals(title, item.get("title").asText());
+            assertTrue(item.get("musicDeleted").asBoolean());
+        }
+
+        @Test
+        @DisplayName("Deleting the latest row still moves Last-Modified forward")
+        void lastModifiedIncludesDeletedRows() {
+            long artistId = createTestArtist();
+            long before = restTemplate.getForEntity(getBaseUrl() + "/artists", JsonNode.class)
+                    .getHeaders().getLastModified();
+
+            restTemplate.delete(getBaseUrl() + "/artists/" + artistId);
+
+            long after = restTemplate.getForEntity(getBaseUrl() + "/artists", JsonNode.class)
+                    .getHeaders().getLastModified();
+            assertTrue(after >= before);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.untitled.e2e;
+
+import com.example.untitled.artist.dto.ArtistRequest;
+import com.example.untitled.artist.dto.ArtistResponse;
+import com.example.untitled.prskmusic.PrskMusicRepository;
+import com.example.untitled.prskmusic.dto.PrskMusicRequest;
+import com.example.untitled.prskmusic.enums.MusicType;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * リクエスト処理スレッド(プラットフォームスレッド / 仮想スレッド)ごとのスループットと p99 レイテンシの計測
+ * サブクラスで spring.threads.virtual.enabled を切り替えて同じ負荷をかける
+ * 同時接続数はコネクションプールを大きく上回るため、どちらのモードでもプールが上限になることを確認する
+ * ./gradlew testLoad で実行する (testE2e には含めない)
+ */
+// 別コンテキストで create-drop するとスキーマが作り直されるため、ベンチマークのコンテキストは既存のスキーマを使う
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=update",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.springframework.web=INFO",
+        "spring.datasource.hikari.maximum-pool-size=" + ThreadModeBenchmarkE2ETestBase.POOL_SIZE
+})
+@Tag("load")
+abstract class ThreadModeBenchmarkE2ETestBase extends E2ETestBase {
+
+    static final int POOL_SIZE = 10;
+
+    private static final int SEED_ROWS = 200;
+    private static final int CONCURRENCY = 400;
+    private static final int REQUESTS_PER_CLIENT = 25;
+    private static final int WARMUP_CONCURRENCY = 50;
+    private static final int WARMUP_REQUESTS_PER_CLIENT = 10;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PrskMusicRepository prskMusicRepository;
+
+    @Autowired
+    private WebServerApplicationContext webServerApplicationContext;
+
+    protected abstract String modeName();
+
+    @BeforeEach
+    void seed() {
+        long existing = prskMusicRepository.count();
+        if (existing >= SEED_ROWS) {
+            return;
+        }
+
+        ArtistRequest artistRequest = new ArtistRequest();
+        artistRequest.setArtistName("Load-" + UUID.randomUUID().toString().substring(0, 8));
+        ResponseEntity<ArtistResponse> artist = restTemplate.postForEntity(
+                getBaseUrl() + "/artists",
+                artistRequest,
+                ArtistResponse.class
+        );
+        assertEquals(HttpStatus.CREATED, artist.getStatusCode());
+
+        List<PrskMusicRequest> requests = new ArrayList<>();
+        for (long i = existing; i < SEED_ROWS; i++) {
+            PrskMusicRequest request = new PrskMusicRequest();
+            request.setTitle("Load-" + UUID.randomUUID().toString().substring(0, 8));
+            request.setArtistId(artist.getBody().getId());
+            request.setMusicType(MusicType.ORIGINAL);
+            request.setYoutubeLink("https://youtube.com/load");
+            requests.add(request);
+        }
+        ResponseEntity<String> response = restTemplate.postForEntity(
+                getBaseUrl() + "/prsk-music/bulk", requests, String.class
+        );
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+    }
+
+    /**
+     * Tomcat のリクエスト処理に使われている Executor でタスクを実行し、実行したスレッドが仮想スレッドかを返す
+     */
+    protected boolean requestsRunOnVirtualThread() {
+        TomcatWebServer webServer = (TomcatWebServer) webServerApplicationContext.getWebServer();
+        Executor executor = webServer.getTomcat().getConnector().getProtocolHandler().getExecutor();
+        return CompletableFuture.supplyAsync(() -> Thread.currentThread().isVirtual(), executor).join();
+    }
+
+    @Test
+    void measureThroughputAndTailLatency() throws Exception {
+        // カーソル方式の一覧はキャッシュを通らず、毎回 @Transactional なサービスから DB を読む
+        URI uri = URI.create("http://localhost:" + port + "/api/v1/prsk-music?cursor=&limit=20");
+        HikariPoolMXBean pool = ((HikariDataSource) dataSource).getHikariPoolMXBean();
+
+        runLoad(uri, pool, WARMUP_CONCURRENCY, WARMUP_REQUESTS_PER_CLIENT);
+        LoadResult result = runLoad(uri, pool, CONCURRENCY, REQUESTS_PER_CLIENT);
+
+        assertEquals(0, result.errors(), () -> modeName() + ": " + result);
+        // どちらのモードでも DB への同時接続数はプールサイズを超えない
+        assertTrue(result.maxActiveConnections() <= POOL_SIZE, () -> modeName() + ": " + result);
+    }
+
+    private LoadResult runLoad(URI uri, HikariPoolMXBean pool, int concurrency, int requestsPerClient) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("x-api-key", API_KEY)
+                .GET()
+                .build();
+        long[] latencies = new long[concurrency * requestsPerClient];
+        AtomicInteger latencyIndex = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        AtomicInteger maxAwaiting = new AtomicInteger();
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        // プールの使用状況をサンプリングする
+        Thread sampler = Thread.ofVirtual().start(() -> {
+            while (running.get()) {
+                maxActive.accumulateAndGet(pool.getActiveConnections(), Math::max);
+                maxAwaiting.accumulateAndGet(pool.getThreadsAwaitingConnection(), Math::max);
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+
+        long startNanos;
+        try (ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(clientThreads)
+                     .build()) {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> clients = new ArrayList<>();
+            for (int c = 0; c < concurrency; c++) {
+                clients.add(clientThreads.submit(() -> {
+                    start.await();
+                    for (int r = 0; r < requestsPerClient; r++) {
+                        long requestStart = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        latencies[latencyIndex.getAndIncrement()] = System.nanoTime() - requestStart;
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            startNanos = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : clients) {
+                future.get();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        running.set(false);
+        sampler.join();
+
+        Arrays.sort(latencies);
+        return new LoadResult(
+                latencies.length,
+                latencies.length / (elapsedNanos / 1_000_000_000.0),
+                percentileMillis(latencies, 0.50),
+                percentileMillis(latencies, 0.99),
+                maxActive.get(),
+                maxAwaiting.get(),
+                errors.get()
+        );
+    }
+
+    private static double percentileMillis(long[] sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private record LoadResult(
+            int requests,
+            double throughput,
+            double p50Millis,
+            double p99Millis,
+            int maxActiveConnections,
+            int maxThreadsAwaitingConnection,
+            int errors
+    ) {
+
+        @Override
+        public String toString() {
+            return "concurrency=%d requests=%d throughput=%.0f req/s p50=%.1f ms p99=%.1f ms"
+                    .formatted(CONCURRENCY, requests, throughput, p50Millis, p99Millis)
+                    + " maxActiveConnections=%d maxThreadsAwaitingConnection=%d errors=%d"
+                    .formatted(maxActiveConnections, maxThreadsAwaitingConnection, errors);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.untitled.e2e;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Thread Mode Benchmark - virtual threads")
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadBenchmarkE2ETest extends ThreadModeBenchmarkE2ETestBase {
+
+    @Override
+    protected String modeName() {
+        return "virtual";
+    }
+
+    @Test
+    void requestsRunOnVirtualThreads() {
+        assertTrue(requestsRunOnVirtualThread());
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.untitled.e2e.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * エンドポイント・ステータスコードごとのレイテンシ(マイクロ秒)を HdrHistogram に記録する
+ */
+class LatencyRecorder {
+
+    static final int IO_ERROR_STATUS = -1;
+
+    // 有効桁数 3 (誤差 0.1%)、上限は自動で拡張する
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final ConcurrentHashMap<Key, Histogram> histograms = new ConcurrentHashMap<>();
+
+    void record(String endpoint, int status, long elapsedNanos) {
+        histograms.computeIfAbsent(new Key(endpoint, status), key -> new ConcurrentHistogram(SIGNIFICANT_DIGITS))
+                .recordValue(Math.max(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), 1));
+    }
+
+    /**
+     * エンドポイント名・ステータスコード順に並べたヒストグラム
+     */
+    Map<Key, Histogram> snapshot() {
+        Map<Key, Histogram> snapshot = new TreeMap<>();
+        histograms.forEach((key, histogram) -> snapshot.put(key, histogram.copy()));
+        return snapshot;
+    }
+
+    record Key(String endpoint, int status) implements Comparable<Key> {
+
+        @Override
+        public int compareTo(Key other) {
+            int byEndpoint = endpoint.compareTo(other.endpoint);
+            return byEndpoint != 0 ? byEndpoint : Integer.compare(status, other.status);
+        }
+    }
+}
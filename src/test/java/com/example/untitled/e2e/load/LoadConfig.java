@@ -0,0 +1,42 @@
+package com.example.untitled.e2e.load;
+
+import java.time.Duration;
+
+/**
+ * 負荷試験の設定
+ * ./gradlew testLoad -Pload.concurrency=200 -Pload.durationSeconds=60 のようにシステムプロパティで上書きする
+ * @param concurrency : 同時に動かす仮想ユーザー数
+ * @param warmup : ウォームアップ時間 (計測対象外)
+ * @param duration : 計測時間
+ * @param maxErrorRate : 許容するエラー率 (0.0 - 1.0)
+ * @param maxP99Millis : 全体の p99 の上限 (0 以下で判定しない)
+ * @param maxP999Millis : 全体の p99.9 の上限 (0 以下で判定しない)
+ * @param minThroughput : スループット(req/s)の下限 (0 以下で判定しない)
+ */
+public record LoadConfig(
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        double maxErrorRate,
+        double maxP99Millis,
+        double maxP999Millis,
+        double minThroughput
+) {
+
+    public static LoadConfig fromSystemProperties() {
+        return new LoadConfig(
+                Integer.getInteger("load.concurrency", 50),
+                Duration.ofSeconds(Long.getLong("load.warmupSeconds", 5L)),
+                Duration.ofSeconds(Long.getLong("load.durationSeconds", 20L)),
+                doubleProperty("load.maxErrorRate", 0.0),
+                doubleProperty("load.maxP99Millis", 1_000),
+                doubleProperty("load.maxP999Millis", 0),
+                doubleProperty("load.minThroughput", 0)
+        );
+    }
+
+    private static double doubleProperty(String key, double defaultValue) {
+        String value = System.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : Double.parseDouble(value);
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.untitled.e2e.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 仮想スレッドで動く HTTP 負荷生成器
+ * 仮想ユーザーごとに1本の仮想スレッドを割り当て、計測時間が終わるまで重み付きでシナリオを選んで実行し続ける
+ */
+public class LoadHarness {
+
+    private final String baseUrl;
+    private final String apiKey;
+    private final ObjectMapper objectMapper;
+    private final List<LoadScenario.Weighted> scenarios;
+    private final int totalWeight;
+
+    /**
+     * @param baseUrl : context-path を含むベース URL (例: http://localhost:8080/api/v1)
+     * @param apiKey : x-api-key ヘッダーに設定する API キー
+     * @param objectMapper : リクエスト/レスポンスボディの変換に使う ObjectMapper
+     * @param scenarios : 重み付きのシナリオ
+     */
+    public LoadHarness(String baseUrl, String apiKey, ObjectMapper objectMapper, List<LoadScenario.Weighted> scenarios) {
+        this.baseUrl = baseUrl;
+        this.apiKey = apiKey;
+        this.objectMapper = objectMapper;
+        this.scenarios = List.copyOf(scenarios);
+        this.totalWeight = scenarios.stream().mapToInt(LoadScenario.Weighted::weight).sum();
+        if (totalWeight <= 0) {
+            throw new IllegalArgumentException("At least one scenario must have a positive weight");
+        }
+    }
+
+    /**
+     * @param concurrency : 同時に動かす仮想ユーザー数
+     * @param duration : 負荷をかける時間
+     * @return エンドポイント・ステータスコードごとの集計
+     */
+    public LoadReport run(int concurrency, Duration duration) throws Exception {
+        LatencyRecorder recorder = new LatencyRecorder();
+        AtomicLong scenarioFailures = new AtomicLong();
+
+        long startNanos;
+        long elapsedNanos;
+        try (ExecutorService virtualUsers = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(Duration.ofSeconds(10))
+                     .executor(virtualUsers)
+                     .build()) {
+            LoadSession session = new LoadSession(client, baseUrl, apiKey, objectMapper, recorder);
+            CountDownLatch start = new CountDownLatch(1);
+            long[] deadline = new long[1];
+
+            List<Future<?>> users = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                users.add(virtualUsers.submit(() -> {
+                    start.await();
+                    while (System.nanoTime() < deadline[0]) {
+                        try {
+                            pick(session).scenario().run(session);
+                        } catch (InterruptedException e) {
+                            throw e;
+                        } catch (Exception e) {
+                            // レスポンスが想定外の形だった等。1件のシナリオの失敗で仮想ユーザーを止めない
+                            scenarioFailures.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            startNanos = System.nanoTime();
+            deadline[0] = startNanos + duration.toNanos();
+            start.countDown();
+            for (Future<?> user : users) {
+                user.get();
+            }
+            elapsedNanos = System.nanoTime() - startNanos;
+        }
+
+        return LoadReport.of(recorder.snapshot(), elapsedNanos, concurrency, scenarioFailures.get());
+    }
+
+    private LoadScenario.Weighted pick(LoadSession session) {
+        int value = session.random().nextInt(totalWeight);
+        for (LoadScenario.Weighted scenario : scenarios) {
+            value -= scenario.weight();
+            if (value < 0) {
+                return scenario;
+            }
+        }
+        return scenarios.getLast();
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.untitled.e2e.load;
+
+import com.example.untitled.artist.dto.ArtistRequest;
+import com.example.untitled.artist.dto.ArtistResponse;
+import com.example.untitled.artist.dto.OptionalArtistRequest;
+import com.example.untitled.e2e.E2ETestBase;
+import com.example.untitled.prskmusic.PrskMusicRepository;
+import com.example.untitled.prskmusic.dto.OptionalPrskMusicRequest;
+import com.example.untitled.prskmusic.dto.PrskMusicRequest;
+import com.example.untitled.prskmusic.enums.MusicType;
+import com.example.untitled.user.dto.UserRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * /prsk-music, /artists, /users に対する GET / POST / PUT / DELETE の混合負荷試験
+ * ./gradlew testLoad で実行する (testE2e には含めない)
+ * 結果は標準出力と build/reports/load/*.json に出力し、閾値(LoadConfig)を超えた場合は失敗にする
+ */
+// 別コンテキストで create-drop するとスキーマが作り直されるため、負荷試験のコンテキストは既存のスキーマを使う
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=update",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.springframework.web=INFO"
+})
+@Tag("load")
+@DisplayName("Load Harness")
+class LoadHarnessE2ETest extends E2ETestBase {
+
+    private static final int SEED_MUSIC_ROWS = 200;
+    private static final String PREFIX = "lt-";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PrskMusicRepository prskMusicRepository;
+
+    private Long seedArtistId;
+
+    @BeforeEach
+    void seed() {
+        ArtistRequest artistRequest = new ArtistRequest();
+        artistRequest.setArtistName(uniqueName());
+        ResponseEntity<ArtistResponse> artist = restTemplate.postForEntity(
+                getBaseUrl() + "/artists",
+                artistRequest,
+                ArtistResponse.class
+        );
+        assertEquals(HttpStatus.CREATED, artist.getStatusCode());
+        seedArtistId = artist.getBody().getId();
+
+        long existing = prskMusicRepository.count();
+        List<PrskMusicRequest> requests = new ArrayList<>();
+        for (long i = existing; i < SEED_MUSIC_ROWS; i++) {
+            requests.add(musicRequest());
+        }
+        if (!requests.isEmpty()) {
+            ResponseEntity<String> response = restTemplate.postForEntity(
+                    getBaseUrl() + "/prsk-music/bulk", requests, String.class
+            );
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+        }
+    }
+
+    @Test
+    @DisplayName("Mixed CRUD load stays within the configured thresholds")
+    void mixedCrudLoad() throws Exception {
+        LoadConfig config = LoadConfig.fromSystemProperties();
+        LoadHarness harness = new LoadHarness(
+                "http://localhost:" + port + "/api/v1",
+                API_KEY,
+                objectMapper,
+                scenarios()
+        );
+
+        // JIT・コネクションプールを温めるための実行 (結果は捨てる)
+        harness.run(config.concurrency(), config.warmup());
+        LoadReport report = harness.run(config.concurrency(), config.duration());
+
+        System.out.print(report.format());
+        Path reportFile = Path.of("build", "reports", "load",
+                "load-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+        report.writeJson(objectMapper, reportFile);
+        System.out.println("[load] report: " + reportFile.toAbsolutePath());
+
+        List<String> violations = report.violations(config);
+        assertTrue(violations.isEmpty(), "load thresholds exceeded: " + violations);
+    }
+
+    /**
+     * 読み込み中心の構成 (GET : 書き込みフロー = 8 : 2 程度)
+     */
+    private List<LoadScenario.Weighted> scenarios() {
+        return List.of(
+                new LoadScenario.Weighted("list prsk-music (offset)", 25, session ->
+                        session.get("GET /prsk-music", "/prsk-music?page=" + (session.random().nextInt(5) + 1) + "&limit=20")),
+                new LoadScenario.Weighted("list prsk-music (cursor)", 15, session ->
+                        session.get("GET /prsk-music?cursor", "/prsk-music?cursor=&limit=20")),
+                new LoadScenario.Weighted("search prsk-music", 10, session ->
+                        session.get("GET /prsk-music/search", "/prsk-music/search?q=" + PREFIX + "&limit=20")),
+                new LoadScenario.Weighted("list artists", 15, session ->
+                        session.get("GET /artists", "/artists?page=1&limit=20")),
+                new LoadScenario.Weighted("list users", 15, session ->
+                        session.get("GET /users", "/users?page=1&limit=20")),
+                new LoadScenario.Weighted("prsk-music write flow", 10, this::prskMusicWriteFlow),
+                new LoadScenario.Weighted("artist write flow", 5, this::artistWriteFlow),
+                new LoadScenario.Weighted("user write flow", 5, this::userWriteFlow)
+        );
+    }
+
+    private void prskMusicWriteFlow(LoadSession session) throws InterruptedException {
+        LoadSession.Response created = session.post("POST /prsk-music", "/prsk-music", musicRequest());
+        if (!created.isSuccess() || created.body() == null) {
+            return;
+        }
+        OptionalPrskMusicRequest update = new OptionalPrskMusicRequest();
+        update.setTitle(uniqueName());
+        session.put("PUT /prsk-music/{id}", "/prsk-music/" + created.id(), update);
+        session.delete("DELETE /prsk-music/{id}", "/prsk-music/" + created.id());
+    }
+
+    private void artistWriteFlow(LoadSession session) throws InterruptedException {
+        ArtistRequest request = new ArtistRequest();
+        request.setArtistName(uniqueName());
+        LoadSession.Response created = session.post("POST /artists", "/artists", request);
+        if (!created.isSuccess() || created.body() == null) {
+            return;
+        }
+        OptionalArtistRequest update = new OptionalArtistRequest();
+        update.setArtistName(uniqueName());
+        session.put("PUT /artists/{id}", "/artists/" + created.id(), update);
+        session.delete("DELETE /artists/{id}", "/artists/" + created.id());
+    }
+
+    private void userWriteFlow(LoadSession session) throws InterruptedException {
+        UserRequest request = new UserRequest();
+        request.setUserName(uniqueName());
+        request.setPassword("password");
+        LoadSession.Response created = session.post("POST /users", "/users", request);
+        if (!created.isSuccess() || created.body() == null) {
+            return;
+        }
+        UserRequest update = new UserRequest();
+        update.setUserName(uniqueName());
+        update.setPassword("password2");
+        session.put("PUT /users/{id}", "/users/" + created.id(), update);
+        session.delete("DELETE /users/{id}", "/users/" + created.id());
+    }
+
+    private PrskMusicRequest musicRequest() {
+        PrskMusicRequest request = new PrskMusicRequest();
+        request.setTitle(uniqueName());
+        request.setArtistId(seedArtistId);
+        request.setMusicType(MusicType.ORIGINAL);
+        request.setYoutubeLink("https://youtube.com/load");
+        return request;
+    }
+
+    private static String uniqueName() {
+        return PREFIX + UUID.randomUUID().toString().substring(0, 12);
+    }
+}
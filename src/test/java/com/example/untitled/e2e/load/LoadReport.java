@@ -0,0 +1,157 @@
+package com.example.untitled.e2e.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 負荷試験の結果
+ * @param concurrency : 仮想ユーザー数
+ * @param elapsedSeconds : 計測にかかった時間(秒)
+ * @param total : 全リクエストの集計
+ * @param endpoints : エンドポイント・ステータスコードごとの集計
+ * @param scenarioFailures : 例外で中断したシナリオ数
+ */
+public record LoadReport(
+        int concurrency,
+        double elapsedSeconds,
+        Stats total,
+        List<Stats> endpoints,
+        long scenarioFailures
+) {
+
+    static LoadReport of(Map<LatencyRecorder.Key, Histogram> histograms, long elapsedNanos, int concurrency, long scenarioFailures) {
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        Histogram all = new Histogram(3);
+        long errors = 0;
+        List<Stats> endpoints = new ArrayList<>();
+        for (Map.Entry<LatencyRecorder.Key, Histogram> entry : histograms.entrySet()) {
+            LatencyRecorder.Key key = entry.getKey();
+            Histogram histogram = entry.getValue();
+            all.add(histogram);
+            if (isError(key.status())) {
+                errors += histogram.getTotalCount();
+            }
+            endpoints.add(Stats.of(key.endpoint(), key.status(), histogram, elapsedSeconds));
+        }
+        return new LoadReport(concurrency, elapsedSeconds, Stats.of("TOTAL", 0, all, elapsedSeconds),
+                endpoints, scenarioFailures).withErrors(errors);
+    }
+
+    private LoadReport withErrors(long errors) {
+        return new LoadReport(concurrency, elapsedSeconds, total.withErrors(errors), endpoints, scenarioFailures);
+    }
+
+    private static boolean isError(int status) {
+        return status < 200 || status >= 400;
+    }
+
+    public double errorRate() {
+        return total.count() == 0 ? 0 : (double) total.errors() / total.count();
+    }
+
+    /**
+     * 閾値を超えた項目の一覧を返す (空であれば合格)
+     */
+    public List<String> violations(LoadConfig config) {
+        List<String> violations = new ArrayList<>();
+        if (total.count() == 0) {
+            violations.add("no requests were recorded");
+            return violations;
+        }
+        if (errorRate() > config.maxErrorRate()) {
+            violations.add(String.format("error rate %.4f > %.4f", errorRate(), config.maxErrorRate()));
+        }
+        if (scenarioFailures > 0 && config.maxErrorRate() == 0) {
+            violations.add("scenario failures " + scenarioFailures + " > 0");
+        }
+        if (config.maxP99Millis() > 0 && total.p99Millis() > config.maxP99Millis()) {
+            violations.add(String.format("p99 %.1f ms > %.1f ms", total.p99Millis(), config.maxP99Millis()));
+        }
+        if (config.maxP999Millis() > 0 && total.p999Millis() > config.maxP999Millis()) {
+            violations.add(String.format("p99.9 %.1f ms > %.1f ms", total.p999Millis(), config.maxP999Millis()));
+        }
+        if (config.minThroughput() > 0 && total.throughput() < config.minThroughput()) {
+            violations.add(String.format("throughput %.0f req/s < %.0f req/s", total.throughput(), config.minThroughput()));
+        }
+        return violations;
+    }
+
+    /**
+     * コンソール出力用の表
+     */
+    public String format() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("[load] concurrency=%d elapsed=%.1fs errors=%d scenarioFailures=%d%n",
+                concurrency, elapsedSeconds, total.errors(), scenarioFailures));
+        builder.append(String.format("%-32s %6s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "status", "count", "req/s", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+        for (Stats stats : endpoints) {
+            builder.append(stats.formatRow());
+        }
+        builder.append(total.formatRow());
+        return builder.toString();
+    }
+
+    /**
+     * 過去の結果と比較できるよう JSON で書き出す
+     */
+    public void writeJson(ObjectMapper objectMapper, Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), this);
+    }
+
+    /**
+     * @param endpoint : エンドポイント名
+     * @param status : ステータスコード (TOTAL の場合は 0)
+     * @param count : リクエスト数
+     * @param errors : エラー数 (TOTAL のみ)
+     * @param throughput : 1秒あたりのリクエスト数
+     */
+    public record Stats(
+            String endpoint,
+            int status,
+            long count,
+            long errors,
+            double throughput,
+            double p50Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis
+    ) {
+
+        static Stats of(String endpoint, int status, Histogram histogram, double elapsedSeconds) {
+            return new Stats(
+                    endpoint,
+                    status,
+                    histogram.getTotalCount(),
+                    0,
+                    elapsedSeconds == 0 ? 0 : histogram.getTotalCount() / elapsedSeconds,
+                    millis(histogram.getValueAtPercentile(50.0)),
+                    millis(histogram.getValueAtPercentile(99.0)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue())
+            );
+        }
+
+        private Stats withErrors(long errors) {
+            return new Stats(endpoint, status, count, errors, throughput, p50Millis, p99Millis, p999Millis, maxMillis);
+        }
+
+        private String formatRow() {
+            return String.format("%-32s %6s %9d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint, status == 0 ? "" : String.valueOf(status), count, throughput,
+                    p50Millis, p99Millis, p999Millis, maxMillis);
+        }
+
+        private static double millis(long micros) {
+            return micros / 1_000.0;
+        }
+    }
+}
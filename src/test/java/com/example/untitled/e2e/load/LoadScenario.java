@@ -0,0 +1,19 @@
+package com.example.untitled.e2e.load;
+
+/**
+ * 仮想ユーザーが1回の反復で実行する操作 (複数リクエストの一連の流れでもよい)
+ */
+@FunctionalInterface
+public interface LoadScenario {
+
+    void run(LoadSession session) throws Exception;
+
+    /**
+     * 重み付きのシナリオ
+     * @param name : シナリオ名
+     * @param weight : 選択される比重
+     * @param scenario : 実行する操作
+     */
+    record Weighted(String name, int weight, LoadScenario scenario) {
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.untitled.e2e.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * シナリオから API を呼び出すためのクライアント
+ * リクエストごとのレイテンシを「メソッド + パステンプレート」とステータスコード単位で記録する
+ */
+public class LoadSession {
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final String apiKey;
+    private final ObjectMapper objectMapper;
+    private final LatencyRecorder recorder;
+
+    LoadSession(HttpClient client, String baseUrl, String apiKey, ObjectMapper objectMapper, LatencyRecorder recorder) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.apiKey = apiKey;
+        this.objectMapper = objectMapper;
+        this.recorder = recorder;
+    }
+
+    /**
+     * @param endpoint : 集計用のエンドポイント名 (例: "GET /artists/{id}")
+     * @param path : リクエストパス (クエリパラメータを含む)
+     */
+    public Response get(String endpoint, String path) throws InterruptedException {
+        return send(endpoint, request(path).GET());
+    }
+
+    public Response post(String endpoint, String path, Object body) throws InterruptedException {
+        return send(endpoint, request(path).POST(jsonBody(body)));
+    }
+
+    public Response put(String endpoint, String path, Object body) throws InterruptedException {
+        return send(endpoint, request(path).PUT(jsonBody(body)));
+    }
+
+    public Response delete(String endpoint, String path) throws InterruptedException {
+        return send(endpoint, request(path).DELETE());
+    }
+
+    public ThreadLocalRandom random() {
+        return ThreadLocalRandom.current();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("x-api-key", apiKey)
+                .header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher jsonBody(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to serialize request body", e);
+        }
+    }
+
+    private Response send(String endpoint, HttpRequest.Builder builder) throws InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = client.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            // 接続エラーはステータスコードを持たないため -1 として記録する
+            recorder.record(endpoint, LatencyRecorder.IO_ERROR_STATUS, System.nanoTime() - start);
+            return new Response(LatencyRecorder.IO_ERROR_STATUS, null);
+        }
+        recorder.record(endpoint, response.statusCode(), System.nanoTime() - start);
+        return new Response(response.statusCode(), parseBody(response.body()));
+    }
+
+    // JSON でないボディ (プロキシのエラーページなど) は null とし、ステータスコードの記録には影響させない
+    private JsonNode parseBody(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param status : HTTP ステータスコード (接続エラーの場合は -1)
+     * @param body : レスポンスボディ (空の場合は null)
+     */
+    public record Response(int status, JsonNode body) {
+
+        public boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+
+        public long id() {
+            return body.get("id").asLong();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.untitled.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventBroadcasterTest {
+
+    private static final long WAIT_MILLIS = 5_000;
+
+    private EventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        // 購読者ごとに2件までバッファする (ハートビートはテスト中に送らない)
+        broadcaster = new EventBroadcaster(new ObjectMapper(), 2, 60_000, 3_600);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.destroy();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * 送信したフレームを記録する (latch が開くまで送信をブロックして遅い購読者を再現する)
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> frames = new CopyOnWriteArrayList<>();
+        private final CountDownLatch sendStarted = new CountDownLatch(1);
+        private final CountDownLatch latch;
+
+        RecordingEmitter(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) throws IOException {
+            sendStarted.countDown();
+            try {
+                latch.await(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            frames.add(items.stream()
+                    .map(item -> item.getData().toString())
+                    .collect(Collectors.joining()));
+        }
+
+        List<String> events() {
+            return frames.stream().filter(frame -> frame.contains("data:")).toList();
+        }
+    }
+
+    /**
+     * 全購読者に SSE のイベントとして配信する
+     */
+    @Test
+    void shouldBroadcastToAllSubscribers() throws Exception {
+        RecordingEmitter first = new RecordingEmitter(new CountDownLatch(0));
+        RecordingEmitter second = new RecordingEmitter(new CountDownLatch(0));
+        broadcaster.subscribe(first);
+        broadcaster.subscribe(second);
+
+        broadcaster.onEntityChanged(EntityChangedEvent.created("prsk-music", 1L));
+
+        await(() -> first.events().size() == 1 && second.events().size() == 1);
+        assertThat(first.events().get(0))
+                .contains("event:prsk-music")
+                .contains("{\"resource\":\"prsk-music\",\"action\":\"created\",\"ids\":[1]}");
+        assertThat(broadcaster.subscriberCount()).isEqualTo(2);
+    }
+
+    /**
+     * 送信が追いつかない購読者は古い通知から捨て、他の購読者には影響しない
+     */
+    @Test
+    void shouldDropOldestEventsForSlowSubscriber() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(latch);
+        RecordingEmitter fast = new RecordingEmitter(new CountDownLatch(0));
+        broadcaster.subscribe(slow);
+        broadcaster.subscribe(fast);
+        // 接続時のコメントの送信でブロックするまで待つ
+        assertThat(slow.sendStarted.await(WAIT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+
+        for (long id = 1; id <= 5; id++) {
+            broadcaster.onEntityChanged(EntityChangedEvent.updated("artist", id));
+            long count = id;
+            await(() -> fast.events().size() == count);
+        }
+        latch.countDown();
+
+        await(() -> slow.events().size() == 2);
+        assertThat(slow.events().get(0)).contains("\"ids\":[4]");
+        assertThat(slow.events().get(1)).contains("\"ids\":[5]");
+        assertThat(broadcaster.droppedCount()).isEqualTo(3);
+    }
+
+    /**
+     * 送信に失敗した (切断された) 購読者は配信対象から外す
+     */
+    @Test
+    void shouldRemoveDisconnectedSubscriber() throws Exception {
+        broadcaster.subscribe(new SseEmitter() {
+            @Override
+            public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        });
+
+        await(() -> broadcaster.subscriberCount() == 0);
+    }
+}
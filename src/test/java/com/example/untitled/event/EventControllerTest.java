@@ -0,0 +1,59 @@
+package com.example.untitled.event;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(EventController.class)
+public class EventControllerTest {
+
+    @Autowired
+    private MockMvc mvcMock;
+
+    @MockitoBean
+    private EventBroadcaster eventBroadcaster;
+
+    /**
+     * GET /events : Response success
+     * 購読を開始し、非同期のままイベントストリームを返す
+     */
+    @Test
+    public void subscribeSuccess() throws Exception {
+        when(eventBroadcaster.subscribe()).thenReturn(new SseEmitter());
+
+        mvcMock.perform(get("/events")
+                        .header("x-api-key", "test-api-key")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("Content-Type", startsWith(MediaType.TEXT_EVENT_STREAM_VALUE)))
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(header().string("X-Accel-Buffering", "no"));
+
+        verify(eventBroadcaster, times(1)).subscribe();
+    }
+
+    /**
+     * GET /events : Response Unauthorized
+     * API キーが無い場合は購読しない
+     */
+    @Test
+    public void subscribeError_withUnauthorized() throws Exception {
+        mvcMock.perform(get("/events")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isUnauthorized());
+
+        verify(eventBroadcaster, never()).subscribe();
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.untitled.event.outbox;
+
+import com.example.untitled.event.EntityChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_ATTEMPTS = 2;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxEventHandler handler;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("handler", handler);
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        outboxRelay = new OutboxRelay(
+                outboxEventRepository,
+                TransactionOperations.withoutTransaction(),
+                beanFactory.getBeanProvider(OutboxEventHandler.class),
+                objectMapper,
+                beanFactory.getBeanProvider(MeterRegistry.class),
+                BATCH_SIZE,
+                60_000,
+                MAX_ATTEMPTS
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxRelay.destroy();
+    }
+
+    private OutboxEvent createOutboxEvent(long id, EntityChangedEvent event) throws Exception {
+        OutboxEvent outboxEvent = OutboxEvent.of(event, objectMapper.writeValueAsString(event));
+        outboxEvent.setId(id);
+        outboxEvent.setCreatedAt(OffsetDateTime.now().minusSeconds(1));
+        return outboxEvent;
+    }
+
+    /**
+     * バッチが一杯の間は続けて処理し、処理した行を削除してメトリクスに記録する
+     */
+    @Test
+    void shouldRelayBatchesUntilDrained() throws Exception {
+        OutboxEvent first = createOutboxEvent(1L, EntityChangedEvent.created("artist", 10L));
+        OutboxEvent second = createOutboxEvent(2L, EntityChangedEvent.updated("prsk-music", 20L));
+        OutboxEvent third = createOutboxEvent(3L, EntityChangedEvent.created("prsk-music", List.of(30L, 31L)));
+        when(outboxEventRepository.lockNextBatch(BATCH_SIZE))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(third));
+
+        outboxRelay.relayPending();
+
+        verify(handler).handle(EntityChangedEvent.created("artist", 10L));
+        verify(handler).handle(EntityChangedEvent.updated("prsk-music", 20L));
+        verify(handler).handle(EntityChangedEvent.created("prsk-music", List.of(30L, 31L)));
+        verify(outboxEventRepository).deleteAllInBatch(List.of(first, second));
+        verify(outboxEventRepository).deleteAllInBatch(List.of(third));
+        verify(outboxEventRepository, times(2)).lockNextBatch(BATCH_SIZE);
+        assertThat(meterRegistry.get("outbox.relayed").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("outbox.lag").timer().count()).isEqualTo(3);
+    }
+
+    /**
+     * 処理待ちの行が無い場合は何もしない
+     */
+    @Test
+    void shouldDoNothingWhenOutboxEmpty() {
+        when(outboxEventRepository.lockNextBatch(BATCH_SIZE)).thenReturn(List.of());
+
+        outboxRelay.relayPending();
+
+        verify(outboxEventRepository, never()).deleteAllInBatch(any());
+        assertThat(meterRegistry.get("outbox.relayed").counter().count()).isZero();
+    }
+
+    /**
+     * ハンドラーが失敗した場合は行を削除せず、失敗回数を記録して次回のポーリングでやり直す
+     */
+    @Test
+    void shouldKeepRowsWhenHandlerFails() throws Exception {
+        OutboxEvent outboxEvent = createOutboxEvent(1L, EntityChangedEvent.deleted("user", 10L));
+        when(outboxEventRepository.lockNextBatch(BATCH_SIZE)).thenReturn(List.of(outboxEvent));
+        doThrow(new IllegalStateException("Webhook unavailable")).when(handler).handle(any());
+
+        outboxRelay.relayPending();
+
+        verify(outboxEventRepository, never()).deleteAllInBatch(any());
+        verify(outboxEventRepository).saveAll(List.of(outboxEvent));
+        assertThat(outboxEvent.getAttempts()).isEqualTo(1);
+        assertThat(outboxEvent.getLastError()).contains("Webhook unavailable");
+        assertThat(outboxEvent.getParkedAt()).isNull();
+        assertThat(meterRegistry.get("outbox.relayed").counter().count()).isZero();
+    }
+
+    /**
+     * 失敗した行があってもバッチの他の行は処理し、失敗した行が残る間は続けて取得しない
+     */
+    @Test
+    void shouldRelayOtherRowsWhenOneFails() throws Exception {
+        OutboxEvent failing = createOutboxEvent(1L, EntityChangedEvent.deleted("user", 10L));
+        OutboxEvent succeeding = createOutboxEvent(2L, EntityChangedEvent.created("artist", 20L));
+        when(outboxEventRepository.lockNextBatch(BATCH_SIZE)).thenReturn(List.of(failing, succeeding));
+        doThrow(new IllegalStateException("Webhook unavailable"))
+                .when(handler).handle(EntityChangedEvent.deleted("user", 10L));
+        doNothing().when(handler).handle(EntityChangedEvent.created("artist", 20L));
+
+        outboxRelay.relayPending();
+
+        verify(outboxEventRepository).deleteAllInBatch(List.of(succeeding));
+        verify(outboxEventRepository).saveAll(List.of(failing));
+        verify(outboxEventRepository, times(1)).lockNextBatch(BATCH_SIZE);
+        assertThat(meterRegistry.get("outbox.relayed").counter().count()).isEqualTo(1);
+    }
+
+    /**
+     * max-attempts 回失敗した行は保留にする
+     */
+    @Test
+    void shouldParkRowsAfterMaxAttempts() throws Exception {
+        OutboxEvent outboxEvent = createOutboxEvent(1L, EntityChangedEvent.deleted("user", 10L));
+        outboxEvent.setAttempts(MAX_ATTEMPTS - 1);
+        when(outboxEventRepository.lockNextBatch(BATCH_SIZE)).thenReturn(List.of(outboxEvent));
+        doThrow(new IllegalStateException("Webhook unavailable")).when(handler).handle(any());
+
+        outboxRelay.relayPending();
+
+        verify(outboxEventRepository).saveAll(List.of(outboxEvent));
+        assertThat(outboxEvent.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(outboxEvent.getParkedAt()).isNotNull();
+        assertThat(meterRegistry.get("outbox.parked").counter().count()).isEqualTo(1);
+    }
+
+    /**
+     * 解析できない行はハンドラーに渡さず、すぐに保留にする
+     */
+    @Test
+    void shouldParkRowsWithInvalidPayload() {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setId(1L);
+        outboxEvent.setPayload("not-json");
+        outboxEvent.setCreatedAt(OffsetDateTime.now());
+        when(outboxEventRepository.lockNextBatch(BATCH_SIZE)).thenReturn(List.of(outboxEvent));
+
+        outboxRelay.relayPending();
+
+        verify(handler, never()).handle(any());
+        verify(outboxEventRepository).saveAll(List.of(outboxEvent));
+        assertThat(outboxEvent.getParkedAt()).isNotNull();
+        assertThat(meterRegistry.get("outbox.parked").counter().count()).isEqualTo(1);
+    }
+
+    /**
+     * 処理待ちで最も古い行の経過時間をゲージで公開する (処理待ちが無い場合は 0)
+     */
+    @Test
+    void shouldExposeOldestPendingAge() {
+        when(outboxEventRepository.lockNextBatch(BATCH_SIZE)).thenReturn(List.of());
+        when(outboxEventRepository.findPendingCreatedAt(any(Pageable.class)))
+                .thenReturn(List.of(OffsetDateTime.now().minusSeconds(30)))
+                .thenReturn(List.of());
+
+        outboxRelay.relayPending();
+        assertThat(meterRegistry.get("outbox.oldest.pending.age").gauge().value()).isGreaterThanOrEqualTo(30);
+
+        outboxRelay.relayPending();
+        assertThat(meterRegistry.get("outbox.oldest.pending.age").gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.untitled.playlist;
+
+import com.example.untitled.common.dto.ErrorDetails;
+import com.example.untitled.common.exception.DuplicationResourceException;
+import com.example.untitled.playlist.dto.PlaylistResponse;
+import com.example.untitled.playlist.dto.PlaylistTrackListResponse;
+import com.example.untitled.playlist.dto.PlaylistTrackResponse;
+import com.example.untitled.playlist.projection.PlaylistTrackProjection;
+import com.example.untitled.prskmusic.enums.MusicType;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(PlaylistController.class)
+public class PlaylistControllerTest {
+
+    @Autowired
+    private MockMvc mvcMock;
+
+    @MockitoBean
+    private PlaylistService playlistService;
+
+    private PlaylistTrackResponse createTrackResponse(Long musicId, long position) {
+        return PlaylistTrackResponse.from(
+                new PlaylistTrackProjection(musicId, "title", "artist", false, MusicType.ORIGINAL, null, false),
+                position
+        );
+    }
+
+    /**
+     * POST /playlists : Response success
+     * プレイリスト登録の正常系
+     */
+    @Test
+    public void registerPlaylistSuccess() throws Exception {
+        when(playlistService.createPlaylist(any())).thenReturn(PlaylistResponse.builder()
+                .id(1L)
+                .playlistName("playlist")
+                .userId(10L)
+                .build());
+
+        String reqBody = """
+                {
+                    "playlistName": "playlist",
+                    "userId": 10
+                }
+                """;
+
+        mvcMock.perform(post("/playlists")
+                        .header("x-api-key", "test-api-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(reqBody))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.userId").value(10));
+    }
+
+    /**
+     * POST /playlists : Response BadRequest
+     * userIdのNull不可チェック
+     */
+    @Test
+    public void registerPlaylistError_withBadRequest_UserIdNull() throws Exception {
+        String reqBody = """
+                {
+                    "playlistName": "playlist"
+                }
+                """;
+
+        mvcMock.perform(post("/playlists")
+                        .header("x-api-key", "test-api-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(reqBody))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details[0].field").value("userId"));
+
+        verify(playlistService, never()).createPlaylist(any());
+    }
+
+    /**
+     * GET /playlists/{id}/tracks : Response success
+     * 楽曲一覧はページをまたいでも1始まりの通し位置を返す
+     */
+    @Test
+    public void getPlaylistTracksSuccess() throws Exception {
+        PlaylistTrackProjection projection =
+                new PlaylistTrackProjection(5L, "title", "artist", true, MusicType.ORIGINAL, null, false);
+        when(playlistService.getPlaylistTracks(1L, 1, 2)).thenReturn(PlaylistTrackListResponse.from(
+                new PageImpl<>(List.of(projection), PageRequest.of(1, 2), 3)
+        ));
+
+        mvcMock.perform(get("/playlists/1/tracks")
+                        .header("x-api-key", "test-api-key")
+                        .param("page", "2")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].musicId").value(5))
+                .andExpect(jsonPath("$.items[0].artistName").value("Unknown"))
+                .andExpect(jsonPath("$.items[0].position").value(3))
+                .andExpect(jsonPath("$.meta.totalItems").value(3));
+    }
+
+    /**
+     * POST /playlists/{id}/tracks : Response Conflict
+     * 同じ楽曲の二重登録
+     */
+    @Test
+    public void addPlaylistTrackError_withConflict() throws Exception {
+        when(playlistService.addTrack(eq(1L), any())).thenThrow(new DuplicationResourceException(
+                "Conflict detected",
+                List.of(new ErrorDetails("musicId", "Music already exists in playlist: 5"))
+        ));
+
+        mvcMock.perform(post("/playlists/1/tracks")
+                        .header("x-api-key", "test-api-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"musicId\": 5}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.details[0].field").value("musicId"));
+    }
+
+    /**
+     * PUT /playlists/{id}/tracks/{musicId} : Response success
+     * 楽曲の並び替えの正常系
+     */
+    @Test
+    public void movePlaylistTrackSuccess() throws Exception {
+        when(playlistService.moveTrack(eq(1L), eq(5L), any())).thenReturn(createTrackResponse(5L, 2));
+
+        mvcMock.perform(put("/playlists/1/tracks/5")
+                        .header("x-api-key", "test-api-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"position\": 2}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.musicId").value(5))
+                .andExpect(jsonPath("$.position").value(2));
+    }
+
+    /**
+     * PUT /playlists/{id}/tracks/{musicId} : Response BadRequest
+     * positionは1以上
+     */
+    @Test
+    public void movePlaylistTrackError_withBadRequest_PositionZero() throws Exception {
+        mvcMock.perform(put("/playlists/1/tracks/5")
+                        .header("x-api-key", "test-api-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"position\": 0}"))
+                .andExpect(status().isBadRequest());
+
+        verify(playlistService, never()).moveTrack(anyLong(), anyLong(), any());
+    }
+
+    /**
+     * DELETE /playlists/{id}/tracks/{musicId} : Response NotFound
+     * プレイリストに無い楽曲
+     */
+    @Test
+    public void removePlaylistTrackError_withNotFound() throws Exception {
+        doThrow(new EntityNotFoundException("Music not found in playlist: 5"))
+                .when(playlistService).removeTrack(1L, 5L);
+
+        mvcMock.perform(delete("/playlists/1/tracks/5")
+                        .header("x-api-key", "test-api-key"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,300 @@
+package com.example.untitled.playlist;
+
+import com.example.untitled.artist.Artist;
+import com.example.untitled.common.entity.SoftDeleteFilter;
+import com.example.untitled.common.exception.DuplicationResourceException;
+import com.example.untitled.playlist.dto.PlaylistRequest;
+import com.example.untitled.playlist.dto.PlaylistResponse;
+import com.example.untitled.playlist.dto.PlaylistTrackMoveRequest;
+import com.example.untitled.playlist.dto.PlaylistTrackRequest;
+import com.example.untitled.playlist.dto.PlaylistTrackResponse;
+import com.example.untitled.prskmusic.PrskMusic;
+import com.example.untitled.prskmusic.PrskMusicRepository;
+import com.example.untitled.prskmusic.enums.MusicType;
+import com.example.untitled.user.User;
+import com.example.untitled.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PlaylistServiceTest {
+
+    private static final int GAP = PlaylistService.SORT_ORDER_GAP;
+
+    @Mock
+    private PlaylistRepository playlistRepository;
+
+    @Mock
+    private PlaylistMusicRepository playlistMusicRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PrskMusicRepository prskMusicRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private SoftDeleteFilter softDeleteFilter;
+
+    @InjectMocks
+    private PlaylistService playlistService;
+
+    private Playlist createPlaylist(Long id) {
+        User user = new User();
+        user.setId(10L);
+
+        Playlist playlist = new Playlist();
+        playlist.setId(id);
+        playlist.setPlaylistName("playlist");
+        playlist.setUser(user);
+        return playlist;
+    }
+
+    private PrskMusic createPrskMusic(Long id) {
+        Artist artist = new Artist();
+        artist.setId(1L);
+        artist.setArtistName("artist");
+
+        PrskMusic prskMusic = new PrskMusic();
+        prskMusic.setId(id);
+        prskMusic.setTitle("title-" + id);
+        prskMusic.setArtist(artist);
+        prskMusic.setMusicType(MusicType.ORIGINAL);
+        return prskMusic;
+    }
+
+    private PlaylistMusic createTrack(Long id, Playlist playlist, Long musicId, int sortOrder) {
+        PlaylistMusic track = new PlaylistMusic();
+        track.setId(id);
+        track.setPlaylist(playlist);
+        track.setPrskMusic(createPrskMusic(musicId));
+        track.setSortOrder(sortOrder);
+        return track;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockNeighbors(List<Integer> sortOrders) {
+        TypedQuery<Integer> query = mock(TypedQuery.class, RETURNS_SELF);
+        when(entityManager.createQuery(anyString(), eq(Integer.class))).thenReturn(query);
+        doReturn(sortOrders).when(query).getResultList();
+    }
+
+    /**
+     * createPlaylist : 正常系 - プレイリストが作成される
+     */
+    @Test
+    public void createPlaylist_Success() {
+        PlaylistRequest request = new PlaylistRequest();
+        request.setPlaylistName("playlist");
+        request.setUserId(10L);
+
+        Playlist saved = createPlaylist(1L);
+        when(userRepository.findActiveById(10L)).thenReturn(Optional.of(saved.getUser()));
+        when(playlistRepository.save(any(Playlist.class))).thenReturn(saved);
+
+        PlaylistResponse result = playlistService.createPlaylist(request);
+
+        assertEquals(1L, result.getId());
+        assertEquals(10L, result.getUserId());
+        assertEquals("playlist", result.getPlaylistName());
+    }
+
+    /**
+     * createPlaylist : 異常系 - ユーザーが存在しない場合は EntityNotFoundException
+     */
+    @Test
+    public void createPlaylist_UserNotFound() {
+        PlaylistRequest request = new PlaylistRequest();
+        request.setPlaylistName("playlist");
+        request.setUserId(99L);
+
+        when(userRepository.findActiveById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> playlistService.createPlaylist(request));
+        verify(playlistRepository, never()).save(any());
+    }
+
+    /**
+     * addTrack : 正常系 - 位置の指定が無い場合は末尾の sort_order + 間隔で追加される
+     */
+    @Test
+    public void addTrack_AppendToEnd() {
+        Playlist playlist = createPlaylist(1L);
+        PlaylistTrackRequest request = new PlaylistTrackRequest();
+        request.setMusicId(5L);
+
+        when(playlistRepository.findActiveForUpdateById(1L)).thenReturn(Optional.of(playlist));
+        when(prskMusicRepository.findActiveById(5L)).thenReturn(Optional.of(createPrskMusic(5L)));
+        when(playlistMusicRepository.existsByPlaylistIdAndPrskMusicId(1L, 5L)).thenReturn(false);
+        when(playlistMusicRepository.findMaxSortOrder(eq(1L), anyLong())).thenReturn(3 * GAP);
+        when(playlistMusicRepository.save(any(PlaylistMusic.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(playlistMusicRepository.countByPlaylistIdAndSortOrderLessThan(1L, 4 * GAP)).thenReturn(3L);
+
+        PlaylistTrackResponse result = playlistService.addTrack(1L, request);
+
+        ArgumentCaptor<PlaylistMusic> captor = ArgumentCaptor.forClass(PlaylistMusic.class);
+        verify(playlistMusicRepository).save(captor.capture());
+        assertEquals(4 * GAP, captor.getValue().getSortOrder());
+        assertEquals(5L, result.getMusicId());
+        assertEquals(4L, result.getPosition());
+    }
+
+    /**
+     * addTrack : 正常系 - 先頭に追加する場合は 0 と先頭の sort_order の中間値になる
+     */
+    @Test
+    public void addTrack_InsertAtHead() {
+        Playlist playlist = createPlaylist(1L);
+        PlaylistTrackRequest request = new PlaylistTrackRequest();
+        request.setMusicId(5L);
+        request.setPosition(1);
+
+        when(playlistRepository.findActiveForUpdateById(1L)).thenReturn(Optional.of(playlist));
+        when(prskMusicRepository.findActiveById(5L)).thenReturn(Optional.of(createPrskMusic(5L)));
+        when(playlistMusicRepository.existsByPlaylistIdAndPrskMusicId(1L, 5L)).thenReturn(false);
+        mockNeighbors(List.of(GAP));
+        when(playlistMusicRepository.save(any(PlaylistMusic.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        PlaylistTrackResponse result = playlistService.addTrack(1L, request);
+
+        ArgumentCaptor<PlaylistMusic> captor = ArgumentCaptor.forClass(PlaylistMusic.class);
+        verify(playlistMusicRepository).save(captor.capture());
+        assertEquals(GAP / 2, captor.getValue().getSortOrder());
+        assertEquals(1L, result.getPosition());
+    }
+
+    /**
+     * addTrack : 異常系 - 既にプレイリストにある楽曲は DuplicationResourceException
+     */
+    @Test
+    public void addTrack_Duplicate() {
+        Playlist playlist = createPlaylist(1L);
+        PlaylistTrackRequest request = new PlaylistTrackRequest();
+        request.setMusicId(5L);
+
+        when(playlistRepository.findActiveForUpdateById(1L)).thenReturn(Optional.of(playlist));
+        when(prskMusicRepository.findActiveById(5L)).thenReturn(Optional.of(createPrskMusic(5L)));
+        when(playlistMusicRepository.existsByPlaylistIdAndPrskMusicId(1L, 5L)).thenReturn(true);
+
+        DuplicationResourceException exception = assertThrows(
+                DuplicationResourceException.class,
+                () -> playlistService.addTrack(1L, request)
+        );
+        assertEquals("musicId", exception.getDetails().get(0).getField());
+        verify(playlistMusicRepository, never()).save(any());
+    }
+
+    /**
+     * moveTrack : 正常系 - 前後の中間値を書き込むだけで、他の楽曲は振り直さない
+     */
+    @Test
+    public void moveTrack_SingleRowUpdate() {
+        Playlist playlist = createPlaylist(1L);
+        PlaylistMusic track = createTrack(100L, playlist, 5L, 1000 * GAP);
+        PlaylistTrackMoveRequest request = new PlaylistTrackMoveRequest();
+        request.setPosition(3);
+
+        when(playlistRepository.findActiveForUpdateById(1L)).thenReturn(Optional.of(playlist));
+        when(playlistMusicRepository.findByPlaylistIdAndPrskMusicId(1L, 5L)).thenReturn(Optional.of(track));
+        mockNeighbors(List.of(2 * GAP, 3 * GAP));
+        when(playlistMusicRepository.save(track)).thenReturn(track);
+        when(playlistMusicRepository.countByPlaylistIdAndSortOrderLessThan(1L, 2 * GAP + GAP / 2)).thenReturn(2L);
+
+        PlaylistTrackResponse result = playlistService.moveTrack(1L, 5L, request);
+
+        assertEquals(2 * GAP + GAP / 2, track.getSortOrder());
+        assertEquals(3L, result.getPosition());
+        verify(playlistMusicRepository, times(1)).save(any());
+        verify(playlistMusicRepository, never()).findByPlaylistIdOrderBySortOrderAsc(anyLong());
+    }
+
+    /**
+     * moveTrack : 正常系 - 前後の間隔が詰まっている場合のみ振り直してから中間値を書き込む
+     */
+    @Test
+    public void moveTrack_RebalanceWhenGapExhausted() {
+        Playlist playlist = createPlaylist(1L);
+        PlaylistMusic first = createTrack(101L, playlist, 1L, 10);
+        PlaylistMusic second = createTrack(102L, playlist, 2L, 11);
+        PlaylistMusic moved = createTrack(103L, playlist, 3L, 12);
+        PlaylistTrackMoveRequest request = new PlaylistTrackMoveRequest();
+        request.setPosition(2);
+
+        when(playlistRepository.findActiveForUpdateById(1L)).thenReturn(Optional.of(playlist));
+        when(playlistMusicRepository.findByPlaylistIdAndPrskMusicId(1L, 3L)).thenReturn(Optional.of(moved));
+        when(playlistMusicRepository.findByPlaylistIdOrderBySortOrderAsc(1L))
+                .thenReturn(new ArrayList<>(List.of(first, second, moved)));
+
+        @SuppressWarnings("unchecked")
+        TypedQuery<Integer> query = mock(TypedQuery.class, RETURNS_SELF);
+        when(entityManager.createQuery(anyString(), eq(Integer.class))).thenReturn(query);
+        doReturn(List.of(10, 11)).doReturn(List.of(GAP, 2 * GAP)).when(query).getResultList();
+        when(playlistMusicRepository.save(moved)).thenReturn(moved);
+
+        playlistService.moveTrack(1L, 3L, request);
+
+        assertEquals(GAP, first.getSortOrder());
+        assertEquals(2 * GAP, second.getSortOrder());
+        assertEquals(GAP + GAP / 2, moved.getSortOrder());
+    }
+
+    /**
+     * moveTrack : 異常系 - プレイリストに無い楽曲は EntityNotFoundException
+     */
+    @Test
+    public void moveTrack_TrackNotFound() {
+        Playlist playlist = createPlaylist(1L);
+        PlaylistTrackMoveRequest request = new PlaylistTrackMoveRequest();
+        request.setPosition(1);
+
+        when(playlistRepository.findActiveForUpdateById(1L)).thenReturn(Optional.of(playlist));
+        when(playlistMusicRepository.findByPlaylistIdAndPrskMusicId(1L, 5L)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> playlistService.moveTrack(1L, 5L, request));
+    }
+
+    /**
+     * removeTrack : 正常系 - 楽曲を外しても残りの楽曲は振り直さない
+     */
+    @Test
+    public void removeTrack_Success() {
+        Playlist playlist = createPlaylist(1L);
+        PlaylistMusic track = createTrack(100L, playlist, 5L, GAP);
+
+        when(playlistRepository.findActiveForUpdateById(1L)).thenReturn(Optional.of(playlist));
+        when(playlistMusicRepository.findByPlaylistIdAndPrskMusicId(1L, 5L)).thenReturn(Optional.of(track));
+
+        playlistService.removeTrack(1L, 5L);
+
+        verify(playlistMusicRepository, times(1)).delete(track);
+        verify(playlistMusicRepository, never()).findByPlaylistIdOrderBySortOrderAsc(anyLong());
+    }
+
+    /**
+     * deletePlaylist : 異常系 - 存在しないプレイリストは EntityNotFoundException
+     */
+    @Test
+    public void deletePlaylist_NotFound() {
+        when(playlistRepository.findActiveById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> playlistService.deletePlaylist(99L));
+    }
+}
@@ -2,31 +2,60 @@ package com.example.untitled.prskmusic;
 
 import com.example.untitled.artist.Artist;
 import com.example.untitled.common.dto.ErrorDetails;
+import com.example.untitled.common.dto.ListVersion;
+import com.example.untitled.common.entity.ActiveUniqueIndex;
+import com.example.untitled.common.enums.ExportFormat;
+import com.example.untitled.common.enums.TotalMode;
 import com.example.untitled.common.exception.DuplicationResourceException;
+import com.example.untitled.prskmusic.dto.PrskMusicBulkResponse;
+import com.example.untitled.prskmusic.dto.PrskMusicBulkResult;
+import com.example.untitled.prskmusic.dto.PrskMusicChangesResponse;
 import com.example.untitled.prskmusic.dto.PrskMusicListResponse;
+import com.example.untitled.prskmusic.dto.PrskMusicRequest;
 import com.example.untitled.prskmusic.dto.PrskMusicResponse;
+import com.example.untitled.prskmusic.dto.PrskMusicTombstone;
 import com.example.untitled.prskmusic.enums.MusicType;
+import com.example.untitled.prskmusic.history.PrskMusicHistoryService;
+import com.example.untitled.prskmusic.projection.PrskMusicProjection;
+import com.example.untitled.prskmusic.snapshot.PrskMusicSnapshot;
 import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
-
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import static com.example.untitled.common.util.UtilsFunction.generateRandomString;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(PrskMusicController.class)
@@ -38,6 +67,19 @@ public class PrskMusicControllerTest {
     @MockitoBean
     private PrskMusicService prskMusicService;
 
+    @MockitoBean
+    private PrskMusicSnapshot prskMusicSnapshot;
+
+    @MockitoBean
+    private PrskMusicHistoryService prskMusicHistoryService;
+
+    @BeforeEach
+    void setUpListVersion() {
+        when(prskMusicService.getListVersion()).thenReturn(
+                new ListVersion("0-0", OffsetDateTime.parse("2025-01-01T00:00:00Z"))
+        );
+    }
+
     private PrskMusic createMockPrskMusic(Long id, String title, MusicType musicType, String youtubeLink) {
         Artist artist = new Artist();
         artist.setId(1L);
@@ -54,6 +96,14 @@ public class PrskMusicControllerTest {
         return prskMusic;
     }
 
+    private PrskMusicProjection createMockPrskMusicProjection(Long id, String title, MusicType musicType, String youtubeLink) {
+        return new PrskMusicProjection(
+                id, title, "Test Artist", "Test Unit", "Test Content", false,
+                musicType, null, null, null, null, youtubeLink,
+                null, null, null, null
+        );
+    }
+
     /**
      * POST /prsk-music : Response success
      * プロセカ楽曲登録の正常系
@@ -179,22 +229,50 @@ public class PrskMusicControllerTest {
                 .andExpect(jsonPath("$.details[0].field").value("Title and MusicType"));
     }
 
+    /**
+     * POST /prsk-music : Conflict
+     * 同時登録でtitle + musicTypeの部分一意インデックスに違反した場合も 409 を返す
+     */
+    @Test
+    public void registerPrskMusicError_withConflict_UniqueIndexViolation() throws Exception {
+        when(prskMusicService.createPrskMusic(any()))
+                .thenThrow(new DataIntegrityViolationException(
+                        "duplicate key value violates unique constraint \"" + ActiveUniqueIndex.PRSK_MUSIC_TITLE.getIndexName() + "\""
+                ));
+
+        String reqBody = """
+                {
+                    "title": "Duplicate Title",
+                    "artistId": 1,
+                    "musicType": 0,
+                    "youtubeLink": "https://youtube.com/test"
+                }
+                """;
+
+        mvcMock.perform(post("/prsk-music")
+                        .header("x-api-key", "test-api-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(reqBody))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.details[0].field").value("Title and MusicType"));
+    }
+
     /**
      * GET /prsk-music : Response success
      * プロセカ楽曲一覧取得の正常系
      */
     @Test
     public void getPrskMusicListSuccess() throws Exception {
-        PrskMusic music1 = createMockPrskMusic(1L, "Music 1", MusicType.ORIGINAL, "https://youtube.com/1");
-        PrskMusic music2 = createMockPrskMusic(2L, "Music 2", MusicType.THREE_D_MV, "https://youtube.com/2");
+        PrskMusicProjection music1 = createMockPrskMusicProjection(1L, "Music 1", MusicType.ORIGINAL, "https://youtube.com/1");
+        PrskMusicProjection music2 = createMockPrskMusicProjection(2L, "Music 2", MusicType.THREE_D_MV, "https://youtube.com/2");
 
-        Page<PrskMusic> musicPage = new PageImpl<>(
+        Page<PrskMusicProjection> musicPage = new PageImpl<>(
                 Arrays.asList(music1, music2),
                 PageRequest.of(0, 20),
                 2
         );
 
-        when(prskMusicService.getAllPrskMusic(0, 20, "title", "ASC")).thenReturn(PrskMusicListResponse.from(musicPage));
+        when(prskMusicService.getAllPrskMusic(0, 20, "title", "ASC", TotalMode.EXACT)).thenReturn(PrskMusicListResponse.from(musicPage));
 
         mvcMock.perform(get("/prsk-music")
                         .header("x-api-key", "test-api-key"))
@@ -209,7 +287,7 @@ public class PrskMusicControllerTest {
                 .andExpect(jsonPath("$.meta.totalItems").value(2))
                 .andExpect(jsonPath("$.meta.limit").value(20));
 
-        verify(prskMusicService, times(1)).getAllPrskMusic(0, 20, "title", "ASC");
+        verify(prskMusicService, times(1)).getAllPrskMusic(0, 20, "title", "ASC", TotalMode.EXACT);
     }
 
     /**
@@ -218,19 +296,19 @@ public class PrskMusicControllerTest {
      */
     @Test
     public void getPrskMusicListSuccess_WithPaginationParams() throws Exception {
-        PrskMusic music1 = createMockPrskMusic(11L, "Music 11", MusicType.ORIGINAL, "https://youtube.com/11");
-        PrskMusic music2 = createMockPrskMusic(12L, "Music 12", MusicType.ORIGINAL, "https://youtube.com/12");
-        PrskMusic music3 = createMockPrskMusic(13L, "Music 13", MusicType.ORIGINAL, "https://youtube.com/13");
-        PrskMusic music4 = createMockPrskMusic(14L, "Music 14", MusicType.ORIGINAL, "https://youtube.com/14");
-        PrskMusic music5 = createMockPrskMusic(15L, "Music 15", MusicType.ORIGINAL, "https://youtube.com/15");
+        PrskMusicProjection music1 = createMockPrskMusicProjection(11L, "Music 11", MusicType.ORIGINAL, "https://youtube.com/11");
+        PrskMusicProjection music2 = createMockPrskMusicProjection(12L, "Music 12", MusicType.ORIGINAL, "https://youtube.com/12");
+        PrskMusicProjection music3 = createMockPrskMusicProjection(13L, "Music 13", MusicType.ORIGINAL, "https://youtube.com/13");
+        PrskMusicProjection music4 = createMockPrskMusicProjection(14L, "Music 14", MusicType.ORIGINAL, "https://youtube.com/14");
+        PrskMusicProjection music5 = createMockPrskMusicProjection(15L, "Music 15", MusicType.ORIGINAL, "https://youtube.com/15");
 
-        Page<PrskMusic> musicPage = new PageImpl<>(
+        Page<PrskMusicProjection> musicPage = new PageImpl<>(
                 List.of(music1, music2, music3, music4, music5),
                 PageRequest.of(1, 10),
                 15
         );
 
-        when(prskMusicService.getAllPrskMusic(1, 10, "title", "ASC")).thenReturn(PrskMusicListResponse.from(musicPage));
+        when(prskMusicService.getAllPrskMusic(1, 10, "title", "ASC", TotalMode.EXACT)).thenReturn(PrskMusicListResponse.from(musicPage));
 
         mvcMock.perform(get("/prsk-music")
                         .header("x-api-key", "test-api-key")
@@ -243,7 +321,39 @@ public class PrskMusicControllerTest {
                 .andExpect(jsonPath("$.meta.totalItems").value(15))
                 .andExpect(jsonPath("$.meta.limit").value(10));
 
-        verify(prskMusicService, times(1)).getAllPrskMusic(1, 10, "title", "ASC");
+        verify(prskMusicService, times(1)).getAllPrskMusic(1, 10, "title", "ASC", TotalMode.EXACT);
+    }
+
+    /**
+     * GET /prsk-music : Not Modified
+     * If-None-Match が一致する場合はページを組み立てずに 304 を返す
+     */
+    @Test
+    public void getPrskMusicListSuccess_NotModified() throws Exception {
+        when(prskMusicService.getAllPrskMusic(0, 20, "title", "ASC", TotalMode.EXACT)).thenReturn(PrskMusicListResponse.from(new PageImpl<>(List.of(createMockPrskMusicProjection(1L, "Music 1", MusicType.ORIGINAL, "https://youtube.com/1")), PageRequest.of(0, 20), 1)));
+
+        String etag = mvcMock.perform(get("/prsk-music")
+                        .header("x-api-key", "test-api-key"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mvcMock.perform(get("/prsk-music")
+                        .header("x-api-key", "test-api-key")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+
+        mvcMock.perform(get("/prsk-music")
+                        .header("x-api-key", "test-api-key")
+                        .header("If-None-Match", etag)
+                        .param("page", "2"))
+                .andExpect(status().isOk());
+
+        verify(prskMusicService, times(1)).getAllPrskMusic(0, 20, "title", "ASC", TotalMode.EXACT);
     }
 
     /**
@@ -278,6 +388,171 @@ public class PrskMusicControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    /**
+     * GET /prsk-music : Response success with cursor
+     * カーソル方式の一覧取得
+     */
+    @Test
+    public void getPrskMusicListSuccess_WithCursor() throws Exception {
+        PrskMusicProjection music1 = createMockPrskMusicProjection(1L, "Music 1", MusicType.ORIGINAL, "https://youtube.com/1");
+        PrskMusicProjection music2 = createMockPrskMusicProjection(2L, "Music 2", MusicType.ORIGINAL, "https://youtube.com/2");
+
+        when(prskMusicService.getPrskMusicByCursor("abc", 1))
+                .thenReturn(PrskMusicListResponse.from(List.of(music1, music2), 1));
+
+        mvcMock.perform(get("/prsk-music")
+                        .header("x-api-key", "test-api-key")
+                        .param("cursor", "abc")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.meta.limit").value(1))
+                .andExpect(jsonPath("$.meta.totalItems").doesNotExist())
+                .andExpect(jsonPath("$.meta.nextCursor").isNotEmpty());
+
+        verify(prskMusicService, times(1)).getPrskMusicByCursor("abc", 1);
+        verify(prskMusicService, never()).getAllPrskMusic(anyInt(), anyInt(), anyString(), anyString(), any());
+    }
+
+    /**
+     * GET /prsk-music : Response success with asOf
+     * 過去の時点の一覧取得 (変更履歴から復元する)
+     */
+    @Test
+    public void getPrskMusicListSuccess_WithAsOf() throws Exception {
+        PrskMusicProjection music = createMockPrskMusicProjection(1L, "Old Title", MusicType.ORIGINAL, "https://youtube.com/1");
+
+        when(prskMusicHistoryService.getPrskMusicAsOf("2025-01-01T00:00:00Z", 0, 20))
+                .thenReturn(PrskMusicListResponse.from(new PageImpl<>(List.of(music), PageRequest.of(0, 20), 1)));
+
+        mvcMock.perform(get("/prsk-music")
+                        .header("x-api-key", "test-api-key")
+                        .param("asOf", "2025-01-01T00:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].title").value("Old Title"));
+
+        verify(prskMusicHistoryService, times(1)).getPrskMusicAsOf("2025-01-01T00:00:00Z", 0, 20);
+        verify(prskMusicService, never()).getAllPrskMusic(anyInt(), anyInt(), anyString(), anyString(), any());
+    }
+
+    /**
+     * GET /prsk-music : Response BadRequest
+     * asOf と cursor を同時に指定
+     */
+    @Test
+    public void getPrskMusicListError_withBadRequest_AsOfWithCursor() throws Exception {
+        mvcMock.perform(get("/prsk-music")
+                        .header("x-api-key", "test-api-key")
+                        .param("asOf", "2025-01-01T00:00:00Z")
+                        .param("cursor", "abc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details[0].field").value("asOf"));
+
+        verify(prskMusicHistoryService, never()).getPrskMusicAsOf(anyString(), anyInt(), anyInt());
+    }
+
+    /**
+     * GET /prsk-music : Response BadRequest
+     * total に不正な値を指定
+     */
+    @Test
+    public void getPrskMusicListError_withBadRequest_InvalidTotal() throws Exception {
+        mvcMock.perform(get("/prsk-music")
+                        .header("x-api-key", "test-api-key")
+                        .param("total", "approx"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details[0].field").value("total"));
+
+        verify(prskMusicService, never()).getAllPrskMusic(anyInt(), anyInt(), anyString(), anyString(), any());
+    }
+
+    /**
+     * GET /prsk-music/search : Response success
+     * プロセカ楽曲検索の正常系
+     */
+    @Test
+    public void searchPrskMusicSuccess() throws Exception {
+        PrskMusicProjection music = createMockPrskMusicProjection(1L, "セカイ", MusicType.ORIGINAL, "https://youtube.com/1");
+
+        when(prskMusicService.searchPrskMusic("セカイ", 0, 20)).thenReturn(
+                PrskMusicListResponse.from(new PageImpl<>(List.of(music), PageRequest.of(0, 20), 1))
+        );
+
+        mvcMock.perform(get("/prsk-music/search")
+                        .header("x-api-key", "test-api-key")
+                        .param("q", "セカイ"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].title").value("セカイ"))
+                .andExpect(jsonPath("$.meta.totalItems").value(1));
+
+        verify(prskMusicService, times(1)).searchPrskMusic("セカイ", 0, 20);
+    }
+
+    /**
+     * GET /prsk-music/search : Response BadRequest
+     * 検索語が空
+     */
+    @Test
+    public void searchPrskMusicError_withBadRequest_BlankQuery() throws Exception {
+        mvcMock.perform(get("/prsk-music/search")
+                        .header("x-api-key", "test-api-key")
+                        .param("q", " "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details[0].field").value("q"));
+
+        verify(prskMusicService, never()).searchPrskMusic(anyString(), anyInt(), anyInt());
+    }
+
+    /**
+     * GET /prsk-music/changes : Response success
+     * 差分同期の正常系
+     */
+    @Test
+    public void getPrskMusicChangesSuccess() throws Exception {
+        PrskMusicProjection music = createMockPrskMusicProjection(1L, "Test Music", MusicType.ORIGINAL, "https://youtube.com/1");
+
+        when(prskMusicService.getPrskMusicChanges("token", 100)).thenReturn(PrskMusicChangesResponse.builder()
+                .upserts(List.of(PrskMusicResponse.from(music)))
+                .deletes(List.of(PrskMusicTombstone.builder()
+                        .id(2L)
+                        .deletedAt(OffsetDateTime.parse("2025-01-01T00:00:00Z"))
+                        .build()))
+                .nextSince("next-token")
+                .hasMore(false)
+                .build());
+
+        mvcMock.perform(get("/prsk-music/changes")
+                        .header("x-api-key", "test-api-key")
+                        .param("since", "token"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andExpect(jsonPath("$.upserts", hasSize(1)))
+                .andExpect(jsonPath("$.upserts[0].title").value("Test Music"))
+                .andExpect(jsonPath("$.deletes[0].id").value(2))
+                .andExpect(jsonPath("$.nextSince").value("next-token"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+
+        verify(prskMusicService, times(1)).getPrskMusicChanges("token", 100);
+    }
+
+    /**
+     * GET /prsk-music/changes : Response BadRequest
+     * limit が上限を超える
+     */
+    @Test
+    public void getPrskMusicChangesError_withBadRequest_LimitTooLarge() throws Exception {
+        mvcMock.perform(get("/prsk-music/changes")
+                        .header("x-api-key", "test-api-key")
+                        .param("limit", "1001"))
+                .andExpect(status().isBadRequest());
+
+        verify(prskMusicService, never()).getPrskMusicChanges(any(), anyInt());
+    }
+
     /**
      * PUT /prsk-music/{id} : Response success
      * プロセカ楽曲情報更新の正常系
@@ -469,4 +744,226 @@ public class PrskMusicControllerTest {
 
         verify(prskMusicService, times(1)).deletePrskMusic(999L);
     }
+
+    /**
+     * POST /prsk-music/bulk : Response OK
+     * JSON 配列で一括登録し、行ごとの結果を返す
+     */
+    @Test
+    public void bulkRegisterPrskMusicSuccess() throws Exception {
+        when(prskMusicService.bulkCreatePrskMusic(anyList())).thenReturn(PrskMusicBulkResponse.from(List.of(
+                PrskMusicBulkResult.created(0, 1L),
+                PrskMusicBulkResult.failed(1, List.of(new ErrorDetails("Title and MusicType", "Duplicate title and music type combination.")))
+        )));
+
+        String reqBody = """
+                [
+                    {"title": "Title A", "artistId": 1, "musicType": 0, "youtubeLink": "https://youtube.com/a"},
+                    {"title": "Title A", "artistId": 1, "musicType": 0, "youtubeLink": "https://youtube.com/a"}
+                ]
+                """;
+
+        mvcMock.perform(post("/prsk-music/bulk")
+                        .header("x-api-key", "test-api-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(reqBody))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].id").value(1))
+                .andExpect(jsonPath("$.results[1].status").value("FAILED"))
+                .andExpect(jsonPath("$.results[1].errors[0].field").value("Title and MusicType"));
+
+        verify(prskMusicService, times(1)).bulkCreatePrskMusic(argThat(requests -> requests.size() == 2));
+    }
+
+    /**
+     * POST /prsk-music/bulk : Response OK
+     * NDJSON の場合は1行ずつ解析し、解析できない行は null として行番号を保つ
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void bulkRegisterPrskMusicSuccess_Ndjson() throws Exception {
+        when(prskMusicService.bulkCreatePrskMusic(anyList())).thenReturn(PrskMusicBulkResponse.from(List.of()));
+
+        String reqBody = """
+                {"title": "Title A", "artistId": 1, "musicType": 0, "youtubeLink": "https://youtube.com/a"}
+                {"title": "Broken",
+
+                {"title": "Title B", "artistId": 2, "musicType": 1, "youtubeLink": "https://youtube.com/b"}
+                """;
+
+        mvcMock.perform(post("/prsk-music/bulk")
+                        .header("x-api-key", "test-api-key")
+                        .contentType("application/x-ndjson")
+                        .content(reqBody))
+                .andExpect(status().isOk());
+
+        ArgumentCaptor<List<PrskMusicRequest>> captor = ArgumentCaptor.forClass(List.class);
+        verify(prskMusicService, times(1)).bulkCreatePrskMusic(captor.capture());
+
+        List<PrskMusicRequest> requests = captor.getValue();
+        assertEquals(3, requests.size());
+        assertEquals("Title A", requests.get(0).getTitle());
+        assertNull(requests.get(1));
+        assertEquals(MusicType.THREE_D_MV, requests.get(2).getMusicType());
+    }
+
+    /**
+     * GET /prsk-music/export : Response OK
+     * NDJSON をストリーミングで返す
+     */
+    @Test
+    public void exportPrskMusicSuccess() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(prskMusicService).exportPrskMusic(eq(ExportFormat.NDJSON), any(OutputStream.class));
+
+        MvcResult result = mvcMock.perform(get("/prsk-music/export")
+                        .header("x-api-key", "test-api-key"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvcMock.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"prsk-music.ndjson\""))
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    /**
+     * GET /prsk-music/export : Response OK
+     * Accept-Encoding に gzip が含まれる場合は gzip 圧縮して返す
+     */
+    @Test
+    public void exportPrskMusicSuccess_Gzip() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write("id,title\n".getBytes(StandardCharsets.UTF_8));
+            return 0L;
+        }).when(prskMusicService).exportPrskMusic(eq(ExportFormat.CSV), any(OutputStream.class));
+
+        MvcResult result = mvcMock.perform(get("/prsk-music/export")
+                        .header("x-api-key", "test-api-key")
+                        .header("Accept-Encoding", "gzip, deflate")
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult dispatched = mvcMock.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn();
+
+        byte[] compressed = dispatched.getResponse().getContentAsByteArray();
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertEquals("id,title\n", new String(gzipInputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * GET /prsk-music/export : Response OK
+     * Accept-Encoding で gzip の q 値が 0 の場合は圧縮しない
+     */
+    @Test
+    public void exportPrskMusicSuccess_GzipNotAcceptable() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write("id,title\n".getBytes(StandardCharsets.UTF_8));
+            return 0L;
+        }).when(prskMusicService).exportPrskMusic(eq(ExportFormat.CSV), any(OutputStream.class));
+
+        MvcResult result = mvcMock.perform(get("/prsk-music/export")
+                        .header("x-api-key", "test-api-key")
+                        .header("Accept-Encoding", "gzip;q=0, identity")
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvcMock.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(content().string("id,title\n"));
+    }
+
+    /**
+     * GET /prsk-music/export : Response BadRequest
+     * 未対応の出力形式
+     */
+    @Test
+    public void exportPrskMusicError_withBadRequest_InvalidFormat() throws Exception {
+        mvcMock.perform(get("/prsk-music/export")
+                        .header("x-api-key", "test-api-key")
+                        .param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details[0].field").value("format"));
+
+        verify(prskMusicService, never()).exportPrskMusic(any(), any());
+    }
+
+    private PrskMusicSnapshot.Snapshot createSnapshot(Path dir, String json) throws Exception {
+        Path jsonFile = Files.writeString(dir.resolve("snapshot.json"), json);
+        Path gzipFile = Files.writeString(dir.resolve("snapshot.json.gz"), json);
+        return new PrskMusicSnapshot.Snapshot(
+                PrskMusicSnapshot.Representation.map(jsonFile, "\"abc\""),
+                PrskMusicSnapshot.Representation.map(gzipFile, "\"abc-gzip\""),
+                OffsetDateTime.parse("2025-01-01T00:00:00Z").toInstant().toEpochMilli()
+        );
+    }
+
+    /**
+     * GET /prsk-music/snapshot : Response OK
+     * 書き出し済みのファイルを強い ETag 付きで返す (DB にはアクセスしない)
+     */
+    @Test
+    public void getPrskMusicSnapshotSuccess(@TempDir Path dir) throws Exception {
+        when(prskMusicSnapshot.current()).thenReturn(createSnapshot(dir, "[{\"id\":1}]"));
+
+        MvcResult result = mvcMock.perform(get("/prsk-music/snapshot")
+                        .header("x-api-key", "test-api-key"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvcMock.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc\""))
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(content().string("[{\"id\":1}]"));
+
+        verifyNoInteractions(prskMusicService);
+    }
+
+    /**
+     * GET /prsk-music/snapshot : Response NotModified
+     * If-None-Match が圧縮形式ごとの ETag と一致する場合は 304
+     */
+    @Test
+    public void getPrskMusicSnapshotSuccess_NotModified(@TempDir Path dir) throws Exception {
+        when(prskMusicSnapshot.current()).thenReturn(createSnapshot(dir, "[]"));
+
+        mvcMock.perform(get("/prsk-music/snapshot")
+                        .header("x-api-key", "test-api-key")
+                        .header("Accept-Encoding", "gzip")
+                        .header("If-None-Match", "\"abc-gzip\""))
+                .andExpect(status().isNotModified());
+    }
+
+    /**
+     * GET /prsk-music/snapshot : Response ServiceUnavailable
+     * 初回の書き出しが終わるまでは 503 と Retry-After を返す
+     */
+    @Test
+    public void getPrskMusicSnapshotError_withServiceUnavailable() throws Exception {
+        when(prskMusicSnapshot.current()).thenReturn(null);
+
+        mvcMock.perform(get("/prsk-music/snapshot")
+                        .header("x-api-key", "test-api-key"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
 }
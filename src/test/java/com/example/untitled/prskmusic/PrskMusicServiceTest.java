@@ -2,28 +2,68 @@ package com.example.untitled.prskmusic;
 
 import com.example.untitled.artist.Artist;
 import com.example.untitled.artist.ArtistRepository;
+import com.example.untitled.audit.AuditRecord;
+import com.example.untitled.common.cache.CatalogVersion;
+import com.example.untitled.common.cache.TotalCountCache;
+import com.example.untitled.common.dto.ListVersion;
+import com.example.untitled.common.entity.ActiveIndexInitializer;
+import com.example.untitled.common.entity.ActiveUniqueIndex;
+import com.example.untitled.common.entity.ChangeSettleWindow;
+import com.example.untitled.common.entity.SoftDeleteFilter;
+import com.example.untitled.common.enums.ExportFormat;
+import com.example.untitled.common.enums.TotalMode;
+import com.example.untitled.common.exception.BadRequestException;
 import com.example.untitled.common.exception.DuplicationResourceException;
+import com.example.untitled.common.util.CursorCodec;
+import com.example.untitled.event.EntityChangedEvent;
+import com.example.untitled.prskmusic.cache.PrskMusicListCache;
 import com.example.untitled.prskmusic.dto.OptionalPrskMusicRequest;
+import com.example.untitled.prskmusic.dto.PrskMusicBulkResponse;
+import com.example.untitled.prskmusic.dto.PrskMusicBulkResult;
+import com.example.untitled.prskmusic.dto.PrskMusicChangesResponse;
 import com.example.untitled.prskmusic.dto.PrskMusicListResponse;
 import com.example.untitled.prskmusic.dto.PrskMusicRequest;
 import com.example.untitled.prskmusic.dto.PrskMusicResponse;
 import com.example.untitled.prskmusic.enums.MusicType;
+import com.example.untitled.prskmusic.projection.PrskMusicChangeProjection;
+import com.example.untitled.prskmusic.projection.PrskMusicKeyProjection;
+import com.example.untitled.prskmusic.projection.PrskMusicProjection;
+import com.example.untitled.prskmusic.search.PrskMusicSearchIndex;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -37,9 +77,51 @@ public class PrskMusicServiceTest {
     @Mock
     private ArtistRepository artistRepository;
 
+    @Spy
+    private PrskMusicListCache prskMusicListCache = new PrskMusicListCache(16);
+
+    @Spy
+    private TotalCountCache totalCountCache = new TotalCountCache(300);
+
+    @Spy
+    private CatalogVersion catalogVersion = new CatalogVersion();
+
+    @Mock
+    private SoftDeleteFilter softDeleteFilter;
+
+    @Mock
+    private ActiveIndexInitializer activeIndexInitializer;
+
+    @Spy
+    private ChangeSettleWindow changeSettleWindow = new ChangeSettleWindow(60);
+
+    @Mock
+    private PrskMusicSearchIndex prskMusicSearchIndex;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PrskMusicService prskMusicService;
 
+    // 単体テストではフィルタを切り替えず、渡された処理をそのまま実行する
+    private void passThroughSoftDeleteFilter() {
+        when(softDeleteFilter.includingDeleted(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+    }
+
     private Artist createArtist(Long id, String artistName) {
         Artist artist = new Artist();
         artist.setId(id);
@@ -59,6 +141,33 @@ public class PrskMusicServiceTest {
         return prskMusic;
     }
 
+    private PrskMusicRequest createPrskMusicRequest(String title, Long artistId, MusicType musicType) {
+        PrskMusicRequest request = new PrskMusicRequest();
+        request.setTitle(title);
+        request.setArtistId(artistId);
+        request.setMusicType(musicType);
+        request.setYoutubeLink("https://youtube.com/test");
+        return request;
+    }
+
+    // saveAll で採番されたIDを再現する
+    private void stubSaveAllWithIds() {
+        long[] sequence = {100L};
+        when(prskMusicRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<PrskMusic> batch = new ArrayList<>(invocation.getArgument(0));
+            batch.forEach(prskMusic -> prskMusic.setId(sequence[0]++));
+            return batch;
+        });
+    }
+
+    private PrskMusicProjection createPrskMusicProjection(Long id, String title, MusicType musicType, String artistName) {
+        return new PrskMusicProjection(
+                id, title, artistName, "Test Unit", "Test Content", false,
+                musicType, null, null, null, null, "https://youtube.com/test",
+                null, null, null, null
+        );
+    }
+
     /**
      * createPrskMusic : 正常系 - プロセカ楽曲が正常に作成される
      */
@@ -74,10 +183,9 @@ public class PrskMusicServiceTest {
 
         PrskMusic createdMusic = createPrskMusic(1L, "Test Title", MusicType.ORIGINAL, artist);
 
-        when(prskMusicRepository.findByTitleAndMusicTypeAndIsDeleted("Test Title", MusicType.ORIGINAL, false))
-                .thenReturn(Optional.empty());
-        when(artistRepository.findByIdAndIsDeleted(1L, false)).thenReturn(Optional.of(artist));
-        when(prskMusicRepository.save(any(PrskMusic.class))).thenReturn(createdMusic);
+        when(artistRepository.findActiveById(1L)).thenReturn(Optional.of(artist));
+        when(activeIndexInitializer.isEnforced(ActiveUniqueIndex.PRSK_MUSIC_TITLE)).thenReturn(true);
+        when(prskMusicRepository.saveAndFlush(any(PrskMusic.class))).thenReturn(createdMusic);
 
         PrskMusicResponse result = prskMusicService.createPrskMusic(request);
 
@@ -86,18 +194,19 @@ public class PrskMusicServiceTest {
         assertEquals("Test Title", result.getTitle());
         assertEquals(MusicType.ORIGINAL, result.getMusicType());
 
-        verify(prskMusicRepository, times(1)).findByTitleAndMusicTypeAndIsDeleted("Test Title", MusicType.ORIGINAL, false);
-        verify(artistRepository, times(1)).findByIdAndIsDeleted(1L, false);
-        verify(prskMusicRepository, times(1)).save(any(PrskMusic.class));
+        verify(prskMusicRepository, never()).findFirstByTitleKeyAndMusicType(anyString(), any(MusicType.class));
+        verify(artistRepository, times(1)).findActiveById(1L);
+        verify(prskMusicRepository, times(1)).saveAndFlush(any(PrskMusic.class));
+        verify(prskMusicListCache, times(1)).invalidate();
+        verify(prskMusicSearchIndex, times(1)).put(1L, "Test Title", null, null);
     }
 
     /**
-     * createPrskMusic : 異常系 - title + musicType が重複しており、例外をスローする
+     * createPrskMusic : 異常系 - title + musicType が重複しており、一意インデックス違反を重複エラーに変換する
      */
     @Test
     public void createPrskMusicError_withDuplication() {
         Artist artist = createArtist(1L, "Test Artist");
-        PrskMusic existingMusic = createPrskMusic(1L, "Duplicate Title", MusicType.ORIGINAL, artist);
 
         PrskMusicRequest request = new PrskMusicRequest();
         request.setTitle("Duplicate Title");
@@ -105,19 +214,70 @@ public class PrskMusicServiceTest {
         request.setMusicType(MusicType.ORIGINAL);
         request.setYoutubeLink("https://youtube.com/test");
 
-        when(prskMusicRepository.findByTitleAndMusicTypeAndIsDeleted("Duplicate Title", MusicType.ORIGINAL, false))
-                .thenReturn(Optional.of(existingMusic));
+        when(artistRepository.findActiveById(1L)).thenReturn(Optional.of(artist));
+        when(activeIndexInitializer.isEnforced(ActiveUniqueIndex.PRSK_MUSIC_TITLE)).thenReturn(true);
+        when(prskMusicRepository.saveAndFlush(any(PrskMusic.class)))
+                .thenThrow(new DataIntegrityViolationException(ActiveUniqueIndex.PRSK_MUSIC_TITLE.getIndexName()));
 
         DuplicationResourceException exception = assertThrows(
                 DuplicationResourceException.class,
                 () -> prskMusicService.createPrskMusic(request)
         );
 
-        assertNotNull(exception.getDetails());
         assertEquals("Title and MusicType", exception.getDetails().get(0).getField());
+        assertEquals("Duplicate title and music type combination.", exception.getDetails().get(0).getMessage());
+        verify(prskMusicListCache, never()).invalidate();
+        verify(prskMusicSearchIndex, never()).put(any(), any(), any(), any());
+    }
 
-        verify(prskMusicRepository, times(1)).findByTitleAndMusicTypeAndIsDeleted("Duplicate Title", MusicType.ORIGINAL, false);
-        verify(prskMusicRepository, never()).save(any(PrskMusic.class));
+    /**
+     * createPrskMusic : 異常系 - 一意インデックスが無い場合 (既存データの重複・H2) は登録前の SELECT で重複を検出する
+     */
+    @Test
+    public void createPrskMusicError_withDuplicationWithoutIndex() {
+        Artist artist = createArtist(1L, "Test Artist");
+
+        PrskMusicRequest request = new PrskMusicRequest();
+        request.setTitle("Duplicate Title");
+        request.setArtistId(1L);
+        request.setMusicType(MusicType.ORIGINAL);
+        request.setYoutubeLink("https://youtube.com/test");
+
+        when(artistRepository.findActiveById(1L)).thenReturn(Optional.of(artist));
+        when(activeIndexInitializer.isEnforced(ActiveUniqueIndex.PRSK_MUSIC_TITLE)).thenReturn(false);
+        when(prskMusicRepository.findFirstByTitleKeyAndMusicType("duplicatetitle", MusicType.ORIGINAL))
+                .thenReturn(Optional.of(createPrskMusic(2L, "duplicate title", MusicType.ORIGINAL, artist)));
+
+        assertThrows(
+                DuplicationResourceException.class,
+                () -> prskMusicService.createPrskMusic(request)
+        );
+
+        verify(prskMusicRepository, never()).saveAndFlush(any(PrskMusic.class));
+        verify(prskMusicListCache, never()).invalidate();
+    }
+
+    /**
+     * createPrskMusic : 正常系 - カタカナ/ひらがな・全角/半角のみ異なるタイトルも重複となるよう、正規化キーで登録する
+     */
+    @Test
+    public void createPrskMusicSuccess_withNormalizedTitleKey() {
+        Artist artist = createArtist(1L, "Test Artist");
+
+        PrskMusicRequest request = new PrskMusicRequest();
+        request.setTitle("ｾｶｲ");
+        request.setArtistId(1L);
+        request.setMusicType(MusicType.ORIGINAL);
+        request.setYoutubeLink("https://youtube.com/test");
+
+        when(artistRepository.findActiveById(1L)).thenReturn(Optional.of(artist));
+        when(prskMusicRepository.saveAndFlush(any(PrskMusic.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        prskMusicService.createPrskMusic(request);
+
+        ArgumentCaptor<PrskMusic> captor = ArgumentCaptor.forClass(PrskMusic.class);
+        verify(prskMusicRepository).saveAndFlush(captor.capture());
+        assertEquals("せかい", captor.getValue().getTitleKey());
     }
 
     /**
@@ -131,9 +291,7 @@ public class PrskMusicServiceTest {
         request.setMusicType(MusicType.ORIGINAL);
         request.setYoutubeLink("https://youtube.com/test");
 
-        when(prskMusicRepository.findByTitleAndMusicTypeAndIsDeleted("Test Title", MusicType.ORIGINAL, false))
-                .thenReturn(Optional.empty());
-        when(artistRepository.findByIdAndIsDeleted(999L, false)).thenReturn(Optional.empty());
+        when(artistRepository.findActiveById(999L)).thenReturn(Optional.empty());
 
         EntityNotFoundException exception = assertThrows(
                 EntityNotFoundException.class,
@@ -142,7 +300,7 @@ public class PrskMusicServiceTest {
 
         assertEquals("Artist not found for id: 999", exception.getMessage());
 
-        verify(prskMusicRepository, never()).save(any(PrskMusic.class));
+        verify(prskMusicRepository, never()).saveAndFlush(any(PrskMusic.class));
     }
 
     /**
@@ -150,19 +308,18 @@ public class PrskMusicServiceTest {
      */
     @Test
     public void getAllPrskMusicSuccess_ASC() {
-        Artist artist = createArtist(1L, "Test Artist");
-        PrskMusic music1 = createPrskMusic(1L, "Music A", MusicType.ORIGINAL, artist);
-        PrskMusic music2 = createPrskMusic(2L, "Music B", MusicType.THREE_D_MV, artist);
+        PrskMusicProjection music1 = createPrskMusicProjection(1L, "Music A", MusicType.ORIGINAL, "Test Artist");
+        PrskMusicProjection music2 = createPrskMusicProjection(2L, "Music B", MusicType.THREE_D_MV, "Test Artist");
 
-        Page<PrskMusic> musicPage = new PageImpl<>(
+        Page<PrskMusicProjection> musicPage = new PageImpl<>(
                 Arrays.asList(music1, music2),
                 PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "title")),
                 2
         );
 
-        when(prskMusicRepository.findByIsDeleted(eq(false), any(Pageable.class))).thenReturn(musicPage);
+        when(prskMusicRepository.findAllProjections(any(Pageable.class))).thenReturn(musicPage);
 
-        PrskMusicListResponse result = prskMusicService.getAllPrskMusic(0, 20, "title", "ASC");
+        PrskMusicListResponse result = prskMusicService.getAllPrskMusic(0, 20, "title", "ASC", TotalMode.EXACT);
 
         assertNotNull(result);
         assertEquals(2, result.getMeta().getTotalItems());
@@ -171,7 +328,7 @@ public class PrskMusicServiceTest {
         assertEquals("Music B", result.getItems().get(1).getTitle());
 
         ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
-        verify(prskMusicRepository, times(1)).findByIsDeleted(eq(false), pageableCaptor.capture());
+        verify(prskMusicRepository, times(1)).findAllProjections(pageableCaptor.capture());
 
         Pageable capturedPageable = pageableCaptor.getValue();
         assertEquals(0, capturedPageable.getPageNumber());
@@ -184,19 +341,18 @@ public class PrskMusicServiceTest {
      */
     @Test
     public void getAllPrskMusicSuccess_DESC() {
-        Artist artist = createArtist(1L, "Test Artist");
-        PrskMusic music1 = createPrskMusic(1L, "Music B", MusicType.ORIGINAL, artist);
-        PrskMusic music2 = createPrskMusic(2L, "Music A", MusicType.ORIGINAL, artist);
+        PrskMusicProjection music1 = createPrskMusicProjection(1L, "Music B", MusicType.ORIGINAL, "Test Artist");
+        PrskMusicProjection music2 = createPrskMusicProjection(2L, "Music A", MusicType.ORIGINAL, "Test Artist");
 
-        Page<PrskMusic> musicPage = new PageImpl<>(
+        Page<PrskMusicProjection> musicPage = new PageImpl<>(
                 Arrays.asList(music1, music2),
                 PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "title")),
                 2
         );
 
-        when(prskMusicRepository.findByIsDeleted(eq(false), any(Pageable.class))).thenReturn(musicPage);
+        when(prskMusicRepository.findAllProjections(any(Pageable.class))).thenReturn(musicPage);
 
-        PrskMusicListResponse result = prskMusicService.getAllPrskMusic(0, 20, "title", "DESC");
+        PrskMusicListResponse result = prskMusicService.getAllPrskMusic(0, 20, "title", "DESC", TotalMode.EXACT);
 
         assertNotNull(result);
         assertEquals(2, result.getMeta().getTotalItems());
@@ -204,7 +360,7 @@ public class PrskMusicServiceTest {
         assertEquals("Music A", result.getItems().get(1).getTitle());
 
         ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
-        verify(prskMusicRepository, times(1)).findByIsDeleted(eq(false), pageableCaptor.capture());
+        verify(prskMusicRepository, times(1)).findAllProjections(pageableCaptor.capture());
 
         Pageable capturedPageable = pageableCaptor.getValue();
         assertEquals(Sort.Direction.DESC, capturedPageable.getSort().getOrderFor("title").getDirection());
@@ -215,21 +371,367 @@ public class PrskMusicServiceTest {
      */
     @Test
     public void getAllPrskMusicSuccess_EmptyList() {
-        Page<PrskMusic> emptyPage = new PageImpl<>(
+        Page<PrskMusicProjection> emptyPage = new PageImpl<>(
                 List.of(),
                 PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "title")),
                 0
         );
 
-        when(prskMusicRepository.findByIsDeleted(eq(false), any(Pageable.class))).thenReturn(emptyPage);
+        when(prskMusicRepository.findAllProjections(any(Pageable.class))).thenReturn(emptyPage);
 
-        PrskMusicListResponse result = prskMusicService.getAllPrskMusic(0, 20, "title", "ASC");
+        PrskMusicListResponse result = prskMusicService.getAllPrskMusic(0, 20, "title", "ASC", TotalMode.EXACT);
 
         assertNotNull(result);
         assertEquals(0, result.getMeta().getTotalItems());
         assertTrue(result.getItems().isEmpty());
 
-        verify(prskMusicRepository, times(1)).findByIsDeleted(eq(false), any(Pageable.class));
+        verify(prskMusicRepository, times(1)).findAllProjections(any(Pageable.class));
+    }
+
+    /**
+     * getAllPrskMusic : 正常系 - 同じ条件の2回目以降はキャッシュから返す
+     */
+    @Test
+    public void getAllPrskMusicSuccess_CacheHit() {
+        PrskMusicProjection music = createPrskMusicProjection(1L, "Music A", MusicType.ORIGINAL, "Test Artist");
+
+        Page<PrskMusicProjection> musicPage = new PageImpl<>(
+                List.of(music),
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "title")),
+                1
+        );
+
+        when(prskMusicRepository.findAllProjections(any(Pageable.class))).thenReturn(musicPage);
+
+        PrskMusicListResponse first = prskMusicService.getAllPrskMusic(0, 20, "title", "ASC", TotalMode.EXACT);
+        PrskMusicListResponse second = prskMusicService.getAllPrskMusic(0, 20, "title", "asc", TotalMode.EXACT);
+
+        assertSame(first, second);
+        assertEquals(1, prskMusicListCache.stats().hitCount());
+        assertEquals(1, prskMusicListCache.stats().missCount());
+
+        verify(prskMusicRepository, times(1)).findAllProjections(any(Pageable.class));
+    }
+
+    /**
+     * getAllPrskMusic : 正常系 - 書き込み後はキャッシュを使わずに再取得する
+     */
+    @Test
+    public void getAllPrskMusicSuccess_CacheInvalidatedByWrite() {
+        Artist artist = createArtist(1L, "Test Artist");
+        PrskMusic existingMusic = createPrskMusic(1L, "Music A", MusicType.ORIGINAL, artist);
+        PrskMusicProjection music = createPrskMusicProjection(1L, "Music A", MusicType.ORIGINAL, "Test Artist");
+
+        Page<PrskMusicProjection> musicPage = new PageImpl<>(
+                List.of(music),
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "title")),
+                1
+        );
+
+        when(prskMusicRepository.findAllProjections(any(Pageable.class))).thenReturn(musicPage);
+        when(prskMusicRepository.findActiveById(1L)).thenReturn(Optional.of(existingMusic));
+
+        prskMusicService.getAllPrskMusic(0, 20, "title", "ASC", TotalMode.EXACT);
+        prskMusicService.deletePrskMusic(1L);
+        prskMusicService.getAllPrskMusic(0, 20, "title", "ASC", TotalMode.EXACT);
+
+        verify(prskMusicRepository, times(2)).findAllProjections(any(Pageable.class));
+    }
+
+    /**
+     * getAllPrskMusic : 正常系 - total=estimate の件数は作成時に増える
+     */
+    @Test
+    public void getAllPrskMusicSuccess_TotalEstimateAdjustedByCreate() {
+        Artist artist = createArtist(1L, "Test Artist");
+        PrskMusicProjection music = createPrskMusicProjection(1L, "Music A", MusicType.ORIGINAL, "Test Artist");
+
+        PrskMusicRequest request = new PrskMusicRequest();
+        request.setTitle("Music B");
+        request.setArtistId(1L);
+        request.setMusicType(MusicType.ORIGINAL);
+        request.setYoutubeLink("https://youtube.com/test");
+
+        when(prskMusicRepository.findSliceProjections(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(music), PageRequest.of(0, 20), false));
+        when(prskMusicRepository.count()).thenReturn(1L);
+        when(artistRepository.findActiveById(1L)).thenReturn(Optional.of(artist));
+        when(prskMusicRepository.saveAndFlush(any(PrskMusic.class))).thenAnswer(invocation -> {
+            PrskMusic saved = invocation.getArgument(0);
+            saved.setId(2L);
+            return saved;
+        });
+
+        PrskMusicListResponse before = prskMusicService.getAllPrskMusic(0, 20, "title", "ASC", TotalMode.ESTIMATE);
+        prskMusicService.createPrskMusic(request);
+        PrskMusicListResponse after = prskMusicService.getAllPrskMusic(0, 20, "title", "ASC", TotalMode.ESTIMATE);
+
+        assertEquals(1L, before.getMeta().getTotalItems());
+        assertEquals(2L, after.getMeta().getTotalItems());
+
+        verify(prskMusicRepository, times(1)).count();
+        verify(prskMusicRepository, never()).findAllProjections(any(Pageable.class));
+    }
+
+    /**
+     * getAllPrskMusic : 正常系 - 削除済みアーティストの楽曲はアーティスト情報を返さない
+     */
+    @Test
+    public void getAllPrskMusicSuccess_ArtistDeleted() {
+        PrskMusicProjection music = new PrskMusicProjection(
+                1L, "Music A", "Deleted Artist", "Deleted Unit", "Deleted Content", true,
+                MusicType.ORIGINAL, null, null, null, null, "https://youtube.com/test",
+                null, null, null, null
+        );
+
+        Page<PrskMusicProjection> musicPage = new PageImpl<>(
+                List.of(music),
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "title")),
+                1
+        );
+
+        when(prskMusicRepository.findAllProjections(any(Pageable.class))).thenReturn(musicPage);
+
+        PrskMusicListResponse result = prskMusicService.getAllPrskMusic(0, 20, "title", "ASC", TotalMode.EXACT);
+
+        assertEquals("Unknown", result.getItems().get(0).getArtistName());
+        assertNull(result.getItems().get(0).getUnitName());
+        assertNull(result.getItems().get(0).getContent());
+    }
+
+    /**
+     * getListVersion : 正常系 - アーティストの更新日時の方が新しい場合はそちらを Last-Modified とする
+     */
+    @Test
+    public void getListVersionSuccess_ArtistUpdatedLater() {
+        OffsetDateTime musicUpdatedAt = OffsetDateTime.parse("2025-01-01T00:00:00Z");
+        OffsetDateTime artistUpdatedAt = OffsetDateTime.parse("2025-02-01T00:00:00Z");
+
+        passThroughSoftDeleteFilter();
+        when(prskMusicRepository.findLatestUpdatedAt()).thenReturn(musicUpdatedAt);
+        when(artistRepository.findLatestUpdatedAt()).thenReturn(artistUpdatedAt);
+
+        ListVersion result = prskMusicService.getListVersion();
+
+        assertEquals(artistUpdatedAt, result.lastModified());
+        assertEquals(artistUpdatedAt.toInstant().toEpochMilli(), result.lastModifiedMillis());
+    }
+
+    /**
+     * getListVersion : 正常系 - データが無い場合は Last-Modified を返さない
+     */
+    @Test
+    public void getListVersionSuccess_Empty() {
+        passThroughSoftDeleteFilter();
+        when(prskMusicRepository.findLatestUpdatedAt()).thenReturn(null);
+        when(artistRepository.findLatestUpdatedAt()).thenReturn(null);
+
+        ListVersion result = prskMusicService.getListVersion();
+
+        assertNull(result.lastModified());
+        assertEquals(-1, result.lastModifiedMillis());
+    }
+
+    /**
+     * getPrskMusicByCursor : 正常系 - 先頭ページを取得し、次ページのカーソルを返す
+     */
+    @Test
+    public void getPrskMusicByCursorSuccess_FirstPage() {
+        PrskMusicProjection music1 = createPrskMusicProjection(1L, "Music A", MusicType.ORIGINAL, "Test Artist");
+        PrskMusicProjection music2 = createPrskMusicProjection(2L, "Music A", MusicType.THREE_D_MV, "Test Artist");
+
+        when(prskMusicRepository.findKeysetFirstPage(any(Pageable.class)))
+                .thenReturn(List.of(music1, music2));
+
+        PrskMusicListResponse result = prskMusicService.getPrskMusicByCursor("", 1);
+
+        assertEquals(1, result.getItems().size());
+        assertEquals(1L, result.getItems().get(0).getId());
+        assertEquals(CursorCodec.encode("Music A", 1L), result.getMeta().getNextCursor());
+
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(prskMusicRepository, times(1)).findKeysetFirstPage(pageableCaptor.capture());
+        assertEquals(2, pageableCaptor.getValue().getPageSize());
+    }
+
+    /**
+     * getPrskMusicByCursor : 正常系 - 同じタイトルでもIDでシークし、最終ページではカーソルを返さない
+     */
+    @Test
+    public void getPrskMusicByCursorSuccess_LastPage() {
+        PrskMusicProjection music2 = createPrskMusicProjection(2L, "Music A", MusicType.THREE_D_MV, "Test Artist");
+
+        when(prskMusicRepository.findKeysetNextPage(eq("Music A"), eq(1L), any(Pageable.class)))
+                .thenReturn(List.of(music2));
+
+        PrskMusicListResponse result = prskMusicService.getPrskMusicByCursor(CursorCodec.encode("Music A", 1L), 1);
+
+        assertEquals(1, result.getItems().size());
+        assertEquals(2L, result.getItems().get(0).getId());
+        assertNull(result.getMeta().getNextCursor());
+    }
+
+    /**
+     * getPrskMusicChanges : 正常系 - 初回は変更順に limit 件を返し、続きのトークンを返す
+     */
+    @Test
+    public void getPrskMusicChangesSuccess_FirstPage() {
+        passThroughSoftDeleteFilter();
+        OffsetDateTime changedAt = OffsetDateTime.parse("2025-01-01T00:00:00Z");
+        when(prskMusicRepository.findFirstChanges(any(Pageable.class))).thenReturn(List.of(
+                new PrskMusicChangeProjection(2L, false, changedAt),
+                new PrskMusicChangeProjection(1L, false, changedAt.plusSeconds(1)),
+                new PrskMusicChangeProjection(3L, false, changedAt.plusSeconds(2))
+        ));
+        // IN 句の結果は順不同
+        when(prskMusicRepository.findProjectionsByIdIn(List.of(2L, 1L))).thenReturn(List.of(
+                createPrskMusicProjection(1L, "Music A", MusicType.ORIGINAL, "Test Artist"),
+                createPrskMusicProjection(2L, "Music B", MusicType.ORIGINAL, "Test Artist")
+        ));
+
+        PrskMusicChangesResponse result = prskMusicService.getPrskMusicChanges(null, 2);
+
+        assertEquals(List.of(2L, 1L), result.getUpserts().stream().map(PrskMusicResponse::getId).toList());
+        assertTrue(result.getDeletes().isEmpty());
+        assertTrue(result.isHasMore());
+        assertEquals(CursorCodec.encode(changedAt.plusSeconds(1).toString(), 1L), result.getNextSince());
+
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(prskMusicRepository, times(1)).findFirstChanges(pageableCaptor.capture());
+        assertEquals(3, pageableCaptor.getValue().getPageSize());
+    }
+
+    /**
+     * getPrskMusicChanges : 正常系 - 削除は tombstone として返し、直近の変更は次回も返し直す
+     */
+    @Test
+    public void getPrskMusicChangesSuccess_WithTombstoneAndRecentChange() {
+        passThroughSoftDeleteFilter();
+        OffsetDateTime since = OffsetDateTime.parse("2025-01-01T00:00:00Z");
+        OffsetDateTime deletedAt = since.plusSeconds(10);
+        when(prskMusicRepository.findChangesOfPrskMusicAfter(eq(since), eq(5L), any(Pageable.class))).thenReturn(List.of(
+                new PrskMusicChangeProjection(7L, true, deletedAt),
+                new PrskMusicChangeProjection(6L, false, OffsetDateTime.now())
+        ));
+        when(prskMusicRepository.findChangesOfArtistsAfter(eq(since), eq(5L), any(Pageable.class))).thenReturn(List.of());
+        when(prskMusicRepository.findProjectionsByIdIn(List.of(6L))).thenReturn(List.of(
+                createPrskMusicProjection(6L, "Music A", MusicType.ORIGINAL, "Test Artist")
+        ));
+
+        OffsetDateTime before = OffsetDateTime.now().minus(changeSettleWindow.getDuration());
+        PrskMusicChangesResponse result = prskMusicService.getPrskMusicChanges(
+                CursorCodec.encode(since.toString(), 5L), 2
+        );
+
+        assertEquals(1, result.getUpserts().size());
+        assertEquals(1, result.getDeletes().size());
+        assertEquals(7L, result.getDeletes().get(0).getId());
+        assertEquals(deletedAt, result.getDeletes().get(0).getDeletedAt());
+        assertFalse(result.isHasMore());
+
+        CursorCodec.Position next = CursorCodec.decode(result.getNextSince());
+        assertEquals(0L, next.id());
+        assertFalse(OffsetDateTime.parse(next.sortValue()).isBefore(before));
+    }
+
+    /**
+     * getPrskMusicChanges : 正常系 - 楽曲の更新とアーティストの更新を変更順に併合し、重複を除く
+     */
+    @Test
+    public void getPrskMusicChangesSuccess_MergeMusicAndArtistChanges() {
+        passThroughSoftDeleteFilter();
+        OffsetDateTime since = OffsetDateTime.parse("2025-01-01T00:00:00Z");
+        when(prskMusicRepository.findChangesOfPrskMusicAfter(eq(since), eq(0L), any(Pageable.class))).thenReturn(List.of(
+                new PrskMusicChangeProjection(3L, false, since.plusSeconds(1)),
+                new PrskMusicChangeProjection(1L, false, since.plusSeconds(3))
+        ));
+        when(prskMusicRepository.findChangesOfArtistsAfter(eq(since), eq(0L), any(Pageable.class))).thenReturn(List.of(
+                new PrskMusicChangeProjection(2L, false, since.plusSeconds(2)),
+                new PrskMusicChangeProjection(1L, false, since.plusSeconds(3))
+        ));
+        when(prskMusicRepository.findProjectionsByIdIn(List.of(3L, 2L))).thenReturn(List.of(
+                createPrskMusicProjection(2L, "Music B", MusicType.ORIGINAL, "Test Artist"),
+                createPrskMusicProjection(3L, "Music C", MusicType.ORIGINAL, "Test Artist")
+        ));
+
+        PrskMusicChangesResponse result = prskMusicService.getPrskMusicChanges(since.toString(), 2);
+
+        assertEquals(List.of(3L, 2L), result.getUpserts().stream().map(PrskMusicResponse::getId).toList());
+        assertTrue(result.isHasMore());
+        CursorCodec.Position next = CursorCodec.decode(result.getNextSince());
+        assertEquals(2L, next.id());
+        assertEquals(since.plusSeconds(2), OffsetDateTime.parse(next.sortValue()));
+    }
+
+    /**
+     * getPrskMusicChanges : 正常系 - since に日時を指定した場合はその日時以降の変更を返す
+     */
+    @Test
+    public void getPrskMusicChangesSuccess_WithTimestamp() {
+        passThroughSoftDeleteFilter();
+        when(prskMusicRepository.findChangesOfPrskMusicAfter(
+                eq(OffsetDateTime.parse("2025-01-01T00:00:00Z")), eq(0L), any(Pageable.class)
+        )).thenReturn(List.of());
+        when(prskMusicRepository.findChangesOfArtistsAfter(
+                eq(OffsetDateTime.parse("2025-01-01T00:00:00Z")), eq(0L), any(Pageable.class)
+        )).thenReturn(List.of());
+
+        PrskMusicChangesResponse result = prskMusicService.getPrskMusicChanges("2025-01-01T00:00:00Z", 100);
+
+        assertTrue(result.getUpserts().isEmpty());
+        assertTrue(result.getDeletes().isEmpty());
+        verify(prskMusicRepository, never()).findProjectionsByIdIn(any());
+    }
+
+    /**
+     * getPrskMusicChanges : 異常系 - 解析できない since は BadRequest
+     */
+    @Test
+    public void getPrskMusicChangesError_InvalidSince() {
+        BadRequestException exception = assertThrows(
+                BadRequestException.class,
+                () -> prskMusicService.getPrskMusicChanges(CursorCodec.encode("not-a-date", 1L), 100)
+        );
+
+        assertEquals("since", exception.getDetails().get(0).getField());
+        verify(prskMusicRepository, never()).findChangesOfPrskMusicAfter(any(), any(), any());
+        verify(prskMusicRepository, never()).findChangesOfArtistsAfter(any(), any(), any());
+    }
+
+    /**
+     * searchPrskMusic : 正常系 - 検索スコア順に並べて返す
+     */
+    @Test
+    public void searchPrskMusicSuccess() {
+        PrskMusicProjection music1 = createPrskMusicProjection(1L, "セカイ", MusicType.ORIGINAL, "Test Artist");
+        PrskMusicProjection music2 = createPrskMusicProjection(2L, "このセカイ", MusicType.ORIGINAL, "Test Artist");
+
+        when(prskMusicSearchIndex.search("セカイ", 0, 20))
+                .thenReturn(new PrskMusicSearchIndex.SearchResult(List.of(2L, 1L), 2));
+        when(prskMusicRepository.findProjectionsByIdIn(List.of(2L, 1L))).thenReturn(List.of(music1, music2));
+
+        PrskMusicListResponse result = prskMusicService.searchPrskMusic("セカイ", 0, 20);
+
+        assertEquals(2, result.getItems().size());
+        assertEquals(2L, result.getItems().get(0).getId());
+        assertEquals(1L, result.getItems().get(1).getId());
+        assertEquals(2, result.getMeta().getTotalItems());
+    }
+
+    /**
+     * searchPrskMusic : 正常系 - ヒットしない場合は DB を参照しない
+     */
+    @Test
+    public void searchPrskMusicSuccess_NoHit() {
+        when(prskMusicSearchIndex.search("none", 0, 20))
+                .thenReturn(new PrskMusicSearchIndex.SearchResult(List.of(), 0));
+
+        PrskMusicListResponse result = prskMusicService.searchPrskMusic("none", 0, 20);
+
+        assertTrue(result.getItems().isEmpty());
+        assertEquals(0, result.getMeta().getTotalItems());
+
+        verify(prskMusicRepository, never()).findProjectionsByIdIn(any());
     }
 
     /**
@@ -248,10 +750,10 @@ public class PrskMusicServiceTest {
         request.setLyricsName("New Lyricist");
         request.setYoutubeLink("https://youtube.com/updated");
 
-        when(prskMusicRepository.findByIdAndIsDeleted(1L, false)).thenReturn(Optional.of(existingMusic));
-        when(prskMusicRepository.findByTitleAndMusicTypeAndIsDeleted("Updated Title", MusicType.THREE_D_MV, false))
+        when(prskMusicRepository.findActiveById(1L)).thenReturn(Optional.of(existingMusic));
+        when(prskMusicRepository.findFirstByTitleKeyAndMusicType("updatedtitle", MusicType.THREE_D_MV))
                 .thenReturn(Optional.empty());
-        when(artistRepository.findByIdAndIsDeleted(2L, false)).thenReturn(Optional.of(newArtist));
+        when(artistRepository.findActiveById(2L)).thenReturn(Optional.of(newArtist));
         when(prskMusicRepository.save(any(PrskMusic.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         PrskMusicResponse result = prskMusicService.updatePrskMusic(1L, request);
@@ -262,9 +764,9 @@ public class PrskMusicServiceTest {
         assertEquals("New Artist", result.getArtistName());
         assertEquals("New Lyricist", result.getLyricsName());
 
-        verify(prskMusicRepository, times(1)).findByIdAndIsDeleted(1L, false);
-        verify(prskMusicRepository, times(1)).findByTitleAndMusicTypeAndIsDeleted("Updated Title", MusicType.THREE_D_MV, false);
-        verify(artistRepository, times(1)).findByIdAndIsDeleted(2L, false);
+        verify(prskMusicRepository, times(1)).findActiveById(1L);
+        verify(prskMusicRepository, times(1)).findFirstByTitleKeyAndMusicType("updatedtitle", MusicType.THREE_D_MV);
+        verify(artistRepository, times(1)).findActiveById(2L);
         verify(prskMusicRepository, times(1)).save(any(PrskMusic.class));
     }
 
@@ -280,8 +782,8 @@ public class PrskMusicServiceTest {
         OptionalPrskMusicRequest request = new OptionalPrskMusicRequest();
         request.setTitle("Updated Title");
 
-        when(prskMusicRepository.findByIdAndIsDeleted(1L, false)).thenReturn(Optional.of(existingMusic));
-        when(prskMusicRepository.findByTitleAndMusicTypeAndIsDeleted("Updated Title", MusicType.ORIGINAL, false))
+        when(prskMusicRepository.findActiveById(1L)).thenReturn(Optional.of(existingMusic));
+        when(prskMusicRepository.findFirstByTitleKeyAndMusicType("updatedtitle", MusicType.ORIGINAL))
                 .thenReturn(Optional.empty());
         when(prskMusicRepository.save(any(PrskMusic.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -292,9 +794,18 @@ public class PrskMusicServiceTest {
         assertEquals(MusicType.ORIGINAL, result.getMusicType());
         assertEquals("Original Lyricist", result.getLyricsName());
 
-        verify(prskMusicRepository, times(1)).findByIdAndIsDeleted(1L, false);
-        verify(prskMusicRepository, times(1)).findByTitleAndMusicTypeAndIsDeleted("Updated Title", MusicType.ORIGINAL, false);
+        verify(prskMusicRepository, times(1)).findActiveById(1L);
+        verify(prskMusicRepository, times(1)).findFirstByTitleKeyAndMusicType("updatedtitle", MusicType.ORIGINAL);
         verify(prskMusicRepository, times(1)).save(any(PrskMusic.class));
+
+        // 変更履歴には値が変わった項目だけを記録する
+        ArgumentCaptor<AuditRecord> captor = ArgumentCaptor.forClass(AuditRecord.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals(EntityChangedEvent.Action.UPDATED, captor.getValue().action());
+        assertEquals(
+                List.of(new AuditRecord.FieldChange("title", "Original Title", "Updated Title")),
+                captor.getValue().changes()
+        );
     }
 
     /**
@@ -311,7 +822,7 @@ public class PrskMusicServiceTest {
         request.setMusicType(MusicType.ORIGINAL);
         request.setLyricsName("Updated Lyricist");
 
-        when(prskMusicRepository.findByIdAndIsDeleted(1L, false)).thenReturn(Optional.of(existingMusic));
+        when(prskMusicRepository.findActiveById(1L)).thenReturn(Optional.of(existingMusic));
         when(prskMusicRepository.save(any(PrskMusic.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         PrskMusicResponse result = prskMusicService.updatePrskMusic(1L, request);
@@ -321,8 +832,8 @@ public class PrskMusicServiceTest {
         assertEquals(MusicType.ORIGINAL, result.getMusicType());
         assertEquals("Updated Lyricist", result.getLyricsName());
 
-        verify(prskMusicRepository, times(1)).findByIdAndIsDeleted(1L, false);
-        verify(prskMusicRepository, never()).findByTitleAndMusicTypeAndIsDeleted(anyString(), any(MusicType.class), eq(false));
+        verify(prskMusicRepository, times(1)).findActiveById(1L);
+        verify(prskMusicRepository, never()).findFirstByTitleKeyAndMusicType(anyString(), any(MusicType.class));
         verify(prskMusicRepository, times(1)).save(any(PrskMusic.class));
     }
 
@@ -337,7 +848,7 @@ public class PrskMusicServiceTest {
 
         OptionalPrskMusicRequest request = new OptionalPrskMusicRequest();
 
-        when(prskMusicRepository.findByIdAndIsDeleted(1L, false)).thenReturn(Optional.of(existingMusic));
+        when(prskMusicRepository.findActiveById(1L)).thenReturn(Optional.of(existingMusic));
         when(prskMusicRepository.save(any(PrskMusic.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         PrskMusicResponse result = prskMusicService.updatePrskMusic(1L, request);
@@ -347,8 +858,8 @@ public class PrskMusicServiceTest {
         assertEquals(MusicType.ORIGINAL, result.getMusicType());
         assertEquals("Original Lyricist", result.getLyricsName());
 
-        verify(prskMusicRepository, times(1)).findByIdAndIsDeleted(1L, false);
-        verify(prskMusicRepository, never()).findByTitleAndMusicTypeAndIsDeleted(anyString(), any(MusicType.class), eq(false));
+        verify(prskMusicRepository, times(1)).findActiveById(1L);
+        verify(prskMusicRepository, never()).findFirstByTitleKeyAndMusicType(anyString(), any(MusicType.class));
         verify(prskMusicRepository, times(1)).save(any(PrskMusic.class));
     }
 
@@ -360,7 +871,7 @@ public class PrskMusicServiceTest {
         OptionalPrskMusicRequest request = new OptionalPrskMusicRequest();
         request.setTitle("Updated Title");
 
-        when(prskMusicRepository.findByIdAndIsDeleted(999L, false)).thenReturn(Optional.empty());
+        when(prskMusicRepository.findActiveById(999L)).thenReturn(Optional.empty());
 
         EntityNotFoundException exception = assertThrows(
                 EntityNotFoundException.class,
@@ -369,7 +880,7 @@ public class PrskMusicServiceTest {
 
         assertEquals("Prsk music not found for id: 999", exception.getMessage());
 
-        verify(prskMusicRepository, times(1)).findByIdAndIsDeleted(999L, false);
+        verify(prskMusicRepository, times(1)).findActiveById(999L);
         verify(prskMusicRepository, never()).save(any(PrskMusic.class));
     }
 
@@ -386,8 +897,8 @@ public class PrskMusicServiceTest {
         request.setTitle("Duplicate Title");
         request.setMusicType(MusicType.THREE_D_MV);
 
-        when(prskMusicRepository.findByIdAndIsDeleted(1L, false)).thenReturn(Optional.of(existingMusic));
-        when(prskMusicRepository.findByTitleAndMusicTypeAndIsDeleted("Duplicate Title", MusicType.THREE_D_MV, false))
+        when(prskMusicRepository.findActiveById(1L)).thenReturn(Optional.of(existingMusic));
+        when(prskMusicRepository.findFirstByTitleKeyAndMusicType("duplicatetitle", MusicType.THREE_D_MV))
                 .thenReturn(Optional.of(duplicateMusic));
 
         DuplicationResourceException exception = assertThrows(
@@ -398,8 +909,8 @@ public class PrskMusicServiceTest {
         assertNotNull(exception.getDetails());
         assertEquals("Title and MusicType", exception.getDetails().get(0).getField());
 
-        verify(prskMusicRepository, times(1)).findByIdAndIsDeleted(1L, false);
-        verify(prskMusicRepository, times(1)).findByTitleAndMusicTypeAndIsDeleted("Duplicate Title", MusicType.THREE_D_MV, false);
+        verify(prskMusicRepository, times(1)).findActiveById(1L);
+        verify(prskMusicRepository, times(1)).findFirstByTitleKeyAndMusicType("duplicatetitle", MusicType.THREE_D_MV);
         verify(prskMusicRepository, never()).save(any(PrskMusic.class));
     }
 
@@ -412,15 +923,18 @@ public class PrskMusicServiceTest {
         PrskMusic existingMusic = createPrskMusic(1L, "Test Title", MusicType.ORIGINAL, artist);
         existingMusic.setDeleted(false);
 
-        when(prskMusicRepository.findByIdAndIsDeleted(1L, false)).thenReturn(Optional.of(existingMusic));
+        when(prskMusicRepository.findActiveById(1L)).thenReturn(Optional.of(existingMusic));
         when(prskMusicRepository.save(any(PrskMusic.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         prskMusicService.deletePrskMusic(1L);
 
         assertTrue(existingMusic.isDeleted());
 
-        verify(prskMusicRepository, times(1)).findByIdAndIsDeleted(1L, false);
+        verify(prskMusicRepository, times(1)).findActiveById(1L);
         verify(prskMusicRepository, times(1)).save(existingMusic);
+        verify(prskMusicListCache, times(1)).invalidate();
+        verify(prskMusicSearchIndex, times(1)).remove(1L);
+        verify(eventPublisher, times(1)).publishEvent(EntityChangedEvent.deleted(PrskMusicService.CATALOG_KEY, 1L));
     }
 
     /**
@@ -428,7 +942,7 @@ public class PrskMusicServiceTest {
      */
     @Test
     public void deletePrskMusicError_NotFound() {
-        when(prskMusicRepository.findByIdAndIsDeleted(999L, false)).thenReturn(Optional.empty());
+        when(prskMusicRepository.findActiveById(999L)).thenReturn(Optional.empty());
 
         EntityNotFoundException exception = assertThrows(
                 EntityNotFoundException.class,
@@ -437,7 +951,239 @@ public class PrskMusicServiceTest {
 
         assertEquals("Prsk music not found for id: 999", exception.getMessage());
 
-        verify(prskMusicRepository, times(1)).findByIdAndIsDeleted(999L, false);
+        verify(prskMusicRepository, times(1)).findActiveById(999L);
         verify(prskMusicRepository, never()).save(any(PrskMusic.class));
     }
+
+    /**
+     * backfillUniqueKeys : 正常系 - 正規化キーが未設定の楽曲にキーを設定する
+     */
+    @Test
+    public void backfillUniqueKeysSuccess() {
+        PrskMusic legacyMusic = createPrskMusic(1L, "Legacy Title", MusicType.ORIGINAL, createArtist(1L, "Test Artist"));
+        // カラム追加前のデータを再現するため正規化キーを空にする
+        ReflectionTestUtils.setField(legacyMusic, "titleKey", null);
+
+        passThroughSoftDeleteFilter();
+        when(prskMusicRepository.findByTitleKeyIsNull()).thenReturn(List.of(legacyMusic));
+
+        prskMusicService.backfillUniqueKeys();
+
+        assertEquals("legacytitle", legacyMusic.getTitleKey());
+        assertEquals("Legacy Title", legacyMusic.getTitle());
+        verify(prskMusicListCache, times(1)).invalidate();
+    }
+
+    /**
+     * backfillUniqueKeys : 正常系 - 表記揺れで重複する楽曲はキーを設定せず、一意インデックスの作成を妨げない
+     * 楽曲種別が異なる場合・論理削除済みの楽曲は重複としない
+     */
+    @Test
+    public void backfillUniqueKeysSuccess_SkipDuplicates() {
+        Artist artist = createArtist(1L, "Test Artist");
+        PrskMusic first = createPrskMusic(1L, "Legacy Title", MusicType.ORIGINAL, artist);
+        PrskMusic duplicated = createPrskMusic(2L, "ＬＥＧＡＣＹ　ＴＩＴＬＥ", MusicType.ORIGINAL, artist);
+        PrskMusic otherType = createPrskMusic(3L, "legacy title", MusicType.THREE_D_MV, artist);
+        PrskMusic deleted = createPrskMusic(4L, "Legacy Title", MusicType.ORIGINAL, artist);
+        deleted.setDeleted(true);
+        PrskMusic existingDuplicated = createPrskMusic(5L, "Existing Title", MusicType.ORIGINAL, artist);
+        List<PrskMusic> legacyMusic = List.of(first, duplicated, otherType, deleted, existingDuplicated);
+        // カラム追加前のデータを再現するため正規化キーを空にする
+        legacyMusic.forEach(prskMusic -> ReflectionTestUtils.setField(prskMusic, "titleKey", null));
+
+        passThroughSoftDeleteFilter();
+        when(prskMusicRepository.findByTitleKeyIsNull()).thenReturn(legacyMusic);
+        when(prskMusicRepository.findKeysByTitleKeyIn(anyCollection())).thenReturn(List.of(
+                new PrskMusicKeyProjection("existingtitle", MusicType.ORIGINAL)
+        ));
+
+        prskMusicService.backfillUniqueKeys();
+
+        assertEquals("legacytitle", first.getTitleKey());
+        assertNull(duplicated.getTitleKey());
+        assertEquals("legacytitle", otherType.getTitleKey());
+        assertEquals("legacytitle", deleted.getTitleKey());
+        assertNull(existingDuplicated.getTitleKey());
+    }
+
+    /**
+     * bulkCreatePrskMusic : 正常系 - 登録できる行のみ登録し、行ごとの結果を返す
+     */
+    @Test
+    public void bulkCreatePrskMusicSuccess_MixedResults() {
+        Artist artist = createArtist(1L, "Test Artist");
+
+        PrskMusicRequest invalidRequest = createPrskMusicRequest("", 1L, MusicType.ORIGINAL);
+        List<PrskMusicRequest> requests = Arrays.asList(
+                createPrskMusicRequest("Title A", 1L, MusicType.ORIGINAL),
+                invalidRequest,
+                createPrskMusicRequest("Existing Title", 1L, MusicType.ORIGINAL),
+                createPrskMusicRequest("ＴＩＴＬＥ　Ａ", 1L, MusicType.ORIGINAL),
+                createPrskMusicRequest("Title B", 999L, MusicType.ORIGINAL),
+                null,
+                createPrskMusicRequest("Title A", 1L, MusicType.THREE_D_MV)
+        );
+
+        when(prskMusicRepository.findKeysByTitleKeyIn(anyCollection())).thenReturn(List.of(
+                new PrskMusicKeyProjection("existingtitle", MusicType.ORIGINAL)
+        ));
+        when(artistRepository.findByIdIn(anyCollection())).thenReturn(List.of(artist));
+        stubSaveAllWithIds();
+
+        PrskMusicBulkResponse result = prskMusicService.bulkCreatePrskMusic(requests);
+
+        assertEquals(7, result.getTotal());
+        assertEquals(2, result.getCreated());
+        assertEquals(5, result.getFailed());
+
+        List<PrskMusicBulkResult> results = result.getResults();
+        assertEquals(PrskMusicBulkResult.STATUS_CREATED, results.get(0).getStatus());
+        assertEquals(100L, results.get(0).getId());
+        assertEquals("title", results.get(1).getErrors().get(0).getField());
+        assertEquals("Title and MusicType", results.get(2).getErrors().get(0).getField());
+        assertEquals("Title and MusicType", results.get(3).getErrors().get(0).getField());
+        assertEquals("artistId", results.get(4).getErrors().get(0).getField());
+        assertEquals("body", results.get(5).getErrors().get(0).getField());
+        assertEquals(PrskMusicBulkResult.STATUS_CREATED, results.get(6).getStatus());
+        assertEquals(101L, results.get(6).getId());
+
+        verify(prskMusicRepository, times(1)).saveAll(anyList());
+        verify(prskMusicListCache, times(1)).invalidate();
+        verify(prskMusicSearchIndex, times(1)).putAll(argThat(created -> created.size() == 2));
+    }
+
+    /**
+     * bulkCreatePrskMusic : 正常系 - バッチサイズごとに INSERT を発行し、永続化コンテキストを切り離す
+     */
+    @Test
+    public void bulkCreatePrskMusicSuccess_Batched() {
+        Artist artist = createArtist(1L, "Test Artist");
+        List<PrskMusicRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            requests.add(createPrskMusicRequest("Title " + i, 1L, MusicType.ORIGINAL));
+        }
+
+        when(prskMusicRepository.findKeysByTitleKeyIn(anyCollection())).thenReturn(List.of());
+        when(artistRepository.findByIdIn(anyCollection())).thenReturn(List.of(artist));
+        stubSaveAllWithIds();
+
+        PrskMusicBulkResponse result = prskMusicService.bulkCreatePrskMusic(requests);
+
+        assertEquals(120, result.getCreated());
+        assertEquals(0, result.getFailed());
+        verify(prskMusicRepository, times(3)).saveAll(anyList());
+        verify(entityManager, times(3)).flush();
+        verify(entityManager, times(3)).clear();
+        verify(prskMusicRepository, times(1)).findKeysByTitleKeyIn(anyCollection());
+        verify(artistRepository, times(1)).findByIdIn(anyCollection());
+    }
+
+    /**
+     * bulkCreatePrskMusic : 正常系 - 論理削除済みのタイトルは再登録できる (リクエスト内の重複は先の行を優先する)
+     */
+    @Test
+    public void bulkCreatePrskMusicSuccess_DeletedTitleReusable() {
+        Artist artist = createArtist(1L, "Test Artist");
+
+        // 論理削除済みの行は BaseEntity.ACTIVE_FILTER で除外されるため、既存のキーとして返らない
+        when(prskMusicRepository.findKeysByTitleKeyIn(anyCollection())).thenReturn(List.of());
+        when(artistRepository.findByIdIn(anyCollection())).thenReturn(List.of(artist));
+        stubSaveAllWithIds();
+
+        PrskMusicBulkResponse result = prskMusicService.bulkCreatePrskMusic(List.of(
+                createPrskMusicRequest("Deleted Title", 1L, MusicType.ORIGINAL),
+                createPrskMusicRequest("deleted title", 1L, MusicType.ORIGINAL)
+        ));
+
+        assertEquals(PrskMusicBulkResult.STATUS_CREATED, result.getResults().get(0).getStatus());
+        assertEquals(PrskMusicBulkResult.STATUS_FAILED, result.getResults().get(1).getStatus());
+    }
+
+    /**
+     * bulkCreatePrskMusic : 異常系 - 行数が0件または上限を超える
+     */
+    @Test
+    public void bulkCreatePrskMusicError_InvalidRowCount() {
+        assertThrows(
+                BadRequestException.class,
+                () -> prskMusicService.bulkCreatePrskMusic(List.of())
+        );
+
+        List<PrskMusicRequest> requests = new ArrayList<>();
+        for (int i = 0; i <= PrskMusicService.BULK_MAX_ROWS; i++) {
+            requests.add(createPrskMusicRequest("Title " + i, 1L, MusicType.ORIGINAL));
+        }
+        assertThrows(
+                BadRequestException.class,
+                () -> prskMusicService.bulkCreatePrskMusic(requests)
+        );
+
+        verify(prskMusicRepository, never()).saveAll(anyList());
+    }
+
+    /**
+     * exportPrskMusic : 正常系 - NDJSON で1行1楽曲を書き出し、カーソルを閉じる
+     */
+    @Test
+    public void exportPrskMusicSuccess_Ndjson() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean(false);
+        when(prskMusicRepository.streamAllForExport()).thenReturn(Stream.of(
+                createPrskMusicProjection(1L, "Music A", MusicType.ORIGINAL, "Artist A"),
+                createPrskMusicProjection(2L, "Music B", MusicType.THREE_D_MV, "Artist B")
+        ).onClose(() -> closed.set(true)));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        long count = prskMusicService.exportPrskMusic(ExportFormat.NDJSON, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, count);
+        assertEquals(2, lines.length);
+        assertEquals(1, objectMapper.readTree(lines[0]).get("id").asInt());
+        assertEquals("Artist A", objectMapper.readTree(lines[0]).get("artistName").asText());
+        assertEquals(1, objectMapper.readTree(lines[1]).get("musicType").asInt());
+        assertTrue(closed.get());
+    }
+
+    /**
+     * exportPrskMusic : 正常系 - CSV はヘッダー行を付け、区切り文字・引用符を含む値を引用符で囲む
+     */
+    @Test
+    public void exportPrskMusicSuccess_Csv() throws Exception {
+        when(prskMusicRepository.streamAllForExport()).thenReturn(Stream.of(
+                createPrskMusicProjection(1L, "Hello, \"World\"", MusicType.ORIGINAL, "Artist A")
+        ));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        long count = prskMusicService.exportPrskMusic(ExportFormat.CSV, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(1, count);
+        assertTrue(lines[0].startsWith("id,title,artistName,"));
+        assertEquals(
+                "1,\"Hello, \"\"World\"\"\",Artist A,Test Unit,Test Content,0,,,,,https://youtube.com/test,,",
+                lines[1]
+        );
+    }
+
+    /**
+     * writeSnapshot : 正常系 - 全楽曲を1つの JSON 配列として書き出し、カーソルを閉じる
+     */
+    @Test
+    public void writeSnapshotSuccess() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean(false);
+        when(prskMusicRepository.streamAllForExport()).thenReturn(Stream.of(
+                createPrskMusicProjection(1L, "Music A", MusicType.ORIGINAL, "Artist A"),
+                createPrskMusicProjection(2L, "Music B", MusicType.THREE_D_MV, "Artist B")
+        ).onClose(() -> closed.set(true)));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        long count = prskMusicService.writeSnapshot(outputStream);
+
+        JsonNode items = objectMapper.readTree(outputStream.toString(StandardCharsets.UTF_8));
+        assertEquals(2, count);
+        assertTrue(items.isArray());
+        assertEquals(2, items.size());
+        assertEquals("Artist B", items.get(1).get("artistName").asText());
+        assertTrue(closed.get());
+    }
 }
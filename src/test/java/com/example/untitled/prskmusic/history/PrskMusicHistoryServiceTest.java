@@ -0,0 +1,287 @@
+package com.example.untitled.prskmusic.history;
+
+import com.example.untitled.artist.Artist;
+import com.example.untitled.artist.ArtistRepository;
+import com.example.untitled.audit.AuditHistory;
+import com.example.untitled.audit.AuditHistoryRepository;
+import com.example.untitled.audit.AuditRecord;
+import com.example.untitled.common.entity.ChangeSettleWindow;
+import com.example.untitled.common.entity.SoftDeleteFilter;
+import com.example.untitled.common.exception.BadRequestException;
+import com.example.untitled.prskmusic.PrskMusic;
+import com.example.untitled.prskmusic.PrskMusicRepository;
+import com.example.untitled.prskmusic.dto.PrskMusicListResponse;
+import com.example.untitled.prskmusic.dto.PrskMusicResponse;
+import com.example.untitled.prskmusic.enums.MusicType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PrskMusicHistoryServiceTest {
+
+    private static final OffsetDateTime TAKEN_AT = OffsetDateTime.parse("2025-01-01T00:00:00Z");
+    private static final OffsetDateTime REPLAY_FROM = OffsetDateTime.parse("2024-12-31T23:58:00Z");
+    private static final String AS_OF = "2025-01-01T00:30:00Z";
+
+    @Mock
+    private PrskMusicHistorySnapshotRepository snapshotRepository;
+
+    @Mock
+    private AuditHistoryRepository auditHistoryRepository;
+
+    @Mock
+    private PrskMusicRepository prskMusicRepository;
+
+    @Mock
+    private ArtistRepository artistRepository;
+
+    @Mock
+    private SoftDeleteFilter softDeleteFilter;
+
+    @Spy
+    private ChangeSettleWindow changeSettleWindow = new ChangeSettleWindow(60);
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private PrskMusicHistoryService prskMusicHistoryService;
+
+    private Map<String, String> musicState(String title, long artistId) {
+        Map<String, String> state = new HashMap<>();
+        state.put("title", title);
+        state.put("artistId", Long.toString(artistId));
+        state.put("musicType", "0");
+        state.put("youtubeLink", "https://youtube.com/" + title);
+        return state;
+    }
+
+    private Map<String, String> artistState(String artistName) {
+        Map<String, String> state = new HashMap<>();
+        state.put("artistName", artistName);
+        state.put("unitName", "Test Unit");
+        return state;
+    }
+
+    private void stubSnapshot(PrskMusicHistoryState state) throws Exception {
+        PrskMusicHistorySnapshot snapshot = new PrskMusicHistorySnapshot();
+        snapshot.setTakenAt(TAKEN_AT);
+        snapshot.setReplayFrom(REPLAY_FROM);
+        snapshot.setPayload(objectMapper.writeValueAsString(state));
+        when(snapshotRepository.findFirstByTakenAtLessThanEqualOrderByTakenAtDesc(OffsetDateTime.parse(AS_OF)))
+                .thenReturn(Optional.of(snapshot));
+    }
+
+    private void stubChanges(AuditRecord... records) {
+        List<AuditHistory> rows = Stream.of(records)
+                .flatMap(record -> AuditHistory.from(record).stream())
+                .toList();
+        when(auditHistoryRepository.findChanges(
+                anyCollection(),
+                eq(REPLAY_FROM),
+                eq(OffsetDateTime.parse(AS_OF))
+        )).thenReturn(new ArrayList<>(rows));
+    }
+
+    /**
+     * getPrskMusicAsOf : 正常系 - スナップショットにその後の変更履歴を反映して復元する
+     */
+    @Test
+    public void getPrskMusicAsOfSuccess_ReplaysChanges() throws Exception {
+        stubSnapshot(new PrskMusicHistoryState(
+                Map.of(1L, musicState("Old Title", 10L), 2L, musicState("Deleted Song", 10L)),
+                Map.of(10L, artistState("Test Artist")),
+                Set.of()
+        ));
+        stubChanges(
+                AuditRecord.updated("prsk-music", 1L, Map.of("title", "Old Title"), Map.of("title", "Updated Title")),
+                AuditRecord.created("prsk-music", 3L, musicState("Another Song", 10L)),
+                AuditRecord.deleted("prsk-music", 2L),
+                AuditRecord.updated("artist", 10L, Map.of("artistName", "Test Artist"), Map.of("artistName", "Renamed"))
+        );
+
+        PrskMusicListResponse result = prskMusicHistoryService.getPrskMusicAsOf(AS_OF, 0, 20);
+
+        // タイトル順
+        List<PrskMusicResponse> items = result.getItems();
+        assertEquals(2, items.size());
+        assertEquals(3L, items.get(0).getId());
+        assertEquals("Another Song", items.get(0).getTitle());
+        assertEquals(1L, items.get(1).getId());
+        assertEquals("Updated Title", items.get(1).getTitle());
+        assertEquals("Renamed", items.get(1).getArtistName());
+        assertEquals("Test Unit", items.get(1).getUnitName());
+        assertEquals(MusicType.ORIGINAL, items.get(1).getMusicType());
+        assertNull(items.get(1).getAuditInfo());
+        assertEquals(2L, result.getMeta().getTotalItems());
+    }
+
+    /**
+     * getPrskMusicAsOf : 正常系 - その時点で削除済みのアーティストは Unknown
+     */
+    @Test
+    public void getPrskMusicAsOfSuccess_ArtistDeleted() throws Exception {
+        stubSnapshot(new PrskMusicHistoryState(
+                Map.of(1L, musicState("Test Title", 10L)),
+                Map.of(10L, artistState("Test Artist")),
+                Set.of()
+        ));
+        stubChanges(AuditRecord.deleted("artist", 10L));
+
+        PrskMusicListResponse result = prskMusicHistoryService.getPrskMusicAsOf(AS_OF, 0, 20);
+
+        assertEquals(1, result.getItems().size());
+        assertEquals("Unknown", result.getItems().get(0).getArtistName());
+        assertNull(result.getItems().get(0).getUnitName());
+    }
+
+    /**
+     * getPrskMusicAsOf : 正常系 - replay_from が無いスナップショットは taken_at から遡って変更履歴を反映する
+     */
+    @Test
+    public void getPrskMusicAsOfSuccess_WithoutReplayFrom() throws Exception {
+        PrskMusicHistorySnapshot snapshot = new PrskMusicHistorySnapshot();
+        snapshot.setTakenAt(TAKEN_AT);
+        snapshot.setPayload(objectMapper.writeValueAsString(new PrskMusicHistoryState(Map.of(), Map.of(), Set.of())));
+        when(snapshotRepository.findFirstByTakenAtLessThanEqualOrderByTakenAtDesc(OffsetDateTime.parse(AS_OF)))
+                .thenReturn(Optional.of(snapshot));
+        when(auditHistoryRepository.findChanges(
+                anyCollection(),
+                eq(TAKEN_AT.minus(changeSettleWindow.getDuration())),
+                eq(OffsetDateTime.parse(AS_OF))
+        )).thenReturn(new ArrayList<>());
+
+        PrskMusicListResponse result = prskMusicHistoryService.getPrskMusicAsOf(AS_OF, 0, 20);
+
+        assertTrue(result.getItems().isEmpty());
+    }
+
+    /**
+     * getPrskMusicAsOf : 正常系 - タイトルは文字コード順ではなく照合順序で並べる
+     */
+    @Test
+    public void getPrskMusicAsOfSuccess_SortedByCollation() throws Exception {
+        stubSnapshot(new PrskMusicHistoryState(
+                Map.of(1L, musicState("b Song", 10L), 2L, musicState("Another Song", 10L), 3L, musicState("C Song", 10L)),
+                Map.of(10L, artistState("Test Artist")),
+                Set.of()
+        ));
+        stubChanges();
+
+        PrskMusicListResponse result = prskMusicHistoryService.getPrskMusicAsOf(AS_OF, 0, 20);
+
+        // 文字コード順では "C Song" が "b Song" より前になる
+        assertEquals(List.of(2L, 1L, 3L), result.getItems().stream().map(PrskMusicResponse::getId).toList());
+    }
+
+    /**
+     * getPrskMusicAsOf : 異常系 - 最初のスナップショットより前の日時
+     */
+    @Test
+    public void getPrskMusicAsOfError_BeforeHistory() {
+        PrskMusicHistorySnapshot oldest = new PrskMusicHistorySnapshot();
+        oldest.setTakenAt(TAKEN_AT);
+        when(snapshotRepository.findFirstByTakenAtLessThanEqualOrderByTakenAtDesc(any())).thenReturn(Optional.empty());
+        when(snapshotRepository.findFirstByOrderByTakenAtAsc()).thenReturn(Optional.of(oldest));
+
+        BadRequestException exception = assertThrows(
+                BadRequestException.class,
+                () -> prskMusicHistoryService.getPrskMusicAsOf("2000-01-01T00:00:00Z", 0, 20)
+        );
+
+        assertEquals("asOf", exception.getDetails().get(0).getField());
+        verify(auditHistoryRepository, never()).findChanges(anyCollection(), any(), any());
+    }
+
+    /**
+     * getPrskMusicAsOf : 異常系 - 日時として解析できない asOf
+     */
+    @Test
+    public void getPrskMusicAsOfError_InvalidAsOf() {
+        BadRequestException exception = assertThrows(
+                BadRequestException.class,
+                () -> prskMusicHistoryService.getPrskMusicAsOf("yesterday", 0, 20)
+        );
+
+        assertEquals("asOf", exception.getDetails().get(0).getField());
+        verify(snapshotRepository, never()).findFirstByTakenAtLessThanEqualOrderByTakenAtDesc(any());
+    }
+
+    /**
+     * takeSnapshotIfChanged : 正常系 - 初回はテーブルの内容 (削除済みのアーティストを含む) から作成する
+     */
+    @Test
+    public void takeSnapshotIfChangedSuccess_First() throws Exception {
+        Artist artist = new Artist();
+        artist.setId(10L);
+        artist.setArtistName("Test Artist");
+        artist.setDeleted(true);
+        PrskMusic music = new PrskMusic();
+        music.setId(1L);
+        music.setTitle("Test Title");
+        music.setArtist(artist);
+        music.setMusicType(MusicType.THREE_D_MV);
+        music.setYoutubeLink("https://youtube.com/test");
+
+        when(snapshotRepository.findFirstByOrderByTakenAtDesc()).thenReturn(Optional.empty());
+        when(prskMusicRepository.findAll()).thenReturn(List.of(music));
+        when(softDeleteFilter.includingDeleted(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        when(artistRepository.findAll()).thenReturn(List.of(artist));
+
+        OffsetDateTime before = OffsetDateTime.now();
+        assertTrue(prskMusicHistoryService.takeSnapshotIfChanged());
+        OffsetDateTime after = OffsetDateTime.now();
+
+        ArgumentCaptor<PrskMusicHistorySnapshot> captor = ArgumentCaptor.forClass(PrskMusicHistorySnapshot.class);
+        verify(snapshotRepository).save(captor.capture());
+        // taken_at は読み込みの後、replay_from は読み込みの前から書き込みトランザクションの最大時間の分だけ遡る
+        PrskMusicHistorySnapshot saved = captor.getValue();
+        assertFalse(saved.getTakenAt().isBefore(before));
+        assertFalse(saved.getTakenAt().isAfter(after));
+        assertFalse(saved.getReplayFrom().isBefore(before.minus(changeSettleWindow.getDuration())));
+        assertFalse(saved.getReplayFrom().isAfter(saved.getTakenAt().minus(changeSettleWindow.getDuration())));
+        PrskMusicHistoryState state = objectMapper.readValue(captor.getValue().getPayload(), PrskMusicHistoryState.class);
+        assertEquals("Test Title", state.prskMusic().get(1L).get("title"));
+        assertEquals("1", state.prskMusic().get(1L).get("musicType"));
+        assertEquals("10", state.prskMusic().get(1L).get("artistId"));
+        assertEquals(new HashSet<>(List.of(10L)), state.deletedArtistIds());
+    }
+
+    /**
+     * takeSnapshotIfChanged : 正常系 - 前回から変更が無い場合は作成しない
+     */
+    @Test
+    public void takeSnapshotIfChangedSuccess_Unchanged() {
+        PrskMusicHistorySnapshot latest = new PrskMusicHistorySnapshot();
+        latest.setTakenAt(TAKEN_AT);
+        when(snapshotRepository.findFirstByOrderByTakenAtDesc()).thenReturn(Optional.of(latest));
+        when(auditHistoryRepository.existsByResourceInAndChangedAtGreaterThan(anyCollection(), eq(TAKEN_AT)))
+                .thenReturn(false);
+
+        assertFalse(prskMusicHistoryService.takeSnapshotIfChanged());
+
+        verify(prskMusicRepository, never()).findAll();
+        verify(snapshotRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.untitled.prskmusic.search;
+
+import com.example.untitled.prskmusic.PrskMusicRepository;
+import com.example.untitled.prskmusic.projection.PrskMusicSearchProjection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PrskMusicSearchIndexTest {
+
+    @Mock
+    private PrskMusicRepository prskMusicRepository;
+
+    @InjectMocks
+    private PrskMusicSearchIndex prskMusicSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(prskMusicRepository.findAllSearchProjections()).thenReturn(List.of(
+                new PrskMusicSearchProjection(1L, "セカイ", "作詞者A", "作曲者A"),
+                new PrskMusicSearchProjection(2L, "セカイはまだ始まってすらいない", "ピノキオピー", "ピノキオピー"),
+                new PrskMusicSearchProjection(3L, "ワールドイズマイン", "ryo", "ryo"),
+                new PrskMusicSearchProjection(4L, "群青讃歌", "Eve", "セカイP"),
+                new PrskMusicSearchProjection(5L, "このセカイ", null, null)
+        ));
+        prskMusicSearchIndex.rebuild();
+    }
+
+    /**
+     * search : 正常系 - 完全一致 > 前方一致 > 部分一致 > 作詞・作曲者の一致 の順に並ぶ
+     */
+    @Test
+    public void searchSuccess_Ranking() {
+        PrskMusicSearchIndex.SearchResult result = prskMusicSearchIndex.search("セカイ", 0, 20);
+
+        assertEquals(List.of(1L, 2L, 5L, 4L), result.ids());
+        assertEquals(4, result.totalHits());
+    }
+
+    /**
+     * search : 正常系 - 全角/半角・大文字/小文字・カタカナ/ひらがな・空白の違いを無視する
+     */
+    @Test
+    public void searchSuccess_Normalized() {
+        assertEquals(List.of(3L), prskMusicSearchIndex.search("ＲＹＯ", 0, 20).ids());
+        assertEquals(List.of(3L), prskMusicSearchIndex.search("ワールド イズ", 0, 20).ids());
+        assertEquals(List.of(1L, 2L, 5L, 4L), prskMusicSearchIndex.search("せかい", 0, 20).ids());
+        assertEquals(List.of(1L, 2L, 5L, 4L), prskMusicSearchIndex.search("ｾｶｲ", 0, 20).ids());
+    }
+
+    /**
+     * search : 正常系 - 1文字の検索語は unigram で検索する
+     */
+    @Test
+    public void searchSuccess_SingleCharacter() {
+        assertEquals(List.of(4L), prskMusicSearchIndex.search("群", 0, 20).ids());
+    }
+
+    /**
+     * search : 正常系 - bigram がすべて含まれていても部分文字列でなければヒットしない
+     */
+    @Test
+    public void searchSuccess_BigramFalsePositive() {
+        prskMusicSearchIndex.put(6L, "abba", null, null);
+
+        assertTrue(prskMusicSearchIndex.search("aba", 0, 20).ids().isEmpty());
+        assertEquals(List.of(6L), prskMusicSearchIndex.search("abb", 0, 20).ids());
+    }
+
+    /**
+     * search : 正常系 - ページングされ、総ヒット数はページに依存しない
+     */
+    @Test
+    public void searchSuccess_Pagination() {
+        PrskMusicSearchIndex.SearchResult result = prskMusicSearchIndex.search("セカイ", 1, 2);
+
+        assertEquals(List.of(5L, 4L), result.ids());
+        assertEquals(4, result.totalHits());
+        assertTrue(prskMusicSearchIndex.search("セカイ", 5, 2).ids().isEmpty());
+    }
+
+    /**
+     * put : 正常系 - 更新時は古いタイトルではヒットしなくなる
+     */
+    @Test
+    public void putSuccess_ReplacesDocument() {
+        prskMusicSearchIndex.put(3L, "メルト", "ryo", "ryo");
+
+        assertTrue(prskMusicSearchIndex.search("ワールド", 0, 20).ids().isEmpty());
+        assertEquals(List.of(3L), prskMusicSearchIndex.search("メルト", 0, 20).ids());
+        assertEquals(5, prskMusicSearchIndex.size());
+    }
+
+    /**
+     * remove : 正常系 - 削除した楽曲はヒットしない
+     */
+    @Test
+    public void removeSuccess() {
+        prskMusicSearchIndex.remove(1L);
+
+        assertEquals(List.of(2L, 5L, 4L), prskMusicSearchIndex.search("セカイ", 0, 20).ids());
+        assertEquals(4, prskMusicSearchIndex.size());
+    }
+
+    /**
+     * search : 正常系 - 空白のみ、または該当なしの場合は空の結果を返す
+     */
+    @Test
+    public void searchSuccess_NoHit() {
+        assertTrue(prskMusicSearchIndex.search("   ", 0, 20).ids().isEmpty());
+        assertEquals(0, prskMusicSearchIndex.search("存在しない曲", 0, 20).totalHits());
+    }
+
+    /**
+     * rebuild : 正常系 - 読み込みの後にコミットされた登録・更新・削除は再構築後も残る
+     */
+    @Test
+    public void rebuildSuccess_KeepsChangesDuringRead() {
+        when(prskMusicRepository.findAllSearchProjections()).thenAnswer(invocation -> {
+            // 読み込み中に他のリクエストの変更がコミットされる
+            prskMusicSearchIndex.put(3L, "メルト", "ryo", "ryo");
+            prskMusicSearchIndex.put(6L, "グリーンライツ・セレナーデ", null, null);
+            prskMusicSearchIndex.remove(1L);
+            return List.of(
+                    new PrskMusicSearchProjection(1L, "セカイ", "作詞者A", "作曲者A"),
+                    new PrskMusicSearchProjection(3L, "ワールドイズマイン", "ryo", "ryo")
+            );
+        });
+
+        prskMusicSearchIndex.rebuild();
+
+        assertEquals(List.of(3L), prskMusicSearchIndex.search("メルト", 0, 20).ids());
+        assertTrue(prskMusicSearchIndex.search("ワールド", 0, 20).ids().isEmpty());
+        assertEquals(List.of(6L), prskMusicSearchIndex.search("セレナーデ", 0, 20).ids());
+        assertTrue(prskMusicSearchIndex.search("セカイ", 0, 20).ids().isEmpty());
+        assertEquals(2, prskMusicSearchIndex.size());
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.untitled.system;
+
+import com.example.untitled.system.dto.CacheRegionListResponse;
+import com.example.untitled.system.dto.CacheRegionResponse;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CacheAdminController.class)
+public class CacheAdminControllerTest {
+
+    @Autowired
+    private MockMvc mvcMock;
+
+    @MockitoBean
+    private CacheAdminService cacheAdminService;
+
+    private CacheRegionResponse createRegionResponse(String regionName, long hitCount, long missCount) {
+        return CacheRegionResponse.builder()
+                .regionName(regionName)
+                .hitCount(hitCount)
+                .missCount(missCount)
+                .putCount(missCount)
+                .hitRatio((double) hitCount / (hitCount + missCount))
+                .elementCountInMemory(-1)
+                .build();
+    }
+
+    /**
+     * GET /admin/cache-regions : Response success
+     */
+    @Test
+    public void getCacheRegionsSuccess() throws Exception {
+        when(cacheAdminService.getCacheRegions()).thenReturn(CacheRegionListResponse.from(List.of(
+                createRegionResponse("artist", 9, 1),
+                createRegionResponse("artist-query", 3, 1)
+        )));
+
+        mvcMock.perform(get("/admin/cache-regions")
+                        .header("x-api-key", "test-api-key"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].regionName").value("artist"))
+                .andExpect(jsonPath("$.items[0].hitCount").value(9))
+                .andExpect(jsonPath("$.items[0].hitRatio").value(0.9))
+                .andExpect(jsonPath("$.items[1].regionName").value("artist-query"));
+    }
+
+    /**
+     * GET /admin/cache-regions/{region} : NotFound
+     */
+    @Test
+    public void getCacheRegionError_withNotFound() throws Exception {
+        when(cacheAdminService.getCacheRegion("unknown"))
+                .thenThrow(new EntityNotFoundException("Cache region not found: unknown"));
+
+        mvcMock.perform(get("/admin/cache-regions/unknown")
+                        .header("x-api-key", "test-api-key"))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * DELETE /admin/cache-regions/{region} : Response success
+     */
+    @Test
+    public void evictCacheRegionSuccess() throws Exception {
+        mvcMock.perform(delete("/admin/cache-regions/artist")
+                        .header("x-api-key", "test-api-key"))
+                .andExpect(status().isNoContent());
+
+        verify(cacheAdminService, times(1)).evictCacheRegion("artist");
+    }
+
+    /**
+     * DELETE /admin/cache-regions : Response success
+     */
+    @Test
+    public void evictAllCacheRegionsSuccess() throws Exception {
+        mvcMock.perform(delete("/admin/cache-regions")
+                        .header("x-api-key", "test-api-key"))
+                .andExpect(status().isNoContent());
+
+        verify(cacheAdminService, times(1)).evictAllCacheRegions();
+    }
+
+    /**
+     * DELETE /admin/cache-regions/{region} : x-api-key なしで 401 Unauthorized
+     */
+    @Test
+    public void evictCacheRegionError_withUnauthorized_NoApiKey() throws Exception {
+        mvcMock.perform(delete("/admin/cache-regions/artist"))
+                .andExpect(status().isUnauthorized());
+
+        verify(cacheAdminService, never()).evictCacheRegion(any());
+    }
+}
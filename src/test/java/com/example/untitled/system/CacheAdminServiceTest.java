@@ -0,0 +1,144 @@
+package com.example.untitled.system;
+
+import com.example.untitled.system.dto.CacheRegionListResponse;
+import com.example.untitled.system.dto.CacheRegionResponse;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.CacheImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CacheAdminServiceTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Statistics statistics;
+
+    @Mock
+    private CacheImplementor cache;
+
+    @InjectMocks
+    private CacheAdminService cacheAdminService;
+
+    // テストごとに参照する経路が異なるため lenient にする
+    @BeforeEach
+    void setUp() {
+        lenient().when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        lenient().when(sessionFactory.getStatistics()).thenReturn(statistics);
+        lenient().when(sessionFactory.getCache()).thenReturn(cache);
+        lenient().when(cache.unwrap(CacheImplementor.class)).thenReturn(cache);
+    }
+
+    private CacheRegionStatistics createRegionStatistics(String regionName, long hitCount, long missCount) {
+        CacheRegionStatistics regionStatistics = mock(CacheRegionStatistics.class);
+        when(regionStatistics.getRegionName()).thenReturn(regionName);
+        when(regionStatistics.getHitCount()).thenReturn(hitCount);
+        when(regionStatistics.getMissCount()).thenReturn(missCount);
+        when(regionStatistics.getPutCount()).thenReturn(missCount);
+        return regionStatistics;
+    }
+
+    /**
+     * getCacheRegions : 正常系 - リージョン名順に統計を返し、統計を持たないリージョンは除外する
+     */
+    @Test
+    public void getCacheRegionsSuccess() {
+        when(cache.getCacheRegionNames()).thenReturn(Set.of("artist-query", "default-update-timestamps-region", "artist"));
+        CacheRegionStatistics artist = createRegionStatistics("artist", 9, 1);
+        CacheRegionStatistics artistQuery = createRegionStatistics("artist-query", 0, 0);
+        when(statistics.getCacheRegionStatistics("artist")).thenReturn(artist);
+        when(statistics.getCacheRegionStatistics("artist-query")).thenReturn(artistQuery);
+        when(statistics.getCacheRegionStatistics("default-update-timestamps-region")).thenReturn(null);
+
+        CacheRegionListResponse result = cacheAdminService.getCacheRegions();
+
+        assertEquals(2, result.getItems().size());
+        assertEquals("artist", result.getItems().get(0).getRegionName());
+        assertEquals(0.9, result.getItems().get(0).getHitRatio(), 1e-9);
+        assertEquals("artist-query", result.getItems().get(1).getRegionName());
+        assertEquals(0, result.getItems().get(1).getHitRatio());
+    }
+
+    /**
+     * getCacheRegion : 正常系
+     */
+    @Test
+    public void getCacheRegionSuccess() {
+        CacheRegionStatistics artist = createRegionStatistics("artist", 3, 1);
+        when(statistics.getCacheRegionStatistics("artist")).thenReturn(artist);
+
+        CacheRegionResponse result = cacheAdminService.getCacheRegion("artist");
+
+        assertEquals("artist", result.getRegionName());
+        assertEquals(3, result.getHitCount());
+        assertEquals(1, result.getMissCount());
+        assertEquals(0.75, result.getHitRatio(), 1e-9);
+    }
+
+    /**
+     * getCacheRegion : 異常系 - 存在しないリージョン
+     */
+    @Test
+    public void getCacheRegionError_NotFound() {
+        when(statistics.getCacheRegionStatistics("unknown")).thenReturn(null);
+
+        EntityNotFoundException exception = assertThrows(
+                EntityNotFoundException.class,
+                () -> cacheAdminService.getCacheRegion("unknown")
+        );
+
+        assertEquals("Cache region not found: unknown", exception.getMessage());
+    }
+
+    /**
+     * evictCacheRegion : 正常系
+     */
+    @Test
+    public void evictCacheRegionSuccess() {
+        when(statistics.getCacheRegionStatistics("artist")).thenReturn(mock(CacheRegionStatistics.class));
+
+        cacheAdminService.evictCacheRegion("artist");
+
+        verify(cache, times(1)).evictRegion("artist");
+    }
+
+    /**
+     * evictCacheRegion : 異常系 - 存在しないリージョンは削除しない
+     */
+    @Test
+    public void evictCacheRegionError_NotFound() {
+        when(statistics.getCacheRegionStatistics("unknown")).thenReturn(null);
+
+        assertThrows(EntityNotFoundException.class, () -> cacheAdminService.evictCacheRegion("unknown"));
+
+        verify(cache, never()).evictRegion(anyString());
+    }
+
+    /**
+     * evictAllCacheRegions : 正常系
+     */
+    @Test
+    public void evictAllCacheRegionsSuccess() {
+        cacheAdminService.evictAllCacheRegions();
+
+        verify(cache, times(1)).evictAllRegions();
+    }
+}
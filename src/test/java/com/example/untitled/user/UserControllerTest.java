@@ -1,14 +1,20 @@
 package com.example.untitled.user;
 
 import com.example.untitled.common.dto.ErrorDetails;
+import com.example.untitled.common.dto.ListVersion;
+import com.example.untitled.common.entity.ActiveUniqueIndex;
+import com.example.untitled.common.enums.TotalMode;
 import com.example.untitled.common.exception.DuplicationResourceException;
 import com.example.untitled.common.exception.UnauthorizedException;
 import com.example.untitled.user.dto.UserListResponse;
 import com.example.untitled.user.dto.UserResponse;
+import com.example.untitled.user.projection.UserProjection;
 import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -16,6 +22,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.List;
 
@@ -25,6 +32,7 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -37,6 +45,13 @@ public class UserControllerTest {
     @MockitoBean
     private UserService userService;
 
+    @BeforeEach
+    void setUpListVersion() {
+        when(userService.getListVersion()).thenReturn(
+                new ListVersion("0-0", OffsetDateTime.parse("2025-01-01T00:00:00Z"))
+        );
+    }
+
     private User createMockUser(Long id, String userName) {
         User user = new User();
         user.setId(id);
@@ -45,6 +60,10 @@ public class UserControllerTest {
         return user;
     }
 
+    private UserProjection createMockUserProjection(Long id, String userName) {
+        return new UserProjection(id, userName, null, null, null, null);
+    }
+
     /**
      * POST /users : Response success
      * ユーザー登録の正常系
@@ -95,6 +114,32 @@ public class UserControllerTest {
                 .andExpect(jsonPath("$.details[0].field").value("userName"));
     }
 
+    /**
+     * POST /users : Conflict
+     * 同時登録でユーザー名の部分一意インデックスに違反した場合も 409 を返す
+     */
+    @Test
+    public void registerUserError_withConflict_UniqueIndexViolation() throws Exception {
+        when(userService.createUser(any()))
+                .thenThrow(new DataIntegrityViolationException(
+                        "duplicate key value violates unique constraint \"" + ActiveUniqueIndex.USER_NAME.getIndexName() + "\""
+                ));
+
+        String reqBody = """
+                {
+                    "userName": "testuser",
+                    "password": "testpassword"
+                }
+                """;
+
+        mvcMock.perform(post("/users")
+                        .header("x-api-key", "test-api-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(reqBody))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.details[0].field").value("userName"));
+    }
+
     /**
      * POST /users : Response BadRequest
      * バリデーションエラー（全フィールド文字数超過）
@@ -154,16 +199,16 @@ public class UserControllerTest {
      */
     @Test
     public void getUsersListSuccess() throws Exception {
-        User user1 = createMockUser(1L, "User 1");
-        User user2 = createMockUser(2L, "User 2");
+        UserProjection user1 = createMockUserProjection(1L, "User 1");
+        UserProjection user2 = createMockUserProjection(2L, "User 2");
 
-        Page<User> userPage = new PageImpl<>(
+        Page<UserProjection> userPage = new PageImpl<>(
                 Arrays.asList(user1, user2),
                 PageRequest.of(0, 20),
                 2
         );
 
-        when(userService.getAllUsers(0, 20, "userName", "ASC")).thenReturn(UserListResponse.from(userPage));
+        when(userService.getAllUsers(0, 20, "userName", "ASC", TotalMode.EXACT)).thenReturn(UserListResponse.from(userPage));
 
         mvcMock.perform(get("/users")
                         .header("x-api-key", "test-api-key"))
@@ -178,7 +223,7 @@ public class UserControllerTest {
                 .andExpect(jsonPath("$.meta.totalItems").value(2))
                 .andExpect(jsonPath("$.meta.limit").value(20));
 
-        verify(userService, times(1)).getAllUsers(0, 20, "userName", "ASC");
+        verify(userService, times(1)).getAllUsers(0, 20, "userName", "ASC", TotalMode.EXACT);
     }
 
     /**
@@ -187,19 +232,19 @@ public class UserControllerTest {
      */
     @Test
     public void getUsersListSuccess_WithPaginationParams() throws Exception {
-        User user1 = createMockUser(11L, "User 11");
-        User user2 = createMockUser(12L, "User 12");
-        User user3 = createMockUser(13L, "User 13");
-        User user4 = createMockUser(14L, "User 14");
-        User user5 = createMockUser(15L, "User 15");
+        UserProjection user1 = createMockUserProjection(11L, "User 11");
+        UserProjection user2 = createMockUserProjection(12L, "User 12");
+        UserProjection user3 = createMockUserProjection(13L, "User 13");
+        UserProjection user4 = createMockUserProjection(14L, "User 14");
+        UserProjection user5 = createMockUserProjection(15L, "User 15");
 
-        Page<User> userPage = new PageImpl<>(
+        Page<UserProjection> userPage = new PageImpl<>(
                 List.of(user1, user2, user3, user4, user5),
                 PageRequest.of(1, 10),
                 15
         );
 
-        when(userService.getAllUsers(1, 10, "userName", "ASC")).thenReturn(UserListResponse.from(userPage));
+        when(userService.getAllUsers(1, 10, "userName", "ASC", TotalMode.EXACT)).thenReturn(UserListResponse.from(userPage));
 
         mvcMock.perform(get("/users")
                         .header("x-api-key", "test-api-key")
@@ -212,7 +257,39 @@ public class UserControllerTest {
                 .andExpect(jsonPath("$.meta.totalItems").value(15))
                 .andExpect(jsonPath("$.meta.limit").value(10));
 
-        verify(userService, times(1)).getAllUsers(1, 10, "userName", "ASC");
+        verify(userService, times(1)).getAllUsers(1, 10, "userName", "ASC", TotalMode.EXACT);
+    }
+
+    /**
+     * GET /users : Not Modified
+     * If-None-Match が一致する場合はページを組み立てずに 304 を返す
+     */
+    @Test
+    public void getUsersListSuccess_NotModified() throws Exception {
+        when(userService.getAllUsers(0, 20, "userName", "ASC", TotalMode.EXACT)).thenReturn(UserListResponse.from(new PageImpl<>(List.of(createMockUserProjection(1L, "User 1")), PageRequest.of(0, 20), 1)));
+
+        String etag = mvcMock.perform(get("/users")
+                        .header("x-api-key", "test-api-key"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mvcMock.perform(get("/users")
+                        .header("x-api-key", "test-api-key")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+
+        mvcMock.perform(get("/users")
+                        .header("x-api-key", "test-api-key")
+                        .header("If-None-Match", etag)
+                        .param("page", "2"))
+                .andExpect(status().isOk());
+
+        verify(userService, times(1)).getAllUsers(0, 20, "userName", "ASC", TotalMode.EXACT);
     }
 
     /**
@@ -247,6 +324,28 @@ public class UserControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    /**
+     * GET /users : Response success with cursor
+     * カーソル方式の一覧取得
+     */
+    @Test
+    public void getUsersListSuccess_WithCursor() throws Exception {
+        UserProjection user1 = createMockUserProjection(1L, "User 1");
+
+        when(userService.getUsersByCursor("", 20)).thenReturn(UserListResponse.from(List.of(user1), 20));
+
+        mvcMock.perform(get("/users")
+                        .header("x-api-key", "test-api-key")
+                        .param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.meta.limit").value(20))
+                .andExpect(jsonPath("$.meta.nextCursor").doesNotExist());
+
+        verify(userService, times(1)).getUsersByCursor("", 20);
+        verify(userService, never()).getAllUsers(anyInt(), anyInt(), anyString(), anyString(), any());
+    }
+
     /**
      * PUT /users/{id} : Response success
      * ユーザー情報更新の正常系
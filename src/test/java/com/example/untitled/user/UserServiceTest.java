@@ -1,26 +1,43 @@
 package com.example.untitled.user;
 
+import com.example.untitled.common.cache.CatalogVersion;
+import com.example.untitled.common.cache.TotalCountCache;
+import com.example.untitled.common.dto.ListVersion;
+import com.example.untitled.common.entity.ActiveIndexInitializer;
+import com.example.untitled.common.entity.ActiveUniqueIndex;
+import com.example.untitled.common.entity.SoftDeleteFilter;
+import com.example.untitled.common.enums.TotalMode;
+import com.example.untitled.common.exception.BadRequestException;
 import com.example.untitled.common.exception.DuplicationResourceException;
 import com.example.untitled.common.exception.UnauthorizedException;
+import com.example.untitled.common.util.CursorCodec;
+import com.example.untitled.event.EntityChangedEvent;
 import com.example.untitled.user.dto.UserListResponse;
 import com.example.untitled.user.dto.UserRequest;
 import com.example.untitled.user.dto.UserResponse;
+import com.example.untitled.user.projection.UserProjection;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 
+import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -31,9 +48,34 @@ public class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private TotalCountCache totalCountCache = new TotalCountCache(300);
+
+    @Spy
+    private CatalogVersion catalogVersion = new CatalogVersion();
+
+    @Mock
+    private SoftDeleteFilter softDeleteFilter;
+
+    @Mock
+    private ActiveIndexInitializer activeIndexInitializer;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
+    // 単体テストではフィルタを切り替えず、渡された処理をそのまま実行する
+    private void passThroughSoftDeleteFilter() {
+        when(softDeleteFilter.includingDeleted(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+    }
+
+    private UserProjection createUserProjection(Long id, String userName) {
+        return new UserProjection(id, userName, null, null, null, null);
+    }
+
     /**
      * createUser : 正常系 - ユーザーが正常に作成される
      */
@@ -48,8 +90,8 @@ public class UserServiceTest {
         createdUser.setUserName("testuser");
         createdUser.setPassword("testpassword");
 
-        when(userRepository.findByUserNameAndIsDeleted("testuser", false)).thenReturn(Optional.empty());
-        when(userRepository.save(any(User.class))).thenReturn(createdUser);
+        when(activeIndexInitializer.isEnforced(ActiveUniqueIndex.USER_NAME)).thenReturn(true);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(createdUser);
 
         UserResponse result = userService.createUser(request);
 
@@ -57,12 +99,12 @@ public class UserServiceTest {
         assertEquals(1L, result.getId());
         assertEquals("testuser", result.getUserName());
 
-        verify(userRepository, times(1)).findByUserNameAndIsDeleted("testuser", false);
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, never()).findByUserName(anyString());
+        verify(userRepository, times(1)).saveAndFlush(any(User.class));
     }
 
     /**
-     * createUser : 異常系 - ユーザー名が重複しており、例外をスローする
+     * createUser : 異常系 - ユーザー名が重複しており、一意インデックス違反を重複エラーに変換する
      */
     @Test
     public void createUser_DuplicateUserName() {
@@ -70,25 +112,44 @@ public class UserServiceTest {
         request.setUserName("testuser");
         request.setPassword("testpassword");
 
+        when(activeIndexInitializer.isEnforced(ActiveUniqueIndex.USER_NAME)).thenReturn(true);
+        when(userRepository.saveAndFlush(any(User.class)))
+                .thenThrow(new DataIntegrityViolationException(ActiveUniqueIndex.USER_NAME.getIndexName()));
+
+        DuplicationResourceException exception = assertThrows(
+                DuplicationResourceException.class,
+                () -> userService.createUser(request)
+        );
+
+        assertEquals("userName", exception.getDetails().get(0).getField());
+        assertEquals("User name already exist: testuser", exception.getDetails().get(0).getMessage());
+        verify(totalCountCache, never()).adjust(anyString(), anyLong());
+        verify(catalogVersion, never()).bump(anyString());
+    }
+
+    /**
+     * createUser : 異常系 - 一意インデックスが無い場合 (既存データの重複・H2) は登録前の SELECT で重複を検出する
+     */
+    @Test
+    public void createUser_DuplicateUserNameWithoutIndex() {
+        UserRequest request = new UserRequest();
+        request.setUserName("testuser");
+        request.setPassword("testpassword");
+
         User existingUser = new User();
         existingUser.setId(1L);
         existingUser.setUserName("testuser");
-        existingUser.setPassword("existingpassword");
 
-        when(userRepository.findByUserNameAndIsDeleted("testuser", false)).thenReturn(Optional.of(existingUser));
+        when(activeIndexInitializer.isEnforced(ActiveUniqueIndex.USER_NAME)).thenReturn(false);
+        when(userRepository.findByUserName("testuser")).thenReturn(Optional.of(existingUser));
 
         DuplicationResourceException exception = assertThrows(
                 DuplicationResourceException.class,
                 () -> userService.createUser(request)
         );
 
-        assertNotNull(exception.getDetails());
-        assertEquals(1, exception.getDetails().size());
-        assertEquals("userName", exception.getDetails().get(0).getField());
-        assertTrue(exception.getDetails().get(0).getMessage().contains("testuser"));
-
-        verify(userRepository, times(1)).findByUserNameAndIsDeleted("testuser", false);
-        verify(userRepository, never()).save(any(User.class));
+        assertEquals("User name already exist: testuser", exception.getDetails().get(0).getMessage());
+        verify(userRepository, never()).saveAndFlush(any(User.class));
     }
 
     /**
@@ -96,23 +157,18 @@ public class UserServiceTest {
      */
     @Test
     public void getAllUsersSuccess_ASC() {
-        User user1 = new User();
-        user1.setId(1L);
-        user1.setUserName("User A");
+        UserProjection user1 = createUserProjection(1L, "User A");
+        UserProjection user2 = createUserProjection(2L, "User B");
 
-        User user2 = new User();
-        user2.setId(2L);
-        user2.setUserName("User B");
-
-        Page<User> userPage = new PageImpl<>(
+        Page<UserProjection> userPage = new PageImpl<>(
                 Arrays.asList(user1, user2),
                 PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "userName")),
                 2
         );
 
-        when(userRepository.findByIsDeleted(eq(false), any(Pageable.class))).thenReturn(userPage);
+        when(userRepository.findAllProjections(any(Pageable.class))).thenReturn(userPage);
 
-        UserListResponse result = userService.getAllUsers(0, 20, "userName", "ASC");
+        UserListResponse result = userService.getAllUsers(0, 20, "userName", "ASC", TotalMode.EXACT);
 
         assertNotNull(result);
         assertEquals(2, result.getMeta().getTotalItems());
@@ -120,7 +176,7 @@ public class UserServiceTest {
         assertEquals("User B", result.getItems().get(1).getUserName());
 
         ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
-        verify(userRepository, times(1)).findByIsDeleted(eq(false), pageableCaptor.capture());
+        verify(userRepository, times(1)).findAllProjections(pageableCaptor.capture());
 
         Pageable capturedPageable = pageableCaptor.getValue();
         assertEquals(0, capturedPageable.getPageNumber());
@@ -133,23 +189,18 @@ public class UserServiceTest {
      */
     @Test
     public void getAllUsersSuccess_DESC() {
-        User user1 = new User();
-        user1.setId(1L);
-        user1.setUserName("User B");
-
-        User user2 = new User();
-        user2.setId(2L);
-        user2.setUserName("User A");
+        UserProjection user1 = createUserProjection(1L, "User B");
+        UserProjection user2 = createUserProjection(2L, "User A");
 
-        Page<User> userPage = new PageImpl<>(
+        Page<UserProjection> userPage = new PageImpl<>(
                 Arrays.asList(user1, user2),
                 PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "userName")),
                 2
         );
 
-        when(userRepository.findByIsDeleted(eq(false), any(Pageable.class))).thenReturn(userPage);
+        when(userRepository.findAllProjections(any(Pageable.class))).thenReturn(userPage);
 
-        UserListResponse result = userService.getAllUsers(0, 20, "userName", "DESC");
+        UserListResponse result = userService.getAllUsers(0, 20, "userName", "DESC", TotalMode.EXACT);
 
         assertNotNull(result);
         assertEquals(2, result.getMeta().getTotalItems());
@@ -157,7 +208,7 @@ public class UserServiceTest {
         assertEquals("User A", result.getItems().get(1).getUserName());
 
         ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
-        verify(userRepository, times(1)).findByIsDeleted(eq(false), pageableCaptor.capture());
+        verify(userRepository, times(1)).findAllProjections(pageableCaptor.capture());
 
         Pageable capturedPageable = pageableCaptor.getValue();
         assertEquals(Sort.Direction.DESC, capturedPageable.getSort().getOrderFor("userName").getDirection());
@@ -168,21 +219,102 @@ public class UserServiceTest {
      */
     @Test
     public void getAllUsersSuccess_EmptyList() {
-        Page<User> emptyPage = new PageImpl<>(
+        Page<UserProjection> emptyPage = new PageImpl<>(
                 List.of(),
                 PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "userName")),
                 0
         );
 
-        when(userRepository.findByIsDeleted(eq(false), any(Pageable.class))).thenReturn(emptyPage);
+        when(userRepository.findAllProjections(any(Pageable.class))).thenReturn(emptyPage);
 
-        UserListResponse result = userService.getAllUsers(0, 20, "userName", "ASC");
+        UserListResponse result = userService.getAllUsers(0, 20, "userName", "ASC", TotalMode.EXACT);
 
         assertNotNull(result);
         assertEquals(0, result.getMeta().getTotalItems());
         assertTrue(result.getItems().isEmpty());
 
-        verify(userRepository, times(1)).findByIsDeleted(eq(false), any(Pageable.class));
+        verify(userRepository, times(1)).findAllProjections(any(Pageable.class));
+    }
+
+    /**
+     * getAllUsers : 正常系 - total=none の場合は COUNT を実行しない
+     */
+    @Test
+    public void getAllUsersSuccess_TotalNone() {
+        UserProjection user1 = createUserProjection(1L, "User A");
+
+        when(userRepository.findSliceProjections(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(user1), PageRequest.of(0, 1), true));
+
+        UserListResponse result = userService.getAllUsers(0, 1, "userName", "ASC", TotalMode.NONE);
+
+        assertEquals(1, result.getItems().size());
+        assertNull(result.getMeta().getTotalItems());
+        assertNull(result.getMeta().getTotalPages());
+        assertTrue(result.getMeta().isHasNext());
+        assertEquals(TotalMode.NONE, result.getMeta().getTotalMode());
+
+        verify(userRepository, never()).findAllProjections(any(Pageable.class));
+        verify(userRepository, never()).count();
+    }
+
+    /**
+     * getUsersByCursor : 正常系 - 先頭ページを取得し、次ページのカーソルを返す
+     */
+    @Test
+    public void getUsersByCursorSuccess_FirstPage() {
+        UserProjection user1 = createUserProjection(1L, "User A");
+        UserProjection user2 = createUserProjection(2L, "User B");
+        UserProjection user3 = createUserProjection(3L, "User C");
+
+        when(userRepository.findKeysetFirstPage(any(Pageable.class)))
+                .thenReturn(List.of(user1, user2, user3));
+
+        UserListResponse result = userService.getUsersByCursor("", 2);
+
+        assertEquals(2, result.getItems().size());
+        assertEquals("User B", result.getItems().get(1).getUserName());
+        assertNull(result.getMeta().getTotalItems());
+        assertEquals(2, result.getMeta().getLimit());
+        assertEquals(CursorCodec.encode("User B", 2L), result.getMeta().getNextCursor());
+
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(userRepository, times(1)).findKeysetFirstPage(pageableCaptor.capture());
+        assertEquals(3, pageableCaptor.getValue().getPageSize());
+    }
+
+    /**
+     * getUsersByCursor : 正常系 - カーソル位置からシークし、最終ページではカーソルを返さない
+     */
+    @Test
+    public void getUsersByCursorSuccess_LastPage() {
+        UserProjection user3 = createUserProjection(3L, "User C");
+
+        when(userRepository.findKeysetNextPage(eq("User B"), eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(user3));
+
+        UserListResponse result = userService.getUsersByCursor(CursorCodec.encode("User B", 2L), 2);
+
+        assertEquals(1, result.getItems().size());
+        assertEquals("User C", result.getItems().get(0).getUserName());
+        assertNull(result.getMeta().getNextCursor());
+
+        verify(userRepository, never()).findKeysetFirstPage(any(Pageable.class));
+    }
+
+    /**
+     * getUsersByCursor : 異常系 - 不正なカーソル
+     */
+    @Test
+    public void getUsersByCursorError_InvalidCursor() {
+        BadRequestException exception = assertThrows(
+                BadRequestException.class,
+                () -> userService.getUsersByCursor("not-a-cursor", 20)
+        );
+
+        assertEquals("cursor", exception.getDetails().get(0).getField());
+
+        verifyNoInteractions(userRepository);
     }
 
     /**
@@ -199,8 +331,8 @@ public class UserServiceTest {
         request.setUserName("newuser");
         request.setPassword("testpassword");
 
-        when(userRepository.findByIdAndIsDeleted(1L, false)).thenReturn(Optional.of(existingUser));
-        when(userRepository.findByUserNameAndIsDeleted("newuser", false)).thenReturn(Optional.empty());
+        when(userRepository.findActiveById(1L)).thenReturn(Optional.of(existingUser));
+        when(userRepository.findByUserName("newuser")).thenReturn(Optional.empty());
         when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         UserResponse result = userService.updateUser(1L, request);
@@ -208,8 +340,8 @@ public class UserServiceTest {
         assertNotNull(result);
         assertEquals("newuser", result.getUserName());
 
-        verify(userRepository, times(1)).findByIdAndIsDeleted(1L, false);
-        verify(userRepository, times(1)).findByUserNameAndIsDeleted("newuser", false);
+        verify(userRepository, times(1)).findActiveById(1L);
+        verify(userRepository, times(1)).findByUserName("newuser");
         verify(userRepository, times(1)).save(any(User.class));
     }
 
@@ -227,8 +359,8 @@ public class UserServiceTest {
         request.setUserName("testuser");
         request.setPassword("testpassword");
 
-        when(userRepository.findByIdAndIsDeleted(1L, false)).thenReturn(Optional.of(existingUser));
-        when(userRepository.findByUserNameAndIsDeleted("testuser", false)).thenReturn(Optional.of(existingUser));
+        when(userRepository.findActiveById(1L)).thenReturn(Optional.of(existingUser));
+        when(userRepository.findByUserName("testuser")).thenReturn(Optional.of(existingUser));
         when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         UserResponse result = userService.updateUser(1L, request);
@@ -236,8 +368,8 @@ public class UserServiceTest {
         assertNotNull(result);
         assertEquals("testuser", result.getUserName());
 
-        verify(userRepository, times(1)).findByIdAndIsDeleted(1L, false);
-        verify(userRepository, times(1)).findByUserNameAndIsDeleted("testuser", false);
+        verify(userRepository, times(1)).findActiveById(1L);
+        verify(userRepository, times(1)).findByUserName("testuser");
         verify(userRepository, times(1)).save(any(User.class));
     }
 
@@ -250,7 +382,7 @@ public class UserServiceTest {
         request.setUserName("newuser");
         request.setPassword("testpassword");
 
-        when(userRepository.findByIdAndIsDeleted(999L, false)).thenReturn(Optional.empty());
+        when(userRepository.findActiveById(999L)).thenReturn(Optional.empty());
 
         EntityNotFoundException exception = assertThrows(
                 EntityNotFoundException.class,
@@ -259,7 +391,7 @@ public class UserServiceTest {
 
         assertEquals("User not found with id: 999", exception.getMessage());
 
-        verify(userRepository, times(1)).findByIdAndIsDeleted(999L, false);
+        verify(userRepository, times(1)).findActiveById(999L);
         verify(userRepository, never()).save(any(User.class));
     }
 
@@ -277,7 +409,7 @@ public class UserServiceTest {
         request.setUserName("testuser");
         request.setPassword("wrongpassword");
 
-        when(userRepository.findByIdAndIsDeleted(1L, false)).thenReturn(Optional.of(existingUser));
+        when(userRepository.findActiveById(1L)).thenReturn(Optional.of(existingUser));
 
         UnauthorizedException exception = assertThrows(
                 UnauthorizedException.class,
@@ -287,7 +419,7 @@ public class UserServiceTest {
         assertNotNull(exception.getDetails());
         assertEquals("password", exception.getDetails().get(0).getField());
 
-        verify(userRepository, times(1)).findByIdAndIsDeleted(1L, false);
+        verify(userRepository, times(1)).findActiveById(1L);
         verify(userRepository, never()).save(any(User.class));
     }
 
@@ -309,8 +441,8 @@ public class UserServiceTest {
         request.setUserName("existinguser2");
         request.setPassword("testpassword");
 
-        when(userRepository.findByIdAndIsDeleted(1L, false)).thenReturn(Optional.of(existingUser));
-        when(userRepository.findByUserNameAndIsDeleted("existinguser2", false))
+        when(userRepository.findActiveById(1L)).thenReturn(Optional.of(existingUser));
+        when(userRepository.findByUserName("existinguser2"))
                 .thenReturn(Optional.of(anotherUser));
 
         DuplicationResourceException exception = assertThrows(
@@ -321,8 +453,8 @@ public class UserServiceTest {
         assertNotNull(exception.getDetails());
         assertEquals("userName", exception.getDetails().get(0).getField());
 
-        verify(userRepository, times(1)).findByIdAndIsDeleted(1L, false);
-        verify(userRepository, times(1)).findByUserNameAndIsDeleted("existinguser2", false);
+        verify(userRepository, times(1)).findActiveById(1L);
+        verify(userRepository, times(1)).findByUserName("existinguser2");
         verify(userRepository, never()).save(any(User.class));
     }
 
@@ -336,15 +468,41 @@ public class UserServiceTest {
         existingUser.setUserName("testuser");
         existingUser.setDeleted(false);
 
-        when(userRepository.findByIdAndIsDeleted(1L, false)).thenReturn(Optional.of(existingUser));
+        when(userRepository.findActiveById(1L)).thenReturn(Optional.of(existingUser));
         when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         userService.deleteUser(1L);
 
         assertTrue(existingUser.isDeleted());
 
-        verify(userRepository, times(1)).findByIdAndIsDeleted(1L, false);
+        verify(userRepository, times(1)).findActiveById(1L);
         verify(userRepository, times(1)).save(existingUser);
+        verify(eventPublisher, times(1)).publishEvent(EntityChangedEvent.deleted("user", 1L));
+    }
+
+    /**
+     * getListVersion : 正常系 - 削除後は ETag が変わる
+     */
+    @Test
+    public void getListVersionSuccess_ChangedByDelete() {
+        OffsetDateTime updatedAt = OffsetDateTime.parse("2025-01-01T00:00:00Z");
+
+        User existingUser = new User();
+        existingUser.setId(1L);
+        existingUser.setUserName("testuser");
+
+        passThroughSoftDeleteFilter();
+        when(userRepository.findLatestUpdatedAt()).thenReturn(updatedAt);
+        when(userRepository.findActiveById(1L)).thenReturn(Optional.of(existingUser));
+
+        ListVersion before = userService.getListVersion();
+        userService.deleteUser(1L);
+        ListVersion after = userService.getListVersion();
+
+        assertEquals(updatedAt, before.lastModified());
+        assertEquals(before.etag(1, 20, null, "exact"), userService.getListVersion().etag(1, 20, null, "exact"));
+        assertNotEquals(before.etag(1, 20, null, "exact"), after.etag(1, 20, null, "exact"));
+        assertNotEquals(before.etag(1, 20, null, "exact"), before.etag(2, 20, null, "exact"));
     }
 
     /**
@@ -352,7 +510,7 @@ public class UserServiceTest {
      */
     @Test
     public void deleteUserError_NotFound() {
-        when(userRepository.findByIdAndIsDeleted(999L, false)).thenReturn(Optional.empty());
+        when(userRepository.findActiveById(999L)).thenReturn(Optional.empty());
 
         EntityNotFoundException exception = assertThrows(
                 EntityNotFoundException.class,
@@ -361,7 +519,7 @@ public class UserServiceTest {
 
         assertEquals("User not found for id: 999", exception.getMessage());
 
-        verify(userRepository, times(1)).findByIdAndIsDeleted(999L, false);
+        verify(userRepository, times(1)).findActiveById(999L);
         verify(userRepository, never()).save(any(User.class));
     }
 }